@@ -1,5 +1,10 @@
 package com.trongdev.todoapp.config;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 /**
@@ -13,12 +18,66 @@ public class ApplicationProperties {
 
     private final Liquibase liquibase = new Liquibase();
 
+    private final Imports imports = new Imports();
+
+    private final Cache cache = new Cache();
+
+    private final Replica replica = new Replica();
+
+    private final AuthorStats authorStats = new AuthorStats();
+
+    private final PasswordHashing passwordHashing = new PasswordHashing();
+
+    private final AuthenticationThrottling authenticationThrottling = new AuthenticationThrottling();
+
+    private final JwtCache jwtCache = new JwtCache();
+
+    private final CatalogueChanges catalogueChanges = new CatalogueChanges();
+
+    private final TokenRevocation tokenRevocation = new TokenRevocation();
+
     // jhipster-needle-application-properties-property
 
     public Liquibase getLiquibase() {
         return liquibase;
     }
 
+    public Imports getImports() {
+        return imports;
+    }
+
+    public Cache getCache() {
+        return cache;
+    }
+
+    public Replica getReplica() {
+        return replica;
+    }
+
+    public AuthorStats getAuthorStats() {
+        return authorStats;
+    }
+
+    public PasswordHashing getPasswordHashing() {
+        return passwordHashing;
+    }
+
+    public AuthenticationThrottling getAuthenticationThrottling() {
+        return authenticationThrottling;
+    }
+
+    public JwtCache getJwtCache() {
+        return jwtCache;
+    }
+
+    public CatalogueChanges getCatalogueChanges() {
+        return catalogueChanges;
+    }
+
+    public TokenRevocation getTokenRevocation() {
+        return tokenRevocation;
+    }
+
     // jhipster-needle-application-properties-property-getter
 
     public static class Liquibase {
@@ -33,5 +92,397 @@ public class ApplicationProperties {
             this.asyncStart = asyncStart;
         }
     }
+
+    public static class Imports {
+
+        /**
+         * Directory the uploaded import files are stored in until their import completes.
+         */
+        private String directory = System.getProperty("java.io.tmpdir") + "/todoApp-imports";
+
+        /**
+         * Number of rows written in each transaction; a restarted import resumes after the last committed chunk.
+         */
+        private int chunkSize = 1000;
+
+        public String getDirectory() {
+            return directory;
+        }
+
+        public void setDirectory(String directory) {
+            this.directory = directory;
+        }
+
+        public int getChunkSize() {
+            return chunkSize;
+        }
+
+        public void setChunkSize(int chunkSize) {
+            this.chunkSize = chunkSize;
+        }
+    }
+
+    public static class Cache {
+
+        /**
+         * Size and time to live of the second-level cache regions, by region: {@code book}, {@code author},
+         * {@code authority} and {@code user-authorities}. Unset values default to {@code jhipster.cache.caffeine}.
+         */
+        private final Map<String, Region> regions = new HashMap<>();
+
+        public Map<String, Region> getRegions() {
+            return regions;
+        }
+
+        public static class Region {
+
+            private Long maxEntries;
+
+            private Long timeToLiveSeconds;
+
+            public Long getMaxEntries() {
+                return maxEntries;
+            }
+
+            public void setMaxEntries(Long maxEntries) {
+                this.maxEntries = maxEntries;
+            }
+
+            public Long getTimeToLiveSeconds() {
+                return timeToLiveSeconds;
+            }
+
+            public void setTimeToLiveSeconds(Long timeToLiveSeconds) {
+                this.timeToLiveSeconds = timeToLiveSeconds;
+            }
+        }
+    }
+
+    public static class Replica {
+
+        /**
+         * Replication lag above which read-only transactions fall back to the primary database.
+         */
+        private Duration maxLag = Duration.ofSeconds(5);
+
+        /**
+         * Delay between two checks of the replication lag, in the ISO-8601 format, such as {@code PT5S}.
+         */
+        private Duration lagCheckInterval = Duration.ofSeconds(5);
+
+        /**
+         * Query run on the replica to check its replication lag.
+         */
+        private String lagQuery = "SHOW REPLICA STATUS";
+
+        /**
+         * Column of the first row of the {@code lagQuery} holding the replication lag, in seconds.
+         */
+        private String lagColumn = "Seconds_Behind_Source";
+
+        public Duration getMaxLag() {
+            return maxLag;
+        }
+
+        public void setMaxLag(Duration maxLag) {
+            this.maxLag = maxLag;
+        }
+
+        public Duration getLagCheckInterval() {
+            return lagCheckInterval;
+        }
+
+        public void setLagCheckInterval(Duration lagCheckInterval) {
+            this.lagCheckInterval = lagCheckInterval;
+        }
+
+        public String getLagQuery() {
+            return lagQuery;
+        }
+
+        public void setLagQuery(String lagQuery) {
+            this.lagQuery = lagQuery;
+        }
+
+        public String getLagColumn() {
+            return lagColumn;
+        }
+
+        public void setLagColumn(String lagColumn) {
+            this.lagColumn = lagColumn;
+        }
+    }
+
+    public static class AuthorStats {
+
+        /**
+         * Delay between two refreshes of the statistics of the authors whose books changed, in the ISO-8601 format,
+         * such as {@code PT1S}.
+         */
+        private Duration refreshInterval = Duration.ofSeconds(1);
+
+        /**
+         * Cron expression of the reconciliation of the statistics of all the authors with their books.
+         */
+        private String reconciliationCron = "0 30 3 * * *";
+
+        public Duration getRefreshInterval() {
+            return refreshInterval;
+        }
+
+        public void setRefreshInterval(Duration refreshInterval) {
+            this.refreshInterval = refreshInterval;
+        }
+
+        public String getReconciliationCron() {
+            return reconciliationCron;
+        }
+
+        public void setReconciliationCron(String reconciliationCron) {
+            this.reconciliationCron = reconciliationCron;
+        }
+    }
+
+    public static class PasswordHashing {
+
+        /**
+         * Number of passwords hashed at once, half the processors by default.
+         */
+        private int poolSize = Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+
+        /**
+         * Number of passwords waiting to be hashed above which new ones are rejected.
+         */
+        private int queueCapacity = 16;
+
+        /**
+         * Time after which a password waiting to be hashed, or being hashed, is rejected.
+         */
+        private Duration maxWait = Duration.ofSeconds(2);
+
+        /**
+         * Delay sent in the {@code Retry-After} header of the rejected requests.
+         */
+        private Duration retryAfter = Duration.ofSeconds(1);
+
+        public int getPoolSize() {
+            return poolSize;
+        }
+
+        public void setPoolSize(int poolSize) {
+            this.poolSize = poolSize;
+        }
+
+        public int getQueueCapacity() {
+            return queueCapacity;
+        }
+
+        public void setQueueCapacity(int queueCapacity) {
+            this.queueCapacity = queueCapacity;
+        }
+
+        public Duration getMaxWait() {
+            return maxWait;
+        }
+
+        public void setMaxWait(Duration maxWait) {
+            this.maxWait = maxWait;
+        }
+
+        public Duration getRetryAfter() {
+            return retryAfter;
+        }
+
+        public void setRetryAfter(Duration retryAfter) {
+            this.retryAfter = retryAfter;
+        }
+    }
+
+    public static class AuthenticationThrottling {
+
+        /**
+         * Attempts allowed by client IP, on all the throttled endpoints.
+         */
+        private final Limit perIp = Limit.of(30, Duration.ofSeconds(2));
+
+        /**
+         * Attempts allowed by login, or email for password resets, on each throttled endpoint.
+         */
+        private final Limit perLogin = Limit.of(5, Duration.ofMinutes(1));
+
+        /**
+         * Lockout of a client or login out of attempts, doubled on each consecutive lockout.
+         */
+        private Duration baseLockout = Duration.ofSeconds(10);
+
+        /**
+         * Maximum lockout of a client or login.
+         */
+        private Duration maxLockout = Duration.ofMinutes(15);
+
+        /**
+         * Maximum number of client IPs, and of logins, tracked at once; the least recently seen are forgotten first.
+         */
+        private int maxTrackedKeys = 100_000;
+
+        /**
+         * Addresses or CIDR ranges of the proxies trusted to forward the client IP in the {@code X-Forwarded-For} header,
+         * such as the load balancer. By default, the loopback and private networks.
+         */
+        private List<String> trustedProxies = new ArrayList<>(
+            List.of("127.0.0.0/8", "10.0.0.0/8", "172.16.0.0/12", "192.168.0.0/16", "::1/128", "fc00::/7")
+        );
+
+        public Limit getPerIp() {
+            return perIp;
+        }
+
+        public Limit getPerLogin() {
+            return perLogin;
+        }
+
+        public Duration getBaseLockout() {
+            return baseLockout;
+        }
+
+        public void setBaseLockout(Duration baseLockout) {
+            this.baseLockout = baseLockout;
+        }
+
+        public Duration getMaxLockout() {
+            return maxLockout;
+        }
+
+        public void setMaxLockout(Duration maxLockout) {
+            this.maxLockout = maxLockout;
+        }
+
+        public int getMaxTrackedKeys() {
+            return maxTrackedKeys;
+        }
+
+        public void setMaxTrackedKeys(int maxTrackedKeys) {
+            this.maxTrackedKeys = maxTrackedKeys;
+        }
+
+        public List<String> getTrustedProxies() {
+            return trustedProxies;
+        }
+
+        public void setTrustedProxies(List<String> trustedProxies) {
+            this.trustedProxies = trustedProxies;
+        }
+
+        public static class Limit {
+
+            /**
+             * Number of attempts allowed at once.
+             */
+            private int capacity;
+
+            /**
+             * Time to earn one more attempt, in the ISO-8601 format, such as {@code PT1M}.
+             */
+            private Duration refillPeriod;
+
+            private static Limit of(int capacity, Duration refillPeriod) {
+                Limit limit = new Limit();
+                limit.setCapacity(capacity);
+                limit.setRefillPeriod(refillPeriod);
+                return limit;
+            }
+
+            public int getCapacity() {
+                return capacity;
+            }
+
+            public void setCapacity(int capacity) {
+                this.capacity = capacity;
+            }
+
+            public Duration getRefillPeriod() {
+                return refillPeriod;
+            }
+
+            public void setRefillPeriod(Duration refillPeriod) {
+                this.refillPeriod = refillPeriod;
+            }
+        }
+    }
+
+    public static class JwtCache {
+
+        /**
+         * Maximum number of decoded bearer tokens kept until they expire.
+         */
+        private long maxEntries = 10_000;
+
+        public long getMaxEntries() {
+            return maxEntries;
+        }
+
+        public void setMaxEntries(long maxEntries) {
+            this.maxEntries = maxEntries;
+        }
+    }
+
+    public static class CatalogueChanges {
+
+        /**
+         * Number of threads sending the changes to the subscribers of {@code /api/books/changes}.
+         */
+        private int senderPoolSize = 4;
+
+        /**
+         * Number of subscribers waiting for a sender thread above which new ones are disconnected.
+         */
+        private int senderQueueCapacity = 10_000;
+
+        /**
+         * Time a send may stay blocked on a subscriber not reading its stream before the subscriber is disconnected.
+         */
+        private Duration writeTimeout = Duration.ofSeconds(10);
+
+        public int getSenderPoolSize() {
+            return senderPoolSize;
+        }
+
+        public void setSenderPoolSize(int senderPoolSize) {
+            this.senderPoolSize = senderPoolSize;
+        }
+
+        public int getSenderQueueCapacity() {
+            return senderQueueCapacity;
+        }
+
+        public void setSenderQueueCapacity(int senderQueueCapacity) {
+            this.senderQueueCapacity = senderQueueCapacity;
+        }
+
+        public Duration getWriteTimeout() {
+            return writeTimeout;
+        }
+
+        public void setWriteTimeout(Duration writeTimeout) {
+            this.writeTimeout = writeTimeout;
+        }
+    }
+
+    public static class TokenRevocation {
+
+        /**
+         * Delay between two reloads of the token revocations added by the other instances, in the ISO-8601 format,
+         * such as {@code PT5S}.
+         */
+        private Duration reloadInterval = Duration.ofSeconds(5);
+
+        public Duration getReloadInterval() {
+            return reloadInterval;
+        }
+
+        public void setReloadInterval(Duration reloadInterval) {
+            this.reloadInterval = reloadInterval;
+        }
+    }
     // jhipster-needle-application-properties-property-class
 }
@@ -0,0 +1,78 @@
+package com.trongdev.todoapp.config;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import javax.sql.DataSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+
+/**
+ * Checks the replication lag of the replica database, to decide whether read-only transactions can use it.
+ * <p>
+ * The lag is read from the {@code application.replica.lag-column} of the first row returned by the
+ * {@code application.replica.lag-query}, {@code SHOW REPLICA STATUS} by default. The replica is not used until its
+ * lag is known, nor while it lags more than {@code application.replica.max-lag}, is unreachable, or doesn't replicate.
+ * The last lag is published as the {@code datasource.replica.lag} metric, {@code NaN} when unknown.
+ */
+public class ReplicaLagMonitor {
+
+    public static final String LAG_METER_NAME = "datasource.replica.lag";
+
+    private static final Logger LOG = LoggerFactory.getLogger(ReplicaLagMonitor.class);
+
+    private final DataSource replicaDataSource;
+
+    private final ApplicationProperties.Replica properties;
+
+    private volatile double lagSeconds = Double.NaN;
+
+    public ReplicaLagMonitor(DataSource replicaDataSource, ApplicationProperties.Replica properties, MeterRegistry registry) {
+        this.replicaDataSource = replicaDataSource;
+        this.properties = properties;
+        Gauge.builder(LAG_METER_NAME, this, ReplicaLagMonitor::getLagSeconds)
+            .baseUnit("seconds")
+            .description("Replication lag of the replica database.")
+            .register(registry);
+    }
+
+    @Scheduled(fixedDelayString = "${application.replica.lag-check-interval:PT5S}")
+    public void checkLag() {
+        lagSeconds = queryLag();
+    }
+
+    public double getLagSeconds() {
+        return lagSeconds;
+    }
+
+    public boolean isReplicaUsable() {
+        double lag = lagSeconds;
+        return !Double.isNaN(lag) && lag * 1000 <= properties.getMaxLag().toMillis();
+    }
+
+    private double queryLag() {
+        try (
+            Connection connection = replicaDataSource.getConnection();
+            Statement statement = connection.createStatement();
+            ResultSet resultSet = statement.executeQuery(properties.getLagQuery())
+        ) {
+            if (!resultSet.next()) {
+                LOG.warn("The replica database is not replicating, read-only transactions use the primary database");
+                return Double.NaN;
+            }
+            Object lag = resultSet.getObject(properties.getLagColumn());
+            if (!(lag instanceof Number number)) {
+                LOG.warn("The replication of the replica database is stopped, read-only transactions use the primary database");
+                return Double.NaN;
+            }
+            return number.doubleValue();
+        } catch (SQLException e) {
+            LOG.warn("Could not check the replication lag, read-only transactions use the primary database: {}", e.getMessage());
+            return Double.NaN;
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package com.trongdev.todoapp.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.Map;
+import javax.sql.DataSource;
+import org.hibernate.CacheMode;
+import org.hibernate.Session;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.orm.jpa.EntityManagerHolder;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Routes the connections of read-only transactions to the replica database, and all the others to the primary one.
+ * <p>
+ * The transaction is only known to be read-only once it has begun, so this must be wrapped in a
+ * {@link org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy} which only fetches the connection on the
+ * first statement. Read-only transactions fall back to the primary database when the {@link ReplicaLagMonitor}
+ * doesn't consider the replica usable. Each routed connection is counted by the {@code datasource.routing} metric.
+ * <p>
+ * The rows read from the replica may be stale, so the Hibernate session of a transaction routed to it stops putting
+ * entities and query results in the second-level cache: it still reads from the cache, but only the primary database
+ * fills it.
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    public static final String ROUTING_METER_NAME = "datasource.routing";
+
+    enum Target {
+        PRIMARY,
+        REPLICA,
+    }
+
+    private final ReplicaLagMonitor replicaLagMonitor;
+
+    private final Counter readWriteCounter;
+
+    private final Counter readOnlyCounter;
+
+    private final Counter readOnlyFallbackCounter;
+
+    public ReplicaRoutingDataSource(
+        DataSource primaryDataSource,
+        DataSource replicaDataSource,
+        ReplicaLagMonitor replicaLagMonitor,
+        MeterRegistry registry
+    ) {
+        this.replicaLagMonitor = replicaLagMonitor;
+        setTargetDataSources(Map.of(Target.PRIMARY, primaryDataSource, Target.REPLICA, replicaDataSource));
+        setDefaultTargetDataSource(primaryDataSource);
+        this.readWriteCounter = routingCounter(registry, Target.PRIMARY, false);
+        this.readOnlyCounter = routingCounter(registry, Target.REPLICA, true);
+        this.readOnlyFallbackCounter = routingCounter(registry, Target.PRIMARY, true);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Target determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            readWriteCounter.increment();
+            return Target.PRIMARY;
+        }
+        if (!replicaLagMonitor.isReplicaUsable()) {
+            readOnlyFallbackCounter.increment();
+            return Target.PRIMARY;
+        }
+        readOnlyCounter.increment();
+        disableSecondLevelCachePuts();
+        return Target.REPLICA;
+    }
+
+    private static void disableSecondLevelCachePuts() {
+        for (Object resource : TransactionSynchronizationManager.getResourceMap().values()) {
+            if (resource instanceof EntityManagerHolder holder) {
+                Session session = holder.getEntityManager().unwrap(Session.class);
+                CacheMode cacheMode = session.getCacheMode();
+                if (cacheMode.isPutEnabled()) {
+                    session.setCacheMode(cacheMode.isGetEnabled() ? CacheMode.GET : CacheMode.IGNORE);
+                }
+            }
+        }
+    }
+
+    private static Counter routingCounter(MeterRegistry registry, Target target, boolean readOnly) {
+        return Counter.builder(ROUTING_METER_NAME)
+            .baseUnit("connections")
+            .description("Connections routed to the primary or replica database.")
+            .tag("target", target.name().toLowerCase())
+            .tag("read-only", Boolean.toString(readOnly))
+            .register(registry);
+    }
+}
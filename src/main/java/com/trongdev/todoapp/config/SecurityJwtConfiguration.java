@@ -5,49 +5,58 @@ import static com.trongdev.todoapp.security.SecurityUtils.JWT_ALGORITHM;
 import com.nimbusds.jose.jwk.source.ImmutableSecret;
 import com.nimbusds.jose.util.Base64;
 import com.trongdev.todoapp.management.SecurityMetersService;
+import com.trongdev.todoapp.security.CachingJwtDecoder;
+import com.trongdev.todoapp.security.MeteredJwtDecoder;
+import com.trongdev.todoapp.security.RevocationCheckingJwtDecoder;
+import com.trongdev.todoapp.security.TokenRevocationList;
+import io.micrometer.core.instrument.MeterRegistry;
 import javax.crypto.SecretKey;
 import javax.crypto.spec.SecretKeySpec;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.oauth2.jwt.JwtDecoder;
 import org.springframework.security.oauth2.jwt.JwtEncoder;
+import org.springframework.security.oauth2.jwt.JwtTimestampValidator;
 import org.springframework.security.oauth2.jwt.NimbusJwtDecoder;
 import org.springframework.security.oauth2.jwt.NimbusJwtEncoder;
 
 @Configuration
 public class SecurityJwtConfiguration {
 
-    private static final Logger LOG = LoggerFactory.getLogger(SecurityJwtConfiguration.class);
-
     @Value("${jhipster.security.authentication.jwt.base64-secret}")
     private String jwtKey;
 
+    /**
+     * The revoked JWTs, loaded and persisted by the {@link com.trongdev.todoapp.service.TokenRevocationService}.
+     */
+    @Bean
+    public TokenRevocationList tokenRevocationList() {
+        return new TokenRevocationList();
+    }
+
+    /**
+     * The JWT decoder, timing the decoded tokens, caching them until they expire and rejecting the revoked ones.
+     */
     @Bean
-    public JwtDecoder jwtDecoder(SecurityMetersService metersService) {
+    public JwtDecoder jwtDecoder(
+        SecurityMetersService metersService,
+        ApplicationProperties applicationProperties,
+        MeterRegistry meterRegistry,
+        TokenRevocationList tokenRevocationList
+    ) {
         NimbusJwtDecoder jwtDecoder = NimbusJwtDecoder.withSecretKey(getSecretKey()).macAlgorithm(JWT_ALGORITHM).build();
-        return token -> {
-            try {
-                return jwtDecoder.decode(token);
-            } catch (Exception e) {
-                if (e.getMessage().contains("Invalid signature")) {
-                    metersService.trackTokenInvalidSignature();
-                } else if (e.getMessage().contains("Jwt expired at")) {
-                    metersService.trackTokenExpired();
-                } else if (
-                    e.getMessage().contains("Invalid JWT serialization") ||
-                    e.getMessage().contains("Malformed token") ||
-                    e.getMessage().contains("Invalid unsecured/JWS/JWE")
-                ) {
-                    metersService.trackTokenMalformed();
-                } else {
-                    LOG.error("Unknown JWT error {}", e.getMessage());
-                }
-                throw e;
-            }
-        };
+        // Only the timestamps are validated, so the MeteredJwtDecoder counts the validation failures as expired tokens
+        jwtDecoder.setJwtValidator(new JwtTimestampValidator());
+        return new RevocationCheckingJwtDecoder(
+            new CachingJwtDecoder(
+                new MeteredJwtDecoder(jwtDecoder, metersService),
+                applicationProperties.getJwtCache().getMaxEntries(),
+                meterRegistry
+            ),
+            tokenRevocationList,
+            metersService
+        );
     }
 
     @Bean
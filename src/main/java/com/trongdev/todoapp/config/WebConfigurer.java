@@ -2,18 +2,26 @@ package com.trongdev.todoapp.config;
 
 import static java.net.URLDecoder.decode;
 
+import com.trongdev.todoapp.web.rest.CatalogueChangeResource;
+import io.undertow.Handlers;
+import io.undertow.predicate.Predicates;
+import io.undertow.server.handlers.BlockingWriteTimeoutHandler;
 import jakarta.servlet.*;
 import java.io.File;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Paths;
+import java.time.Duration;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.boot.web.embedded.undertow.UndertowServletWebServerFactory;
 import org.springframework.boot.web.server.*;
 import org.springframework.boot.web.servlet.ServletContextInitializer;
 import org.springframework.boot.web.servlet.server.ConfigurableServletWebServerFactory;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.core.env.Environment;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
 import org.springframework.util.CollectionUtils;
 import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
@@ -32,9 +40,12 @@ public class WebConfigurer implements ServletContextInitializer, WebServerFactor
 
     private final JHipsterProperties jHipsterProperties;
 
-    public WebConfigurer(Environment env, JHipsterProperties jHipsterProperties) {
+    private final ApplicationProperties applicationProperties;
+
+    public WebConfigurer(Environment env, JHipsterProperties jHipsterProperties, ApplicationProperties applicationProperties) {
         this.env = env;
         this.jHipsterProperties = jHipsterProperties;
+        this.applicationProperties = applicationProperties;
     }
 
     @Override
@@ -47,12 +58,47 @@ public class WebConfigurer implements ServletContextInitializer, WebServerFactor
     }
 
     /**
-     * Customize the Servlet engine: Mime types, the document root, the cache.
+     * Customize the Servlet engine: Mime types, the document root, the cache, the write timeout of the change streams,
+     * the threads handling the requests.
      */
     @Override
     public void customize(WebServerFactory server) {
         // When running in an IDE or with ./mvnw spring-boot:run, set location of the static web assets.
         setLocationForStaticAssets(server);
+        setWriteTimeoutForChangeStreams(server);
+        setVirtualThreadsExecutor(server);
+    }
+
+    /**
+     * Close the connection of a change stream whose client stops reading, rather than block a sender thread on it.
+     * <p>
+     * The timeout applies to each blocking write, it is reset whenever some bytes are written.
+     */
+    private void setWriteTimeoutForChangeStreams(WebServerFactory server) {
+        if (server instanceof UndertowServletWebServerFactory undertow) {
+            Duration writeTimeout = applicationProperties.getCatalogueChanges().getWriteTimeout();
+            undertow.addDeploymentInfoCustomizers(deploymentInfo ->
+                deploymentInfo.addInitialHandlerChainWrapper(next ->
+                    Handlers.predicate(
+                        Predicates.path(CatalogueChangeResource.CHANGES_PATH),
+                        BlockingWriteTimeoutHandler.builder().writeTimeout(writeTimeout).nextHandler(next).build(),
+                        next
+                    )
+                )
+            );
+        }
+    }
+
+    /**
+     * In the virtual-thread mode, dispatch each request to a new virtual thread instead of an Undertow worker thread,
+     * as Spring Boot does for Tomcat and Jetty.
+     */
+    private void setVirtualThreadsExecutor(WebServerFactory server) {
+        if (server instanceof UndertowServletWebServerFactory undertow && Threading.VIRTUAL.isActive(env)) {
+            LOG.info("Handling requests on virtual threads");
+            VirtualThreadTaskExecutor executor = new VirtualThreadTaskExecutor("undertow-");
+            undertow.addDeploymentInfoCustomizers(deploymentInfo -> deploymentInfo.setExecutor(executor).setAsyncExecutor(executor));
+        }
     }
 
     private void setLocationForStaticAssets(WebServerFactory server) {
@@ -12,13 +12,15 @@ import java.util.Set;
  */
 @Entity
 @Table(name = "author")
+@org.hibernate.annotations.Cache(usage = org.hibernate.annotations.CacheConcurrencyStrategy.READ_WRITE)
 @SuppressWarnings("common-java:DuplicatedBlocks")
 public class Author implements Serializable {
 
     private static final long serialVersionUID = 1L;
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "sequenceGenerator")
+    @SequenceGenerator(name = "sequenceGenerator", sequenceName = "sequence_generator", allocationSize = 50)
     @Column(name = "id")
     private Long id;
 
@@ -28,6 +30,10 @@ public class Author implements Serializable {
     @Column(name = "birth_date")
     private LocalDate birthDate;
 
+    @Version
+    @Column(name = "version", nullable = false)
+    private long version;
+
     @OneToMany(fetch = FetchType.LAZY, mappedBy = "author")
     @JsonIgnoreProperties(value = { "author" }, allowSetters = true)
     private Set<Book> books = new HashSet<>();
@@ -73,6 +79,19 @@ public class Author implements Serializable {
         this.birthDate = birthDate;
     }
 
+    public long getVersion() {
+        return this.version;
+    }
+
+    public Author version(long version) {
+        this.setVersion(version);
+        return this;
+    }
+
+    public void setVersion(long version) {
+        this.version = version;
+    }
+
     public Set<Book> getBooks() {
         return this.books;
     }
@@ -130,6 +149,7 @@ public class Author implements Serializable {
             "id=" + getId() +
             ", name='" + getName() + "'" +
             ", birthDate='" + getBirthDate() + "'" +
+            ", version=" + getVersion() +
             "}";
     }
 }
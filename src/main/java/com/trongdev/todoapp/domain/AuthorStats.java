@@ -0,0 +1,110 @@
+package com.trongdev.todoapp.domain;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import jakarta.persistence.*;
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import org.hibernate.annotations.Immutable;
+
+/**
+ * The statistics of the books of an author: a read model, computed from the {@code book} table.
+ * <p>
+ * It is never written through JPA, only by the set-based statements of
+ * {@link com.trongdev.todoapp.repository.AuthorStatsRepository}, so it is immutable and not cached.
+ */
+@Entity
+@Immutable
+@Table(name = "author_stats")
+@SuppressWarnings("common-java:DuplicatedBlocks")
+public class AuthorStats implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    @Id
+    @Column(name = "author_id")
+    private Long authorId;
+
+    @MapsId
+    @OneToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "author_id")
+    @JsonIgnoreProperties(value = { "books" }, allowSetters = true)
+    private Author author;
+
+    @Column(name = "book_count", nullable = false)
+    private long bookCount;
+
+    @Column(name = "average_price", precision = 21, scale = 2)
+    private BigDecimal averagePrice;
+
+    @Column(name = "latest_publication_date")
+    private LocalDate latestPublicationDate;
+
+    public Long getAuthorId() {
+        return this.authorId;
+    }
+
+    public void setAuthorId(Long authorId) {
+        this.authorId = authorId;
+    }
+
+    public Author getAuthor() {
+        return this.author;
+    }
+
+    public void setAuthor(Author author) {
+        this.author = author;
+    }
+
+    public long getBookCount() {
+        return this.bookCount;
+    }
+
+    public void setBookCount(long bookCount) {
+        this.bookCount = bookCount;
+    }
+
+    public BigDecimal getAveragePrice() {
+        return this.averagePrice;
+    }
+
+    public void setAveragePrice(BigDecimal averagePrice) {
+        this.averagePrice = averagePrice;
+    }
+
+    public LocalDate getLatestPublicationDate() {
+        return this.latestPublicationDate;
+    }
+
+    public void setLatestPublicationDate(LocalDate latestPublicationDate) {
+        this.latestPublicationDate = latestPublicationDate;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof AuthorStats)) {
+            return false;
+        }
+        return getAuthorId() != null && getAuthorId().equals(((AuthorStats) o).getAuthorId());
+    }
+
+    @Override
+    public int hashCode() {
+        // see https://vladmihalcea.com/how-to-implement-equals-and-hashcode-using-the-jpa-entity-identifier/
+        return getClass().hashCode();
+    }
+
+    // prettier-ignore
+    @Override
+    public String toString() {
+        return "AuthorStats{" +
+            "authorId=" + getAuthorId() +
+            ", bookCount=" + getBookCount() +
+            ", averagePrice=" + getAveragePrice() +
+            ", latestPublicationDate='" + getLatestPublicationDate() + "'" +
+            "}";
+    }
+}
@@ -11,13 +11,15 @@ import java.time.LocalDate;
  */
 @Entity
 @Table(name = "book")
+@org.hibernate.annotations.Cache(usage = org.hibernate.annotations.CacheConcurrencyStrategy.READ_WRITE)
 @SuppressWarnings("common-java:DuplicatedBlocks")
 public class Book implements Serializable {
 
     private static final long serialVersionUID = 1L;
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "sequenceGenerator")
+    @SequenceGenerator(name = "sequenceGenerator", sequenceName = "sequence_generator", allocationSize = 50)
     @Column(name = "id")
     private Long id;
 
@@ -33,6 +35,10 @@ public class Book implements Serializable {
     @Column(name = "price", precision = 21, scale = 2)
     private BigDecimal price;
 
+    @Version
+    @Column(name = "version", nullable = false)
+    private long version;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JsonIgnoreProperties(value = { "books" }, allowSetters = true)
     private Author author;
@@ -104,6 +110,19 @@ public class Book implements Serializable {
         this.price = price;
     }
 
+    public long getVersion() {
+        return this.version;
+    }
+
+    public Book version(long version) {
+        this.setVersion(version);
+        return this;
+    }
+
+    public void setVersion(long version) {
+        this.version = version;
+    }
+
     public Author getAuthor() {
         return this.author;
     }
@@ -145,6 +164,7 @@ public class Book implements Serializable {
             ", description='" + getDescription() + "'" +
             ", publicationDate='" + getPublicationDate() + "'" +
             ", price=" + getPrice() +
+            ", version=" + getVersion() +
             "}";
     }
 }
@@ -0,0 +1,219 @@
+package com.trongdev.todoapp.domain;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.trongdev.todoapp.domain.enumeration.ImportStatus;
+import com.trongdev.todoapp.domain.enumeration.ImportType;
+import jakarta.persistence.*;
+import java.io.Serializable;
+
+/**
+ * A bulk CSV import of books or authors.
+ * <p>
+ * The rows are written in chunks, each in its own transaction along with the update of the counters of the job,
+ * so {@code processedRows} always tells how many data rows of the file are already committed.
+ */
+@Entity
+@Table(name = "import_job")
+public class ImportJob extends AbstractAuditingEntity<Long> implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "sequenceGenerator")
+    @SequenceGenerator(name = "sequenceGenerator", sequenceName = "sequence_generator", allocationSize = 50)
+    @Column(name = "id")
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "type", length = 16, nullable = false)
+    private ImportType type;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", length = 16, nullable = false)
+    private ImportStatus status;
+
+    @Column(name = "file_name")
+    private String fileName;
+
+    @JsonIgnore
+    @Column(name = "stored_file", length = 1024)
+    private String storedFile;
+
+    @Column(name = "total_rows")
+    private Long totalRows;
+
+    @Column(name = "processed_rows")
+    private long processedRows;
+
+    @Column(name = "imported_rows")
+    private long importedRows;
+
+    @Column(name = "rejected_rows")
+    private long rejectedRows;
+
+    @Column(name = "error_report", length = 4000)
+    private String errorReport;
+
+    @Override
+    public Long getId() {
+        return this.id;
+    }
+
+    public ImportJob id(Long id) {
+        this.setId(id);
+        return this;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public ImportType getType() {
+        return this.type;
+    }
+
+    public ImportJob type(ImportType type) {
+        this.setType(type);
+        return this;
+    }
+
+    public void setType(ImportType type) {
+        this.type = type;
+    }
+
+    public ImportStatus getStatus() {
+        return this.status;
+    }
+
+    public ImportJob status(ImportStatus status) {
+        this.setStatus(status);
+        return this;
+    }
+
+    public void setStatus(ImportStatus status) {
+        this.status = status;
+    }
+
+    public String getFileName() {
+        return this.fileName;
+    }
+
+    public ImportJob fileName(String fileName) {
+        this.setFileName(fileName);
+        return this;
+    }
+
+    public void setFileName(String fileName) {
+        this.fileName = fileName;
+    }
+
+    public String getStoredFile() {
+        return this.storedFile;
+    }
+
+    public ImportJob storedFile(String storedFile) {
+        this.setStoredFile(storedFile);
+        return this;
+    }
+
+    public void setStoredFile(String storedFile) {
+        this.storedFile = storedFile;
+    }
+
+    public Long getTotalRows() {
+        return this.totalRows;
+    }
+
+    public ImportJob totalRows(Long totalRows) {
+        this.setTotalRows(totalRows);
+        return this;
+    }
+
+    public void setTotalRows(Long totalRows) {
+        this.totalRows = totalRows;
+    }
+
+    public long getProcessedRows() {
+        return this.processedRows;
+    }
+
+    public ImportJob processedRows(long processedRows) {
+        this.setProcessedRows(processedRows);
+        return this;
+    }
+
+    public void setProcessedRows(long processedRows) {
+        this.processedRows = processedRows;
+    }
+
+    public long getImportedRows() {
+        return this.importedRows;
+    }
+
+    public ImportJob importedRows(long importedRows) {
+        this.setImportedRows(importedRows);
+        return this;
+    }
+
+    public void setImportedRows(long importedRows) {
+        this.importedRows = importedRows;
+    }
+
+    public long getRejectedRows() {
+        return this.rejectedRows;
+    }
+
+    public ImportJob rejectedRows(long rejectedRows) {
+        this.setRejectedRows(rejectedRows);
+        return this;
+    }
+
+    public void setRejectedRows(long rejectedRows) {
+        this.rejectedRows = rejectedRows;
+    }
+
+    public String getErrorReport() {
+        return this.errorReport;
+    }
+
+    public ImportJob errorReport(String errorReport) {
+        this.setErrorReport(errorReport);
+        return this;
+    }
+
+    public void setErrorReport(String errorReport) {
+        this.errorReport = errorReport;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof ImportJob)) {
+            return false;
+        }
+        return getId() != null && getId().equals(((ImportJob) o).getId());
+    }
+
+    @Override
+    public int hashCode() {
+        // see https://vladmihalcea.com/how-to-implement-equals-and-hashcode-using-the-jpa-entity-identifier/
+        return getClass().hashCode();
+    }
+
+    // prettier-ignore
+    @Override
+    public String toString() {
+        return "ImportJob{" +
+            "id=" + getId() +
+            ", type='" + getType() + "'" +
+            ", status='" + getStatus() + "'" +
+            ", fileName='" + getFileName() + "'" +
+            ", totalRows=" + getTotalRows() +
+            ", processedRows=" + getProcessedRows() +
+            ", importedRows=" + getImportedRows() +
+            ", rejectedRows=" + getRejectedRows() +
+            "}";
+    }
+}
@@ -0,0 +1,111 @@
+package com.trongdev.todoapp.domain;
+
+import jakarta.persistence.*;
+import java.io.Serializable;
+import java.time.Instant;
+
+/**
+ * The revocation of all the JWTs of a user issued up to an instant, kept until the last of them expires.
+ * <p>
+ * Each revocation is a new row, so that the other instances load it with the ones added since their last reload.
+ */
+@Entity
+@Table(name = "user_token_revocation")
+public class UserTokenRevocation implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "id")
+    private Long id;
+
+    @Column(name = "login", length = 50, nullable = false)
+    private String login;
+
+    @Column(name = "revoked_before", nullable = false)
+    private Instant revokedBefore;
+
+    @Column(name = "expires_at", nullable = false)
+    private Instant expiresAt;
+
+    public Long getId() {
+        return this.id;
+    }
+
+    public UserTokenRevocation id(Long id) {
+        this.setId(id);
+        return this;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getLogin() {
+        return this.login;
+    }
+
+    public UserTokenRevocation login(String login) {
+        this.setLogin(login);
+        return this;
+    }
+
+    public void setLogin(String login) {
+        this.login = login;
+    }
+
+    public Instant getRevokedBefore() {
+        return this.revokedBefore;
+    }
+
+    public UserTokenRevocation revokedBefore(Instant revokedBefore) {
+        this.setRevokedBefore(revokedBefore);
+        return this;
+    }
+
+    public void setRevokedBefore(Instant revokedBefore) {
+        this.revokedBefore = revokedBefore;
+    }
+
+    public Instant getExpiresAt() {
+        return this.expiresAt;
+    }
+
+    public UserTokenRevocation expiresAt(Instant expiresAt) {
+        this.setExpiresAt(expiresAt);
+        return this;
+    }
+
+    public void setExpiresAt(Instant expiresAt) {
+        this.expiresAt = expiresAt;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof UserTokenRevocation)) {
+            return false;
+        }
+        return getId() != null && getId().equals(((UserTokenRevocation) o).getId());
+    }
+
+    @Override
+    public int hashCode() {
+        // see https://vladmihalcea.com/how-to-implement-equals-and-hashcode-using-the-jpa-entity-identifier/
+        return getClass().hashCode();
+    }
+
+    // prettier-ignore
+    @Override
+    public String toString() {
+        return "UserTokenRevocation{" +
+            "id=" + getId() +
+            ", login='" + getLogin() + "'" +
+            ", revokedBefore='" + getRevokedBefore() + "'" +
+            ", expiresAt='" + getExpiresAt() + "'" +
+            "}";
+    }
+}
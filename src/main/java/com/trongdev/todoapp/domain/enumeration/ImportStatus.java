@@ -0,0 +1,11 @@
+package com.trongdev.todoapp.domain.enumeration;
+
+/**
+ * The ImportStatus enumeration.
+ */
+public enum ImportStatus {
+    PENDING,
+    RUNNING,
+    COMPLETED,
+    FAILED,
+}
@@ -0,0 +1,9 @@
+package com.trongdev.todoapp.domain.enumeration;
+
+/**
+ * The ImportType enumeration: the kind of rows a CSV import file holds.
+ */
+public enum ImportType {
+    BOOK,
+    AUTHOR,
+}
@@ -0,0 +1,4 @@
+/**
+ * Domain enumerations.
+ */
+package com.trongdev.todoapp.domain.enumeration;
@@ -2,6 +2,8 @@ package com.trongdev.todoapp.management;
 
 import io.micrometer.core.instrument.Counter;
 import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.concurrent.TimeUnit;
 import org.springframework.stereotype.Service;
 
 @Service
@@ -13,16 +15,57 @@ public class SecurityMetersService {
     public static final String INVALID_TOKENS_METER_BASE_UNIT = "errors";
     public static final String INVALID_TOKENS_METER_CAUSE_DIMENSION = "cause";
 
+    public static final String TOKEN_DECODING_METER_NAME = "security.authentication.token-decoding";
+    public static final String TOKEN_DECODING_METER_DESCRIPTION = "Indicates the time spent decoding the tokens presented by the clients.";
+    public static final String TOKEN_DECODING_METER_RESULT_DIMENSION = "result";
+
+    public static final String THROTTLED_ATTEMPTS_METER_NAME = "security.authentication.throttled-attempts";
+    public static final String THROTTLED_ATTEMPTS_METER_DESCRIPTION =
+        "Indicates the count of authentication, registration and password reset attempts rejected by the throttling.";
+    public static final String THROTTLED_ATTEMPTS_METER_BASE_UNIT = "attempts";
+    public static final String THROTTLED_ATTEMPTS_METER_KEY_DIMENSION = "key";
+
+    public static final String REVOKED_TOKENS_METER_NAME = "security.authentication.revoked-tokens";
+    public static final String REVOKED_TOKENS_METER_DESCRIPTION = "Indicates the count of the revoked tokens presented by the clients.";
+    public static final String REVOKED_TOKENS_METER_BASE_UNIT = "errors";
+
     private final Counter tokenInvalidSignatureCounter;
     private final Counter tokenExpiredCounter;
     private final Counter tokenUnsupportedCounter;
     private final Counter tokenMalformedCounter;
 
+    private final Timer tokenDecodedTimer;
+    private final Timer tokenInvalidSignatureTimer;
+    private final Timer tokenExpiredTimer;
+    private final Timer tokenUnsupportedTimer;
+    private final Timer tokenMalformedTimer;
+    private final Timer tokenUnknownFailureTimer;
+
+    private final Counter tokenRevokedCounter;
+
+    private final Counter throttledByIpCounter;
+    private final Counter throttledByLoginCounter;
+
     public SecurityMetersService(MeterRegistry registry) {
         this.tokenInvalidSignatureCounter = invalidTokensCounterForCauseBuilder("invalid-signature").register(registry);
         this.tokenExpiredCounter = invalidTokensCounterForCauseBuilder("expired").register(registry);
         this.tokenUnsupportedCounter = invalidTokensCounterForCauseBuilder("unsupported").register(registry);
         this.tokenMalformedCounter = invalidTokensCounterForCauseBuilder("malformed").register(registry);
+
+        this.tokenDecodedTimer = tokenDecodingTimerForResultBuilder("success").register(registry);
+        this.tokenInvalidSignatureTimer = tokenDecodingTimerForResultBuilder("invalid-signature").register(registry);
+        this.tokenExpiredTimer = tokenDecodingTimerForResultBuilder("expired").register(registry);
+        this.tokenUnsupportedTimer = tokenDecodingTimerForResultBuilder("unsupported").register(registry);
+        this.tokenMalformedTimer = tokenDecodingTimerForResultBuilder("malformed").register(registry);
+        this.tokenUnknownFailureTimer = tokenDecodingTimerForResultBuilder("unknown").register(registry);
+
+        this.tokenRevokedCounter = Counter.builder(REVOKED_TOKENS_METER_NAME)
+            .baseUnit(REVOKED_TOKENS_METER_BASE_UNIT)
+            .description(REVOKED_TOKENS_METER_DESCRIPTION)
+            .register(registry);
+
+        this.throttledByIpCounter = throttledAttemptsCounterForKeyBuilder("ip").register(registry);
+        this.throttledByLoginCounter = throttledAttemptsCounterForKeyBuilder("login").register(registry);
     }
 
     private Counter.Builder invalidTokensCounterForCauseBuilder(String cause) {
@@ -32,6 +75,19 @@ public class SecurityMetersService {
             .tag(INVALID_TOKENS_METER_CAUSE_DIMENSION, cause);
     }
 
+    private Timer.Builder tokenDecodingTimerForResultBuilder(String result) {
+        return Timer.builder(TOKEN_DECODING_METER_NAME)
+            .description(TOKEN_DECODING_METER_DESCRIPTION)
+            .tag(TOKEN_DECODING_METER_RESULT_DIMENSION, result);
+    }
+
+    private Counter.Builder throttledAttemptsCounterForKeyBuilder(String key) {
+        return Counter.builder(THROTTLED_ATTEMPTS_METER_NAME)
+            .baseUnit(THROTTLED_ATTEMPTS_METER_BASE_UNIT)
+            .description(THROTTLED_ATTEMPTS_METER_DESCRIPTION)
+            .tag(THROTTLED_ATTEMPTS_METER_KEY_DIMENSION, key);
+    }
+
     public void trackTokenInvalidSignature() {
         this.tokenInvalidSignatureCounter.increment();
     }
@@ -47,4 +103,44 @@ public class SecurityMetersService {
     public void trackTokenMalformed() {
         this.tokenMalformedCounter.increment();
     }
+
+    public void recordTokenDecoded(long durationNanos) {
+        this.tokenDecodedTimer.record(durationNanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void recordTokenInvalidSignature(long durationNanos) {
+        trackTokenInvalidSignature();
+        this.tokenInvalidSignatureTimer.record(durationNanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void recordTokenExpired(long durationNanos) {
+        trackTokenExpired();
+        this.tokenExpiredTimer.record(durationNanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void recordTokenUnsupported(long durationNanos) {
+        trackTokenUnsupported();
+        this.tokenUnsupportedTimer.record(durationNanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void recordTokenMalformed(long durationNanos) {
+        trackTokenMalformed();
+        this.tokenMalformedTimer.record(durationNanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void recordTokenUnknownFailure(long durationNanos) {
+        this.tokenUnknownFailureTimer.record(durationNanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void trackTokenRevoked() {
+        this.tokenRevokedCounter.increment();
+    }
+
+    public void trackAuthenticationThrottledByIp() {
+        this.throttledByIpCounter.increment();
+    }
+
+    public void trackAuthenticationThrottledByLogin() {
+        this.throttledByLoginCounter.increment();
+    }
 }
@@ -1,6 +1,14 @@
 package com.trongdev.todoapp.repository;
 
 import com.trongdev.todoapp.domain.Author;
+import jakarta.persistence.QueryHint;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Stream;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.*;
 import org.springframework.stereotype.Repository;
 
@@ -9,4 +17,77 @@ import org.springframework.stereotype.Repository;
  */
 @SuppressWarnings("unused")
 @Repository
-public interface AuthorRepository extends JpaRepository<Author, Long> {}
+public interface AuthorRepository extends JpaRepository<Author, Long>, JpaSpecificationExecutor<Author>, DetachedUpdateRepository<Author> {
+    Slice<Author> findSliceBy(Pageable pageable);
+
+    /**
+     * Get a slice of the authors, sortable by the statistics of their books, such as {@code bookCount}, and by the
+     * properties of the authors prefixed with {@code author.}, such as {@code author.name}.
+     * <p>
+     * The authors are read from their statistics, which every author has from its creation, so that sorting by the
+     * number of books reads the {@code idx_author_stats_book_count} index instead of sorting all the authors.
+     *
+     * @param pageable the pagination information.
+     * @return the slice of authors.
+     */
+    @Query("select author from AuthorStats stats join stats.author author")
+    Slice<Author> findSliceWithStatsBy(Pageable pageable);
+
+    @Query("select author.id from Author author")
+    Page<Long> findAllIds(Pageable pageable);
+
+    @Query("select author.id from Author author")
+    Slice<Long> findSliceOfIds(Pageable pageable);
+
+    /**
+     * Get a page of the ids of the authors, sortable like {@link #findSliceWithStatsBy(Pageable)}.
+     *
+     * @param pageable the pagination information.
+     * @return the page of ids.
+     */
+    @Query(
+        value = "select author.id from AuthorStats stats join stats.author author",
+        countQuery = "select count(stats) from AuthorStats stats"
+    )
+    Page<Long> findAllIdsWithStats(Pageable pageable);
+
+    /**
+     * Get a slice of the ids of the authors, sortable like {@link #findSliceWithStatsBy(Pageable)}.
+     *
+     * @param pageable the pagination information.
+     * @return the slice of ids.
+     */
+    @Query("select author.id from AuthorStats stats join stats.author author")
+    Slice<Long> findSliceOfIdsWithStats(Pageable pageable);
+
+    /**
+     * Get the authors with the given ids, and all their books in the same select.
+     *
+     * @param ids the ids of the authors.
+     * @return the authors, in no particular order.
+     */
+    @EntityGraph(attributePaths = "books")
+    List<Author> findAllWithBooksByIdIn(Collection<Long> ids);
+
+    @Query("select author.id as id, author.name as name from Author author")
+    List<IdAndName> findAllIdsAndNames();
+
+    /**
+     * Stream the ids and names of all the authors, without loading them all in memory.
+     * The stream must be consumed within a transaction, and closed.
+     *
+     * @return the stream of the ids and names of all the authors.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + Integer.MIN_VALUE))
+    @Query("select author.id as id, author.name as name from Author author")
+    Stream<IdAndName> streamAllIdsAndNames();
+
+    /**
+     * Projection of an author on its id and name.
+     */
+    interface IdAndName {
+        Long getId();
+
+        String getName();
+    }
+}
@@ -0,0 +1,97 @@
+package com.trongdev.todoapp.repository;
+
+import com.trongdev.todoapp.domain.AuthorStats;
+import jakarta.persistence.QueryHint;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.*;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Spring Data JPA repository for the AuthorStats read model.
+ */
+@SuppressWarnings("unused")
+@Repository
+public interface AuthorStatsRepository extends JpaRepository<AuthorStats, Long> {
+    @EntityGraph(attributePaths = "author")
+    Page<AuthorStats> findAllWithAuthorBy(Pageable pageable);
+
+    @EntityGraph(attributePaths = "author")
+    Optional<AuthorStats> findOneWithAuthorByAuthorId(Long authorId);
+
+    /**
+     * Compute the statistics of the given authors from their books, in one set-based statement.
+     * <p>
+     * Missing statistics are inserted, and the statistics of authors that no longer exist are left to the cascading
+     * foreign key. The statement only synchronizes with the {@code author_stats} table, so it doesn't evict the
+     * second-level cache regions of the other entities as native statements otherwise do.
+     *
+     * @param authorIds the ids of the authors.
+     * @return the number of rows inserted or updated, as counted by MySQL.
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "author_stats"))
+    @Query(
+        nativeQuery = true,
+        value = "insert into author_stats (author_id, book_count, average_price, latest_publication_date) " +
+        "select * from (" +
+        "select author.id as computed_author_id, count(book.id) as computed_book_count, avg(book.price) as computed_average_price, " +
+        "max(book.publication_date) as computed_latest_publication_date " +
+        "from author left join book on book.author_id = author.id where author.id in (:authorIds) group by author.id" +
+        ") as computed " +
+        "on duplicate key update book_count = computed_book_count, average_price = computed_average_price, " +
+        "latest_publication_date = computed_latest_publication_date"
+    )
+    int refresh(@Param("authorIds") Collection<Long> authorIds);
+
+    /**
+     * Mark the statistics of the given authors to be refreshed, in the current transaction.
+     *
+     * @param authorIds the ids of the authors, the ones that no longer exist are ignored.
+     * @return the number of authors marked.
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "author_stats_dirty"))
+    @Query(
+        nativeQuery = true,
+        value = "insert into author_stats_dirty (author_id) select author.id from author where author.id in (:authorIds)"
+    )
+    int markDirty(@Param("authorIds") Collection<Long> authorIds);
+
+    /**
+     * Get the oldest marks of the authors whose statistics are to be refreshed.
+     *
+     * @param limit the maximum number of marks.
+     * @return the marks, in the order they were written.
+     */
+    @Query(nativeQuery = true, value = "select id as id, author_id as authorId from author_stats_dirty order by id limit :limit")
+    List<DirtyMark> findDirtyMarks(@Param("limit") int limit);
+
+    /**
+     * Delete the given marks, once the statistics of their authors are refreshed.
+     * <p>
+     * The marks are deleted by id rather than up to the last one read, so that a mark committed after they were read is
+     * kept for the next refresh even if its id is lower.
+     *
+     * @param ids the ids of the marks.
+     * @return the number of marks deleted.
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "author_stats_dirty"))
+    @Query(nativeQuery = true, value = "delete from author_stats_dirty where id in (:ids)")
+    int deleteDirtyMarks(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Projection of a mark on its id and the id of its author.
+     */
+    interface DirtyMark {
+        Long getId();
+
+        Long getAuthorId();
+    }
+}
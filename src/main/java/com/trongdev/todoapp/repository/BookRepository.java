@@ -1,7 +1,13 @@
 package com.trongdev.todoapp.repository;
 
 import com.trongdev.todoapp.domain.Book;
+import jakarta.persistence.QueryHint;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Stream;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.*;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 /**
@@ -9,4 +15,68 @@ import org.springframework.stereotype.Repository;
  */
 @SuppressWarnings("unused")
 @Repository
-public interface BookRepository extends JpaRepository<Book, Long> {}
+public interface BookRepository extends JpaRepository<Book, Long>, JpaSpecificationExecutor<Book>, DetachedUpdateRepository<Book> {
+    /**
+     * Stream all the books in id order, without loading them all in memory.
+     * <p>
+     * The minimal fetch size makes the MySQL driver stream the rows one by one instead of buffering the whole result set,
+     * and the books are loaded read-only so no dirty-checking snapshot is kept.
+     * The stream must be consumed within a transaction, and closed.
+     *
+     * @return the stream of all the books.
+     */
+    @QueryHints(
+        {
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + Integer.MIN_VALUE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+        }
+    )
+    @Query("select book from Book book order by book.id")
+    Stream<Book> streamAll();
+
+    /**
+     * Stream the ids and titles of all the books, without loading them all in memory.
+     * The stream must be consumed within a transaction, and closed.
+     *
+     * @return the stream of the ids and titles of all the books.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + Integer.MIN_VALUE))
+    @Query("select book.id as id, book.title as title from Book book")
+    Stream<IdAndTitle> streamAllIdsAndTitles();
+
+    /**
+     * Find which of the given book ids exist, without loading the books.
+     *
+     * @param ids the ids of the books.
+     * @return the ids of the existing books.
+     */
+    @Query("select book.id from Book book where book.id in :ids")
+    List<Long> findIdsByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Find the ids of the authors of the given books, without loading the books.
+     *
+     * @param ids the ids of the books.
+     * @return the distinct ids of the authors of the books.
+     */
+    @Query("select distinct book.author.id from Book book where book.id in :ids and book.author is not null")
+    List<Long> findAuthorIdsByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Find the ids of the books of an author, without loading the books.
+     *
+     * @param authorId the id of the author.
+     * @return the ids of the books of the author, in id order.
+     */
+    @Query("select book.id from Book book where book.author.id = :authorId order by book.id")
+    List<Long> findIdsByAuthorId(@Param("authorId") Long authorId);
+
+    /**
+     * Projection of a book on its id and title.
+     */
+    interface IdAndTitle {
+        Long getId();
+
+        String getTitle();
+    }
+}
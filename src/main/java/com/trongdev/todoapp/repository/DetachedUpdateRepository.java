@@ -0,0 +1,18 @@
+package com.trongdev.todoapp.repository;
+
+/**
+ * Repository fragment updating detached entities without reading their row first.
+ */
+public interface DetachedUpdateRepository<T> {
+    /**
+     * Update a detached entity with a single versioned {@code UPDATE} statement.
+     * <p>
+     * The statement fails with an optimistic locking failure when the row does not have the version of the entity
+     * anymore, or does not exist. The row is not read first, so the post-update listeners get no previous state.
+     * An instance with the same id already in the persistence context is updated from the entity instead.
+     *
+     * @param entity the detached entity, with its id and version.
+     * @return the updated entity, with its new version.
+     */
+    <S extends T> S updateDetached(S entity);
+}
@@ -0,0 +1,41 @@
+package com.trongdev.todoapp.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.OptimisticLockException;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.persister.entity.EntityPersister;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Implementation of {@link DetachedUpdateRepository}, on the Hibernate session.
+ */
+public class DetachedUpdateRepositoryImpl<T> implements DetachedUpdateRepository<T> {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    @Transactional
+    @SuppressWarnings("deprecation")
+    public <S extends T> S updateDetached(S entity) {
+        SessionImplementor session = entityManager.unwrap(SessionImplementor.class);
+        EntityPersister persister = session.getEntityPersister(null, entity);
+        Object id = persister.getIdentifier(entity, session);
+        if (session.getPersistenceContextInternal().containsEntity(session.generateEntityKey(id, persister))) {
+            // merged onto the managed instance, which is already loaded
+            return entityManager.merge(entity);
+        }
+
+        // merge would load the row to copy the entity onto it: update reattaches the entity as it is instead
+        session.update(entity);
+        try {
+            session.flush();
+        } catch (OptimisticLockException e) {
+            // the failed update is dropped, so that the caller can still query the rolled back transaction
+            session.clear();
+            throw e;
+        }
+        return entity;
+    }
+}
@@ -0,0 +1,28 @@
+package com.trongdev.todoapp.repository;
+
+import com.trongdev.todoapp.domain.ImportJob;
+import com.trongdev.todoapp.domain.enumeration.ImportStatus;
+import java.util.Collection;
+import java.util.List;
+import org.springframework.data.jpa.repository.*;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Spring Data JPA repository for the ImportJob entity.
+ */
+@Repository
+public interface ImportJobRepository extends JpaRepository<ImportJob, Long> {
+    List<ImportJob> findAllByStatusIn(Collection<ImportStatus> statuses);
+
+    /**
+     * Atomically move a job to {@link ImportStatus#RUNNING}, so that it is processed by a single worker.
+     *
+     * @param id the id of the job.
+     * @param statuses the statuses the job may be claimed from.
+     * @return {@code 1} if the job was claimed, {@code 0} otherwise.
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update ImportJob job set job.status = com.trongdev.todoapp.domain.enumeration.ImportStatus.RUNNING where job.id = :id and job.status in :statuses")
+    int claim(@Param("id") Long id, @Param("statuses") Collection<ImportStatus> statuses);
+}
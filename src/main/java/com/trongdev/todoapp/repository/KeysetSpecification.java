@@ -0,0 +1,83 @@
+package com.trongdev.todoapp.repository;
+
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+/**
+ * A {@link Specification} selecting the rows that come strictly after a given {@code (sort key, id)} position.
+ * <p>
+ * Used for keyset (seek) pagination: the database seeks directly to the last row of the previous page instead of
+ * reading and discarding {@code OFFSET} rows, so the cost of a page does not depend on how deep it is.
+ * Rows are expected to be ordered by the sort key then by id, both in the same direction, with {@code NULL} sort keys
+ * ordered lowest, as MySQL does.
+ */
+public class KeysetSpecification<T> implements Specification<T> {
+
+    private static final long serialVersionUID = 1L;
+
+    public static final String ID_PROPERTY = "id";
+
+    private final String property;
+
+    private final Sort.Direction direction;
+
+    private final transient Comparable<?> lastValue;
+
+    private final Long lastId;
+
+    public KeysetSpecification(String property, Sort.Direction direction, Comparable<?> lastValue, Long lastId) {
+        this.property = property;
+        this.direction = direction;
+        this.lastValue = lastValue;
+        this.lastId = lastId;
+    }
+
+    public String getProperty() {
+        return property;
+    }
+
+    public Sort.Direction getDirection() {
+        return direction;
+    }
+
+    /**
+     * Build the sort matching this keyset: the sort key, then the id as a tie-breaker.
+     *
+     * @return the sort to apply to the query.
+     */
+    public Sort toSort() {
+        if (ID_PROPERTY.equals(property)) {
+            return Sort.by(direction, ID_PROPERTY);
+        }
+        return Sort.by(direction, property, ID_PROPERTY);
+    }
+
+    @Override
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    public Predicate toPredicate(Root<T> root, CriteriaQuery<?> query, CriteriaBuilder cb) {
+        if (lastId == null) {
+            return null;
+        }
+        boolean ascending = direction.isAscending();
+        Path<Long> id = root.get(ID_PROPERTY);
+        Predicate idAfter = ascending ? cb.greaterThan(id, lastId) : cb.lessThan(id, lastId);
+        if (ID_PROPERTY.equals(property)) {
+            return idAfter;
+        }
+
+        Path<Comparable> key = root.get(property);
+        if (lastValue == null) {
+            Predicate sameKey = cb.and(cb.isNull(key), idAfter);
+            return ascending ? cb.or(sameKey, cb.isNotNull(key)) : sameKey;
+        }
+        Comparable value = lastValue;
+        Predicate beyondKey = ascending ? cb.greaterThan(key, value) : cb.lessThan(key, value);
+        Predicate sameKey = cb.and(cb.equal(key, value), idAfter);
+        return ascending ? cb.or(beyondKey, sameKey) : cb.or(beyondKey, sameKey, cb.isNull(key));
+    }
+}
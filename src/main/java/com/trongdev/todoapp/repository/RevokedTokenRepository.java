@@ -0,0 +1,33 @@
+package com.trongdev.todoapp.repository;
+
+import com.trongdev.todoapp.domain.RevokedToken;
+import java.time.Instant;
+import java.util.List;
+import org.springframework.data.jpa.repository.*;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Spring Data JPA repository for the RevokedToken entity.
+ */
+@Repository
+public interface RevokedTokenRepository extends JpaRepository<RevokedToken, Long> {
+    /**
+     * Find the revoked tokens not expired yet added after an id, in the order of their ids.
+     *
+     * @param id the last id already loaded.
+     * @param now the current instant.
+     * @return the revoked tokens.
+     */
+    List<RevokedToken> findAllByIdGreaterThanAndExpiresAtAfterOrderById(Long id, Instant now);
+
+    /**
+     * Delete the revoked tokens expired by now.
+     *
+     * @param now the current instant.
+     * @return the number of revoked tokens deleted.
+     */
+    @Modifying
+    @Query("delete from RevokedToken revokedToken where revokedToken.expiresAt <= :now")
+    int deleteExpired(@Param("now") Instant now);
+}
@@ -27,4 +27,8 @@ public interface UserRepository extends JpaRepository<User, Long> {
     Optional<User> findOneWithAuthoritiesByEmailIgnoreCase(String email);
 
     Page<User> findAllByIdNotNullAndActivatedIsTrue(Pageable pageable);
+
+    Slice<User> findSliceBy(Pageable pageable);
+
+    Slice<User> findSliceByIdNotNullAndActivatedIsTrue(Pageable pageable);
 }
@@ -0,0 +1,33 @@
+package com.trongdev.todoapp.repository;
+
+import com.trongdev.todoapp.domain.UserTokenRevocation;
+import java.time.Instant;
+import java.util.List;
+import org.springframework.data.jpa.repository.*;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Spring Data JPA repository for the UserTokenRevocation entity.
+ */
+@Repository
+public interface UserTokenRevocationRepository extends JpaRepository<UserTokenRevocation, Long> {
+    /**
+     * Find the revocations of the tokens not expired yet added after an id, in the order of their ids.
+     *
+     * @param id the last id already loaded.
+     * @param now the current instant.
+     * @return the revocations.
+     */
+    List<UserTokenRevocation> findAllByIdGreaterThanAndExpiresAtAfterOrderById(Long id, Instant now);
+
+    /**
+     * Delete the revocations of the tokens expired by now.
+     *
+     * @param now the current instant.
+     * @return the number of revocations deleted.
+     */
+    @Modifying
+    @Query("delete from UserTokenRevocation revocation where revocation.expiresAt <= :now")
+    int deleteExpired(@Param("now") Instant now);
+}
@@ -0,0 +1,119 @@
+package com.trongdev.todoapp.security;
+
+import com.trongdev.todoapp.config.ApplicationProperties;
+import com.trongdev.todoapp.management.SecurityMetersService;
+import jakarta.servlet.http.HttpServletRequest;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Optional;
+import org.apache.commons.lang3.StringUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+/**
+ * Throttles the attempts to authenticate, register or reset a password, by client IP and by login.
+ * <p>
+ * Each attempt takes a token from the {@link TokenBucketLimiter} of the client IP, shared by all these endpoints, and
+ * from the one of the normalised login (or email) on the endpoint, so that neither a client trying many logins nor
+ * many clients trying one login cost more than a few password hashes and user queries. A client or login out of tokens
+ * is rejected with an {@link AuthenticationThrottledException} before any of them. Behind a load balancer, the client
+ * IP is read from the {@code X-Forwarded-For} header written by the trusted proxies, see {@link ClientAddressResolver}.
+ */
+@Component
+public class AuthenticationThrottle {
+
+    /**
+     * The throttled endpoints, each with its own login buckets.
+     */
+    public enum Endpoint {
+        AUTHENTICATE,
+        REGISTER,
+        RESET_PASSWORD,
+    }
+
+    private static final Logger LOG = LoggerFactory.getLogger(AuthenticationThrottle.class);
+
+    private final TokenBucketLimiter ipLimiter;
+
+    private final TokenBucketLimiter loginLimiter;
+
+    private final ClientAddressResolver clientAddressResolver;
+
+    private final SecurityMetersService securityMetersService;
+
+    public AuthenticationThrottle(ApplicationProperties applicationProperties, SecurityMetersService securityMetersService) {
+        ApplicationProperties.AuthenticationThrottling throttling = applicationProperties.getAuthenticationThrottling();
+        this.ipLimiter = limiter(throttling, throttling.getPerIp());
+        this.loginLimiter = limiter(throttling, throttling.getPerLogin());
+        this.clientAddressResolver = new ClientAddressResolver(throttling.getTrustedProxies());
+        this.securityMetersService = securityMetersService;
+    }
+
+    private static TokenBucketLimiter limiter(
+        ApplicationProperties.AuthenticationThrottling throttling,
+        ApplicationProperties.AuthenticationThrottling.Limit limit
+    ) {
+        return new TokenBucketLimiter(
+            limit.getCapacity(),
+            limit.getRefillPeriod(),
+            throttling.getBaseLockout(),
+            throttling.getMaxLockout(),
+            throttling.getMaxTrackedKeys()
+        );
+    }
+
+    /**
+     * Check that an attempt is allowed, and count it.
+     *
+     * @param endpoint the endpoint attempted.
+     * @param request the request of the attempt, from a client resolved behind the trusted proxies.
+     * @param login the login or email attempted, if any.
+     * @throws AuthenticationThrottledException {@code 429 (Too Many Requests)} if the client or the login made too many attempts.
+     */
+    public void checkAttempt(Endpoint endpoint, HttpServletRequest request, String login) {
+        checkAttempt(endpoint, clientAddressResolver.resolve(request), login);
+    }
+
+    /**
+     * Check that an attempt is allowed, and count it.
+     *
+     * @param endpoint the endpoint attempted.
+     * @param clientIp the IP address of the client.
+     * @param login the login or email attempted, if any.
+     * @throws AuthenticationThrottledException {@code 429 (Too Many Requests)} if the client or the login made too many attempts.
+     */
+    public void checkAttempt(Endpoint endpoint, String clientIp, String login) {
+        Optional<Duration> retryAfter = ipLimiter.tryAcquire(clientIp);
+        if (retryAfter.isPresent()) {
+            LOG.debug("Too many {} attempts from {}", endpoint, clientIp);
+            securityMetersService.trackAuthenticationThrottledByIp();
+            throw new AuthenticationThrottledException("Too many attempts from this client", retryAfter.orElseThrow());
+        }
+        if (StringUtils.isBlank(login)) {
+            return;
+        }
+        retryAfter = loginLimiter.tryAcquire(loginKey(endpoint, login));
+        if (retryAfter.isPresent()) {
+            LOG.debug("Too many {} attempts for login {}", endpoint, login);
+            securityMetersService.trackAuthenticationThrottledByLogin();
+            throw new AuthenticationThrottledException("Too many attempts for this login", retryAfter.orElseThrow());
+        }
+    }
+
+    /**
+     * Forget the attempts of a login on an endpoint, such as after a successful authentication.
+     *
+     * @param endpoint the endpoint.
+     * @param login the login or email.
+     */
+    public void reset(Endpoint endpoint, String login) {
+        if (StringUtils.isNotBlank(login)) {
+            loginLimiter.reset(loginKey(endpoint, login));
+        }
+    }
+
+    private static String loginKey(Endpoint endpoint, String login) {
+        return endpoint.ordinal() + ":" + login.trim().toLowerCase(Locale.ENGLISH);
+    }
+}
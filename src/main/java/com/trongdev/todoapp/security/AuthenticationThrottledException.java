@@ -0,0 +1,15 @@
+package com.trongdev.todoapp.security;
+
+import java.time.Duration;
+
+/**
+ * This exception is thrown when a client or a login made too many authentication attempts.
+ */
+public class AuthenticationThrottledException extends TooManyRequestsException {
+
+    private static final long serialVersionUID = 1L;
+
+    public AuthenticationThrottledException(String message, Duration retryAfter) {
+        super(message, retryAfter);
+    }
+}
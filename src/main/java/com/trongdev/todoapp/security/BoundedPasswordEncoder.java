@@ -0,0 +1,137 @@
+package com.trongdev.todoapp.security;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+/**
+ * A {@link PasswordEncoder} hashing the passwords on a dedicated pool of a few threads, with a bounded queue.
+ * <p>
+ * Hashing a password is deliberately slow, so a burst of logins running it on the request threads would take them all
+ * and stall the rest of the API. Here at most {@code poolSize} passwords are hashed at once, and at most
+ * {@code queueCapacity} more callers wait for their turn, each for at most {@code maxWait}. Any other caller is
+ * rejected at once with a {@link PasswordHashingRejectedException}, answered with a {@code 429 (Too Many Requests)}.
+ */
+public class BoundedPasswordEncoder implements PasswordEncoder, AutoCloseable {
+
+    public static final String METER_NAME_PREFIX = "security.password-hashing";
+
+    private final PasswordEncoder delegate;
+
+    private final ThreadPoolExecutor executor;
+
+    private final Duration maxWait;
+
+    private final Duration retryAfter;
+
+    private final Timer waitTimer;
+
+    private final Timer hashTimer;
+
+    private final Counter rejectedCounter;
+
+    public BoundedPasswordEncoder(
+        PasswordEncoder delegate,
+        int poolSize,
+        int queueCapacity,
+        Duration maxWait,
+        Duration retryAfter,
+        MeterRegistry registry
+    ) {
+        this.delegate = delegate;
+        this.maxWait = maxWait;
+        this.retryAfter = retryAfter;
+        AtomicInteger threadCount = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(
+            poolSize,
+            poolSize,
+            0L,
+            TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(queueCapacity),
+            runnable -> {
+                Thread thread = new Thread(runnable, "password-hashing-" + threadCount.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            }
+        );
+        Gauge.builder(METER_NAME_PREFIX + ".queued", executor, pool -> pool.getQueue().size())
+            .description("Number of passwords waiting to be hashed")
+            .register(registry);
+        Gauge.builder(METER_NAME_PREFIX + ".active", executor, ThreadPoolExecutor::getActiveCount)
+            .description("Number of passwords being hashed")
+            .register(registry);
+        this.waitTimer = Timer.builder(METER_NAME_PREFIX + ".wait")
+            .description("Time spent by the passwords waiting to be hashed")
+            .register(registry);
+        this.hashTimer = Timer.builder(METER_NAME_PREFIX + ".duration").description("Time spent hashing the passwords").register(registry);
+        this.rejectedCounter = Counter.builder(METER_NAME_PREFIX + ".rejected")
+            .description("Number of passwords rejected because the hashing pool was saturated")
+            .register(registry);
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return hash(() -> delegate.encode(rawPassword));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return hash(() -> delegate.matches(rawPassword, encodedPassword));
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+
+    private <T> T hash(Callable<T> hashing) {
+        long queuedAt = System.nanoTime();
+        FutureTask<T> task = new FutureTask<>(() -> {
+            waitTimer.record(System.nanoTime() - queuedAt, TimeUnit.NANOSECONDS);
+            return hashTimer.recordCallable(hashing);
+        });
+        try {
+            executor.execute(task);
+        } catch (RejectedExecutionException e) {
+            throw reject("The password hashing queue is full");
+        }
+        try {
+            return task.get(maxWait.toNanos(), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            // Give its place back if it is still queued, a password being hashed is left to complete
+            executor.remove(task);
+            throw reject("The password could not be hashed within " + maxWait);
+        } catch (InterruptedException e) {
+            executor.remove(task);
+            Thread.currentThread().interrupt();
+            throw reject("Interrupted while waiting for the password to be hashed");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    private PasswordHashingRejectedException reject(String message) {
+        rejectedCounter.increment();
+        return new PasswordHashingRejectedException(message, retryAfter);
+    }
+
+    @Override
+    public void close() {
+        executor.shutdownNow();
+    }
+}
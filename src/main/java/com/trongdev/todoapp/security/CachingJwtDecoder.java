@@ -0,0 +1,95 @@
+package com.trongdev.todoapp.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtException;
+
+/**
+ * A {@link JwtDecoder} caching the tokens successfully decoded by another one, until they expire.
+ * <p>
+ * A client sends the same bearer token with each request, so verifying its signature, parsing its claims and
+ * validating them is only done the first time. The tokens are keyed by their SHA-256 digest, so the cache holds no
+ * usable token and a forged token can't match a cached one. Tokens failing to decode are not cached: each attempt
+ * goes through the whole verification again. The hit rate is published as the {@code cache.gets} meters of the
+ * {@value #CACHE_NAME} cache.
+ */
+public class CachingJwtDecoder implements JwtDecoder {
+
+    public static final String CACHE_NAME = "jwt-decoder";
+
+    private final JwtDecoder delegate;
+
+    private final Cache<TokenDigest, Jwt> cache;
+
+    public CachingJwtDecoder(JwtDecoder delegate, long maxEntries, MeterRegistry registry) {
+        this.delegate = delegate;
+        this.cache = Caffeine.newBuilder().maximumSize(maxEntries).expireAfter(new UntilTokenExpiry()).recordStats().build();
+        CaffeineCacheMetrics.monitor(registry, cache, CACHE_NAME);
+    }
+
+    @Override
+    public Jwt decode(String token) throws JwtException {
+        TokenDigest digest = TokenDigest.of(token);
+        Jwt jwt = cache.getIfPresent(digest);
+        if (jwt == null) {
+            jwt = delegate.decode(token);
+            if (jwt.getExpiresAt() != null) {
+                cache.put(digest, jwt);
+            }
+        }
+        return jwt;
+    }
+
+    /**
+     * Forget all the decoded tokens.
+     */
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    /**
+     * The SHA-256 digest of a token.
+     */
+    private record TokenDigest(long a, long b, long c, long d) {
+        private static TokenDigest of(String token) {
+            try {
+                ByteBuffer digest = ByteBuffer.wrap(MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.US_ASCII)));
+                return new TokenDigest(digest.getLong(), digest.getLong(), digest.getLong(), digest.getLong());
+            } catch (NoSuchAlgorithmException e) {
+                throw new IllegalStateException("SHA-256 is required by the Java SE specification", e);
+            }
+        }
+    }
+
+    /**
+     * Expires the cached tokens at their own {@code exp} claim.
+     */
+    private static final class UntilTokenExpiry implements Expiry<TokenDigest, Jwt> {
+
+        @Override
+        public long expireAfterCreate(TokenDigest key, Jwt jwt, long currentTime) {
+            return Math.max(0, Duration.between(Instant.now(), jwt.getExpiresAt()).toNanos());
+        }
+
+        @Override
+        public long expireAfterUpdate(TokenDigest key, Jwt jwt, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, jwt, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(TokenDigest key, Jwt jwt, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.trongdev.todoapp.security;
+
+import jakarta.servlet.http.HttpServletRequest;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.regex.Pattern;
+import org.springframework.security.web.util.matcher.IpAddressMatcher;
+
+/**
+ * Resolves the IP address of the client of a request, behind trusted proxies.
+ * <p>
+ * The {@code X-Forwarded-For} header is only believed when the request comes from a trusted proxy, such as the load
+ * balancer, and then only up to the first address which is not a trusted proxy: the addresses on its left were written
+ * by the client itself, so a client can't pick the address it is throttled by. The first address which is not an IP
+ * literal ends the walk too, so that a forged header never causes a DNS lookup.
+ */
+final class ClientAddressResolver {
+
+    static final String FORWARDED_FOR_HEADER = "X-Forwarded-For";
+
+    private static final Pattern IP_LITERAL = Pattern.compile("[0-9]{1,3}(\\.[0-9]{1,3}){3}|[0-9a-fA-F:.]*:[0-9a-fA-F:.]*");
+
+    private final List<IpAddressMatcher> trustedProxies;
+
+    ClientAddressResolver(List<String> trustedProxies) {
+        this.trustedProxies = trustedProxies.stream().map(IpAddressMatcher::new).toList();
+    }
+
+    /**
+     * Resolve the IP address of the client of a request.
+     *
+     * @param request the request.
+     * @return the IP address of the client, or of the last trusted proxy if the forwarded addresses are not valid.
+     */
+    String resolve(HttpServletRequest request) {
+        String address = request.getRemoteAddr();
+        if (!isTrustedProxy(address)) {
+            return address;
+        }
+        List<String> forwardedFor = new ArrayList<>();
+        for (String header : Collections.list(request.getHeaders(FORWARDED_FOR_HEADER))) {
+            for (String hop : header.split(",")) {
+                forwardedFor.add(hop.trim());
+            }
+        }
+        for (int i = forwardedFor.size() - 1; i >= 0; i--) {
+            String hop = forwardedFor.get(i);
+            if (!IP_LITERAL.matcher(hop).matches()) {
+                return address;
+            }
+            address = hop;
+            if (!isTrustedProxy(address)) {
+                return address;
+            }
+        }
+        return address;
+    }
+
+    private boolean isTrustedProxy(String address) {
+        if (address == null || !IP_LITERAL.matcher(address).matches()) {
+            return false;
+        }
+        for (IpAddressMatcher trustedProxy : trustedProxies) {
+            if (trustedProxy.matches(address)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,93 @@
+package com.trongdev.todoapp.security;
+
+import com.nimbusds.jose.proc.BadJOSEException;
+import com.nimbusds.jose.proc.BadJWSException;
+import com.nimbusds.jwt.proc.BadJWTException;
+import com.trongdev.todoapp.management.SecurityMetersService;
+import java.text.ParseException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.security.oauth2.jwt.BadJwtException;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtException;
+import org.springframework.security.oauth2.jwt.JwtValidationException;
+
+/**
+ * A {@link JwtDecoder} timing the tokens decoded by a {@link org.springframework.security.oauth2.jwt.NimbusJwtDecoder},
+ * and counting the tokens it rejects by cause in the {@link SecurityMetersService}.
+ * <p>
+ * The causes are told apart by the types of the exceptions, never by their messages, so a flood of invalid tokens
+ * costs no more than their decoding. The decoder must only validate the timestamps of the tokens, as the
+ * {@link JwtValidationException}s are counted as expired tokens.
+ */
+public class MeteredJwtDecoder implements JwtDecoder {
+
+    private static final Logger LOG = LoggerFactory.getLogger(MeteredJwtDecoder.class);
+
+    /**
+     * The causes of the rejection of a token.
+     */
+    enum Failure {
+        EXPIRED,
+        INVALID_SIGNATURE,
+        MALFORMED,
+        UNSUPPORTED,
+        UNKNOWN,
+    }
+
+    private final JwtDecoder delegate;
+
+    private final SecurityMetersService metersService;
+
+    public MeteredJwtDecoder(JwtDecoder delegate, SecurityMetersService metersService) {
+        this.delegate = delegate;
+        this.metersService = metersService;
+    }
+
+    @Override
+    public Jwt decode(String token) throws JwtException {
+        long start = System.nanoTime();
+        try {
+            Jwt jwt = delegate.decode(token);
+            metersService.recordTokenDecoded(System.nanoTime() - start);
+            return jwt;
+        } catch (JwtException e) {
+            long duration = System.nanoTime() - start;
+            switch (classify(e)) {
+                case EXPIRED -> metersService.recordTokenExpired(duration);
+                case INVALID_SIGNATURE -> metersService.recordTokenInvalidSignature(duration);
+                case MALFORMED -> metersService.recordTokenMalformed(duration);
+                case UNSUPPORTED -> metersService.recordTokenUnsupported(duration);
+                case UNKNOWN -> {
+                    metersService.recordTokenUnknownFailure(duration);
+                    LOG.error("Unknown JWT error {}", e.getMessage());
+                }
+            }
+            throw e;
+        }
+    }
+
+    static Failure classify(JwtException e) {
+        if (e instanceof JwtValidationException) {
+            return Failure.EXPIRED;
+        }
+        if (!(e instanceof BadJwtException)) {
+            // Such as a failure to compute the signature
+            return Failure.UNKNOWN;
+        }
+        Throwable cause = e.getCause();
+        if (cause instanceof BadJWSException) {
+            return Failure.INVALID_SIGNATURE;
+        }
+        if (cause instanceof ParseException || cause instanceof BadJWTException) {
+            // Not a JWT, or claims which are not a JSON object
+            return Failure.MALFORMED;
+        }
+        if (cause == null || cause instanceof BadJOSEException) {
+            // An unsecured token, another algorithm or an encrypted token
+            return Failure.UNSUPPORTED;
+        }
+        return Failure.UNKNOWN;
+    }
+}
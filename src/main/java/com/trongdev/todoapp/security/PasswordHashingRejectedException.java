@@ -0,0 +1,15 @@
+package com.trongdev.todoapp.security;
+
+import java.time.Duration;
+
+/**
+ * This exception is thrown when a password can't be hashed because the {@link BoundedPasswordEncoder} is saturated.
+ */
+public class PasswordHashingRejectedException extends TooManyRequestsException {
+
+    private static final long serialVersionUID = 1L;
+
+    public PasswordHashingRejectedException(String message, Duration retryAfter) {
+        super(message, retryAfter);
+    }
+}
@@ -0,0 +1,38 @@
+package com.trongdev.todoapp.security;
+
+import com.trongdev.todoapp.management.SecurityMetersService;
+import org.springframework.security.oauth2.jwt.BadJwtException;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtException;
+
+/**
+ * A {@link JwtDecoder} rejecting the tokens revoked in a {@link TokenRevocationList}.
+ * <p>
+ * It must wrap the {@link CachingJwtDecoder}, so that a token is checked on each request, even when its decoding was
+ * cached before it was revoked.
+ */
+public class RevocationCheckingJwtDecoder implements JwtDecoder {
+
+    private final JwtDecoder delegate;
+
+    private final TokenRevocationList revocationList;
+
+    private final SecurityMetersService metersService;
+
+    public RevocationCheckingJwtDecoder(JwtDecoder delegate, TokenRevocationList revocationList, SecurityMetersService metersService) {
+        this.delegate = delegate;
+        this.revocationList = revocationList;
+        this.metersService = metersService;
+    }
+
+    @Override
+    public Jwt decode(String token) throws JwtException {
+        Jwt jwt = delegate.decode(token);
+        if (revocationList.isRevoked(jwt)) {
+            metersService.trackTokenRevoked();
+            throw new BadJwtException("The token is revoked");
+        }
+        return jwt;
+    }
+}
@@ -20,6 +20,11 @@ public final class SecurityUtils {
 
     public static final String AUTHORITIES_KEY = "auth";
 
+    /**
+     * The claim of the issue instant of a JWT in milliseconds, as the {@code iat} claim only has whole seconds.
+     */
+    public static final String ISSUED_AT_MILLIS_KEY = "iat_ms";
+
     private SecurityUtils() {}
 
     /**
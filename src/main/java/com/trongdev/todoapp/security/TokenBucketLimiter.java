@@ -0,0 +1,139 @@
+package com.trongdev.todoapp.security;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.LongSupplier;
+
+/**
+ * An in-memory token-bucket rate limiter, with one bucket per key and exponential lockouts.
+ * <p>
+ * Each key may make {@code capacity} attempts at once, and earns one more every {@code refillPeriod}. An attempt
+ * finding the bucket empty locks the key out until its next token, and for at least {@code baseLockout} doubled on each
+ * consecutive lockout, up to {@code maxLockout}. The lockouts are forgiven once the bucket is full again.
+ * <p>
+ * The buckets are spread over {@link #STRIPES} least-recently-used maps, each guarded by its own lock, so at most
+ * {@code maxKeys} buckets are kept: under a flood of distinct keys the idle ones are forgotten first.
+ */
+class TokenBucketLimiter {
+
+    static final int STRIPES = 64;
+
+    private final Map<String, Bucket>[] stripes;
+
+    private final double capacity;
+
+    private final long refillPeriodNanos;
+
+    private final long baseLockoutNanos;
+
+    private final long maxLockoutNanos;
+
+    private final LongSupplier nanoTime;
+
+    TokenBucketLimiter(int capacity, Duration refillPeriod, Duration baseLockout, Duration maxLockout, int maxKeys) {
+        this(capacity, refillPeriod, baseLockout, maxLockout, maxKeys, System::nanoTime);
+    }
+
+    @SuppressWarnings("unchecked")
+    TokenBucketLimiter(int capacity, Duration refillPeriod, Duration baseLockout, Duration maxLockout, int maxKeys, LongSupplier nanoTime) {
+        this.capacity = capacity;
+        this.refillPeriodNanos = refillPeriod.toNanos();
+        this.baseLockoutNanos = baseLockout.toNanos();
+        this.maxLockoutNanos = maxLockout.toNanos();
+        this.nanoTime = nanoTime;
+        int maxKeysPerStripe = Math.max(1, maxKeys / STRIPES);
+        this.stripes = new Map[STRIPES];
+        for (int i = 0; i < STRIPES; i++) {
+            this.stripes[i] = new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, Bucket> eldest) {
+                    return size() > maxKeysPerStripe;
+                }
+            };
+        }
+    }
+
+    /**
+     * Take a token from the bucket of a key.
+     *
+     * @param key the key.
+     * @return empty if the attempt is allowed, or the delay after which the key may try again.
+     */
+    Optional<Duration> tryAcquire(String key) {
+        Map<String, Bucket> stripe = stripeOf(key);
+        long now = nanoTime.getAsLong();
+        synchronized (stripe) {
+            Bucket bucket = stripe.computeIfAbsent(key, k -> new Bucket(capacity, now));
+            if (now - bucket.lockedUntil < 0) {
+                return Optional.of(Duration.ofNanos(bucket.lockedUntil - now));
+            }
+            bucket.tokens = Math.min(capacity, bucket.tokens + (double) (now - bucket.refilledAt) / refillPeriodNanos);
+            bucket.refilledAt = now;
+            if (bucket.tokens >= capacity) {
+                bucket.lockouts = 0;
+            }
+            if (bucket.tokens >= 1) {
+                bucket.tokens -= 1;
+                return Optional.empty();
+            }
+            long nextTokenNanos = (long) Math.ceil((1 - bucket.tokens) * refillPeriodNanos);
+            long lockoutNanos = bucket.lockouts < 62 ? Math.min(maxLockoutNanos, baseLockoutNanos << bucket.lockouts) : maxLockoutNanos;
+            if (lockoutNanos < 0) {
+                lockoutNanos = maxLockoutNanos;
+            }
+            bucket.lockouts++;
+            long delay = Math.max(nextTokenNanos, lockoutNanos);
+            bucket.lockedUntil = now + delay;
+            return Optional.of(Duration.ofNanos(delay));
+        }
+    }
+
+    /**
+     * Forget a key, such as a login which just authenticated successfully.
+     *
+     * @param key the key.
+     */
+    void reset(String key) {
+        Map<String, Bucket> stripe = stripeOf(key);
+        synchronized (stripe) {
+            stripe.remove(key);
+        }
+    }
+
+    /**
+     * @return the number of keys tracked.
+     */
+    int size() {
+        int size = 0;
+        for (Map<String, Bucket> stripe : stripes) {
+            synchronized (stripe) {
+                size += stripe.size();
+            }
+        }
+        return size;
+    }
+
+    private Map<String, Bucket> stripeOf(String key) {
+        int hash = key.hashCode();
+        return stripes[(hash ^ (hash >>> 16)) & (STRIPES - 1)];
+    }
+
+    private static final class Bucket {
+
+        private double tokens;
+
+        private long refilledAt;
+
+        private long lockedUntil;
+
+        private int lockouts;
+
+        private Bucket(double tokens, long now) {
+            this.tokens = tokens;
+            this.refilledAt = now;
+            this.lockedUntil = now;
+        }
+    }
+}
@@ -0,0 +1,208 @@
+package com.trongdev.todoapp.security;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+import org.springframework.security.oauth2.jwt.Jwt;
+
+/**
+ * The in-memory list of the revoked JWTs, checked on each authenticated request.
+ * <p>
+ * A JWT is revoked either by its id ({@code jti}), such as on logout, or because its user revoked all the tokens
+ * issued up to an instant. The revoked ids are kept in an exact map, fronted by a Bloom filter, so that the check of
+ * a token which isn't revoked, the overwhelming majority, is a few bit reads with no lookup in the map. Every entry is
+ * kept until the tokens it revokes expire, then dropped by {@link #purgeExpired(Instant)}, which also rebuilds the
+ * filter since a Bloom filter can't forget its entries.
+ * <p>
+ * Checks are lock-free; revocations and purges, which are rare, are serialised.
+ */
+public class TokenRevocationList {
+
+    private static final int HASHES = 4;
+
+    /**
+     * Bits per revoked id of a rebuilt filter, rounded up to a power of two.
+     */
+    private static final int BITS_PER_ID = 16;
+
+    /**
+     * Bits per revoked id below which the filter is rebuilt: about a 1% false-positive rate with 4 hashes.
+     */
+    static final int MIN_BITS_PER_ID = 10;
+
+    static final int MIN_BITS = 1 << 16;
+
+    private final Map<String, Instant> revokedIds = new ConcurrentHashMap<>();
+
+    private final Map<String, Revocation> revokedUsers = new ConcurrentHashMap<>();
+
+    private volatile BloomFilter filter = new BloomFilter(MIN_BITS);
+
+    private record Revocation(Instant revokedBefore, Instant expiresAt) {}
+
+    /**
+     * Revoke a token by id.
+     *
+     * @param jti the id of the token.
+     * @param expiresAt the expiry of the token.
+     */
+    public synchronized void revoke(String jti, Instant expiresAt) {
+        revokedIds.merge(jti, expiresAt, (previous, current) -> previous.isAfter(current) ? previous : current);
+        if ((long) revokedIds.size() * MIN_BITS_PER_ID > filter.bits()) {
+            filter = filterOf(revokedIds.keySet());
+        } else {
+            filter.add(jti);
+        }
+    }
+
+    /**
+     * Revoke all the tokens of a user issued up to an instant.
+     *
+     * @param login the login of the user.
+     * @param revokedBefore the instant up to which the tokens are revoked, included, to the millisecond.
+     * @param expiresAt the expiry of the last token issued up to {@code revokedBefore}.
+     */
+    public synchronized void revokeIssuedBefore(String login, Instant revokedBefore, Instant expiresAt) {
+        revokedUsers.merge(login, new Revocation(revokedBefore, expiresAt), (previous, current) ->
+            previous.revokedBefore().isAfter(current.revokedBefore()) ? previous : current
+        );
+    }
+
+    /**
+     * Check whether a token is revoked.
+     *
+     * @param jwt the token.
+     * @return {@code true} if the token is revoked.
+     */
+    public boolean isRevoked(Jwt jwt) {
+        String jti = jwt.getId();
+        if (jti != null && filter.mightContain(jti) && revokedIds.containsKey(jti)) {
+            return true;
+        }
+        if (revokedUsers.isEmpty()) {
+            return false;
+        }
+        Revocation revocation = revokedUsers.get(jwt.getSubject());
+        if (revocation == null) {
+            return false;
+        }
+        Instant issuedAt = issuedAt(jwt);
+        return issuedAt == null || !issuedAt.isAfter(revocation.revokedBefore());
+    }
+
+    /**
+     * Check whether the Bloom filter might contain a revoked id.
+     *
+     * @param jti the id of the token.
+     * @return {@code false} if the token is not revoked by id.
+     */
+    boolean mightBeRevoked(String jti) {
+        return filter.mightContain(jti);
+    }
+
+    /**
+     * The issue instant of a token, to the millisecond when it has the claim, otherwise the whole second of its
+     * {@code iat}, so that the tokens issued in the second of a revocation are revoked.
+     */
+    private static Instant issuedAt(Jwt jwt) {
+        if (jwt.getClaim(SecurityUtils.ISSUED_AT_MILLIS_KEY) instanceof Number millis) {
+            return Instant.ofEpochMilli(millis.longValue());
+        }
+        return jwt.getIssuedAt();
+    }
+
+    /**
+     * Drop the revocations of the tokens expired by an instant, and rebuild the Bloom filter.
+     *
+     * @param now the instant.
+     */
+    public synchronized void purgeExpired(Instant now) {
+        revokedIds.values().removeIf(expiresAt -> !expiresAt.isAfter(now));
+        revokedUsers.values().removeIf(revocation -> !revocation.expiresAt().isAfter(now));
+        filter = filterOf(revokedIds.keySet());
+    }
+
+    /**
+     * @return the number of tokens revoked by id.
+     */
+    public int revokedIdCount() {
+        return revokedIds.size();
+    }
+
+    /**
+     * @return the number of users whose tokens are revoked.
+     */
+    public int revokedUserCount() {
+        return revokedUsers.size();
+    }
+
+    private static BloomFilter filterOf(Set<String> ids) {
+        BloomFilter filter = new BloomFilter(Math.max(MIN_BITS, Integer.highestOneBit(Math.max(1, ids.size() * BITS_PER_ID - 1)) << 1));
+        ids.forEach(filter::add);
+        return filter;
+    }
+
+    /**
+     * A Bloom filter of a power of two bits, probed by double hashing of a 64-bit hash of the id.
+     */
+    private static final class BloomFilter {
+
+        private final AtomicLongArray words;
+
+        private final int mask;
+
+        private BloomFilter(int bits) {
+            this.words = new AtomicLongArray(bits >>> 6);
+            this.mask = bits - 1;
+        }
+
+        private int bits() {
+            return mask + 1;
+        }
+
+        private void add(String id) {
+            long hash = hash(id);
+            int h1 = (int) hash;
+            int h2 = (int) (hash >>> 32);
+            for (int i = 0; i < HASHES; i++) {
+                int bit = (h1 + i * h2) & mask;
+                long bitMask = 1L << bit;
+                int word = bit >>> 6;
+                long current;
+                while (((current = words.get(word)) & bitMask) == 0 && !words.compareAndSet(word, current, current | bitMask)) {
+                    Thread.onSpinWait();
+                }
+            }
+        }
+
+        private boolean mightContain(String id) {
+            long hash = hash(id);
+            int h1 = (int) hash;
+            int h2 = (int) (hash >>> 32);
+            for (int i = 0; i < HASHES; i++) {
+                int bit = (h1 + i * h2) & mask;
+                if ((words.get(bit >>> 6) & (1L << bit)) == 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        /**
+         * A 64-bit FNV-1a hash of the characters of the id, finalised with the MurmurHash3 mix.
+         */
+        private static long hash(String id) {
+            long hash = 0xcbf29ce484222325L;
+            for (int i = 0; i < id.length(); i++) {
+                hash = (hash ^ id.charAt(i)) * 0x100000001b3L;
+            }
+            hash ^= hash >>> 33;
+            hash *= 0xff51afd7ed558ccdL;
+            hash ^= hash >>> 33;
+            hash *= 0xc4ceb9fe1a85ec53L;
+            return hash ^ (hash >>> 33);
+        }
+    }
+}
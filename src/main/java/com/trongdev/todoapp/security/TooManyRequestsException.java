@@ -0,0 +1,25 @@
+package com.trongdev.todoapp.security;
+
+import java.time.Duration;
+
+/**
+ * This exception is thrown when a request is rejected to protect the application, and may be retried later.
+ */
+public class TooManyRequestsException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    private final Duration retryAfter;
+
+    public TooManyRequestsException(String message, Duration retryAfter) {
+        super(message);
+        this.retryAfter = retryAfter;
+    }
+
+    /**
+     * @return the delay after which the client may retry.
+     */
+    public Duration getRetryAfter() {
+        return retryAfter;
+    }
+}
@@ -0,0 +1,157 @@
+package com.trongdev.todoapp.service;
+
+import com.trongdev.todoapp.domain.Author;
+import com.trongdev.todoapp.domain.Book;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import org.hibernate.action.spi.AfterTransactionCompletionProcess;
+import org.hibernate.action.spi.BeforeTransactionCompletionProcess;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventSource;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.event.spi.PostDeleteEventListener;
+import org.hibernate.event.spi.PostInsertEvent;
+import org.hibernate.event.spi.PostInsertEventListener;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.event.spi.PostUpdateEventListener;
+import org.hibernate.persister.entity.EntityPersister;
+import org.springframework.stereotype.Component;
+
+/**
+ * Marks the {@link com.trongdev.todoapp.domain.AuthorStats} of the authors whose books are created, updated, deleted
+ * or moved to another author through JPA to be refreshed by the {@link AuthorStatsService}, and inserts the empty
+ * statistics of the authors created.
+ * <p>
+ * Unlike the {@link EntityCommitListener}s, this listener writes in the transaction changing the books, just before it
+ * commits, once per author however many of its books changed: a committed change is never left unmarked, and a rolled
+ * back change marks nothing. Bulk JPQL or SQL statements bypass this listener and must mark the authors themselves.
+ * <p>
+ * A book updated without being read, such as by {@code updateDetached}, has no previous state: only its new author
+ * is marked, so the previous author of a moved book waits for the nightly reconciliation.
+ */
+@Component
+public class AuthorStatsListener implements PostInsertEventListener, PostUpdateEventListener, PostDeleteEventListener {
+
+    private static final String INSERT_EMPTY_STATS = "insert ignore into author_stats (author_id, book_count) values (?, 0)";
+
+    private static final String INSERT_DIRTY_MARK = "insert into author_stats_dirty (author_id) values (?)";
+
+    private final EntityManagerFactory entityManagerFactory;
+
+    private final Map<SharedSessionContractImplementor, PendingMarks> pendingMarks = new ConcurrentHashMap<>();
+
+    public AuthorStatsListener(EntityManagerFactory entityManagerFactory) {
+        this.entityManagerFactory = entityManagerFactory;
+    }
+
+    @PostConstruct
+    public void register() {
+        EventListenerRegistry registry = entityManagerFactory
+            .unwrap(SessionFactoryImplementor.class)
+            .getServiceRegistry()
+            .requireService(EventListenerRegistry.class);
+        registry.appendListeners(EventType.POST_INSERT, this);
+        registry.appendListeners(EventType.POST_UPDATE, this);
+        registry.appendListeners(EventType.POST_DELETE, this);
+    }
+
+    @Override
+    public boolean requiresPostCommitHandling(EntityPersister persister) {
+        return false;
+    }
+
+    @Override
+    public void onPostInsert(PostInsertEvent event) {
+        if (event.getEntity() instanceof Book book) {
+            markDirty(event.getSession(), book.getAuthor());
+        } else if (event.getEntity() instanceof Author author) {
+            pendingMarks(event.getSession()).createdAuthorIds.add(author.getId());
+        }
+    }
+
+    @Override
+    public void onPostUpdate(PostUpdateEvent event) {
+        if (event.getEntity() instanceof Book book) {
+            markDirty(event.getSession(), book.getAuthor());
+            // The previous author too, when the book was moved to another author
+            if (event.getOldState() != null) {
+                markDirty(event.getSession(), authorOf(event.getPersister(), event.getOldState()));
+            }
+        }
+    }
+
+    @Override
+    public void onPostDelete(PostDeleteEvent event) {
+        if (event.getEntity() instanceof Book) {
+            markDirty(event.getSession(), authorOf(event.getPersister(), event.getDeletedState()));
+        }
+    }
+
+    private void markDirty(EventSource session, Author author) {
+        if (author != null) {
+            pendingMarks(session).dirtyAuthorIds.add(author.getId());
+        }
+    }
+
+    private PendingMarks pendingMarks(EventSource session) {
+        return pendingMarks.computeIfAbsent(session, key -> {
+            PendingMarks marks = new PendingMarks();
+            session.getActionQueue().registerProcess((BeforeTransactionCompletionProcess) marks);
+            session.getActionQueue().registerProcess((AfterTransactionCompletionProcess) marks);
+            return marks;
+        });
+    }
+
+    private static Author authorOf(EntityPersister persister, Object[] state) {
+        int author = Arrays.asList(persister.getPropertyNames()).indexOf("author");
+        return author >= 0 ? (Author) state[author] : null;
+    }
+
+    private static void insert(Connection connection, String sql, Set<Long> ids) throws SQLException {
+        if (ids.isEmpty()) {
+            return;
+        }
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            for (Long id : ids) {
+                statement.setLong(1, id);
+                statement.addBatch();
+            }
+            statement.executeBatch();
+        }
+    }
+
+    /**
+     * The marks of a transaction, written once its changes are flushed.
+     */
+    private final class PendingMarks implements BeforeTransactionCompletionProcess, AfterTransactionCompletionProcess {
+
+        private final Set<Long> createdAuthorIds = new LinkedHashSet<>();
+
+        private final Set<Long> dirtyAuthorIds = new LinkedHashSet<>();
+
+        @Override
+        public void doBeforeTransactionCompletion(SessionImplementor session) {
+            session.doWork(connection -> {
+                insert(connection, INSERT_EMPTY_STATS, createdAuthorIds);
+                insert(connection, INSERT_DIRTY_MARK, dirtyAuthorIds);
+            });
+        }
+
+        @Override
+        public void doAfterTransactionCompletion(boolean success, SharedSessionContractImplementor session) {
+            pendingMarks.remove(session);
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package com.trongdev.todoapp.service;
+
+import com.trongdev.todoapp.repository.AuthorRepository;
+import com.trongdev.todoapp.repository.AuthorStatsRepository;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Service maintaining the {@link com.trongdev.todoapp.domain.AuthorStats} read model.
+ * <p>
+ * The {@link AuthorStatsListener} marks the authors whose books changed in the {@code author_stats_dirty} table, in
+ * the transaction changing the books, so a committed change is never left unmarked, even if the application stops
+ * before the refresh. Their statistics are then recomputed from their books every
+ * {@code application.author-stats.refresh-interval}, by any instance, once per author however many of its books
+ * changed. Recomputing the statistics of an author instead of applying deltas keeps them exact when changes race or a
+ * refresh fails, and the {@code average_price} and {@code latest_publication_date} of an author can't be derived from a
+ * deleted book anyway. The statistics of all the authors are reconciled with the books every night, for the changes
+ * made outside JPA.
+ */
+@Service
+public class AuthorStatsService {
+
+    /**
+     * The number of authors refreshed by each statement.
+     */
+    static final int CHUNK_SIZE = 512;
+
+    private static final Logger LOG = LoggerFactory.getLogger(AuthorStatsService.class);
+
+    private final AuthorStatsRepository authorStatsRepository;
+
+    private final AuthorRepository authorRepository;
+
+    private final TransactionTemplate transactionTemplate;
+
+    public AuthorStatsService(
+        AuthorStatsRepository authorStatsRepository,
+        AuthorRepository authorRepository,
+        PlatformTransactionManager transactionManager
+    ) {
+        this.authorStatsRepository = authorStatsRepository;
+        this.authorRepository = authorRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * Mark the statistics of authors to be refreshed, in the current transaction, for the changes of their books made
+     * outside JPA.
+     *
+     * @param authorIds the ids of the authors.
+     */
+    public void markDirty(Collection<Long> authorIds) {
+        List<Long> ids = new ArrayList<>(authorIds);
+        for (int from = 0; from < ids.size(); from += CHUNK_SIZE) {
+            authorStatsRepository.markDirty(ids.subList(from, Math.min(from + CHUNK_SIZE, ids.size())));
+        }
+    }
+
+    /**
+     * Recompute the statistics of the marked authors, in chunks of marks each committed with the statistics they
+     * refresh.
+     */
+    @Scheduled(fixedDelayString = "${application.author-stats.refresh-interval:PT1S}")
+    public void refreshDirtyAuthors() {
+        int refreshed;
+        do {
+            try {
+                refreshed = transactionTemplate.execute(status -> {
+                    List<AuthorStatsRepository.DirtyMark> marks = authorStatsRepository.findDirtyMarks(CHUNK_SIZE);
+                    if (!marks.isEmpty()) {
+                        List<Long> authorIds = marks.stream().map(AuthorStatsRepository.DirtyMark::getAuthorId).distinct().toList();
+                        LOG.debug("Refreshing the AuthorStats of {} Authors", authorIds.size());
+                        authorStatsRepository.refresh(authorIds);
+                        authorStatsRepository.deleteDirtyMarks(marks.stream().map(AuthorStatsRepository.DirtyMark::getId).toList());
+                    }
+                    return marks.size();
+                });
+            } catch (RuntimeException e) {
+                LOG.warn("Could not refresh the AuthorStats, retrying on the next refresh: {}", e.getMessage());
+                return;
+            }
+        } while (refreshed == CHUNK_SIZE);
+    }
+
+    /**
+     * Recompute the statistics of all the authors, in chunks each committed on its own.
+     */
+    @Scheduled(cron = "${application.author-stats.reconciliation-cron:0 30 3 * * *}")
+    public void reconcile() {
+        LOG.debug("Reconciling the AuthorStats of all the Authors");
+        long start = System.nanoTime();
+        long reconciled = 0;
+        Pageable pageable = PageRequest.of(0, CHUNK_SIZE, Sort.by("id"));
+        while (pageable != null) {
+            Pageable chunk = pageable;
+            Slice<Long> authorIds = transactionTemplate.execute(status -> {
+                Slice<Long> ids = authorRepository.findSliceOfIds(chunk);
+                if (ids.hasContent()) {
+                    authorStatsRepository.refresh(ids.getContent());
+                }
+                return ids;
+            });
+            reconciled += authorIds.getNumberOfElements();
+            pageable = authorIds.hasNext() ? authorIds.nextPageable() : null;
+        }
+        LOG.info("Reconciled the AuthorStats of {} Authors in {} ms", reconciled, (System.nanoTime() - start) / 1_000_000);
+    }
+}
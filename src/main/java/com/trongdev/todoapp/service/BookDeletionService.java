@@ -0,0 +1,141 @@
+package com.trongdev.todoapp.service;
+
+import com.trongdev.todoapp.domain.Author;
+import com.trongdev.todoapp.repository.AuthorRepository;
+import com.trongdev.todoapp.repository.BookRepository;
+import com.trongdev.todoapp.service.dto.CatalogueChangeDTO.ChangeType;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Service for deleting books in bulk.
+ * <p>
+ * Books are deleted by set-based {@code delete ... where id in (...)} statements of at most {@link #CHUNK_SIZE} ids,
+ * instead of being loaded and removed one by one. Hibernate evicts the whole {@code Book} second-level cache region
+ * on such statements, but they bypass the {@link BookSearchIndexListener}, the {@link SuggestionIndexListener}, the
+ * {@link CatalogueChangeListener} and the {@link AuthorStatsListener}, so their authors are marked for the
+ * {@link AuthorStatsService} here, in the transaction, and the deleted books are removed from the
+ * {@link BookSearchService} and {@link SuggestionService} indexes and published to the {@link CatalogueChangeService}
+ * here, once the transaction is committed.
+ */
+@Service
+@Transactional
+public class BookDeletionService {
+
+    /**
+     * A power of two, so the {@code in} lists padded by Hibernate are never longer than a chunk.
+     */
+    static final int CHUNK_SIZE = 512;
+
+    private static final Logger LOG = LoggerFactory.getLogger(BookDeletionService.class);
+
+    /**
+     * The result of the deletion of one book.
+     */
+    public enum DeletionResult {
+        DELETED,
+        NOT_FOUND,
+    }
+
+    private final BookRepository bookRepository;
+
+    private final AuthorRepository authorRepository;
+
+    private final BookSearchService bookSearchService;
+
+    private final SuggestionService suggestionService;
+
+    private final CatalogueChangeService catalogueChangeService;
+
+    private final AuthorStatsService authorStatsService;
+
+    public BookDeletionService(
+        BookRepository bookRepository,
+        AuthorRepository authorRepository,
+        BookSearchService bookSearchService,
+        SuggestionService suggestionService,
+        CatalogueChangeService catalogueChangeService,
+        AuthorStatsService authorStatsService
+    ) {
+        this.bookRepository = bookRepository;
+        this.authorRepository = authorRepository;
+        this.bookSearchService = bookSearchService;
+        this.suggestionService = suggestionService;
+        this.catalogueChangeService = catalogueChangeService;
+        this.authorStatsService = authorStatsService;
+    }
+
+    /**
+     * Delete the books with the given ids.
+     *
+     * @param ids the ids of the books to delete.
+     * @return the result of the deletion of each book, in the order of the ids.
+     */
+    public Map<Long, DeletionResult> deleteBooks(List<Long> ids) {
+        LOG.debug("Request to delete {} Books", ids.size());
+        List<Long> distinctIds = new ArrayList<>(new LinkedHashSet<>(ids));
+        Set<Long> deleted = new LinkedHashSet<>();
+        Set<Long> authorIds = new LinkedHashSet<>();
+        for (int from = 0; from < distinctIds.size(); from += CHUNK_SIZE) {
+            List<Long> chunk = distinctIds.subList(from, Math.min(from + CHUNK_SIZE, distinctIds.size()));
+            List<Long> existing = bookRepository.findIdsByIdIn(chunk);
+            if (!existing.isEmpty()) {
+                authorIds.addAll(bookRepository.findAuthorIdsByIdIn(existing));
+                bookRepository.deleteAllByIdInBatch(existing);
+                deleted.addAll(existing);
+            }
+        }
+        authorStatsService.markDirty(authorIds);
+        notifyDeletedAfterCommit(deleted);
+
+        Map<Long, DeletionResult> results = new LinkedHashMap<>();
+        distinctIds.forEach(id -> results.put(id, deleted.contains(id) ? DeletionResult.DELETED : DeletionResult.NOT_FOUND));
+        return results;
+    }
+
+    /**
+     * Delete an author and all its books.
+     *
+     * @param authorId the id of the author.
+     * @return the result of the deletion of each book of the author, in id order, or empty if the author doesn't exist.
+     */
+    public Optional<Map<Long, DeletionResult>> deleteAuthorWithBooks(Long authorId) {
+        LOG.debug("Request to delete Author : {} with its Books", authorId);
+        Optional<Author> author = authorRepository.findById(authorId);
+        if (author.isEmpty()) {
+            return Optional.empty();
+        }
+        Map<Long, DeletionResult> results = deleteBooks(bookRepository.findIdsByAuthorId(authorId));
+        authorRepository.delete(author.orElseThrow());
+        return Optional.of(results);
+    }
+
+    private void notifyDeletedAfterCommit(Set<Long> ids) {
+        if (ids.isEmpty()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(
+            new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    ids.forEach(id -> {
+                        bookSearchService.remove(id);
+                        suggestionService.removeBook(id);
+                        catalogueChangeService.publish("book", id, ChangeType.DELETED, null);
+                    });
+                }
+            }
+        );
+    }
+}
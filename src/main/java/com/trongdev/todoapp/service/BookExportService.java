@@ -0,0 +1,143 @@
+package com.trongdev.todoapp.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.trongdev.todoapp.domain.Book;
+import com.trongdev.todoapp.repository.BookRepository;
+import jakarta.persistence.EntityManager;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.stream.Stream;
+import org.hibernate.CacheMode;
+import org.hibernate.Session;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Service for exporting the whole book catalogue.
+ * <p>
+ * The books are streamed from the database straight into the output, bypassing the second-level cache, and the
+ * persistence context is cleared every {@value #CLEAR_INTERVAL} books, so the memory used does not depend on the size
+ * of the catalogue.
+ */
+@Service
+@Transactional(readOnly = true)
+public class BookExportService {
+
+    /**
+     * The supported export formats.
+     */
+    public enum Format {
+        /**
+         * Newline delimited JSON, one book per line, as returned by the REST API.
+         */
+        NDJSON,
+        /**
+         * Semicolon separated values, in the format of the Liquibase {@code book.csv} data file, with the author id.
+         */
+        CSV,
+    }
+
+    static final String CSV_HEADER = "id;title;description;publication_date;price;author_id";
+
+    static final int CLEAR_INTERVAL = 1000;
+
+    private static final char CSV_SEPARATOR = ';';
+
+    private static final Logger LOG = LoggerFactory.getLogger(BookExportService.class);
+
+    private final BookRepository bookRepository;
+
+    private final EntityManager entityManager;
+
+    private final ObjectWriter bookWriter;
+
+    public BookExportService(BookRepository bookRepository, EntityManager entityManager, ObjectMapper objectMapper) {
+        this.bookRepository = bookRepository;
+        this.entityManager = entityManager;
+        // the books are written as root values of one generator: without a separator, each line starts with its JSON object
+        this.bookWriter = objectMapper
+            .writerFor(Book.class)
+            .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE)
+            .withRootValueSeparator("");
+    }
+
+    /**
+     * Write all the books to an output stream.
+     *
+     * @param format the export format.
+     * @param out the output stream, flushed but not closed.
+     * @return the number of exported books.
+     * @throws IOException if the books couldn't be written.
+     */
+    public long exportBooks(Format format, OutputStream out) throws IOException {
+        LOG.debug("Request to export all Books as {}", format);
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        long count = 0;
+        Session session = entityManager.unwrap(Session.class);
+        CacheMode cacheMode = session.getCacheMode();
+        // the exported books would only evict the hot ones from the second-level cache
+        session.setCacheMode(CacheMode.IGNORE);
+        try (Stream<Book> books = bookRepository.streamAll()) {
+            if (format == Format.CSV) {
+                writer.write(CSV_HEADER);
+                writer.write('\n');
+            }
+            JsonGenerator generator = bookWriter.createGenerator(writer);
+            for (Iterator<Book> it = books.iterator(); it.hasNext();) {
+                Book book = it.next();
+                if (format == Format.CSV) {
+                    writeCsvLine(writer, book);
+                } else {
+                    bookWriter.writeValue(generator, book);
+                    generator.writeRaw('\n');
+                }
+                // also releases the authors loaded with the books
+                if (++count % CLEAR_INTERVAL == 0) {
+                    entityManager.clear();
+                }
+            }
+            generator.flush();
+        } finally {
+            session.setCacheMode(cacheMode);
+        }
+        writer.flush();
+        LOG.debug("Exported {} Books", count);
+        return count;
+    }
+
+    private static void writeCsvLine(Writer writer, Book book) throws IOException {
+        writer.write(String.valueOf(book.getId()));
+        writer.write(CSV_SEPARATOR);
+        writer.write(escapeCsv(book.getTitle()));
+        writer.write(CSV_SEPARATOR);
+        writer.write(escapeCsv(book.getDescription()));
+        writer.write(CSV_SEPARATOR);
+        writer.write(book.getPublicationDate() == null ? "" : book.getPublicationDate().toString());
+        writer.write(CSV_SEPARATOR);
+        writer.write(book.getPrice() == null ? "" : book.getPrice().toPlainString());
+        writer.write(CSV_SEPARATOR);
+        // the id of a lazy author proxy is known without loading it
+        writer.write(book.getAuthor() == null ? "" : String.valueOf(book.getAuthor().getId()));
+        writer.write('\n');
+    }
+
+    static String escapeCsv(String value) {
+        if (value == null) {
+            return "";
+        }
+        if (value.indexOf(CSV_SEPARATOR) < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+}
@@ -0,0 +1,229 @@
+package com.trongdev.todoapp.service;
+
+import com.trongdev.todoapp.domain.*; // for static metamodels
+import com.trongdev.todoapp.domain.Book;
+import com.trongdev.todoapp.repository.BookRepository;
+import com.trongdev.todoapp.repository.KeysetSpecification;
+import com.trongdev.todoapp.service.criteria.BookCriteria;
+import com.trongdev.todoapp.service.criteria.StringPrefixFilter;
+import com.trongdev.todoapp.service.dto.BookSummaryDTO;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import java.util.List;
+import java.util.Map;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import tech.jhipster.service.QueryService;
+
+/**
+ * Service for executing complex queries for {@link Book} entities in the database.
+ * The main input is a {@link BookCriteria} which gets converted to {@link Specification},
+ * in a way that all the filters must apply.
+ * It returns a {@link Page} of {@link Book}, of lighter {@link BookSummaryDTO}, or of only the requested fields,
+ * which fulfills the criteria.
+ * <p>
+ * The author filter compares the {@code author_id} foreign key without joining the author table, and the title prefix
+ * filter is a plain {@code LIKE 'prefix%'}, so that, like the price and publication date ranges, they are answered by
+ * index range scans.
+ */
+@Service
+@Transactional(readOnly = true)
+public class BookQueryService extends QueryService<Book> {
+
+    private static final Logger LOG = LoggerFactory.getLogger(BookQueryService.class);
+
+    private static final char LIKE_ESCAPE = '\\';
+
+    private final BookRepository bookRepository;
+
+    private final EntityManager entityManager;
+
+    private final SparseFieldsQueryService sparseFieldsQueryService;
+
+    public BookQueryService(BookRepository bookRepository, EntityManager entityManager, SparseFieldsQueryService sparseFieldsQueryService) {
+        this.bookRepository = bookRepository;
+        this.entityManager = entityManager;
+        this.sparseFieldsQueryService = sparseFieldsQueryService;
+    }
+
+    /**
+     * Return a {@link Page} of {@link Book} which matches the criteria from the database.
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @param page The page, which should be returned.
+     * @return the matching entities.
+     */
+    @Transactional(readOnly = true)
+    public Page<Book> findByCriteria(BookCriteria criteria, Pageable page) {
+        LOG.debug("find by criteria : {}, page: {}", criteria, page);
+        final Specification<Book> specification = createSpecification(criteria);
+        return bookRepository.findAll(specification, page);
+    }
+
+    /**
+     * Return the {@link Book}s which match the criteria and come after the keyset position, in the keyset order.
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @param keyset The position of the page, and its sort.
+     * @param maxResults The maximum number of books to return.
+     * @return the matching entities.
+     */
+    @Transactional(readOnly = true)
+    public List<Book> findByCriteriaAfter(BookCriteria criteria, KeysetSpecification<Book> keyset, int maxResults) {
+        LOG.debug("find by criteria after a keyset position : {}", criteria);
+        final Specification<Book> specification = createSpecification(criteria).and(keyset);
+        return bookRepository.findBy(specification, query -> query.sortBy(keyset.toSort()).limit(maxResults).all());
+    }
+
+    /**
+     * Return a {@link Page} of {@link BookSummaryDTO} which matches the criteria from the database.
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @param page The page, which should be returned.
+     * @return the matching books.
+     */
+    @Transactional(readOnly = true)
+    public Page<BookSummaryDTO> findSummariesByCriteria(BookCriteria criteria, Pageable page) {
+        LOG.debug("find summaries by criteria : {}, page: {}", criteria, page);
+        List<BookSummaryDTO> books = findSummaries(criteria, page, page.isPaged() ? page.getPageSize() : Integer.MAX_VALUE);
+        return PageableExecutionUtils.getPage(books, page, () -> countByCriteria(criteria));
+    }
+
+    /**
+     * Return a {@link Slice} of {@link BookSummaryDTO} which matches the criteria from the database, without counting them.
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @param page The page, which should be returned.
+     * @return the matching books.
+     */
+    @Transactional(readOnly = true)
+    public Slice<BookSummaryDTO> findSummarySliceByCriteria(BookCriteria criteria, Pageable page) {
+        LOG.debug("find summary slice by criteria : {}, page: {}", criteria, page);
+        if (page.isUnpaged()) {
+            return new SliceImpl<>(findSummaries(criteria, page, Integer.MAX_VALUE), page, false);
+        }
+        List<BookSummaryDTO> books = findSummaries(criteria, page, page.getPageSize() + 1);
+        boolean hasNext = books.size() > page.getPageSize();
+        return new SliceImpl<>(hasNext ? books.subList(0, page.getPageSize()) : books, page, hasNext);
+    }
+
+    /**
+     * Return a {@link Slice} of the requested fields of the books which match the criteria from the database, without counting them.
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @param fields The requested fields of {@link SparseFieldsQueryService#BOOK_FIELDS}.
+     * @param page The page, which should be returned.
+     * @return the requested fields of the matching books.
+     */
+    @Transactional(readOnly = true)
+    public Slice<Map<String, Object>> findFieldSliceByCriteria(BookCriteria criteria, List<String> fields, Pageable page) {
+        LOG.debug("find slice of fields {} by criteria : {}, page: {}", fields, criteria, page);
+        return sparseFieldsQueryService.findSlice(SparseFieldsQueryService.BOOK_FIELDS, fields, createSpecification(criteria), page);
+    }
+
+    /**
+     * Select the list columns of the matching books and the id and name of their author, in a single query.
+     * <p>
+     * The rows are read straight into DTOs: no entity is loaded in the persistence context, so there is neither
+     * hydration nor dirty-checking snapshot, and no lazy author proxy to serialize.
+     */
+    private List<BookSummaryDTO> findSummaries(BookCriteria criteria, Pageable page, int maxResults) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<BookSummaryDTO> query = cb.createQuery(BookSummaryDTO.class);
+        Root<Book> root = query.from(Book.class);
+        Join<Book, Author> author = root.join(Book_.author, JoinType.LEFT);
+        query.select(
+            cb.construct(
+                BookSummaryDTO.class,
+                root.get(Book_.id),
+                root.get(Book_.title),
+                root.get(Book_.description),
+                root.get(Book_.publicationDate),
+                root.get(Book_.price),
+                author.get(Author_.id),
+                author.get(Author_.name)
+            )
+        );
+        Predicate predicate = createSpecification(criteria).toPredicate(root, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        query.orderBy(QueryUtils.toOrders(page.getSort(), root, cb));
+        TypedQuery<BookSummaryDTO> typedQuery = entityManager.createQuery(query);
+        if (page.isPaged()) {
+            typedQuery.setFirstResult((int) page.getOffset()).setMaxResults(maxResults);
+        }
+        return typedQuery.getResultList();
+    }
+
+    /**
+     * Return the number of matching entities in the database.
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @return the number of matching entities.
+     */
+    @Transactional(readOnly = true)
+    public long countByCriteria(BookCriteria criteria) {
+        LOG.debug("count by criteria : {}", criteria);
+        final Specification<Book> specification = createSpecification(criteria);
+        return bookRepository.count(specification);
+    }
+
+    /**
+     * Function to convert {@link BookCriteria} to a {@link Specification}
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @return the matching {@link Specification} of the entity.
+     */
+    protected Specification<Book> createSpecification(BookCriteria criteria) {
+        Specification<Book> specification = Specification.where(null);
+        if (criteria != null) {
+            // This has to be called first, because the distinct method returns null
+            if (criteria.getDistinct() != null) {
+                specification = specification.and(distinct(criteria.getDistinct()));
+            }
+            if (criteria.getId() != null) {
+                specification = specification.and(buildRangeSpecification(criteria.getId(), Book_.id));
+            }
+            if (criteria.getTitle() != null) {
+                specification = specification.and(buildTitleSpecification(criteria.getTitle()));
+            }
+            if (criteria.getDescription() != null) {
+                specification = specification.and(buildStringSpecification(criteria.getDescription(), Book_.description));
+            }
+            if (criteria.getPublicationDate() != null) {
+                specification = specification.and(buildRangeSpecification(criteria.getPublicationDate(), Book_.publicationDate));
+            }
+            if (criteria.getPrice() != null) {
+                specification = specification.and(buildRangeSpecification(criteria.getPrice(), Book_.price));
+            }
+            if (criteria.getAuthorId() != null) {
+                specification = specification.and(
+                    buildSpecification(criteria.getAuthorId(), root -> root.get(Book_.author).get(Author_.id))
+                );
+            }
+        }
+        return specification;
+    }
+
+    private Specification<Book> buildTitleSpecification(StringPrefixFilter filter) {
+        Specification<Book> specification = Specification.where(buildStringSpecification(filter, Book_.title));
+        if (filter.getStartsWith() != null) {
+            String pattern = escapeLike(filter.getStartsWith()) + "%";
+            specification = specification.and((root, query, cb) -> cb.like(root.get(Book_.title), pattern, LIKE_ESCAPE));
+        }
+        return specification;
+    }
+
+    private static String escapeLike(String value) {
+        return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+}
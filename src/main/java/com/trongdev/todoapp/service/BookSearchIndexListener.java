@@ -0,0 +1,46 @@
+package com.trongdev.todoapp.service;
+
+import com.trongdev.todoapp.domain.Book;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.event.spi.PostInsertEvent;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.springframework.stereotype.Component;
+
+/**
+ * Keeps the {@link BookSearchService} index up to date with the books created, updated and deleted through JPA.
+ * <p>
+ * The index is only updated once the transaction is committed, so rolled back changes never show up in searches.
+ * Bulk JPQL or SQL statements bypass this listener and must update the index themselves.
+ */
+@Component
+public class BookSearchIndexListener extends EntityCommitListener {
+
+    private final BookSearchService bookSearchService;
+
+    public BookSearchIndexListener(BookSearchService bookSearchService, EntityManagerFactory entityManagerFactory) {
+        super(entityManagerFactory, Book.class);
+        this.bookSearchService = bookSearchService;
+    }
+
+    @Override
+    public void onPostInsert(PostInsertEvent event) {
+        if (event.getEntity() instanceof Book book) {
+            bookSearchService.index(book);
+        }
+    }
+
+    @Override
+    public void onPostUpdate(PostUpdateEvent event) {
+        if (event.getEntity() instanceof Book book) {
+            bookSearchService.index(book);
+        }
+    }
+
+    @Override
+    public void onPostDelete(PostDeleteEvent event) {
+        if (event.getEntity() instanceof Book) {
+            bookSearchService.remove((Long) event.getId());
+        }
+    }
+}
@@ -0,0 +1,266 @@
+package com.trongdev.todoapp.service;
+
+import com.trongdev.todoapp.domain.Book;
+import com.trongdev.todoapp.repository.BookRepository;
+import jakarta.persistence.EntityManager;
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Service for the full-text search of books on their title and description.
+ * <p>
+ * Books are searched in an in-process inverted index, mapping each term to the books containing it, so a search
+ * never scans the {@code book} table. Results are ranked by TF-IDF, title terms weighing more than description terms.
+ * The index is rebuilt in the background at startup and then kept up to date by the {@link BookSearchIndexListener}.
+ */
+@Service
+public class BookSearchService {
+
+    private static final Logger LOG = LoggerFactory.getLogger(BookSearchService.class);
+
+    private static final Pattern NON_WORD = Pattern.compile("[^\\p{L}\\p{Nd}]+");
+
+    private static final Pattern DIACRITICS = Pattern.compile("\\p{M}+");
+
+    private static final int TITLE_WEIGHT = 3;
+
+    private static final int DESCRIPTION_WEIGHT = 1;
+
+    private static final Comparator<Map.Entry<Long, Double>> BY_SCORE = Map.Entry.<Long, Double>comparingByValue()
+        .reversed()
+        .thenComparing(Map.Entry.comparingByKey());
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /**
+     * Term to book id to weight of the term in the book.
+     */
+    private final Map<String, Map<Long, Integer>> postings = new HashMap<>();
+
+    /**
+     * Book id to its terms, to remove a book from the postings when it changes.
+     */
+    private final Map<Long, Set<String>> documents = new HashMap<>();
+
+    /**
+     * Ids of the books removed while the index is being rebuilt, which the rebuild must not add back.
+     */
+    private Set<Long> removedDuringRebuild;
+
+    private final BookRepository bookRepository;
+
+    private final EntityManager entityManager;
+
+    private final TransactionTemplate readOnlyTransactionTemplate;
+
+    private final Executor taskExecutor;
+
+    public BookSearchService(
+        BookRepository bookRepository,
+        EntityManager entityManager,
+        PlatformTransactionManager transactionManager,
+        @Qualifier("taskExecutor") Executor taskExecutor
+    ) {
+        this.bookRepository = bookRepository;
+        this.entityManager = entityManager;
+        this.readOnlyTransactionTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTransactionTemplate.setReadOnly(true);
+        this.taskExecutor = taskExecutor;
+    }
+
+    /**
+     * Search the books matching any of the terms of a query, best matches first.
+     *
+     * @param query the query, as free text.
+     * @param pageable the pagination information; the sort is ignored as results are ranked.
+     * @return the page of matching books.
+     */
+    public Page<Book> search(String query, Pageable pageable) {
+        LOG.debug("Request to search for a page of Books for query {}", query);
+        Set<String> terms = new LinkedHashSet<>(tokenize(query));
+        Map<Long, Double> scores = new HashMap<>();
+        lock.readLock().lock();
+        try {
+            double documentCount = documents.size();
+            for (String term : terms) {
+                Map<Long, Integer> posting = postings.get(term);
+                if (posting != null) {
+                    double idf = Math.log(1 + documentCount / posting.size());
+                    posting.forEach((id, weight) -> scores.merge(id, weight * idf, Double::sum));
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        List<Long> ids = scores
+            .entrySet()
+            .stream()
+            .sorted(BY_SCORE)
+            .skip(pageable.getOffset())
+            .limit(pageable.getPageSize())
+            .map(Map.Entry::getKey)
+            .toList();
+        Map<Long, Book> books = bookRepository.findAllById(ids).stream().collect(Collectors.toMap(Book::getId, Function.identity()));
+        List<Book> content = ids.stream().map(books::get).filter(book -> book != null).toList();
+        return new PageImpl<>(content, pageable, scores.size());
+    }
+
+    /**
+     * Add or replace a book in the index.
+     *
+     * @param book the book.
+     */
+    public void index(Book book) {
+        Map<String, Integer> weights = weigh(book);
+        lock.writeLock().lock();
+        try {
+            removeFromPostings(book.getId());
+            addToPostings(book.getId(), weights);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Remove a book from the index.
+     *
+     * @param id the id of the book.
+     */
+    public void remove(Long id) {
+        lock.writeLock().lock();
+        try {
+            removeFromPostings(id);
+            if (removedDuringRebuild != null) {
+                removedDuringRebuild.add(id);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Rebuild the index in the background once the application is started.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildIndexInBackground() {
+        taskExecutor.execute(this::rebuildIndex);
+    }
+
+    /**
+     * Index all the books, streamed from the database.
+     * <p>
+     * Books indexed or removed while the rebuild runs are more recent than the streamed rows, so they are left as is.
+     */
+    public void rebuildIndex() {
+        LOG.debug("Rebuilding the Book search index");
+        long start = System.nanoTime();
+        lock.writeLock().lock();
+        try {
+            removedDuringRebuild = new HashSet<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+        try {
+            Long count = readOnlyTransactionTemplate.execute(status -> {
+                long indexed = 0;
+                try (Stream<Book> books = bookRepository.streamAll()) {
+                    for (Book book : (Iterable<Book>) books::iterator) {
+                        Map<String, Integer> weights = weigh(book);
+                        entityManager.detach(book);
+                        lock.writeLock().lock();
+                        try {
+                            if (!removedDuringRebuild.contains(book.getId()) && !documents.containsKey(book.getId())) {
+                                addToPostings(book.getId(), weights);
+                            }
+                        } finally {
+                            lock.writeLock().unlock();
+                        }
+                        indexed++;
+                    }
+                }
+                return indexed;
+            });
+            LOG.info("Indexed {} Books for search in {} ms", count, (System.nanoTime() - start) / 1_000_000);
+        } finally {
+            lock.writeLock().lock();
+            try {
+                removedDuringRebuild = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+    }
+
+    private void addToPostings(Long id, Map<String, Integer> weights) {
+        weights.forEach((term, weight) -> postings.computeIfAbsent(term, t -> new HashMap<>()).put(id, weight));
+        documents.put(id, weights.keySet());
+    }
+
+    private void removeFromPostings(Long id) {
+        Set<String> terms = documents.remove(id);
+        if (terms == null) {
+            return;
+        }
+        for (String term : terms) {
+            Map<Long, Integer> posting = postings.get(term);
+            posting.remove(id);
+            if (posting.isEmpty()) {
+                postings.remove(term);
+            }
+        }
+    }
+
+    private static Map<String, Integer> weigh(Book book) {
+        Map<String, Integer> weights = new HashMap<>();
+        tokenize(book.getTitle()).forEach(term -> weights.merge(term, TITLE_WEIGHT, Integer::sum));
+        tokenize(book.getDescription()).forEach(term -> weights.merge(term, DESCRIPTION_WEIGHT, Integer::sum));
+        return weights;
+    }
+
+    /**
+     * Split a text into lower case terms, without diacritics.
+     *
+     * @param text the text, may be {@code null}.
+     * @return the terms of the text, in order.
+     */
+    static List<String> tokenize(String text) {
+        if (text == null || text.isBlank()) {
+            return List.of();
+        }
+        String normalized = DIACRITICS.matcher(Normalizer.normalize(text, Normalizer.Form.NFD)).replaceAll("").toLowerCase(Locale.ROOT);
+        List<String> terms = new ArrayList<>();
+        for (String term : NON_WORD.split(normalized)) {
+            if (!term.isEmpty()) {
+                terms.add(term);
+            }
+        }
+        return terms;
+    }
+}
@@ -0,0 +1,50 @@
+package com.trongdev.todoapp.service;
+
+import com.trongdev.todoapp.domain.Author;
+import com.trongdev.todoapp.domain.Book;
+import com.trongdev.todoapp.service.dto.CatalogueChangeDTO.ChangeType;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.event.spi.PostInsertEvent;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.springframework.stereotype.Component;
+
+/**
+ * Publishes the books and authors created, updated and deleted through JPA to the {@link CatalogueChangeService}.
+ * <p>
+ * Changes are only published once the transaction is committed. Bulk JPQL or SQL statements bypass this listener and
+ * must publish their changes themselves.
+ */
+@Component
+public class CatalogueChangeListener extends EntityCommitListener {
+
+    private final CatalogueChangeService catalogueChangeService;
+
+    public CatalogueChangeListener(CatalogueChangeService catalogueChangeService, EntityManagerFactory entityManagerFactory) {
+        super(entityManagerFactory, Book.class, Author.class);
+        this.catalogueChangeService = catalogueChangeService;
+    }
+
+    @Override
+    public void onPostInsert(PostInsertEvent event) {
+        publish(event.getEntity(), ChangeType.CREATED);
+    }
+
+    @Override
+    public void onPostUpdate(PostUpdateEvent event) {
+        publish(event.getEntity(), ChangeType.UPDATED);
+    }
+
+    @Override
+    public void onPostDelete(PostDeleteEvent event) {
+        publish(event.getEntity(), ChangeType.DELETED);
+    }
+
+    private void publish(Object entity, ChangeType type) {
+        if (entity instanceof Book book) {
+            catalogueChangeService.publish("book", book.getId(), type, type == ChangeType.DELETED ? null : book.getVersion());
+        } else if (entity instanceof Author author) {
+            catalogueChangeService.publish("author", author.getId(), type, type == ChangeType.DELETED ? null : author.getVersion());
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package com.trongdev.todoapp.service;
+
+import com.trongdev.todoapp.service.dto.CatalogueChangeDTO;
+import com.trongdev.todoapp.service.dto.CatalogueChangeDTO.ChangeType;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import org.springframework.stereotype.Service;
+
+/**
+ * Service publishing the committed changes of books and authors to the subscribers of the change feed.
+ * <p>
+ * Changes are numbered in the order they are published, and the last {@link #BUFFER_SIZE} are kept in a ring buffer,
+ * so a subscriber reconnecting with the id of the last change it received gets the changes it missed. Subscribers
+ * are called while the feed is locked, so they must hand the change over without blocking.
+ */
+@Service
+public class CatalogueChangeService {
+
+    public static final int BUFFER_SIZE = 1024;
+
+    private final CatalogueChangeDTO[] buffer = new CatalogueChangeDTO[BUFFER_SIZE];
+
+    private final Set<Consumer<CatalogueChangeDTO>> subscribers = ConcurrentHashMap.newKeySet();
+
+    private long lastId;
+
+    /**
+     * Publish a committed change.
+     *
+     * @param entity the name of the changed entity, {@code book} or {@code author}.
+     * @param entityId the id of the changed entity.
+     * @param type the kind of change.
+     * @param version the version of the entity after the change, or {@code null} if it was deleted.
+     */
+    public void publish(String entity, Long entityId, ChangeType type, Long version) {
+        synchronized (buffer) {
+            CatalogueChangeDTO change = new CatalogueChangeDTO(++lastId, entity, entityId, type, version);
+            buffer[slot(change.getId())] = change;
+            subscribers.forEach(subscriber -> subscriber.accept(change));
+        }
+    }
+
+    /**
+     * Subscribe to the changes published from now on.
+     * <p>
+     * A subscriber resuming from {@code lastEventId} is first called with the changes it missed, so that it receives
+     * all the changes in order.
+     *
+     * @param lastEventId the id of the last change received by the subscriber, if it is resuming.
+     * @param subscriber the subscriber, called with each change.
+     * @return {@code false} if the changes published since {@code lastEventId} are no longer all buffered.
+     */
+    public boolean subscribe(Long lastEventId, Consumer<CatalogueChangeDTO> subscriber) {
+        synchronized (buffer) {
+            boolean resumable = lastEventId == null || (lastEventId <= lastId && lastEventId >= lastId - BUFFER_SIZE);
+            if (lastEventId != null && resumable) {
+                for (long id = lastEventId + 1; id <= lastId; id++) {
+                    subscriber.accept(buffer[slot(id)]);
+                }
+            }
+            subscribers.add(subscriber);
+            return resumable;
+        }
+    }
+
+    public void unsubscribe(Consumer<CatalogueChangeDTO> subscriber) {
+        subscribers.remove(subscriber);
+    }
+
+    private static int slot(long id) {
+        return (int) (id % BUFFER_SIZE);
+    }
+}
@@ -0,0 +1,111 @@
+package com.trongdev.todoapp.service;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Streaming reader of separator delimited records, as written by {@link BookExportService}.
+ * <p>
+ * Fields may be enclosed in double quotes, in which case they can hold the separator, line breaks and doubled
+ * double quotes. Blank lines are skipped.
+ */
+final class CsvRecordReader {
+
+    private static final int EOF = -1;
+
+    private final Reader reader;
+
+    private final char separator;
+
+    private int pushedBack = EOF;
+
+    private long line = 1;
+
+    private long recordLine;
+
+    CsvRecordReader(Reader reader, char separator) {
+        this.reader = reader;
+        this.separator = separator;
+    }
+
+    /**
+     * Read the next record.
+     *
+     * @return the fields of the record, or {@code null} at the end of the input.
+     * @throws IOException if the input couldn't be read, or ends within a quoted field.
+     */
+    List<String> readRecord() throws IOException {
+        int c = read();
+        while (c == '\n' || c == '\r') {
+            c = read();
+        }
+        if (c == EOF) {
+            return null;
+        }
+        recordLine = line;
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        while (true) {
+            if (c == '"' && field.isEmpty()) {
+                readQuoted(field);
+                c = read();
+            }
+            if (c == separator) {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else if (c == '\n' || c == '\r' || c == EOF) {
+                if (c == '\r') {
+                    int next = read();
+                    if (next != '\n') {
+                        pushedBack = next;
+                    }
+                }
+                fields.add(field.toString());
+                return fields;
+            } else {
+                field.append((char) c);
+            }
+            c = read();
+        }
+    }
+
+    /**
+     * @return the line number the last record read starts at, starting from 1.
+     */
+    long getRecordLine() {
+        return recordLine;
+    }
+
+    private void readQuoted(StringBuilder field) throws IOException {
+        while (true) {
+            int c = read();
+            if (c == EOF) {
+                throw new IOException("Unterminated quoted field starting at line " + recordLine);
+            }
+            if (c == '"') {
+                int next = read();
+                if (next != '"') {
+                    pushedBack = next;
+                    return;
+                }
+            }
+            field.append((char) c);
+        }
+    }
+
+    private int read() throws IOException {
+        int c;
+        if (pushedBack != EOF) {
+            c = pushedBack;
+            pushedBack = EOF;
+            return c;
+        }
+        c = reader.read();
+        if (c == '\n') {
+            line++;
+        }
+        return c;
+    }
+}
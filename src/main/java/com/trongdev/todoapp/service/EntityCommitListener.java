@@ -0,0 +1,59 @@
+package com.trongdev.todoapp.service;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import java.util.Set;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostCommitDeleteEventListener;
+import org.hibernate.event.spi.PostCommitInsertEventListener;
+import org.hibernate.event.spi.PostCommitUpdateEventListener;
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.event.spi.PostInsertEvent;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.persister.entity.EntityPersister;
+
+/**
+ * Base class of the listeners of the entities created, updated and deleted through JPA, called once the transaction is
+ * committed, so that rolled back changes are never seen.
+ * <p>
+ * A listener registers itself with Hibernate and only receives the events of the given entity classes. Nothing is
+ * done before the commit, so there is nothing to undo when it fails. Bulk JPQL or SQL statements bypass the listeners.
+ */
+abstract class EntityCommitListener implements PostCommitInsertEventListener, PostCommitUpdateEventListener, PostCommitDeleteEventListener {
+
+    private final EntityManagerFactory entityManagerFactory;
+
+    private final Set<Class<?>> entityClasses;
+
+    protected EntityCommitListener(EntityManagerFactory entityManagerFactory, Class<?>... entityClasses) {
+        this.entityManagerFactory = entityManagerFactory;
+        this.entityClasses = Set.of(entityClasses);
+    }
+
+    @PostConstruct
+    public void register() {
+        EventListenerRegistry registry = entityManagerFactory
+            .unwrap(SessionFactoryImplementor.class)
+            .getServiceRegistry()
+            .requireService(EventListenerRegistry.class);
+        registry.appendListeners(EventType.POST_COMMIT_INSERT, this);
+        registry.appendListeners(EventType.POST_COMMIT_UPDATE, this);
+        registry.appendListeners(EventType.POST_COMMIT_DELETE, this);
+    }
+
+    @Override
+    public final boolean requiresPostCommitHandling(EntityPersister persister) {
+        return entityClasses.contains(persister.getMappedClass());
+    }
+
+    @Override
+    public final void onPostInsertCommitFailed(PostInsertEvent event) {}
+
+    @Override
+    public final void onPostUpdateCommitFailed(PostUpdateEvent event) {}
+
+    @Override
+    public final void onPostDeleteCommitFailed(PostDeleteEvent event) {}
+}
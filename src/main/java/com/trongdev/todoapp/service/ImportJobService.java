@@ -0,0 +1,340 @@
+package com.trongdev.todoapp.service;
+
+import com.trongdev.todoapp.config.ApplicationProperties;
+import com.trongdev.todoapp.domain.Author;
+import com.trongdev.todoapp.domain.Book;
+import com.trongdev.todoapp.domain.ImportJob;
+import com.trongdev.todoapp.domain.enumeration.ImportStatus;
+import com.trongdev.todoapp.domain.enumeration.ImportType;
+import com.trongdev.todoapp.repository.AuthorRepository;
+import com.trongdev.todoapp.repository.ImportJobRepository;
+import jakarta.persistence.EntityManager;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Service for importing books and authors in bulk from CSV files.
+ * <p>
+ * Files use the semicolon separated format of the Liquibase {@code fake-data} files, with a header line. Columns
+ * are matched by name, and unknown columns, such as {@code id}, are ignored:
+ * <ul>
+ *     <li>books: {@code title;description;publication_date;price} and either {@code author_id} or {@code author},
+ *     the name of an existing author;</li>
+ *     <li>authors: {@code name;birth_date}.</li>
+ * </ul>
+ * Uploaded files are stored on disk, then read as a stream by the {@code taskExecutor}. Rows are written in chunks of
+ * {@code application.imports.chunk-size}, each chunk committed in the same transaction as the progress of the job.
+ * A job interrupted by a crash is resumed after its last committed chunk on the next startup, a failed job can be
+ * restarted the same way. Invalid rows are rejected and reported, they don't stop the import.
+ */
+@Service
+public class ImportJobService {
+
+    private static final Logger LOG = LoggerFactory.getLogger(ImportJobService.class);
+
+    private static final char CSV_SEPARATOR = ';';
+
+    private static final int MAX_ERROR_REPORT_LENGTH = 4000;
+
+    private static final int MAX_COLUMN_LENGTH = 255;
+
+    private final ImportJobRepository importJobRepository;
+
+    private final AuthorRepository authorRepository;
+
+    private final EntityManager entityManager;
+
+    private final TransactionTemplate transactionTemplate;
+
+    private final Executor taskExecutor;
+
+    private final ApplicationProperties applicationProperties;
+
+    public ImportJobService(
+        ImportJobRepository importJobRepository,
+        AuthorRepository authorRepository,
+        EntityManager entityManager,
+        PlatformTransactionManager transactionManager,
+        @Qualifier("taskExecutor") Executor taskExecutor,
+        ApplicationProperties applicationProperties
+    ) {
+        this.importJobRepository = importJobRepository;
+        this.authorRepository = authorRepository;
+        this.entityManager = entityManager;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.taskExecutor = taskExecutor;
+        this.applicationProperties = applicationProperties;
+    }
+
+    /**
+     * Store an uploaded file and create its import job.
+     * <p>
+     * The file is checked once while being counted, so a file with a bad header is rejected up front.
+     *
+     * @param type the kind of rows of the file.
+     * @param fileName the original name of the file.
+     * @param content the content of the file.
+     * @return the persisted job, not started yet.
+     * @throws InvalidImportFileException if the file isn't a valid CSV file for this type.
+     * @throws IOException if the file couldn't be stored.
+     */
+    public ImportJob createJob(ImportType type, String fileName, InputStream content) throws IOException {
+        LOG.debug("Request to create an ImportJob of {} from {}", type, fileName);
+        Path directory = Path.of(applicationProperties.getImports().getDirectory());
+        Files.createDirectories(directory);
+        Path file = directory.resolve(UUID.randomUUID() + ".csv");
+        Files.copy(content, file);
+        long totalRows = 0;
+        try (Reader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            CsvRecordReader csv = new CsvRecordReader(reader, CSV_SEPARATOR);
+            checkHeader(type, csv.readRecord());
+            while (csv.readRecord() != null) {
+                totalRows++;
+            }
+        } catch (IOException | InvalidImportFileException e) {
+            Files.deleteIfExists(file);
+            throw e instanceof InvalidImportFileException invalid ? invalid : new InvalidImportFileException(e.getMessage());
+        }
+
+        ImportJob job = new ImportJob()
+            .type(type)
+            .status(ImportStatus.PENDING)
+            .fileName(fileName)
+            .storedFile(file.toString())
+            .totalRows(totalRows);
+        return transactionTemplate.execute(status -> importJobRepository.save(job));
+    }
+
+    /**
+     * Start processing a new job in the background.
+     *
+     * @param id the id of the job.
+     * @return {@code true} if the job was started, {@code false} if it wasn't pending.
+     */
+    public boolean startJob(Long id) {
+        return submit(id, EnumSet.of(ImportStatus.PENDING));
+    }
+
+    /**
+     * Restart a failed job in the background, after its last committed chunk.
+     *
+     * @param id the id of the job.
+     * @return {@code true} if the job was restarted, {@code false} if it hadn't failed.
+     */
+    public boolean restartJob(Long id) {
+        LOG.debug("Request to restart ImportJob : {}", id);
+        return submit(id, EnumSet.of(ImportStatus.FAILED));
+    }
+
+    /**
+     * Resume the jobs left unfinished by the previous run of the application.
+     * <p>
+     * This assumes a single instance of the application processes the imports.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void resumeUnfinishedJobs() {
+        EnumSet<ImportStatus> unfinished = EnumSet.of(ImportStatus.PENDING, ImportStatus.RUNNING);
+        for (ImportJob job : importJobRepository.findAllByStatusIn(unfinished)) {
+            LOG.info("Resuming ImportJob {} after row {}", job.getId(), job.getProcessedRows());
+            submit(job.getId(), unfinished);
+        }
+    }
+
+    private boolean submit(Long id, EnumSet<ImportStatus> claimableStatuses) {
+        Integer claimed = transactionTemplate.execute(status -> importJobRepository.claim(id, claimableStatuses));
+        if (claimed == null || claimed == 0) {
+            return false;
+        }
+        taskExecutor.execute(() -> processJob(id));
+        return true;
+    }
+
+    private void processJob(Long id) {
+        ImportJob job = importJobRepository.findById(id).orElseThrow();
+        Path file = Path.of(job.getStoredFile());
+        int chunkSize = applicationProperties.getImports().getChunkSize();
+        try (Reader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            CsvRecordReader csv = new CsvRecordReader(reader, CSV_SEPARATOR);
+            List<String> header = csv.readRecord();
+            Function<List<String>, Object> rowMapper = rowMapper(job.getType(), checkHeader(job.getType(), header));
+            for (long skipped = 0; skipped < job.getProcessedRows(); skipped++) {
+                csv.readRecord();
+            }
+
+            List<Object> entities = new ArrayList<>(chunkSize);
+            List<String> errors = new ArrayList<>();
+            int rows;
+            do {
+                rows = 0;
+                entities.clear();
+                errors.clear();
+                List<String> fields;
+                while (rows < chunkSize && (fields = csv.readRecord()) != null) {
+                    rows++;
+                    try {
+                        if (fields.size() != header.size()) {
+                            throw new IllegalArgumentException("expected " + header.size() + " fields, found " + fields.size());
+                        }
+                        entities.add(rowMapper.apply(fields));
+                    } catch (IllegalArgumentException e) {
+                        errors.add("line " + csv.getRecordLine() + ": " + e.getMessage());
+                    }
+                }
+                if (rows > 0) {
+                    commitChunk(id, rows, entities, errors);
+                }
+            } while (rows == chunkSize);
+
+            finishJob(id, ImportStatus.COMPLETED, null);
+            Files.deleteIfExists(file);
+        } catch (IOException | RuntimeException e) {
+            LOG.warn("ImportJob {} failed: {}", id, e.getMessage());
+            finishJob(id, ImportStatus.FAILED, e.getMessage());
+        }
+    }
+
+    private void commitChunk(Long id, int rows, List<Object> entities, List<String> errors) {
+        transactionTemplate.executeWithoutResult(status -> {
+            for (Object entity : entities) {
+                if (entity instanceof Book book && book.getAuthor() != null) {
+                    book.setAuthor(entityManager.getReference(Author.class, book.getAuthor().getId()));
+                }
+                entityManager.persist(entity);
+            }
+            ImportJob job = importJobRepository.findById(id).orElseThrow();
+            job.setProcessedRows(job.getProcessedRows() + rows);
+            job.setImportedRows(job.getImportedRows() + entities.size());
+            job.setRejectedRows(job.getRejectedRows() + errors.size());
+            for (String error : errors) {
+                job.setErrorReport(appendError(job.getErrorReport(), error));
+            }
+            entityManager.flush();
+            entityManager.clear();
+        });
+        LOG.debug("ImportJob {}: committed {} rows", id, rows);
+    }
+
+    private void finishJob(Long id, ImportStatus status, String error) {
+        transactionTemplate.executeWithoutResult(tx ->
+            importJobRepository
+                .findById(id)
+                .ifPresent(job -> {
+                    job.setStatus(status);
+                    if (error != null) {
+                        job.setErrorReport(appendError(job.getErrorReport(), error));
+                    }
+                })
+        );
+    }
+
+    private static String appendError(String report, String error) {
+        String result = report == null ? error : report + "\n" + error;
+        return result.length() > MAX_ERROR_REPORT_LENGTH ? report : result;
+    }
+
+    private static Map<String, Integer> checkHeader(ImportType type, List<String> header) {
+        if (header == null) {
+            throw new InvalidImportFileException("The file is empty");
+        }
+        Map<String, Integer> columns = new HashMap<>();
+        for (int i = 0; i < header.size(); i++) {
+            columns.put(header.get(i).trim().toLowerCase(Locale.ROOT), i);
+        }
+        List<String> required = type == ImportType.BOOK ? List.of("title") : List.of("name");
+        for (String column : required) {
+            if (!columns.containsKey(column)) {
+                throw new InvalidImportFileException("Missing column " + column);
+            }
+        }
+        return columns;
+    }
+
+    private Function<List<String>, Object> rowMapper(ImportType type, Map<String, Integer> columns) {
+        if (type == ImportType.AUTHOR) {
+            return fields ->
+                new Author().name(text(fields, columns, "name")).birthDate(parse(fields, columns, "birth_date", LocalDate::parse));
+        }
+
+        Map<String, Long> authorIdsByName = new HashMap<>();
+        Set<Long> authorIds = new HashSet<>();
+        for (AuthorRepository.IdAndName author : authorRepository.findAllIdsAndNames()) {
+            authorIds.add(author.getId());
+            if (author.getName() != null) {
+                authorIdsByName.putIfAbsent(author.getName().trim().toLowerCase(Locale.ROOT), author.getId());
+            }
+        }
+        return fields -> {
+            Book book = new Book()
+                .title(text(fields, columns, "title"))
+                .description(text(fields, columns, "description"))
+                .publicationDate(parse(fields, columns, "publication_date", LocalDate::parse))
+                .price(parse(fields, columns, "price", BigDecimal::new));
+            Long authorId = parse(fields, columns, "author_id", Long::valueOf);
+            String authorName = text(fields, columns, "author");
+            if (authorId != null && !authorIds.contains(authorId)) {
+                throw new IllegalArgumentException("unknown author_id " + authorId);
+            }
+            if (authorId == null && authorName != null) {
+                authorId = Optional.ofNullable(authorIdsByName.get(authorName.toLowerCase(Locale.ROOT))).orElseThrow(() ->
+                    new IllegalArgumentException("unknown author " + authorName)
+                );
+            }
+            if (book.getPrice() != null && (book.getPrice().signum() < 0 || book.getPrice().scale() > 2)) {
+                throw new IllegalArgumentException("invalid price " + book.getPrice());
+            }
+            // the reference to the author is only resolved in the transaction writing the chunk
+            return book.author(authorId == null ? null : new Author().id(authorId));
+        };
+    }
+
+    private static String text(List<String> fields, Map<String, Integer> columns, String column) {
+        Integer index = columns.get(column);
+        if (index == null || index >= fields.size() || fields.get(index).isBlank()) {
+            return null;
+        }
+        String value = fields.get(index).trim();
+        if (value.length() > MAX_COLUMN_LENGTH) {
+            throw new IllegalArgumentException(column + " is longer than " + MAX_COLUMN_LENGTH + " characters");
+        }
+        return value;
+    }
+
+    private static <T> T parse(List<String> fields, Map<String, Integer> columns, String column, Function<String, T> parser) {
+        String value = text(fields, columns, column);
+        if (value == null) {
+            return null;
+        }
+        try {
+            return parser.apply(value);
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new IllegalArgumentException("invalid " + column + " " + value);
+        }
+    }
+}
@@ -0,0 +1,10 @@
+package com.trongdev.todoapp.service;
+
+public class InvalidImportFileException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    public InvalidImportFileException(String message) {
+        super("Invalid import file: " + message);
+    }
+}
@@ -0,0 +1,150 @@
+package com.trongdev.todoapp.service;
+
+import com.trongdev.todoapp.domain.Author;
+import com.trongdev.todoapp.domain.Book;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.From;
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Service reading only the fields of entities requested with the {@code fields} parameter.
+ * <p>
+ * The requested fields are selected by a tuple query, so the other columns are neither read from the database nor
+ * loaded in the persistence context. Each row is returned as a map from field name to value, in the requested order,
+ * which Jackson serializes as is: the JSON output is narrowed the same way, without any per-request serialization
+ * configuration. To-one associations are read through a left join, as a nested map, {@code null} without associated
+ * entity.
+ */
+@Service
+@Transactional(readOnly = true)
+public class SparseFieldsQueryService {
+
+    public static final SparseFieldset<Book> BOOK_FIELDS = SparseFieldset.of(
+        Book.class,
+        "id",
+        "version",
+        "title",
+        "description",
+        "publicationDate",
+        "price"
+    ).withAssociation("author", "id", "name");
+
+    public static final SparseFieldset<Author> AUTHOR_FIELDS = SparseFieldset.of(Author.class, "id", "version", "name", "birthDate");
+
+    private static final Logger LOG = LoggerFactory.getLogger(SparseFieldsQueryService.class);
+
+    private final EntityManager entityManager;
+
+    public SparseFieldsQueryService(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    /**
+     * Return a {@link Slice} of the requested fields of the entities matching a specification, without counting them.
+     *
+     * @param fieldset the fields of the entity.
+     * @param fields the requested fields.
+     * @param specification the specification the entities should match.
+     * @param page the page, which should be returned.
+     * @return the matching rows.
+     */
+    public <E> Slice<Map<String, Object>> findSlice(
+        SparseFieldset<E> fieldset,
+        List<String> fields,
+        Specification<E> specification,
+        Pageable page
+    ) {
+        LOG.debug("find slice of fields {} of {}, page: {}", fields, fieldset.getEntityClass().getSimpleName(), page);
+        if (page.isUnpaged()) {
+            return new SliceImpl<>(find(fieldset, fields, specification, page, Integer.MAX_VALUE), page, false);
+        }
+        List<Map<String, Object>> rows = find(fieldset, fields, specification, page, page.getPageSize() + 1);
+        boolean hasNext = rows.size() > page.getPageSize();
+        return new SliceImpl<>(hasNext ? rows.subList(0, page.getPageSize()) : rows, page, hasNext);
+    }
+
+    /**
+     * Return the requested fields of an entity.
+     *
+     * @param fieldset the fields of the entity.
+     * @param fields the requested fields.
+     * @param id the id of the entity.
+     * @return the row of the entity, or empty if it doesn't exist.
+     */
+    public <E> Optional<Map<String, Object>> findById(SparseFieldset<E> fieldset, List<String> fields, Long id) {
+        LOG.debug("find fields {} of {} : {}", fields, fieldset.getEntityClass().getSimpleName(), id);
+        Specification<E> byId = (root, query, cb) -> cb.equal(root.get("id"), id);
+        return find(fieldset, fields, byId, Pageable.unpaged(), Integer.MAX_VALUE).stream().findFirst();
+    }
+
+    private <E> List<Map<String, Object>> find(
+        SparseFieldset<E> fieldset,
+        List<String> fields,
+        Specification<E> specification,
+        Pageable page,
+        int maxResults
+    ) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<E> root = query.from(fieldset.getEntityClass());
+        List<Selection<?>> selections = new ArrayList<>();
+        for (String field : fields) {
+            if (fieldset.isAssociation(field)) {
+                From<E, ?> association = root.join(field, JoinType.LEFT);
+                fieldset.getAssociationAttributes(field).forEach(attribute -> selections.add(association.get(attribute)));
+            } else {
+                selections.add(root.get(field));
+            }
+        }
+        query.multiselect(selections);
+        Predicate predicate = specification != null ? specification.toPredicate(root, query, cb) : null;
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        query.orderBy(QueryUtils.toOrders(page.getSort(), root, cb));
+        TypedQuery<Tuple> typedQuery = entityManager.createQuery(query);
+        if (page.isPaged()) {
+            typedQuery.setFirstResult((int) page.getOffset()).setMaxResults(maxResults);
+        }
+        return typedQuery.getResultList().stream().map(tuple -> toRow(fieldset, fields, tuple)).toList();
+    }
+
+    private static Map<String, Object> toRow(SparseFieldset<?> fieldset, List<String> fields, Tuple tuple) {
+        Map<String, Object> row = new LinkedHashMap<>();
+        int index = 0;
+        for (String field : fields) {
+            if (fieldset.isAssociation(field)) {
+                Map<String, Object> association = new LinkedHashMap<>();
+                for (String attribute : fieldset.getAssociationAttributes(field)) {
+                    association.put(attribute, tuple.get(index++));
+                }
+                row.put(field, association.values().stream().allMatch(Objects::isNull) ? null : association);
+            } else {
+                row.put(field, tuple.get(index++));
+            }
+        }
+        return row;
+    }
+}
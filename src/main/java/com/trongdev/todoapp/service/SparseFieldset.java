@@ -0,0 +1,93 @@
+package com.trongdev.todoapp.service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * The fields of an entity which a client can request with the {@code fields} parameter, by their JSON name.
+ * <p>
+ * A field is either a basic attribute of the entity, or a to-one association of which only some attributes are read,
+ * such as the id and name of the author of a book. The JSON names are the names of the entity attributes.
+ *
+ * @param <E> the type of the entity.
+ */
+public final class SparseFieldset<E> {
+
+    private final Class<E> entityClass;
+
+    /**
+     * Field name to the attributes read from the associated entity, empty for a basic attribute.
+     */
+    private final Map<String, List<String>> fields;
+
+    private SparseFieldset(Class<E> entityClass, Map<String, List<String>> fields) {
+        this.entityClass = entityClass;
+        this.fields = fields;
+    }
+
+    public static <E> SparseFieldset<E> of(Class<E> entityClass, String... attributes) {
+        Map<String, List<String>> fields = new LinkedHashMap<>();
+        Arrays.stream(attributes).forEach(attribute -> fields.put(attribute, List.of()));
+        return new SparseFieldset<>(entityClass, Collections.unmodifiableMap(fields));
+    }
+
+    /**
+     * Return a copy of this fieldset with an additional to-one association.
+     *
+     * @param association the name of the association.
+     * @param attributes the attributes read from the associated entity.
+     * @return the new fieldset.
+     */
+    public SparseFieldset<E> withAssociation(String association, String... attributes) {
+        Map<String, List<String>> withAssociation = new LinkedHashMap<>(fields);
+        withAssociation.put(association, List.of(attributes));
+        return new SparseFieldset<>(entityClass, Collections.unmodifiableMap(withAssociation));
+    }
+
+    public Class<E> getEntityClass() {
+        return entityClass;
+    }
+
+    public Set<String> getFields() {
+        return fields.keySet();
+    }
+
+    public boolean isAssociation(String field) {
+        return !fields.get(field).isEmpty();
+    }
+
+    public List<String> getAssociationAttributes(String field) {
+        return fields.get(field);
+    }
+
+    /**
+     * Parse the value of a {@code fields} parameter, a comma separated list of field names.
+     *
+     * @param value the value of the parameter.
+     * @return the distinct requested fields, in the order of the parameter.
+     * @throws IllegalArgumentException if a field is unknown, or if no field is requested.
+     */
+    public List<String> parse(String value) {
+        Set<String> requested = new LinkedHashSet<>();
+        for (String field : value.split(",")) {
+            String name = field.trim();
+            if (name.isEmpty()) {
+                continue;
+            }
+            if (!fields.containsKey(name)) {
+                throw new IllegalArgumentException("Unknown field: " + name);
+            }
+            requested.add(name);
+        }
+        if (requested.isEmpty()) {
+            throw new IllegalArgumentException("No field requested");
+        }
+        return new ArrayList<>(requested);
+    }
+}
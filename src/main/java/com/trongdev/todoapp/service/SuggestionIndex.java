@@ -0,0 +1,602 @@
+package com.trongdev.todoapp.service;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * An in-memory prefix index of names, mapping them to the ids of their entities, for typeahead suggestions.
+ * <p>
+ * Names are normalized as search terms (see {@link BookSearchService#tokenize(String)}) and indexed from the start of
+ * each of their first {@link #MAX_WORDS} words, so that {@code "tol"} suggests {@code "J. R. R. Tolkien"}.
+ * The keys are kept sorted as UTF-8 bytes packed in a single array, with the names and primitive {@code long} ids in
+ * parallel arrays: a prefix is answered by a binary search and a scan, and the index holds no object per name, only
+ * a few tens of bytes.
+ * <p>
+ * Names put or removed are kept in a small sorted overlay, and merged into the packed arrays once the overlay
+ * exceeds {@code 1/16} of them, so that writes don't copy the arrays each time.
+ */
+class SuggestionIndex {
+
+    /**
+     * The maximum number of words of a name from which it is suggested.
+     */
+    static final int MAX_WORDS = 8;
+
+    /**
+     * The maximum length of a key, in bytes; longer keys and prefixes are truncated.
+     */
+    static final int MAX_KEY_LENGTH = 64;
+
+    private static final int MIN_MERGE_THRESHOLD = 1024;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private Packed packed = Packed.EMPTY;
+
+    /**
+     * Keys of the names put since the arrays were packed.
+     */
+    private final NavigableSet<Key> added = new TreeSet<>();
+
+    /**
+     * Id to name of the names put since the arrays were packed.
+     */
+    private final Map<Long, String> addedNames = new HashMap<>();
+
+    /**
+     * Ids put or removed since the arrays were packed, whose packed keys are outdated.
+     */
+    private final Set<Long> outdated = new HashSet<>();
+
+    /**
+     * Ids put or removed while the index is being loaded, which the load must not overwrite.
+     */
+    private Set<Long> changedDuringLoad;
+
+    /**
+     * The names read while the index is being loaded, packed at once when the load ends.
+     */
+    private Builder loaded;
+
+    /**
+     * Suggest the names with a word starting with a prefix.
+     *
+     * @param prefix the prefix, as typed.
+     * @param limit the maximum number of suggestions.
+     * @return the ids and names of the suggestions, in key order.
+     */
+    Map<Long, String> suggest(String prefix, int limit) {
+        byte[] prefixKey = key(BookSearchService.tokenize(prefix));
+        Map<Long, String> suggestions = new LinkedHashMap<>();
+        if (prefixKey.length == 0) {
+            return suggestions;
+        }
+        lock.readLock().lock();
+        try {
+            int entry = packed.lowerBound(prefixKey);
+            Iterator<Key> overlay = added.tailSet(new Key(prefixKey, Long.MIN_VALUE), true).iterator();
+            Key next = overlay.hasNext() ? overlay.next() : null;
+            while (suggestions.size() < limit) {
+                boolean inPacked = entry < packed.size() && packed.startsWith(entry, prefixKey);
+                boolean inOverlay = next != null && next.startsWith(prefixKey);
+                if (inPacked && (!inOverlay || packed.compare(entry, next) <= 0)) {
+                    long id = packed.id(entry);
+                    if (!outdated.contains(id) && !suggestions.containsKey(id)) {
+                        suggestions.put(id, packed.name(entry));
+                    }
+                    entry++;
+                } else if (inOverlay) {
+                    suggestions.putIfAbsent(next.id, addedNames.get(next.id));
+                    next = overlay.hasNext() ? overlay.next() : null;
+                } else {
+                    break;
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return suggestions;
+    }
+
+    /**
+     * Add or replace a name.
+     *
+     * @param id the id of the entity.
+     * @param name the name, may be {@code null}.
+     */
+    void put(long id, String name) {
+        lock.writeLock().lock();
+        try {
+            removeName(id);
+            addName(id, name);
+            if (changedDuringLoad != null) {
+                changedDuringLoad.add(id);
+            }
+            mergeIfNeeded();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Remove a name.
+     *
+     * @param id the id of the entity.
+     */
+    void remove(long id) {
+        lock.writeLock().lock();
+        try {
+            removeName(id);
+            if (changedDuringLoad != null) {
+                changedDuringLoad.add(id);
+            }
+            mergeIfNeeded();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Start loading all the names into the empty index, which {@link #load(long, String)} reads unless they changed since.
+     * Only one thread must load the names.
+     */
+    void startLoad() {
+        lock.writeLock().lock();
+        try {
+            changedDuringLoad = new HashSet<>();
+            loaded = new Builder();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Add a name read while loading, unless it was put or removed since the load started.
+     *
+     * @param id the id of the entity.
+     * @param name the name, may be {@code null}.
+     */
+    void load(long id, String name) {
+        lock.readLock().lock();
+        try {
+            if (changedDuringLoad.contains(id)) {
+                return;
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        loaded.add(id, name);
+    }
+
+    /**
+     * End the load started by {@link #startLoad()}, packing the names read.
+     * <p>
+     * Names put or removed after they were read are outdated in the packed arrays, as any other change.
+     */
+    void endLoad() {
+        Packed packedLoad = loaded.build();
+        lock.writeLock().lock();
+        try {
+            packed = packedLoad;
+            changedDuringLoad = null;
+            loaded = null;
+            mergeIfNeeded();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * @return the number of names in the index.
+     */
+    int size() {
+        lock.readLock().lock();
+        try {
+            int size = addedNames.size();
+            for (long id : packed.ids) {
+                if (!outdated.contains(id)) {
+                    size++;
+                }
+            }
+            return size;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void addName(long id, String name) {
+        List<byte[]> keys = keys(name);
+        if (keys.isEmpty()) {
+            return;
+        }
+        keys.forEach(key -> added.add(new Key(key, id)));
+        addedNames.put(id, name);
+    }
+
+    private void removeName(long id) {
+        String name = addedNames.remove(id);
+        if (name != null) {
+            keys(name).forEach(key -> added.remove(new Key(key, id)));
+        }
+        outdated.add(id);
+    }
+
+    private void mergeIfNeeded() {
+        // While loading, the packed arrays are still empty and the outdated ids must be kept for the loaded ones
+        if (changedDuringLoad == null && added.size() + outdated.size() > Math.max(MIN_MERGE_THRESHOLD, packed.size() / 16)) {
+            packed = packed.merge(outdated, added, addedNames);
+            added.clear();
+            addedNames.clear();
+            outdated.clear();
+        }
+    }
+
+    /**
+     * The keys of a name: its normalized words, from the start of each of its first {@link #MAX_WORDS} words.
+     */
+    static List<byte[]> keys(String name) {
+        List<String> words = BookSearchService.tokenize(name);
+        List<byte[]> keys = new ArrayList<>();
+        for (int i = 0; i < Math.min(words.size(), MAX_WORDS); i++) {
+            keys.add(key(words.subList(i, words.size())));
+        }
+        return keys;
+    }
+
+    private static byte[] key(List<String> words) {
+        byte[] key = String.join(" ", words).getBytes(StandardCharsets.UTF_8);
+        return key.length > MAX_KEY_LENGTH ? Arrays.copyOf(key, MAX_KEY_LENGTH) : key;
+    }
+
+    /**
+     * A key of the overlay, ordered as the packed keys: by unsigned bytes, then by id.
+     */
+    private record Key(byte[] bytes, long id) implements Comparable<Key> {
+        @Override
+        public int compareTo(Key other) {
+            int comparison = Arrays.compareUnsigned(bytes, other.bytes);
+            return comparison != 0 ? comparison : Long.compare(id, other.id);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof Key key && compareTo(key) == 0;
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * Arrays.hashCode(bytes) + Long.hashCode(id);
+        }
+
+        boolean startsWith(byte[] prefix) {
+            return bytes.length >= prefix.length && Arrays.equals(bytes, 0, prefix.length, prefix, 0, prefix.length);
+        }
+    }
+
+    /**
+     * The immutable packed arrays: the sorted keys, each pointing to its name and id.
+     */
+    private static final class Packed {
+
+        static final Packed EMPTY = new Packed(new byte[0], new int[] { 0 }, new int[0], new byte[0], new int[] { 0 }, new long[0]);
+
+        /**
+         * The keys, in order; key {@code i} spans from {@code keyOffsets[i]} to {@code keyOffsets[i + 1]}.
+         */
+        final byte[] keys;
+
+        final int[] keyOffsets;
+
+        /**
+         * The index of the name of each key.
+         */
+        final int[] keyNames;
+
+        /**
+         * The UTF-8 names; name {@code j} spans from {@code nameOffsets[j]} to {@code nameOffsets[j + 1]}.
+         */
+        final byte[] names;
+
+        final int[] nameOffsets;
+
+        /**
+         * The id of each name.
+         */
+        final long[] ids;
+
+        Packed(byte[] keys, int[] keyOffsets, int[] keyNames, byte[] names, int[] nameOffsets, long[] ids) {
+            this.keys = keys;
+            this.keyOffsets = keyOffsets;
+            this.keyNames = keyNames;
+            this.names = names;
+            this.nameOffsets = nameOffsets;
+            this.ids = ids;
+        }
+
+        int size() {
+            return keyNames.length;
+        }
+
+        long id(int entry) {
+            return ids[keyNames[entry]];
+        }
+
+        String name(int entry) {
+            int name = keyNames[entry];
+            return new String(names, nameOffsets[name], nameOffsets[name + 1] - nameOffsets[name], StandardCharsets.UTF_8);
+        }
+
+        boolean startsWith(int entry, byte[] prefix) {
+            int from = keyOffsets[entry];
+            return (
+                keyOffsets[entry + 1] - from >= prefix.length && Arrays.equals(keys, from, from + prefix.length, prefix, 0, prefix.length)
+            );
+        }
+
+        int compare(int entry, Key key) {
+            int comparison = Arrays.compareUnsigned(keys, keyOffsets[entry], keyOffsets[entry + 1], key.bytes, 0, key.bytes.length);
+            return comparison != 0 ? comparison : Long.compare(id(entry), key.id);
+        }
+
+        /**
+         * @return the first entry whose key is not lower than the prefix.
+         */
+        int lowerBound(byte[] prefix) {
+            int low = 0;
+            int high = size();
+            while (low < high) {
+                int middle = (low + high) >>> 1;
+                if (Arrays.compareUnsigned(keys, keyOffsets[middle], keyOffsets[middle + 1], prefix, 0, prefix.length) < 0) {
+                    low = middle + 1;
+                } else {
+                    high = middle;
+                }
+            }
+            return low;
+        }
+
+        /**
+         * Merge the overlay into new packed arrays, in one pass over both.
+         */
+        Packed merge(Set<Long> outdated, NavigableSet<Key> added, Map<Long, String> addedNames) {
+            // Names: the packed ones still up to date, then the added ones
+            int[] nameRemap = new int[ids.length];
+            int nameCount = 0;
+            int nameLength = 0;
+            for (int name = 0; name < ids.length; name++) {
+                if (outdated.contains(ids[name])) {
+                    nameRemap[name] = -1;
+                } else {
+                    nameRemap[name] = nameCount++;
+                    nameLength += nameOffsets[name + 1] - nameOffsets[name];
+                }
+            }
+            Map<Long, Integer> addedNameIndexes = new HashMap<>();
+            Map<Long, byte[]> addedNameBytes = new LinkedHashMap<>();
+            for (Map.Entry<Long, String> addedName : addedNames.entrySet()) {
+                byte[] bytes = addedName.getValue().getBytes(StandardCharsets.UTF_8);
+                addedNameIndexes.put(addedName.getKey(), nameCount++);
+                addedNameBytes.put(addedName.getKey(), bytes);
+                nameLength += bytes.length;
+            }
+            byte[] newNames = new byte[nameLength];
+            int[] newNameOffsets = new int[nameCount + 1];
+            long[] newIds = new long[nameCount];
+            int name = 0;
+            for (int oldName = 0; oldName < ids.length; oldName++) {
+                if (nameRemap[oldName] >= 0) {
+                    int length = nameOffsets[oldName + 1] - nameOffsets[oldName];
+                    System.arraycopy(names, nameOffsets[oldName], newNames, newNameOffsets[name], length);
+                    newIds[name] = ids[oldName];
+                    newNameOffsets[name + 1] = newNameOffsets[name] + length;
+                    name++;
+                }
+            }
+            for (Map.Entry<Long, byte[]> addedName : addedNameBytes.entrySet()) {
+                byte[] bytes = addedName.getValue();
+                System.arraycopy(bytes, 0, newNames, newNameOffsets[name], bytes.length);
+                newIds[name] = addedName.getKey();
+                newNameOffsets[name + 1] = newNameOffsets[name] + bytes.length;
+                name++;
+            }
+
+            // Keys: merge the packed ones still up to date with the added ones, in order
+            int keyCount = added.size();
+            int keyLength = 0;
+            for (Key key : added) {
+                keyLength += key.bytes.length;
+            }
+            for (int entry = 0; entry < size(); entry++) {
+                if (nameRemap[keyNames[entry]] >= 0) {
+                    keyCount++;
+                    keyLength += keyOffsets[entry + 1] - keyOffsets[entry];
+                }
+            }
+            byte[] newKeys = new byte[keyLength];
+            int[] newKeyOffsets = new int[keyCount + 1];
+            int[] newKeyNames = new int[keyCount];
+            int key = 0;
+            int entry = 0;
+            Iterator<Key> overlay = added.iterator();
+            Key next = overlay.hasNext() ? overlay.next() : null;
+            while (entry < size() || next != null) {
+                if (entry < size() && nameRemap[keyNames[entry]] < 0) {
+                    entry++;
+                } else if (entry < size() && (next == null || compare(entry, next) <= 0)) {
+                    int length = keyOffsets[entry + 1] - keyOffsets[entry];
+                    System.arraycopy(keys, keyOffsets[entry], newKeys, newKeyOffsets[key], length);
+                    newKeyNames[key] = nameRemap[keyNames[entry]];
+                    newKeyOffsets[key + 1] = newKeyOffsets[key] + length;
+                    key++;
+                    entry++;
+                } else {
+                    System.arraycopy(next.bytes, 0, newKeys, newKeyOffsets[key], next.bytes.length);
+                    newKeyNames[key] = addedNameIndexes.get(next.id);
+                    newKeyOffsets[key + 1] = newKeyOffsets[key] + next.bytes.length;
+                    key++;
+                    next = overlay.hasNext() ? overlay.next() : null;
+                }
+            }
+            return new Packed(newKeys, newKeyOffsets, newKeyNames, newNames, newNameOffsets, newIds);
+        }
+    }
+
+    /**
+     * Packs names at once, sorting their keys in primitive arrays.
+     */
+    private static final class Builder {
+
+        private byte[] keys = new byte[1024];
+
+        private int keysLength;
+
+        /**
+         * The start of each key; key {@code i} spans to the start of key {@code i + 1}, or to {@code keysLength}.
+         */
+        private int[] keyStarts = new int[64];
+
+        private int[] keyNames = new int[64];
+
+        /**
+         * The first 8 bytes of each key, padded with zeros, which order most keys without comparing their bytes.
+         */
+        private long[] keyPrefixes = new long[64];
+
+        private int keyCount;
+
+        private byte[] names = new byte[1024];
+
+        private int namesLength;
+
+        private int[] nameOffsets = new int[64];
+
+        private long[] ids = new long[64];
+
+        private int nameCount;
+
+        void add(long id, String name) {
+            List<byte[]> nameKeys = keys(name);
+            if (nameKeys.isEmpty()) {
+                return;
+            }
+            for (byte[] key : nameKeys) {
+                keys = grow(keys, keysLength + key.length);
+                System.arraycopy(key, 0, keys, keysLength, key.length);
+                keyStarts = grow(keyStarts, keyCount + 1);
+                keyNames = grow(keyNames, keyCount + 1);
+                keyPrefixes = grow(keyPrefixes, keyCount + 1);
+                keyPrefixes[keyCount] = prefix(key);
+                keyStarts[keyCount] = keysLength;
+                keyNames[keyCount++] = nameCount;
+                keysLength += key.length;
+            }
+            byte[] bytes = name.getBytes(StandardCharsets.UTF_8);
+            names = grow(names, namesLength + bytes.length);
+            System.arraycopy(bytes, 0, names, namesLength, bytes.length);
+            nameOffsets = grow(nameOffsets, nameCount + 2);
+            ids = grow(ids, nameCount + 1);
+            ids[nameCount] = id;
+            namesLength += bytes.length;
+            nameOffsets[++nameCount] = namesLength;
+        }
+
+        Packed build() {
+            int[] order = sortedKeys();
+            byte[] packedKeys = new byte[keysLength];
+            int[] packedKeyOffsets = new int[keyCount + 1];
+            int[] packedKeyNames = new int[keyCount];
+            for (int entry = 0; entry < keyCount; entry++) {
+                int key = order[entry];
+                int length = keyEnd(key) - keyStarts[key];
+                System.arraycopy(keys, keyStarts[key], packedKeys, packedKeyOffsets[entry], length);
+                packedKeyOffsets[entry + 1] = packedKeyOffsets[entry] + length;
+                packedKeyNames[entry] = keyNames[key];
+            }
+            return new Packed(
+                packedKeys,
+                packedKeyOffsets,
+                packedKeyNames,
+                Arrays.copyOf(names, namesLength),
+                Arrays.copyOf(nameOffsets, nameCount + 1),
+                Arrays.copyOf(ids, nameCount)
+            );
+        }
+
+        private int keyEnd(int key) {
+            return key + 1 < keyCount ? keyStarts[key + 1] : keysLength;
+        }
+
+        private int compare(int key, int other) {
+            int comparison = Long.compareUnsigned(keyPrefixes[key], keyPrefixes[other]);
+            if (comparison != 0) {
+                return comparison;
+            }
+            comparison = Arrays.compareUnsigned(keys, keyStarts[key], keyEnd(key), keys, keyStarts[other], keyEnd(other));
+            return comparison != 0 ? comparison : Long.compare(ids[keyNames[key]], ids[keyNames[other]]);
+        }
+
+        /**
+         * @return the keys in order, by a bottom-up merge sort of their indexes.
+         */
+        private int[] sortedKeys() {
+            int[] order = new int[keyCount];
+            for (int key = 0; key < keyCount; key++) {
+                order[key] = key;
+            }
+            int[] buffer = new int[keyCount];
+            for (int width = 1; width < keyCount; width *= 2) {
+                for (int from = 0; from < keyCount; from += 2 * width) {
+                    int middle = Math.min(from + width, keyCount);
+                    int to = Math.min(from + 2 * width, keyCount);
+                    int left = from;
+                    int right = middle;
+                    int merged = from;
+                    while (left < middle && right < to) {
+                        buffer[merged++] = compare(order[left], order[right]) <= 0 ? order[left++] : order[right++];
+                    }
+                    System.arraycopy(order, left, buffer, merged, middle - left);
+                    System.arraycopy(order, right, buffer, merged + middle - left, to - right);
+                }
+                int[] sorted = buffer;
+                buffer = order;
+                order = sorted;
+            }
+            return order;
+        }
+
+        /**
+         * Normalized keys never contain a zero byte, so a shorter key is still lower than the keys it prefixes.
+         */
+        private static long prefix(byte[] key) {
+            long prefix = 0;
+            for (int i = 0; i < Long.BYTES; i++) {
+                prefix = (prefix << 8) | (i < key.length ? key[i] & 0xFF : 0);
+            }
+            return prefix;
+        }
+
+        private static byte[] grow(byte[] array, int length) {
+            return length <= array.length ? array : Arrays.copyOf(array, Math.max(length, array.length * 2));
+        }
+
+        private static int[] grow(int[] array, int length) {
+            return length <= array.length ? array : Arrays.copyOf(array, Math.max(length, array.length * 2));
+        }
+
+        private static long[] grow(long[] array, int length) {
+            return length <= array.length ? array : Arrays.copyOf(array, Math.max(length, array.length * 2));
+        }
+    }
+}
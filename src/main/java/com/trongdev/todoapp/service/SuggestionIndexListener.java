@@ -0,0 +1,54 @@
+package com.trongdev.todoapp.service;
+
+import com.trongdev.todoapp.domain.Author;
+import com.trongdev.todoapp.domain.Book;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.event.spi.PostInsertEvent;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.springframework.stereotype.Component;
+
+/**
+ * Keeps the {@link SuggestionService} indexes up to date with the authors and books created, updated and deleted
+ * through JPA.
+ * <p>
+ * The indexes are only updated once the transaction is committed. Bulk JPQL or SQL statements bypass this listener and
+ * must update the indexes themselves.
+ */
+@Component
+public class SuggestionIndexListener extends EntityCommitListener {
+
+    private final SuggestionService suggestionService;
+
+    public SuggestionIndexListener(SuggestionService suggestionService, EntityManagerFactory entityManagerFactory) {
+        super(entityManagerFactory, Book.class, Author.class);
+        this.suggestionService = suggestionService;
+    }
+
+    @Override
+    public void onPostInsert(PostInsertEvent event) {
+        index(event.getEntity());
+    }
+
+    @Override
+    public void onPostUpdate(PostUpdateEvent event) {
+        index(event.getEntity());
+    }
+
+    @Override
+    public void onPostDelete(PostDeleteEvent event) {
+        if (event.getEntity() instanceof Book) {
+            suggestionService.removeBook((Long) event.getId());
+        } else if (event.getEntity() instanceof Author) {
+            suggestionService.removeAuthor((Long) event.getId());
+        }
+    }
+
+    private void index(Object entity) {
+        if (entity instanceof Book book) {
+            suggestionService.index(book);
+        } else if (entity instanceof Author author) {
+            suggestionService.index(author);
+        }
+    }
+}
@@ -0,0 +1,168 @@
+package com.trongdev.todoapp.service;
+
+import com.trongdev.todoapp.domain.Author;
+import com.trongdev.todoapp.domain.Book;
+import com.trongdev.todoapp.repository.AuthorRepository;
+import com.trongdev.todoapp.repository.BookRepository;
+import com.trongdev.todoapp.service.dto.SuggestionDTO;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.stream.Stream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Service for the typeahead suggestions of author names and book titles.
+ * <p>
+ * Suggestions are answered from in-memory {@link SuggestionIndex}es, without querying the database. The indexes are
+ * loaded in the background at startup and then kept up to date by the {@link SuggestionIndexListener}.
+ */
+@Service
+public class SuggestionService {
+
+    /**
+     * The maximum number of suggestions returned at once.
+     */
+    public static final int MAX_SUGGESTIONS = 50;
+
+    private static final Logger LOG = LoggerFactory.getLogger(SuggestionService.class);
+
+    private final SuggestionIndex authorIndex = new SuggestionIndex();
+
+    private final SuggestionIndex bookIndex = new SuggestionIndex();
+
+    private final AuthorRepository authorRepository;
+
+    private final BookRepository bookRepository;
+
+    private final TransactionTemplate readOnlyTransactionTemplate;
+
+    private final Executor taskExecutor;
+
+    public SuggestionService(
+        AuthorRepository authorRepository,
+        BookRepository bookRepository,
+        PlatformTransactionManager transactionManager,
+        @Qualifier("taskExecutor") Executor taskExecutor
+    ) {
+        this.authorRepository = authorRepository;
+        this.bookRepository = bookRepository;
+        this.readOnlyTransactionTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTransactionTemplate.setReadOnly(true);
+        this.taskExecutor = taskExecutor;
+    }
+
+    /**
+     * Suggest the authors with a word of their name starting with a prefix.
+     *
+     * @param prefix the prefix, as typed.
+     * @param limit the maximum number of suggestions, at most {@link #MAX_SUGGESTIONS}.
+     * @return the suggested authors.
+     */
+    public List<SuggestionDTO> suggestAuthors(String prefix, int limit) {
+        LOG.debug("Request to suggest Authors for prefix {}", prefix);
+        return suggest(authorIndex, prefix, limit);
+    }
+
+    /**
+     * Suggest the books with a word of their title starting with a prefix.
+     *
+     * @param prefix the prefix, as typed.
+     * @param limit the maximum number of suggestions, at most {@link #MAX_SUGGESTIONS}.
+     * @return the suggested books.
+     */
+    public List<SuggestionDTO> suggestBooks(String prefix, int limit) {
+        LOG.debug("Request to suggest Books for prefix {}", prefix);
+        return suggest(bookIndex, prefix, limit);
+    }
+
+    /**
+     * Add or replace an author in the suggestions.
+     *
+     * @param author the author.
+     */
+    public void index(Author author) {
+        authorIndex.put(author.getId(), author.getName());
+    }
+
+    /**
+     * Add or replace a book in the suggestions.
+     *
+     * @param book the book.
+     */
+    public void index(Book book) {
+        bookIndex.put(book.getId(), book.getTitle());
+    }
+
+    /**
+     * Remove an author from the suggestions.
+     *
+     * @param id the id of the author.
+     */
+    public void removeAuthor(Long id) {
+        authorIndex.remove(id);
+    }
+
+    /**
+     * Remove a book from the suggestions.
+     *
+     * @param id the id of the book.
+     */
+    public void removeBook(Long id) {
+        bookIndex.remove(id);
+    }
+
+    /**
+     * Load the indexes in the background once the application is started.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadIndexesInBackground() {
+        taskExecutor.execute(this::loadIndexes);
+    }
+
+    /**
+     * Load the names of all the authors and the titles of all the books, streamed from the database.
+     * <p>
+     * Authors and books changed while the load runs are more recent than the streamed rows, so they are left as is.
+     */
+    public void loadIndexes() {
+        LOG.debug("Loading the Author and Book suggestion indexes");
+        long start = System.nanoTime();
+        authorIndex.startLoad();
+        bookIndex.startLoad();
+        try {
+            readOnlyTransactionTemplate.executeWithoutResult(status -> {
+                try (Stream<AuthorRepository.IdAndName> authors = authorRepository.streamAllIdsAndNames()) {
+                    authors.forEach(author -> authorIndex.load(author.getId(), author.getName()));
+                }
+                try (Stream<BookRepository.IdAndTitle> books = bookRepository.streamAllIdsAndTitles()) {
+                    books.forEach(book -> bookIndex.load(book.getId(), book.getTitle()));
+                }
+            });
+            LOG.info(
+                "Indexed {} Authors and {} Books for suggestions in {} ms",
+                authorIndex.size(),
+                bookIndex.size(),
+                (System.nanoTime() - start) / 1_000_000
+            );
+        } finally {
+            authorIndex.endLoad();
+            bookIndex.endLoad();
+        }
+    }
+
+    private static List<SuggestionDTO> suggest(SuggestionIndex index, String prefix, int limit) {
+        return index
+            .suggest(prefix, Math.max(1, Math.min(limit, MAX_SUGGESTIONS)))
+            .entrySet()
+            .stream()
+            .map(suggestion -> new SuggestionDTO(suggestion.getKey(), suggestion.getValue()))
+            .toList();
+    }
+}
@@ -0,0 +1,24 @@
+package com.trongdev.todoapp.service;
+
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.stereotype.Component;
+
+/**
+ * Reports whether the JWT revocations are loaded, part of the readiness group: an instance which doesn't know the
+ * revoked tokens must not receive traffic, since it would accept them.
+ */
+@Component
+public class TokenRevocationHealthIndicator implements HealthIndicator {
+
+    private final TokenRevocationService tokenRevocationService;
+
+    public TokenRevocationHealthIndicator(TokenRevocationService tokenRevocationService) {
+        this.tokenRevocationService = tokenRevocationService;
+    }
+
+    @Override
+    public Health health() {
+        return tokenRevocationService.isUpToDate() ? Health.up().build() : Health.down().build();
+    }
+}
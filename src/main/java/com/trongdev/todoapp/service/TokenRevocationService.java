@@ -0,0 +1,176 @@
+package com.trongdev.todoapp.service;
+
+import com.trongdev.todoapp.domain.RevokedToken;
+import com.trongdev.todoapp.domain.UserTokenRevocation;
+import com.trongdev.todoapp.repository.RevokedTokenRepository;
+import com.trongdev.todoapp.repository.UserTokenRevocationRepository;
+import com.trongdev.todoapp.security.TokenRevocationList;
+import java.time.Instant;
+import java.util.List;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Service for revoking JWTs before they expire, on logout or for all the sessions of a user.
+ * <p>
+ * The revocations are persisted, so that they survive a restart, and then added to the {@link TokenRevocationList}
+ * checked by the JWT decoder. Each revocation is kept until the tokens it revokes expire, then purged every hour.
+ * <p>
+ * Every {@code application.token-revocation.reload-interval}, the list of an instance loads the revocations added
+ * since the last id it has seen, so a revocation made on another instance is seen by this one within the interval.
+ * The first reload loads all of them. Until a reload succeeds, and after one fails, the {@link
+ * TokenRevocationHealthIndicator} is {@code DOWN}, which takes the instance out of the readiness group. The server
+ * accepts connections before that, so a request reaching the instance without going through a load balancer following
+ * the readiness group is only checked against the revocations already loaded.
+ */
+@Service
+public class TokenRevocationService {
+
+    private static final Logger LOG = LoggerFactory.getLogger(TokenRevocationService.class);
+
+    /**
+     * Ids below the last one seen which are read again by each reload. The ids are taken when a revocation is inserted
+     * but it is seen once committed, so a revocation committed after one with a greater id would otherwise be missed.
+     */
+    static final long RELOAD_ID_OVERLAP = 100;
+
+    private final RevokedTokenRepository revokedTokenRepository;
+
+    private final UserTokenRevocationRepository userTokenRevocationRepository;
+
+    private final TokenRevocationList tokenRevocationList;
+
+    private final TransactionTemplate transactionTemplate;
+
+    private final long maxTokenValidityInSeconds;
+
+    private long lastRevokedTokenId;
+
+    private long lastUserRevocationId;
+
+    private boolean reloadFailed;
+
+    private volatile boolean upToDate;
+
+    public TokenRevocationService(
+        RevokedTokenRepository revokedTokenRepository,
+        UserTokenRevocationRepository userTokenRevocationRepository,
+        TokenRevocationList tokenRevocationList,
+        PlatformTransactionManager transactionManager,
+        @Value("${jhipster.security.authentication.jwt.token-validity-in-seconds:0}") long tokenValidityInSeconds,
+        @Value(
+            "${jhipster.security.authentication.jwt.token-validity-in-seconds-for-remember-me:0}"
+        ) long tokenValidityInSecondsForRememberMe
+    ) {
+        this.revokedTokenRepository = revokedTokenRepository;
+        this.userTokenRevocationRepository = userTokenRevocationRepository;
+        this.tokenRevocationList = tokenRevocationList;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.maxTokenValidityInSeconds = Math.max(tokenValidityInSeconds, tokenValidityInSecondsForRememberMe);
+    }
+
+    /**
+     * Revoke a token, such as on logout.
+     * <p>
+     * The tokens issued before their id was added have none, so all the tokens of their user are revoked instead.
+     *
+     * @param jwt the token.
+     */
+    public void revoke(Jwt jwt) {
+        if (jwt.getId() == null || jwt.getExpiresAt() == null) {
+            revokeAllForUser(jwt.getSubject());
+            return;
+        }
+        LOG.debug("Request to revoke the token {} of User : {}", jwt.getId(), jwt.getSubject());
+        RevokedToken revokedToken = new RevokedToken().jti(jwt.getId()).expiresAt(jwt.getExpiresAt());
+        transactionTemplate.executeWithoutResult(status -> revokedTokenRepository.save(revokedToken));
+        tokenRevocationList.revoke(revokedToken.getJti(), revokedToken.getExpiresAt());
+    }
+
+    /**
+     * Revoke all the tokens of a user issued until now.
+     *
+     * @param login the login of the user.
+     */
+    public void revokeAllForUser(String login) {
+        LOG.debug("Request to revoke all the tokens of User : {}", login);
+        Instant revokedBefore = Instant.now();
+        UserTokenRevocation revocation = new UserTokenRevocation()
+            .login(login)
+            .revokedBefore(revokedBefore)
+            .expiresAt(revokedBefore.plusSeconds(maxTokenValidityInSeconds + 1));
+        transactionTemplate.executeWithoutResult(status -> userTokenRevocationRepository.save(revocation));
+        tokenRevocationList.revokeIssuedBefore(revocation.getLogin(), revocation.getRevokedBefore(), revocation.getExpiresAt());
+    }
+
+    /**
+     * Load the revocations of the tokens not expired yet added since the last reload, by this instance or another one.
+     */
+    @Scheduled(fixedDelayString = "${application.token-revocation.reload-interval:PT5S}")
+    public synchronized void reloadRevocations() {
+        Instant now = Instant.now();
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                List<RevokedToken> revokedTokens = revokedTokenRepository.findAllByIdGreaterThanAndExpiresAtAfterOrderById(
+                    lastRevokedTokenId - RELOAD_ID_OVERLAP,
+                    now
+                );
+                for (RevokedToken revokedToken : revokedTokens) {
+                    tokenRevocationList.revoke(revokedToken.getJti(), revokedToken.getExpiresAt());
+                    lastRevokedTokenId = Math.max(lastRevokedTokenId, revokedToken.getId());
+                }
+                List<UserTokenRevocation> revocations = userTokenRevocationRepository.findAllByIdGreaterThanAndExpiresAtAfterOrderById(
+                    lastUserRevocationId - RELOAD_ID_OVERLAP,
+                    now
+                );
+                for (UserTokenRevocation revocation : revocations) {
+                    tokenRevocationList.revokeIssuedBefore(revocation.getLogin(), revocation.getRevokedBefore(), revocation.getExpiresAt());
+                    lastUserRevocationId = Math.max(lastUserRevocationId, revocation.getId());
+                }
+            });
+        } catch (RuntimeException e) {
+            // Logged once per outage, the reload is retried at the next interval
+            if (!reloadFailed) {
+                LOG.error("Could not load the token revocations, the instance is not ready until they are loaded", e);
+            }
+            reloadFailed = true;
+            upToDate = false;
+            return;
+        }
+        if (!upToDate) {
+            LOG.info(
+                "Loaded the revocations of {} tokens and of the tokens of {} Users",
+                tokenRevocationList.revokedIdCount(),
+                tokenRevocationList.revokedUserCount()
+            );
+        }
+        reloadFailed = false;
+        upToDate = true;
+    }
+
+    /**
+     * @return {@code true} if the last reload of the revocations succeeded.
+     */
+    public boolean isUpToDate() {
+        return upToDate;
+    }
+
+    /**
+     * Purge the revocations of the tokens which expired.
+     */
+    @Scheduled(cron = "0 0 * * * *")
+    public void purgeExpiredRevocations() {
+        Instant now = Instant.now();
+        tokenRevocationList.purgeExpired(now);
+        int purged = transactionTemplate.execute(
+            status -> revokedTokenRepository.deleteExpired(now) + userTokenRevocationRepository.deleteExpired(now)
+        );
+        LOG.debug("Purged {} expired token revocations", purged);
+    }
+}
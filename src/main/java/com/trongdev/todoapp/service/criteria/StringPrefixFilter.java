@@ -0,0 +1,60 @@
+package com.trongdev.todoapp.service.criteria;
+
+import java.util.Objects;
+import tech.jhipster.service.filter.StringFilter;
+
+/**
+ * A {@link StringFilter} which can also match the values starting with a prefix.
+ * <p>
+ * Unlike {@code contains}, which is case insensitive and matches anywhere in the value, {@code startsWith} is a plain
+ * {@code LIKE 'prefix%'}, so it can be answered by an index range scan. Its case sensitivity is the one of the column
+ * collation.
+ */
+public class StringPrefixFilter extends StringFilter {
+
+    private static final long serialVersionUID = 1L;
+
+    private String startsWith;
+
+    public StringPrefixFilter() {}
+
+    public StringPrefixFilter(StringPrefixFilter filter) {
+        super(filter);
+        this.startsWith = filter.startsWith;
+    }
+
+    @Override
+    public StringPrefixFilter copy() {
+        return new StringPrefixFilter(this);
+    }
+
+    public String getStartsWith() {
+        return startsWith;
+    }
+
+    public StringPrefixFilter setStartsWith(String startsWith) {
+        this.startsWith = startsWith;
+        return this;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass() || !super.equals(o)) {
+            return false;
+        }
+        return Objects.equals(startsWith, ((StringPrefixFilter) o).startsWith);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(super.hashCode(), startsWith);
+    }
+
+    @Override
+    public String toString() {
+        return super.toString() + (startsWith == null ? "" : "[startsWith=" + startsWith + "]");
+    }
+}
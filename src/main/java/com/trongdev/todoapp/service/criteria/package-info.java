@@ -0,0 +1,4 @@
+/**
+ * Criteria classes, receiving the filtering options of the list endpoints.
+ */
+package com.trongdev.todoapp.service.criteria;
@@ -0,0 +1,68 @@
+package com.trongdev.todoapp.service.dto;
+
+import java.io.Serializable;
+import java.util.Objects;
+
+/**
+ * A DTO representing an author, with only the attributes shown next to a book.
+ */
+public class AuthorSummaryDTO implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private Long id;
+
+    private String name;
+
+    public AuthorSummaryDTO() {
+        // Empty constructor needed for Jackson.
+    }
+
+    public AuthorSummaryDTO(Long id, String name) {
+        this.id = id;
+        this.name = name;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+
+        AuthorSummaryDTO authorSummaryDTO = (AuthorSummaryDTO) o;
+        return Objects.equals(getId(), authorSummaryDTO.getId()) && Objects.equals(getName(), authorSummaryDTO.getName());
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(getId(), getName());
+    }
+
+    // prettier-ignore
+    @Override
+    public String toString() {
+        return "AuthorSummaryDTO{" +
+            "id=" + id +
+            ", name='" + name + '\'' +
+            "}";
+    }
+}
@@ -0,0 +1,130 @@
+package com.trongdev.todoapp.service.dto;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Objects;
+
+/**
+ * A DTO representing a book in a list, with the id and name of its author.
+ * <p>
+ * It is built by a JPQL constructor expression, so the books of a list are never loaded as entities.
+ */
+public class BookSummaryDTO implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private Long id;
+
+    private String title;
+
+    private String description;
+
+    private LocalDate publicationDate;
+
+    private BigDecimal price;
+
+    private AuthorSummaryDTO author;
+
+    public BookSummaryDTO() {
+        // Empty constructor needed for Jackson.
+    }
+
+    public BookSummaryDTO(
+        Long id,
+        String title,
+        String description,
+        LocalDate publicationDate,
+        BigDecimal price,
+        Long authorId,
+        String authorName
+    ) {
+        this.id = id;
+        this.title = title;
+        this.description = description;
+        this.publicationDate = publicationDate;
+        this.price = price;
+        this.author = authorId != null ? new AuthorSummaryDTO(authorId, authorName) : null;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public void setTitle(String title) {
+        this.title = title;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public void setDescription(String description) {
+        this.description = description;
+    }
+
+    public LocalDate getPublicationDate() {
+        return publicationDate;
+    }
+
+    public void setPublicationDate(LocalDate publicationDate) {
+        this.publicationDate = publicationDate;
+    }
+
+    public BigDecimal getPrice() {
+        return price;
+    }
+
+    public void setPrice(BigDecimal price) {
+        this.price = price;
+    }
+
+    public AuthorSummaryDTO getAuthor() {
+        return author;
+    }
+
+    public void setAuthor(AuthorSummaryDTO author) {
+        this.author = author;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+
+        BookSummaryDTO bookSummaryDTO = (BookSummaryDTO) o;
+        if (bookSummaryDTO.getId() == null || getId() == null) {
+            return false;
+        }
+        return Objects.equals(getId(), bookSummaryDTO.getId());
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(getId());
+    }
+
+    // prettier-ignore
+    @Override
+    public String toString() {
+        return "BookSummaryDTO{" +
+            "id=" + id +
+            ", title='" + title + '\'' +
+            ", publicationDate='" + publicationDate + '\'' +
+            ", price=" + price +
+            ", author=" + author +
+            "}";
+    }
+}
@@ -0,0 +1,115 @@
+package com.trongdev.todoapp.service.dto;
+
+import java.io.Serializable;
+import java.util.Objects;
+
+/**
+ * A DTO representing a committed change of a book or an author, as sent by the change feed.
+ * <p>
+ * It only carries the identity and version of the changed entity, clients fetch the entity itself if they need it.
+ */
+public class CatalogueChangeDTO implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * The kind of change.
+     */
+    public enum ChangeType {
+        CREATED,
+        UPDATED,
+        DELETED,
+    }
+
+    private long id;
+
+    private String entity;
+
+    private Long entityId;
+
+    private ChangeType type;
+
+    private Long version;
+
+    public CatalogueChangeDTO() {
+        // Empty constructor needed for Jackson.
+    }
+
+    public CatalogueChangeDTO(long id, String entity, Long entityId, ChangeType type, Long version) {
+        this.id = id;
+        this.entity = entity;
+        this.entityId = entityId;
+        this.type = type;
+        this.version = version;
+    }
+
+    public long getId() {
+        return id;
+    }
+
+    public void setId(long id) {
+        this.id = id;
+    }
+
+    public String getEntity() {
+        return entity;
+    }
+
+    public void setEntity(String entity) {
+        this.entity = entity;
+    }
+
+    public Long getEntityId() {
+        return entityId;
+    }
+
+    public void setEntityId(Long entityId) {
+        this.entityId = entityId;
+    }
+
+    public ChangeType getType() {
+        return type;
+    }
+
+    public void setType(ChangeType type) {
+        this.type = type;
+    }
+
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+
+        CatalogueChangeDTO catalogueChangeDTO = (CatalogueChangeDTO) o;
+        return id == catalogueChangeDTO.id;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id);
+    }
+
+    // prettier-ignore
+    @Override
+    public String toString() {
+        return "CatalogueChangeDTO{" +
+            "id=" + id +
+            ", entity='" + entity + '\'' +
+            ", entityId=" + entityId +
+            ", type=" + type +
+            ", version=" + version +
+            "}";
+    }
+}
@@ -2,20 +2,27 @@ package com.trongdev.todoapp.web.rest;
 
 import com.trongdev.todoapp.domain.User;
 import com.trongdev.todoapp.repository.UserRepository;
+import com.trongdev.todoapp.security.AuthenticationThrottle;
+import com.trongdev.todoapp.security.AuthenticationThrottle.Endpoint;
+import com.trongdev.todoapp.security.AuthenticationThrottledException;
 import com.trongdev.todoapp.security.SecurityUtils;
 import com.trongdev.todoapp.service.MailService;
+import com.trongdev.todoapp.service.TokenRevocationService;
 import com.trongdev.todoapp.service.UserService;
 import com.trongdev.todoapp.service.dto.AdminUserDTO;
 import com.trongdev.todoapp.service.dto.PasswordChangeDTO;
 import com.trongdev.todoapp.web.rest.errors.*;
 import com.trongdev.todoapp.web.rest.vm.KeyAndPasswordVM;
 import com.trongdev.todoapp.web.rest.vm.ManagedUserVM;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import java.util.*;
 import org.apache.commons.lang3.StringUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.http.HttpStatus;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.security.oauth2.jwt.Jwt;
 import org.springframework.web.bind.annotation.*;
 
 /**
@@ -40,23 +47,38 @@ public class AccountResource {
 
     private final MailService mailService;
 
-    public AccountResource(UserRepository userRepository, UserService userService, MailService mailService) {
+    private final AuthenticationThrottle authenticationThrottle;
+
+    private final TokenRevocationService tokenRevocationService;
+
+    public AccountResource(
+        UserRepository userRepository,
+        UserService userService,
+        MailService mailService,
+        AuthenticationThrottle authenticationThrottle,
+        TokenRevocationService tokenRevocationService
+    ) {
         this.userRepository = userRepository;
         this.userService = userService;
         this.mailService = mailService;
+        this.authenticationThrottle = authenticationThrottle;
+        this.tokenRevocationService = tokenRevocationService;
     }
 
     /**
      * {@code POST  /register} : register the user.
      *
      * @param managedUserVM the managed user View Model.
+     * @param request the request.
      * @throws InvalidPasswordException {@code 400 (Bad Request)} if the password is incorrect.
      * @throws EmailAlreadyUsedException {@code 400 (Bad Request)} if the email is already used.
      * @throws LoginAlreadyUsedException {@code 400 (Bad Request)} if the login is already used.
+     * @throws AuthenticationThrottledException {@code 429 (Too Many Requests)} if the client or the login made too many attempts.
      */
     @PostMapping("/register")
     @ResponseStatus(HttpStatus.CREATED)
-    public void registerAccount(@Valid @RequestBody ManagedUserVM managedUserVM) {
+    public void registerAccount(@Valid @RequestBody ManagedUserVM managedUserVM, HttpServletRequest request) {
+        authenticationThrottle.checkAttempt(Endpoint.REGISTER, request, managedUserVM.getLogin());
         if (isPasswordLengthInvalid(managedUserVM.getPassword())) {
             throw new InvalidPasswordException();
         }
@@ -134,13 +156,30 @@ public class AccountResource {
         userService.changePassword(passwordChangeDto.getCurrentPassword(), passwordChangeDto.getNewPassword());
     }
 
+    /**
+     * {@code POST  /logout} : revoke the token of the current user.
+     *
+     * @param jwt the token of the current user.
+     */
+    @PostMapping("/logout")
+    @ResponseStatus(HttpStatus.NO_CONTENT)
+    public void logout(@AuthenticationPrincipal Jwt jwt) {
+        if (jwt == null) {
+            throw new AccountResourceException("No token was found for the current user");
+        }
+        tokenRevocationService.revoke(jwt);
+    }
+
     /**
      * {@code POST   /account/reset-password/init} : Send an email to reset the password of the user.
      *
      * @param mail the mail of the user.
+     * @param request the request.
+     * @throws AuthenticationThrottledException {@code 429 (Too Many Requests)} if the client or the mail made too many attempts.
      */
     @PostMapping(path = "/account/reset-password/init")
-    public void requestPasswordReset(@RequestBody String mail) {
+    public void requestPasswordReset(@RequestBody String mail, HttpServletRequest request) {
+        authenticationThrottle.checkAttempt(Endpoint.RESET_PASSWORD, request, mail);
         Optional<User> user = userService.requestPasswordReset(mail);
         if (user.isPresent()) {
             mailService.sendPasswordResetMail(user.orElseThrow());
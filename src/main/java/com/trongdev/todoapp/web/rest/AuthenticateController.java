@@ -1,14 +1,19 @@
 package com.trongdev.todoapp.web.rest;
 
 import static com.trongdev.todoapp.security.SecurityUtils.AUTHORITIES_KEY;
+import static com.trongdev.todoapp.security.SecurityUtils.ISSUED_AT_MILLIS_KEY;
 import static com.trongdev.todoapp.security.SecurityUtils.JWT_ALGORITHM;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.trongdev.todoapp.security.AuthenticationThrottle;
+import com.trongdev.todoapp.security.AuthenticationThrottle.Endpoint;
 import com.trongdev.todoapp.web.rest.vm.LoginVM;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import java.security.Principal;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
+import java.util.UUID;
 import java.util.stream.Collectors;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -47,19 +52,36 @@ public class AuthenticateController {
 
     private final AuthenticationManagerBuilder authenticationManagerBuilder;
 
-    public AuthenticateController(JwtEncoder jwtEncoder, AuthenticationManagerBuilder authenticationManagerBuilder) {
+    private final AuthenticationThrottle authenticationThrottle;
+
+    public AuthenticateController(
+        JwtEncoder jwtEncoder,
+        AuthenticationManagerBuilder authenticationManagerBuilder,
+        AuthenticationThrottle authenticationThrottle
+    ) {
         this.jwtEncoder = jwtEncoder;
         this.authenticationManagerBuilder = authenticationManagerBuilder;
+        this.authenticationThrottle = authenticationThrottle;
     }
 
+    /**
+     * {@code POST  /authenticate} : authenticate a user, and return a JWT.
+     *
+     * @param loginVM the login and password of the user.
+     * @param request the request.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the JWT in body, or with status {@code 401 (Unauthorized)},
+     * or with status {@code 429 (Too Many Requests)} if the client or the login made too many attempts.
+     */
     @PostMapping("/authenticate")
-    public ResponseEntity<JWTToken> authorize(@Valid @RequestBody LoginVM loginVM) {
+    public ResponseEntity<JWTToken> authorize(@Valid @RequestBody LoginVM loginVM, HttpServletRequest request) {
+        authenticationThrottle.checkAttempt(Endpoint.AUTHENTICATE, request, loginVM.getUsername());
         UsernamePasswordAuthenticationToken authenticationToken = new UsernamePasswordAuthenticationToken(
             loginVM.getUsername(),
             loginVM.getPassword()
         );
 
         Authentication authentication = authenticationManagerBuilder.getObject().authenticate(authenticationToken);
+        authenticationThrottle.reset(Endpoint.AUTHENTICATE, loginVM.getUsername());
         SecurityContextHolder.getContext().setAuthentication(authentication);
         String jwt = this.createToken(authentication, loginVM.isRememberMe());
         HttpHeaders httpHeaders = new HttpHeaders();
@@ -92,10 +114,12 @@ public class AuthenticateController {
 
         // @formatter:off
         JwtClaimsSet claims = JwtClaimsSet.builder()
+            .id(UUID.randomUUID().toString())
             .issuedAt(now)
             .expiresAt(validity)
             .subject(authentication.getName())
             .claim(AUTHORITIES_KEY, authorities)
+            .claim(ISSUED_AT_MILLIS_KEY, now.toEpochMilli())
             .build();
 
         JwsHeader jwsHeader = JwsHeader.with(JWT_ALGORITHM).build();
@@ -1,22 +1,54 @@
 package com.trongdev.todoapp.web.rest;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.trongdev.todoapp.domain.Author;
+import com.trongdev.todoapp.domain.AuthorStats;
 import com.trongdev.todoapp.repository.AuthorRepository;
+import com.trongdev.todoapp.repository.AuthorStatsRepository;
+import com.trongdev.todoapp.repository.KeysetSpecification;
+import com.trongdev.todoapp.service.BookDeletionService;
+import com.trongdev.todoapp.service.BookDeletionService.DeletionResult;
+import com.trongdev.todoapp.service.BookQueryService;
+import com.trongdev.todoapp.service.SparseFieldsQueryService;
+import com.trongdev.todoapp.service.criteria.BookCriteria;
+import com.trongdev.todoapp.service.dto.BookSummaryDTO;
 import com.trongdev.todoapp.web.rest.errors.BadRequestAlertException;
+import com.trongdev.todoapp.web.rest.util.ETagUtil;
+import com.trongdev.todoapp.web.rest.util.KeysetPaginationUtil;
+import com.trongdev.todoapp.web.rest.util.KeysetPaginationUtil.KeysetProperty;
+import com.trongdev.todoapp.web.rest.util.MergePatchUtil;
+import com.trongdev.todoapp.web.rest.util.SlicePaginationUtil;
+import com.trongdev.todoapp.web.rest.util.SparseFieldsUtil;
 import java.net.URI;
 import java.net.URISyntaxException;
+import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.server.ResponseStatusException;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 import tech.jhipster.web.util.HeaderUtil;
 import tech.jhipster.web.util.PaginationUtil;
@@ -34,13 +66,51 @@ public class AuthorResource {
 
     private static final String ENTITY_NAME = "author";
 
+    static final int MAX_BATCH_SIZE = 1000;
+
+    private static final Map<String, KeysetProperty<Author>> KEYSET_PROPERTIES = Map.of(
+        "id",
+        new KeysetProperty<>(Author::getId, Long::valueOf),
+        "name",
+        new KeysetProperty<>(Author::getName, value -> value),
+        "birthDate",
+        new KeysetProperty<>(Author::getBirthDate, LocalDate::parse)
+    );
+
+    /**
+     * The properties of {@link AuthorStats} the authors can be sorted by.
+     */
+    private static final Set<String> STATS_SORT_PROPERTIES = Set.of("bookCount", "averagePrice", "latestPublicationDate");
+
     @Value("${jhipster.clientApp.name}")
     private String applicationName;
 
     private final AuthorRepository authorRepository;
 
-    public AuthorResource(AuthorRepository authorRepository) {
+    private final BookQueryService bookQueryService;
+
+    private final BookDeletionService bookDeletionService;
+
+    private final SparseFieldsQueryService sparseFieldsQueryService;
+
+    private final AuthorStatsRepository authorStatsRepository;
+
+    private final ObjectMapper objectMapper;
+
+    public AuthorResource(
+        AuthorRepository authorRepository,
+        BookQueryService bookQueryService,
+        BookDeletionService bookDeletionService,
+        SparseFieldsQueryService sparseFieldsQueryService,
+        AuthorStatsRepository authorStatsRepository,
+        ObjectMapper objectMapper
+    ) {
         this.authorRepository = authorRepository;
+        this.bookQueryService = bookQueryService;
+        this.bookDeletionService = bookDeletionService;
+        this.sparseFieldsQueryService = sparseFieldsQueryService;
+        this.authorStatsRepository = authorStatsRepository;
+        this.objectMapper = objectMapper;
     }
 
     /**
@@ -62,6 +132,37 @@ public class AuthorResource {
             .body(author);
     }
 
+    /**
+     * {@code POST  /authors/batch} : Create new authors in bulk.
+     * <p>
+     * The authors are inserted in a single transaction, as JDBC batches of {@code hibernate.jdbc.batch_size} rows. A request holds
+     * at most {@value #MAX_BATCH_SIZE} authors, so that the transaction and the persistence context stay bounded.
+     *
+     * @param authors the authors to create.
+     * @return the {@link ResponseEntity} with status {@code 201 (Created)} and with body the new authors, or with status {@code 400 (Bad Request)} if one of the authors has already an ID
+     * or if there are more than {@value #MAX_BATCH_SIZE} authors.
+     */
+    @PostMapping("/batch")
+    public ResponseEntity<List<Author>> createAuthors(@RequestBody List<Author> authors) {
+        LOG.debug("REST request to save {} Authors", authors.size());
+        if (authors.size() > MAX_BATCH_SIZE) {
+            throw new BadRequestAlertException(
+                "A batch cannot hold more than " + MAX_BATCH_SIZE + " authors",
+                ENTITY_NAME,
+                "batchtoolarge"
+            );
+        }
+        if (authors.stream().anyMatch(author -> author.getId() != null)) {
+            throw new BadRequestAlertException("A new author cannot already have an ID", ENTITY_NAME, "idexists");
+        }
+        List<Author> result = authorRepository.saveAll(authors);
+        return ResponseEntity.status(HttpStatus.CREATED)
+            .headers(
+                HeaderUtil.createAlert(applicationName, applicationName + "." + ENTITY_NAME + ".batchCreated", String.valueOf(result.size()))
+            )
+            .body(result);
+    }
+
     /**
      * {@code PUT  /authors/:id} : Updates an existing author.
      *
@@ -69,6 +170,7 @@ public class AuthorResource {
      * @param author the author to update.
      * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the updated author,
      * or with status {@code 400 (Bad Request)} if the author is not valid,
+     * or with status {@code 409 (Conflict)} if the author was updated since its version was read,
      * or with status {@code 500 (Internal Server Error)} if the author couldn't be updated.
      * @throws URISyntaxException if the Location URI syntax is incorrect.
      */
@@ -83,11 +185,15 @@ public class AuthorResource {
             throw new BadRequestAlertException("Invalid ID", ENTITY_NAME, "idinvalid");
         }
 
-        if (!authorRepository.existsById(id)) {
-            throw new BadRequestAlertException("Entity not found", ENTITY_NAME, "idnotfound");
+        // A single versioned UPDATE, without reading the author: only a failed update reads it, to tell a missing author from a stale one
+        try {
+            author = authorRepository.updateDetached(author);
+        } catch (ObjectOptimisticLockingFailureException e) {
+            if (!authorRepository.existsById(id)) {
+                throw new BadRequestAlertException("Entity not found", ENTITY_NAME, "idnotfound");
+            }
+            throw e;
         }
-
-        author = authorRepository.save(author);
         return ResponseEntity.ok()
             .headers(HeaderUtil.createEntityUpdateAlert(applicationName, true, ENTITY_NAME, author.getId().toString()))
             .body(author);
@@ -95,20 +201,24 @@ public class AuthorResource {
 
     /**
      * {@code PATCH  /authors/:id} : Partial updates given fields of an existing author, field will ignore if it is null
+     * <p>
+     * The author is only rejected as stale when the patch holds its {@code version}: without it, the fields are applied to the
+     * current author.
      *
      * @param id the id of the author to save.
-     * @param author the author to update.
+     * @param patch the fields of the author to update.
      * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the updated author,
      * or with status {@code 400 (Bad Request)} if the author is not valid,
-     * or with status {@code 404 (Not Found)} if the author is not found,
+     * or with status {@code 409 (Conflict)} if the author was updated since its version was read,
      * or with status {@code 500 (Internal Server Error)} if the author couldn't be updated.
      * @throws URISyntaxException if the Location URI syntax is incorrect.
      */
     @PatchMapping(value = "/{id}", consumes = { "application/json", "application/merge-patch+json" })
     public ResponseEntity<Author> partialUpdateAuthor(
         @PathVariable(value = "id", required = false) final Long id,
-        @RequestBody Author author
+        @RequestBody ObjectNode patch
     ) throws URISyntaxException {
+        Author author = MergePatchUtil.read(objectMapper, patch, Author.class, ENTITY_NAME);
         LOG.debug("REST request to partial update Author partially : {}, {}", id, author);
         if (author.getId() == null) {
             throw new BadRequestAlertException("Invalid id", ENTITY_NAME, "idnull");
@@ -117,55 +227,314 @@ public class AuthorResource {
             throw new BadRequestAlertException("Invalid ID", ENTITY_NAME, "idinvalid");
         }
 
-        if (!authorRepository.existsById(id)) {
-            throw new BadRequestAlertException("Entity not found", ENTITY_NAME, "idnotfound");
+        Author existingAuthor = authorRepository
+            .findById(id)
+            .orElseThrow(() -> new BadRequestAlertException("Entity not found", ENTITY_NAME, "idnotfound"));
+        // An absent version is left unchecked, like the other absent fields are left unchanged
+        Optional<Long> version = MergePatchUtil.version(patch, ENTITY_NAME);
+        if (version.isPresent() && version.orElseThrow() != existingAuthor.getVersion()) {
+            throw new ObjectOptimisticLockingFailureException(Author.class, id);
         }
 
-        Optional<Author> result = authorRepository
-            .findById(author.getId())
-            .map(existingAuthor -> {
-                if (author.getName() != null) {
-                    existingAuthor.setName(author.getName());
-                }
-                if (author.getBirthDate() != null) {
-                    existingAuthor.setBirthDate(author.getBirthDate());
-                }
-
-                return existingAuthor;
-            })
-            .map(authorRepository::save);
+        if (author.getName() != null) {
+            existingAuthor.setName(author.getName());
+        }
+        if (author.getBirthDate() != null) {
+            existingAuthor.setBirthDate(author.getBirthDate());
+        }
 
-        return ResponseUtil.wrapOrNotFound(
-            result,
-            HeaderUtil.createEntityUpdateAlert(applicationName, true, ENTITY_NAME, author.getId().toString())
-        );
+        // Flushed with the transaction, as a single versioned UPDATE
+        return ResponseEntity.ok()
+            .headers(HeaderUtil.createEntityUpdateAlert(applicationName, true, ENTITY_NAME, existingAuthor.getId().toString()))
+            .body(existingAuthor);
     }
 
     /**
      * {@code GET  /authors} : get all the authors.
+     * <p>
+     * The authors can also be sorted by the statistics of their books, such as the top authors by catalogue size with
+     * {@code ?sort=bookCount,desc}.
      *
-     * @param pageable the pagination information.
-     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the list of authors in body.
+     * @param pageable the pagination information, also sortable by {@code bookCount}, {@code averagePrice} or
+     * {@code latestPublicationDate}.
+     * @param slice flag to skip counting the authors: only whether there is a next page is returned, in the {@code X-Has-Next} header.
+     * @param request the request, to answer {@code If-None-Match} from the authors of the page only.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the list of authors in body,
+     * or with status {@code 304 (Not Modified)} if none of the authors of the page changed since the {@code ETag} was sent.
      */
     @GetMapping("")
-    public ResponseEntity<List<Author>> getAllAuthors(@org.springdoc.core.annotations.ParameterObject Pageable pageable) {
+    @Transactional(readOnly = true)
+    public ResponseEntity<List<Author>> getAllAuthors(
+        @org.springdoc.core.annotations.ParameterObject Pageable pageable,
+        @RequestParam(name = "slice", required = false, defaultValue = "false") boolean slice,
+        WebRequest request
+    ) {
         LOG.debug("REST request to get a page of Authors");
-        Page<Author> page = authorRepository.findAll(pageable);
+        // The page is read without counting the authors, which are only counted if it changed and is not a slice
+        Slice<Author> authors = isSortedByStats(pageable)
+            ? authorRepository.findSliceWithStatsBy(withStatsSort(pageable))
+            : authorRepository.findSliceBy(pageable);
+        String eTag = ETagUtil.listETag(authors, author -> ETagUtil.entityETag(author.getId(), author.getVersion()), List.of());
+        if (request.checkNotModified(eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+        }
+        if (slice) {
+            HttpHeaders headers = SlicePaginationUtil.generateSliceHttpHeaders(ServletUriComponentsBuilder.fromCurrentRequest(), authors);
+            return ResponseEntity.ok().headers(headers).eTag(eTag).body(authors.getContent());
+        }
+        Page<Author> page = PageableExecutionUtils.getPage(authors.getContent(), pageable, authorRepository::count);
+        HttpHeaders headers = PaginationUtil.generatePaginationHttpHeaders(ServletUriComponentsBuilder.fromCurrentRequest(), page);
+        return ResponseEntity.ok().headers(headers).eTag(eTag).body(page.getContent());
+    }
+
+    private static boolean isSortedByStats(Pageable pageable) {
+        return pageable.getSort().stream().anyMatch(order -> STATS_SORT_PROPERTIES.contains(order.getProperty()));
+    }
+
+    /**
+     * Sort from the statistics: the properties of the authors are the ones of the author of the statistics.
+     */
+    private static Pageable withStatsSort(Pageable pageable) {
+        Sort sort = Sort.by(
+            pageable
+                .getSort()
+                .stream()
+                .map(order ->
+                    STATS_SORT_PROPERTIES.contains(order.getProperty()) ? order : order.withProperty("author." + order.getProperty())
+                )
+                .toList()
+        );
+        return PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(), sort);
+    }
+
+    /**
+     * {@code GET  /authors?fields=:fields} : get only the requested fields of all the authors.
+     * <p>
+     * Only the columns of the requested fields are selected, and only these fields are sent.
+     *
+     * @param fields the comma separated fields to send, among {@code id, version, name, birthDate}.
+     * @param pageable the pagination information, not sortable by the statistics of the books.
+     * @param slice flag to skip counting the authors: only whether there is a next page is returned, in the {@code X-Has-Next} header.
+     * @param request the request, to answer {@code If-None-Match} from the authors of the page only.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the list of authors in body, or with status {@code 400 (Bad Request)}
+     * if a field is unknown or the authors are sorted by the statistics of their books, or with status {@code 304 (Not Modified)} if none of the authors of the page changed since the {@code ETag} was sent.
+     */
+    @GetMapping(value = "", params = { SparseFieldsUtil.FIELDS_PARAMETER, "!" + KeysetPaginationUtil.AFTER_PARAMETER, "!include" })
+    @Transactional(readOnly = true)
+    public ResponseEntity<List<Map<String, Object>>> getAllAuthorFields(
+        @RequestParam(SparseFieldsUtil.FIELDS_PARAMETER) String fields,
+        @org.springdoc.core.annotations.ParameterObject Pageable pageable,
+        @RequestParam(name = "slice", required = false, defaultValue = "false") boolean slice,
+        WebRequest request
+    ) {
+        LOG.debug("REST request to get fields {} of a page of Authors", fields);
+        if (isSortedByStats(pageable)) {
+            throw new BadRequestAlertException("Sorting by the statistics is not supported with fields", ENTITY_NAME, "sortinvalid");
+        }
+        List<String> requestedFields = SparseFieldsUtil.parseFields(SparseFieldsQueryService.AUTHOR_FIELDS, fields, ENTITY_NAME);
+        Slice<Map<String, Object>> authors = sparseFieldsQueryService.findSlice(
+            SparseFieldsQueryService.AUTHOR_FIELDS,
+            requestedFields,
+            null,
+            pageable
+        );
+        String eTag = ETagUtil.listETag(authors, Function.identity(), requestedFields);
+        if (request.checkNotModified(eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+        }
+        if (slice) {
+            HttpHeaders headers = SlicePaginationUtil.generateSliceHttpHeaders(ServletUriComponentsBuilder.fromCurrentRequest(), authors);
+            return ResponseEntity.ok().headers(headers).eTag(eTag).body(authors.getContent());
+        }
+        Page<Map<String, Object>> page = PageableExecutionUtils.getPage(authors.getContent(), pageable, authorRepository::count);
+        HttpHeaders headers = PaginationUtil.generatePaginationHttpHeaders(ServletUriComponentsBuilder.fromCurrentRequest(), page);
+        return ResponseEntity.ok().headers(headers).eTag(eTag).body(page.getContent());
+    }
+
+    /**
+     * {@code GET  /authors?include=books} : get all the authors, with their books.
+     * <p>
+     * The page of author ids is selected first, then the authors and all their books are fetched in a single joined select,
+     * so a page costs two statements whatever the number of authors and books, plus the count of the authors in page mode.
+     *
+     * @param pageable the pagination information, also sortable by {@code bookCount}, {@code averagePrice} or
+     * {@code latestPublicationDate}.
+     * @param slice flag to skip counting the authors: only whether there is a next page is returned, in the {@code X-Has-Next} header.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the list of authors, with their books, in body.
+     */
+    @GetMapping(value = "", params = { "include=books", "!" + KeysetPaginationUtil.AFTER_PARAMETER })
+    @Transactional(readOnly = true)
+    public ResponseEntity<List<Author>> getAllAuthorsWithBooks(
+        @org.springdoc.core.annotations.ParameterObject Pageable pageable,
+        @RequestParam(name = "slice", required = false, defaultValue = "false") boolean slice
+    ) {
+        LOG.debug("REST request to get a page of Authors with their Books");
+        boolean sortedByStats = isSortedByStats(pageable);
+        if (slice) {
+            Slice<Long> ids = sortedByStats
+                ? authorRepository.findSliceOfIdsWithStats(withStatsSort(pageable))
+                : authorRepository.findSliceOfIds(pageable);
+            Slice<Author> page = new SliceImpl<>(findAllWithBooks(ids.getContent()), pageable, ids.hasNext());
+            HttpHeaders headers = SlicePaginationUtil.generateSliceHttpHeaders(ServletUriComponentsBuilder.fromCurrentRequest(), page);
+            return ResponseEntity.ok().headers(headers).body(page.getContent());
+        }
+        Page<Long> ids = sortedByStats
+            ? authorRepository.findAllIdsWithStats(withStatsSort(pageable))
+            : authorRepository.findAllIds(pageable);
+        Page<Author> page = new PageImpl<>(findAllWithBooks(ids.getContent()), pageable, ids.getTotalElements());
         HttpHeaders headers = PaginationUtil.generatePaginationHttpHeaders(ServletUriComponentsBuilder.fromCurrentRequest(), page);
         return ResponseEntity.ok().headers(headers).body(page.getContent());
     }
 
+    private List<Author> findAllWithBooks(List<Long> ids) {
+        Map<Long, Author> authors = authorRepository
+            .findAllWithBooksByIdIn(ids)
+            .stream()
+            .collect(Collectors.toMap(Author::getId, Function.identity()));
+        return ids.stream().map(authors::get).filter(Objects::nonNull).toList();
+    }
+
+    /**
+     * {@code GET  /authors?after=:cursor} : get a keyset page of the authors.
+     * <p>
+     * Seeks on {@code (sort key, id)} instead of reading past an offset and never counts the authors, so every page costs the same
+     * whatever its depth. Pass an empty {@code after} for the first page, then follow the {@code next} link. The books are not
+     * included in keyset pages.
+     *
+     * @param after the cursor of the last author already read, empty for the first page.
+     * @param fields not supported with a cursor.
+     * @param pageable the page size, and for the first page the sort on a single property.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the list of authors in body,
+     * or with status {@code 400 (Bad Request)} if the cursor or the sort is not valid, or if fields are requested.
+     */
+    @GetMapping(value = "", params = KeysetPaginationUtil.AFTER_PARAMETER)
+    @Transactional(readOnly = true)
+    public ResponseEntity<List<Author>> getAllAuthorsAfter(
+        @RequestParam(KeysetPaginationUtil.AFTER_PARAMETER) String after,
+        @RequestParam(name = SparseFieldsUtil.FIELDS_PARAMETER, required = false) String fields,
+        @org.springdoc.core.annotations.ParameterObject Pageable pageable
+    ) {
+        LOG.debug("REST request to get a keyset page of Authors");
+        if (fields != null) {
+            throw new BadRequestAlertException("Sparse fieldsets are not supported with a cursor", ENTITY_NAME, "fieldsinvalid");
+        }
+        KeysetSpecification<Author> keyset = KeysetPaginationUtil.fromCursor(after, pageable.getSort(), KEYSET_PROPERTIES, ENTITY_NAME);
+        int size = pageable.getPageSize();
+        List<Author> authors = authorRepository.findBy(keyset, query -> query.sortBy(keyset.toSort()).limit(size + 1).all());
+        HttpHeaders headers = KeysetPaginationUtil.generateKeysetPaginationHttpHeaders(
+            ServletUriComponentsBuilder.fromCurrentRequest(),
+            keyset,
+            authors,
+            size,
+            KEYSET_PROPERTIES
+        );
+        return ResponseEntity.ok().headers(headers).body(KeysetPaginationUtil.pageContent(authors, size));
+    }
+
     /**
      * {@code GET  /authors/:id} : get the "id" author.
      *
      * @param id the id of the author to retrieve.
-     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the author, or with status {@code 404 (Not Found)}.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the author, or with status {@code 404 (Not Found)},
+     * or with status {@code 304 (Not Modified)} if the author version is the one of the {@code If-None-Match} header.
      */
     @GetMapping("/{id}")
+    @Transactional(readOnly = true)
     public ResponseEntity<Author> getAuthor(@PathVariable("id") Long id) {
         LOG.debug("REST request to get Author : {}", id);
-        Optional<Author> author = authorRepository.findById(id);
-        return ResponseUtil.wrapOrNotFound(author);
+        return authorRepository
+            .findById(id)
+            .map(author -> ResponseEntity.ok().eTag(ETagUtil.entityETag(author.getId(), author.getVersion())).body(author))
+            .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND));
+    }
+
+    /**
+     * {@code GET  /authors/:id?fields=:fields} : get only the requested fields of the "id" author.
+     *
+     * @param id the id of the author to retrieve.
+     * @param fields the comma separated fields to send, among {@code id, version, name, birthDate}.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the requested fields of the author, or with status
+     * {@code 400 (Bad Request)} if a field is unknown, or with status {@code 404 (Not Found)}.
+     */
+    @GetMapping(value = "/{id}", params = SparseFieldsUtil.FIELDS_PARAMETER)
+    @Transactional(readOnly = true)
+    public ResponseEntity<Map<String, Object>> getAuthorFields(
+        @PathVariable("id") Long id,
+        @RequestParam(SparseFieldsUtil.FIELDS_PARAMETER) String fields
+    ) {
+        LOG.debug("REST request to get fields {} of Author : {}", fields, id);
+        List<String> requestedFields = SparseFieldsUtil.parseFields(SparseFieldsQueryService.AUTHOR_FIELDS, fields, ENTITY_NAME);
+        return sparseFieldsQueryService
+            .findById(SparseFieldsQueryService.AUTHOR_FIELDS, SparseFieldsUtil.withVersion(requestedFields), id)
+            .map(author -> SparseFieldsUtil.entityResponse(id, author, requestedFields))
+            .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND));
+    }
+
+    /**
+     * {@code GET  /authors/:id/books} : get the books of the "id" author.
+     *
+     * @param id the id of the author.
+     * @param pageable the pagination information.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the list of books in body, or with status {@code 404 (Not Found)}.
+     */
+    @GetMapping("/{id}/books")
+    @Transactional(readOnly = true)
+    public ResponseEntity<List<BookSummaryDTO>> getAuthorBooks(
+        @PathVariable("id") Long id,
+        @org.springdoc.core.annotations.ParameterObject Pageable pageable
+    ) {
+        LOG.debug("REST request to get a page of Books of Author : {}", id);
+        // Served by the second-level cache once the author has been read
+        if (authorRepository.findById(id).isEmpty()) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND);
+        }
+        BookCriteria criteria = new BookCriteria();
+        criteria.authorId().setEquals(id);
+        Page<BookSummaryDTO> page = bookQueryService.findSummariesByCriteria(criteria, pageable);
+        HttpHeaders headers = PaginationUtil.generatePaginationHttpHeaders(ServletUriComponentsBuilder.fromCurrentRequest(), page);
+        return ResponseEntity.ok().headers(headers).body(page.getContent());
+    }
+
+    /**
+     * {@code GET  /authors/:id/stats} : get the statistics of the books of the "id" author.
+     * <p>
+     * The statistics are refreshed asynchronously, shortly after the books of the author are changed, or the author is created.
+     *
+     * @param id the id of the author.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the statistics of the author, zero until they
+     * are first computed, or with status {@code 404 (Not Found)}.
+     */
+    @GetMapping("/{id}/stats")
+    @Transactional(readOnly = true)
+    public ResponseEntity<AuthorStats> getAuthorStats(@PathVariable("id") Long id) {
+        LOG.debug("REST request to get the AuthorStats of Author : {}", id);
+        return ResponseUtil.wrapOrNotFound(
+            authorStatsRepository.findOneWithAuthorByAuthorId(id).or(() -> authorRepository.findById(id).map(AuthorResource::emptyStats))
+        );
+    }
+
+    private static AuthorStats emptyStats(Author author) {
+        AuthorStats stats = new AuthorStats();
+        stats.setAuthorId(author.getId());
+        stats.setAuthor(author);
+        return stats;
+    }
+
+    /**
+     * {@code GET  /authors/stats} : get the authors with the statistics of their books, such as the top authors by
+     * catalogue size with {@code ?sort=bookCount,desc}.
+     *
+     * @param pageable the pagination information, sortable by {@code bookCount}, {@code averagePrice},
+     * {@code latestPublicationDate} or {@code author.name}.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the list of author statistics in body.
+     */
+    @GetMapping("/stats")
+    @Transactional(readOnly = true)
+    public ResponseEntity<List<AuthorStats>> getAllAuthorStats(@org.springdoc.core.annotations.ParameterObject Pageable pageable) {
+        LOG.debug("REST request to get a page of AuthorStats");
+        Page<AuthorStats> page = authorStatsRepository.findAllWithAuthorBy(pageable);
+        HttpHeaders headers = PaginationUtil.generatePaginationHttpHeaders(ServletUriComponentsBuilder.fromCurrentRequest(), page);
+        return ResponseEntity.ok().headers(headers).body(page.getContent());
     }
 
     /**
@@ -182,4 +551,26 @@ public class AuthorResource {
             .headers(HeaderUtil.createEntityDeletionAlert(applicationName, true, ENTITY_NAME, id.toString()))
             .build();
     }
+
+    /**
+     * {@code DELETE  /authors/:id?cascade=books} : delete the "id" author and all its books.
+     * <p>
+     * The books are deleted by set-based statements, in chunks, without being loaded.
+     *
+     * @param id the id of the author to delete.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the result of the deletion of each book of the author,
+     * or with status {@code 404 (Not Found)} if the author doesn't exist.
+     */
+    @DeleteMapping(value = "/{id}", params = "cascade=books")
+    public ResponseEntity<Map<Long, DeletionResult>> deleteAuthorWithBooks(@PathVariable("id") Long id) {
+        LOG.debug("REST request to delete Author : {} with its Books", id);
+        return bookDeletionService
+            .deleteAuthorWithBooks(id)
+            .map(results ->
+                ResponseEntity.ok()
+                    .headers(HeaderUtil.createEntityDeletionAlert(applicationName, true, ENTITY_NAME, id.toString()))
+                    .body(results)
+            )
+            .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND));
+    }
 }
@@ -3,20 +3,21 @@ package com.trongdev.todoapp.web.rest;
 import com.trongdev.todoapp.domain.Authority;
 import com.trongdev.todoapp.repository.AuthorityRepository;
 import com.trongdev.todoapp.web.rest.errors.BadRequestAlertException;
+import com.trongdev.todoapp.web.rest.util.ETagUtil;
 import jakarta.validation.Valid;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.util.List;
-import java.util.Optional;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
 import tech.jhipster.web.util.HeaderUtil;
-import tech.jhipster.web.util.ResponseUtil;
 
 /**
  * REST controller for managing {@link com.trongdev.todoapp.domain.Authority}.
@@ -75,14 +76,18 @@ public class AuthorityResource {
      * {@code GET  /authorities/:id} : get the "id" authority.
      *
      * @param id the id of the authority to retrieve.
-     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the authority, or with status {@code 404 (Not Found)}.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the authority, or with status {@code 404 (Not Found)},
+     * or with status {@code 304 (Not Modified)} if the {@code If-None-Match} header holds its {@code ETag}.
      */
     @GetMapping("/{id}")
     @PreAuthorize("hasAnyAuthority('ROLE_ADMIN')")
     public ResponseEntity<Authority> getAuthority(@PathVariable("id") String id) {
         LOG.debug("REST request to get Authority : {}", id);
-        Optional<Authority> authority = authorityRepository.findById(id);
-        return ResponseUtil.wrapOrNotFound(authority);
+        // An authority is only its name and is never updated, so its first version is its only one
+        return authorityRepository
+            .findById(id)
+            .map(authority -> ResponseEntity.ok().eTag(ETagUtil.entityETag(authority.getName(), 0)).body(authority))
+            .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND));
     }
 
     /**
@@ -1,26 +1,57 @@
 package com.trongdev.todoapp.web.rest;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.trongdev.todoapp.domain.Book;
 import com.trongdev.todoapp.repository.BookRepository;
+import com.trongdev.todoapp.repository.KeysetSpecification;
+import com.trongdev.todoapp.service.BookDeletionService;
+import com.trongdev.todoapp.service.BookDeletionService.DeletionResult;
+import com.trongdev.todoapp.service.BookExportService;
+import com.trongdev.todoapp.service.BookQueryService;
+import com.trongdev.todoapp.service.BookSearchService;
+import com.trongdev.todoapp.service.SparseFieldsQueryService;
+import com.trongdev.todoapp.service.criteria.BookCriteria;
+import com.trongdev.todoapp.service.dto.BookSummaryDTO;
 import com.trongdev.todoapp.web.rest.errors.BadRequestAlertException;
+import com.trongdev.todoapp.web.rest.util.ETagUtil;
+import com.trongdev.todoapp.web.rest.util.KeysetPaginationUtil;
+import com.trongdev.todoapp.web.rest.util.KeysetPaginationUtil.KeysetProperty;
+import com.trongdev.todoapp.web.rest.util.MergePatchUtil;
+import com.trongdev.todoapp.web.rest.util.SlicePaginationUtil;
+import com.trongdev.todoapp.web.rest.util.SparseFieldsUtil;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.math.BigDecimal;
 import java.net.URI;
 import java.net.URISyntaxException;
+import java.time.LocalDate;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Function;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.http.ContentDisposition;
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.server.ResponseStatusException;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 import tech.jhipster.web.util.HeaderUtil;
 import tech.jhipster.web.util.PaginationUtil;
-import tech.jhipster.web.util.ResponseUtil;
 
 /**
  * REST controller for managing {@link com.trongdev.todoapp.domain.Book}.
@@ -34,13 +65,52 @@ public class BookResource {
 
     private static final String ENTITY_NAME = "book";
 
+    static final int MAX_BATCH_SIZE = 1000;
+
+    private static final Map<String, KeysetProperty<Book>> KEYSET_PROPERTIES = Map.of(
+        "id",
+        new KeysetProperty<>(Book::getId, Long::valueOf),
+        "title",
+        new KeysetProperty<>(Book::getTitle, value -> value),
+        "publicationDate",
+        new KeysetProperty<>(Book::getPublicationDate, LocalDate::parse),
+        "price",
+        new KeysetProperty<>(Book::getPrice, BigDecimal::new)
+    );
+
     @Value("${jhipster.clientApp.name}")
     private String applicationName;
 
     private final BookRepository bookRepository;
 
-    public BookResource(BookRepository bookRepository) {
+    private final BookExportService bookExportService;
+
+    private final BookSearchService bookSearchService;
+
+    private final BookQueryService bookQueryService;
+
+    private final BookDeletionService bookDeletionService;
+
+    private final SparseFieldsQueryService sparseFieldsQueryService;
+
+    private final ObjectMapper objectMapper;
+
+    public BookResource(
+        BookRepository bookRepository,
+        BookExportService bookExportService,
+        BookSearchService bookSearchService,
+        BookQueryService bookQueryService,
+        BookDeletionService bookDeletionService,
+        SparseFieldsQueryService sparseFieldsQueryService,
+        ObjectMapper objectMapper
+    ) {
         this.bookRepository = bookRepository;
+        this.bookExportService = bookExportService;
+        this.bookSearchService = bookSearchService;
+        this.bookQueryService = bookQueryService;
+        this.bookDeletionService = bookDeletionService;
+        this.sparseFieldsQueryService = sparseFieldsQueryService;
+        this.objectMapper = objectMapper;
     }
 
     /**
@@ -62,6 +132,33 @@ public class BookResource {
             .body(book);
     }
 
+    /**
+     * {@code POST  /books/batch} : Create new books in bulk.
+     * <p>
+     * The books are inserted in a single transaction, as JDBC batches of {@code hibernate.jdbc.batch_size} rows. A request holds
+     * at most {@value #MAX_BATCH_SIZE} books, so that the transaction and the persistence context stay bounded.
+     *
+     * @param books the books to create.
+     * @return the {@link ResponseEntity} with status {@code 201 (Created)} and with body the new books, or with status {@code 400 (Bad Request)} if one of the books has already an ID
+     * or if there are more than {@value #MAX_BATCH_SIZE} books.
+     */
+    @PostMapping("/batch")
+    public ResponseEntity<List<Book>> createBooks(@RequestBody List<Book> books) {
+        LOG.debug("REST request to save {} Books", books.size());
+        if (books.size() > MAX_BATCH_SIZE) {
+            throw new BadRequestAlertException("A batch cannot hold more than " + MAX_BATCH_SIZE + " books", ENTITY_NAME, "batchtoolarge");
+        }
+        if (books.stream().anyMatch(book -> book.getId() != null)) {
+            throw new BadRequestAlertException("A new book cannot already have an ID", ENTITY_NAME, "idexists");
+        }
+        List<Book> result = bookRepository.saveAll(books);
+        return ResponseEntity.status(HttpStatus.CREATED)
+            .headers(
+                HeaderUtil.createAlert(applicationName, applicationName + "." + ENTITY_NAME + ".batchCreated", String.valueOf(result.size()))
+            )
+            .body(result);
+    }
+
     /**
      * {@code PUT  /books/:id} : Updates an existing book.
      *
@@ -69,6 +166,7 @@ public class BookResource {
      * @param book the book to update.
      * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the updated book,
      * or with status {@code 400 (Bad Request)} if the book is not valid,
+     * or with status {@code 409 (Conflict)} if the book was updated since its version was read,
      * or with status {@code 500 (Internal Server Error)} if the book couldn't be updated.
      * @throws URISyntaxException if the Location URI syntax is incorrect.
      */
@@ -83,11 +181,15 @@ public class BookResource {
             throw new BadRequestAlertException("Invalid ID", ENTITY_NAME, "idinvalid");
         }
 
-        if (!bookRepository.existsById(id)) {
-            throw new BadRequestAlertException("Entity not found", ENTITY_NAME, "idnotfound");
+        // A single versioned UPDATE, without reading the book: only a failed update reads it, to tell a missing book from a stale one
+        try {
+            book = bookRepository.updateDetached(book);
+        } catch (ObjectOptimisticLockingFailureException e) {
+            if (!bookRepository.existsById(id)) {
+                throw new BadRequestAlertException("Entity not found", ENTITY_NAME, "idnotfound");
+            }
+            throw e;
         }
-
-        book = bookRepository.save(book);
         return ResponseEntity.ok()
             .headers(HeaderUtil.createEntityUpdateAlert(applicationName, true, ENTITY_NAME, book.getId().toString()))
             .body(book);
@@ -95,18 +197,24 @@ public class BookResource {
 
     /**
      * {@code PATCH  /books/:id} : Partial updates given fields of an existing book, field will ignore if it is null
+     * <p>
+     * The book is only rejected as stale when the patch holds its {@code version}: without it, the fields are applied to the
+     * current book.
      *
      * @param id the id of the book to save.
-     * @param book the book to update.
+     * @param patch the fields of the book to update.
      * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the updated book,
      * or with status {@code 400 (Bad Request)} if the book is not valid,
-     * or with status {@code 404 (Not Found)} if the book is not found,
+     * or with status {@code 409 (Conflict)} if the book was updated since its version was read,
      * or with status {@code 500 (Internal Server Error)} if the book couldn't be updated.
      * @throws URISyntaxException if the Location URI syntax is incorrect.
      */
     @PatchMapping(value = "/{id}", consumes = { "application/json", "application/merge-patch+json" })
-    public ResponseEntity<Book> partialUpdateBook(@PathVariable(value = "id", required = false) final Long id, @RequestBody Book book)
-        throws URISyntaxException {
+    public ResponseEntity<Book> partialUpdateBook(
+        @PathVariable(value = "id", required = false) final Long id,
+        @RequestBody ObjectNode patch
+    ) throws URISyntaxException {
+        Book book = MergePatchUtil.read(objectMapper, patch, Book.class, ENTITY_NAME);
         LOG.debug("REST request to partial update Book partially : {}, {}", id, book);
         if (book.getId() == null) {
             throw new BadRequestAlertException("Invalid id", ENTITY_NAME, "idnull");
@@ -115,61 +223,265 @@ public class BookResource {
             throw new BadRequestAlertException("Invalid ID", ENTITY_NAME, "idinvalid");
         }
 
-        if (!bookRepository.existsById(id)) {
-            throw new BadRequestAlertException("Entity not found", ENTITY_NAME, "idnotfound");
-        }
-
-        Optional<Book> result = bookRepository
-            .findById(book.getId())
-            .map(existingBook -> {
-                if (book.getTitle() != null) {
-                    existingBook.setTitle(book.getTitle());
-                }
-                if (book.getDescription() != null) {
-                    existingBook.setDescription(book.getDescription());
-                }
-                if (book.getPublicationDate() != null) {
-                    existingBook.setPublicationDate(book.getPublicationDate());
-                }
-                if (book.getPrice() != null) {
-                    existingBook.setPrice(book.getPrice());
-                }
-
-                return existingBook;
-            })
-            .map(bookRepository::save);
-
-        return ResponseUtil.wrapOrNotFound(
-            result,
-            HeaderUtil.createEntityUpdateAlert(applicationName, true, ENTITY_NAME, book.getId().toString())
-        );
+        Book existingBook = bookRepository
+            .findById(id)
+            .orElseThrow(() -> new BadRequestAlertException("Entity not found", ENTITY_NAME, "idnotfound"));
+        // An absent version is left unchecked, like the other absent fields are left unchanged
+        Optional<Long> version = MergePatchUtil.version(patch, ENTITY_NAME);
+        if (version.isPresent() && version.orElseThrow() != existingBook.getVersion()) {
+            throw new ObjectOptimisticLockingFailureException(Book.class, id);
+        }
+
+        if (book.getTitle() != null) {
+            existingBook.setTitle(book.getTitle());
+        }
+        if (book.getDescription() != null) {
+            existingBook.setDescription(book.getDescription());
+        }
+        if (book.getPublicationDate() != null) {
+            existingBook.setPublicationDate(book.getPublicationDate());
+        }
+        if (book.getPrice() != null) {
+            existingBook.setPrice(book.getPrice());
+        }
+
+        // Flushed with the transaction, as a single versioned UPDATE
+        return ResponseEntity.ok()
+            .headers(HeaderUtil.createEntityUpdateAlert(applicationName, true, ENTITY_NAME, existingBook.getId().toString()))
+            .body(existingBook);
     }
 
     /**
      * {@code GET  /books} : get all the books.
+     * <p>
+     * The books are read as {@link BookSummaryDTO}, with the id and name of their author, in a single query.
      *
      * @param pageable the pagination information.
-     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the list of books in body.
+     * @param slice flag to skip counting the books: only whether there is a next page is returned, in the {@code X-Has-Next} header.
+     * @param criteria the criteria which the requested entities should match.
+     * @param request the request, to answer {@code If-None-Match} from the books of the page only.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the list of books in body,
+     * or with status {@code 304 (Not Modified)} if none of the books of the page changed since the {@code ETag} was sent.
      */
     @GetMapping("")
-    public ResponseEntity<List<Book>> getAllBooks(@org.springdoc.core.annotations.ParameterObject Pageable pageable) {
-        LOG.debug("REST request to get a page of Books");
-        Page<Book> page = bookRepository.findAll(pageable);
+    @Transactional(readOnly = true)
+    public ResponseEntity<List<BookSummaryDTO>> getAllBooks(
+        BookCriteria criteria,
+        @org.springdoc.core.annotations.ParameterObject Pageable pageable,
+        @RequestParam(name = "slice", required = false, defaultValue = "false") boolean slice,
+        WebRequest request
+    ) {
+        LOG.debug("REST request to get Books by criteria: {}", criteria);
+        // The page is read without counting the books, which are only counted if it changed and is not a slice
+        Slice<BookSummaryDTO> books = bookQueryService.findSummarySliceByCriteria(criteria, pageable);
+        String eTag = ETagUtil.listETag(books, BookResource::summaryKey, List.of());
+        if (request.checkNotModified(eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+        }
+        if (slice) {
+            HttpHeaders headers = SlicePaginationUtil.generateSliceHttpHeaders(ServletUriComponentsBuilder.fromCurrentRequest(), books);
+            return ResponseEntity.ok().headers(headers).eTag(eTag).body(books.getContent());
+        }
+        Page<BookSummaryDTO> page = PageableExecutionUtils.getPage(books.getContent(), pageable, () ->
+            bookQueryService.countByCriteria(criteria)
+        );
+        HttpHeaders headers = PaginationUtil.generatePaginationHttpHeaders(ServletUriComponentsBuilder.fromCurrentRequest(), page);
+        return ResponseEntity.ok().headers(headers).eTag(eTag).body(page.getContent());
+    }
+
+    /**
+     * {@code GET  /books?fields=:fields} : get only the requested fields of all the books.
+     * <p>
+     * Only the columns of the requested fields are selected, and only these fields are sent. The {@code author} field holds
+     * the id and name of the author.
+     *
+     * @param fields the comma separated fields to send, among {@code id, version, title, description, publicationDate, price, author}.
+     * @param criteria the criteria which the requested entities should match.
+     * @param pageable the pagination information.
+     * @param slice flag to skip counting the books: only whether there is a next page is returned, in the {@code X-Has-Next} header.
+     * @param request the request, to answer {@code If-None-Match} from the books of the page only.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the list of books in body, or with status {@code 400 (Bad Request)}
+     * if a field is unknown, or with status {@code 304 (Not Modified)} if none of the books of the page changed since the {@code ETag} was sent.
+     */
+    @GetMapping(value = "", params = { SparseFieldsUtil.FIELDS_PARAMETER, "!" + KeysetPaginationUtil.AFTER_PARAMETER })
+    @Transactional(readOnly = true)
+    public ResponseEntity<List<Map<String, Object>>> getAllBookFields(
+        @RequestParam(SparseFieldsUtil.FIELDS_PARAMETER) String fields,
+        BookCriteria criteria,
+        @org.springdoc.core.annotations.ParameterObject Pageable pageable,
+        @RequestParam(name = "slice", required = false, defaultValue = "false") boolean slice,
+        WebRequest request
+    ) {
+        LOG.debug("REST request to get fields {} of Books by criteria: {}", fields, criteria);
+        List<String> requestedFields = SparseFieldsUtil.parseFields(SparseFieldsQueryService.BOOK_FIELDS, fields, ENTITY_NAME);
+        Slice<Map<String, Object>> books = bookQueryService.findFieldSliceByCriteria(criteria, requestedFields, pageable);
+        String eTag = ETagUtil.listETag(books, Function.identity(), requestedFields);
+        if (request.checkNotModified(eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+        }
+        if (slice) {
+            HttpHeaders headers = SlicePaginationUtil.generateSliceHttpHeaders(ServletUriComponentsBuilder.fromCurrentRequest(), books);
+            return ResponseEntity.ok().headers(headers).eTag(eTag).body(books.getContent());
+        }
+        Page<Map<String, Object>> page = PageableExecutionUtils.getPage(books.getContent(), pageable, () ->
+            bookQueryService.countByCriteria(criteria)
+        );
+        HttpHeaders headers = PaginationUtil.generatePaginationHttpHeaders(ServletUriComponentsBuilder.fromCurrentRequest(), page);
+        return ResponseEntity.ok().headers(headers).eTag(eTag).body(page.getContent());
+    }
+
+    /**
+     * The key of a book of a list, for the {@code ETag} of the list: all its fields as sent, including the name of its author.
+     */
+    private static List<Object> summaryKey(BookSummaryDTO book) {
+        return Arrays.asList(
+            book.getId(),
+            book.getTitle(),
+            book.getDescription(),
+            book.getPublicationDate(),
+            book.getPrice(),
+            book.getAuthor()
+        );
+    }
+
+    /**
+     * {@code GET  /books/count} : count all the books.
+     *
+     * @param criteria the criteria which the requested entities should match.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the count in body.
+     */
+    @GetMapping("/count")
+    @Transactional(readOnly = true)
+    public ResponseEntity<Long> countBooks(BookCriteria criteria) {
+        LOG.debug("REST request to count Books by criteria: {}", criteria);
+        return ResponseEntity.ok().body(bookQueryService.countByCriteria(criteria));
+    }
+
+    /**
+     * {@code GET  /books?after=:cursor} : get a keyset page of the books.
+     * <p>
+     * Seeks on {@code (sort key, id)} instead of reading past an offset and never counts the books, so every page costs the same
+     * whatever its depth. Pass an empty {@code after} for the first page, then follow the {@code next} link, which keeps the
+     * criteria of the request.
+     *
+     * @param after the cursor of the last book already read, empty for the first page.
+     * @param criteria the criteria which the requested entities should match.
+     * @param fields not supported with a cursor.
+     * @param pageable the page size, and for the first page the sort on a single property.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the list of books in body,
+     * or with status {@code 400 (Bad Request)} if the cursor or the sort is not valid, or if fields are requested.
+     */
+    @GetMapping(value = "", params = KeysetPaginationUtil.AFTER_PARAMETER)
+    @Transactional(readOnly = true)
+    public ResponseEntity<List<Book>> getAllBooksAfter(
+        @RequestParam(KeysetPaginationUtil.AFTER_PARAMETER) String after,
+        BookCriteria criteria,
+        @RequestParam(name = SparseFieldsUtil.FIELDS_PARAMETER, required = false) String fields,
+        @org.springdoc.core.annotations.ParameterObject Pageable pageable
+    ) {
+        LOG.debug("REST request to get a keyset page of Books by criteria: {}", criteria);
+        if (fields != null) {
+            throw new BadRequestAlertException("Sparse fieldsets are not supported with a cursor", ENTITY_NAME, "fieldsinvalid");
+        }
+        KeysetSpecification<Book> keyset = KeysetPaginationUtil.fromCursor(after, pageable.getSort(), KEYSET_PROPERTIES, ENTITY_NAME);
+        int size = pageable.getPageSize();
+        List<Book> books = bookQueryService.findByCriteriaAfter(criteria, keyset, size + 1);
+        HttpHeaders headers = KeysetPaginationUtil.generateKeysetPaginationHttpHeaders(
+            ServletUriComponentsBuilder.fromCurrentRequest(),
+            keyset,
+            books,
+            size,
+            KEYSET_PROPERTIES
+        );
+        return ResponseEntity.ok().headers(headers).body(KeysetPaginationUtil.pageContent(books, size));
+    }
+
+    /**
+     * {@code GET  /books/_search?q=:query} : search the books on their title and description.
+     *
+     * @param query the free text query.
+     * @param pageable the pagination information.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the list of matching books in body, best matches first.
+     */
+    @GetMapping("/_search")
+    @Transactional(readOnly = true)
+    public ResponseEntity<List<Book>> searchBooks(
+        @RequestParam("q") String query,
+        @org.springdoc.core.annotations.ParameterObject Pageable pageable
+    ) {
+        LOG.debug("REST request to search for a page of Books for query {}", query);
+        Page<Book> page = bookSearchService.search(query, pageable);
         HttpHeaders headers = PaginationUtil.generatePaginationHttpHeaders(ServletUriComponentsBuilder.fromCurrentRequest(), page);
         return ResponseEntity.ok().headers(headers).body(page.getContent());
     }
 
+    /**
+     * {@code GET  /books/export} : export all the books.
+     * <p>
+     * The books are streamed to the response as they are read, instead of being paged.
+     *
+     * @param format the export format: {@code ndjson} (the default) or {@code csv}.
+     * @param response the response to stream the books to, with status {@code 200 (OK)},
+     * or with status {@code 400 (Bad Request)} if the format is not supported.
+     * @throws IOException if the books couldn't be written to the response.
+     */
+    @GetMapping("/export")
+    @Transactional(readOnly = true)
+    public void exportBooks(@RequestParam(name = "format", defaultValue = "ndjson") String format, HttpServletResponse response)
+        throws IOException {
+        LOG.debug("REST request to export all Books as {}", format);
+        BookExportService.Format exportFormat;
+        try {
+            exportFormat = BookExportService.Format.valueOf(format.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestAlertException("Unsupported export format", ENTITY_NAME, "formatinvalid");
+        }
+        String extension = exportFormat.name().toLowerCase(Locale.ROOT);
+        response.setContentType(exportFormat == BookExportService.Format.CSV ? "text/csv;charset=UTF-8" : "application/x-ndjson;charset=UTF-8");
+        response.setHeader(
+            HttpHeaders.CONTENT_DISPOSITION,
+            ContentDisposition.attachment().filename("books." + extension).build().toString()
+        );
+        bookExportService.exportBooks(exportFormat, response.getOutputStream());
+    }
+
     /**
      * {@code GET  /books/:id} : get the "id" book.
      *
      * @param id the id of the book to retrieve.
-     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the book, or with status {@code 404 (Not Found)}.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the book, or with status {@code 404 (Not Found)},
+     * or with status {@code 304 (Not Modified)} if the book version is the one of the {@code If-None-Match} header.
      */
     @GetMapping("/{id}")
+    @Transactional(readOnly = true)
     public ResponseEntity<Book> getBook(@PathVariable("id") Long id) {
         LOG.debug("REST request to get Book : {}", id);
-        Optional<Book> book = bookRepository.findById(id);
-        return ResponseUtil.wrapOrNotFound(book);
+        return bookRepository
+            .findById(id)
+            .map(book -> ResponseEntity.ok().eTag(ETagUtil.entityETag(book.getId(), book.getVersion())).body(book))
+            .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND));
+    }
+
+    /**
+     * {@code GET  /books/:id?fields=:fields} : get only the requested fields of the "id" book.
+     *
+     * @param id the id of the book to retrieve.
+     * @param fields the comma separated fields to send, among {@code id, version, title, description, publicationDate, price, author}.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the requested fields of the book, or with status
+     * {@code 400 (Bad Request)} if a field is unknown, or with status {@code 404 (Not Found)}.
+     */
+    @GetMapping(value = "/{id}", params = SparseFieldsUtil.FIELDS_PARAMETER)
+    @Transactional(readOnly = true)
+    public ResponseEntity<Map<String, Object>> getBookFields(
+        @PathVariable("id") Long id,
+        @RequestParam(SparseFieldsUtil.FIELDS_PARAMETER) String fields
+    ) {
+        LOG.debug("REST request to get fields {} of Book : {}", fields, id);
+        List<String> requestedFields = SparseFieldsUtil.parseFields(SparseFieldsQueryService.BOOK_FIELDS, fields, ENTITY_NAME);
+        return sparseFieldsQueryService
+            .findById(SparseFieldsQueryService.BOOK_FIELDS, SparseFieldsUtil.withVersion(requestedFields), id)
+            .map(book -> SparseFieldsUtil.entityResponse(id, book, requestedFields))
+            .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND));
     }
 
     /**
@@ -186,4 +498,25 @@ public class BookResource {
             .headers(HeaderUtil.createEntityDeletionAlert(applicationName, true, ENTITY_NAME, id.toString()))
             .build();
     }
+
+    /**
+     * {@code DELETE  /books?ids=:ids} : delete the books with the given ids.
+     * <p>
+     * The books are deleted by set-based statements, in chunks, without being loaded.
+     *
+     * @param ids the ids of the books to delete.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the result of the deletion of each book,
+     * {@code DELETED} or {@code NOT_FOUND}.
+     */
+    @DeleteMapping(value = "", params = "ids")
+    public ResponseEntity<Map<Long, DeletionResult>> deleteBooks(@RequestParam("ids") List<Long> ids) {
+        LOG.debug("REST request to delete Books : {}", ids);
+        Map<Long, DeletionResult> results = bookDeletionService.deleteBooks(ids);
+        long deleted = results.values().stream().filter(DeletionResult.DELETED::equals).count();
+        return ResponseEntity.ok()
+            .headers(
+                HeaderUtil.createAlert(applicationName, applicationName + "." + ENTITY_NAME + ".batchDeleted", String.valueOf(deleted))
+            )
+            .body(results);
+    }
 }
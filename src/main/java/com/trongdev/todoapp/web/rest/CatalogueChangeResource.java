@@ -0,0 +1,190 @@
+package com.trongdev.todoapp.web.rest;
+
+import com.trongdev.todoapp.config.ApplicationProperties;
+import com.trongdev.todoapp.service.CatalogueChangeService;
+import com.trongdev.todoapp.service.dto.CatalogueChangeDTO;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter.SseEventBuilder;
+
+/**
+ * REST controller streaming the changes of {@link com.trongdev.todoapp.domain.Book} and
+ * {@link com.trongdev.todoapp.domain.Author} as Server-Sent Events.
+ * <p>
+ * Streams are asynchronous requests, so an idle subscriber holds no thread. Events are queued for each subscriber
+ * and sent by a dedicated pool of a few sender threads, never by the thread committing the change nor by the shared
+ * {@code taskExecutor}. A subscriber too slow to keep up with {@link CatalogueChangeService#BUFFER_SIZE} pending events
+ * is disconnected, it resumes from the last event it received when it reconnects. A subscriber not reading its stream
+ * at all blocks a sender thread for at most the write timeout of the stream, see
+ * {@link com.trongdev.todoapp.config.WebConfigurer}, before being disconnected too.
+ */
+@RestController
+@RequestMapping("/api/books")
+public class CatalogueChangeResource implements AutoCloseable {
+
+    public static final String CHANGES_PATH = "/api/books/changes";
+
+    private static final Logger LOG = LoggerFactory.getLogger(CatalogueChangeResource.class);
+
+    private static final long TIMEOUT = Duration.ofMinutes(30).toMillis();
+
+    private static final long RECONNECT_TIME = Duration.ofSeconds(3).toMillis();
+
+    private final CatalogueChangeService catalogueChangeService;
+
+    private final ThreadPoolExecutor senderExecutor;
+
+    private final Set<ChangeSubscriber> subscribers = ConcurrentHashMap.newKeySet();
+
+    public CatalogueChangeResource(CatalogueChangeService catalogueChangeService, ApplicationProperties applicationProperties) {
+        this.catalogueChangeService = catalogueChangeService;
+        ApplicationProperties.CatalogueChanges properties = applicationProperties.getCatalogueChanges();
+        AtomicInteger threadCount = new AtomicInteger();
+        this.senderExecutor = new ThreadPoolExecutor(
+            properties.getSenderPoolSize(),
+            properties.getSenderPoolSize(),
+            0L,
+            TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(properties.getSenderQueueCapacity()),
+            runnable -> {
+                Thread thread = new Thread(runnable, "catalogue-changes-sender-" + threadCount.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            }
+        );
+    }
+
+    /**
+     * {@code GET  /books/changes} : stream the changes of books and authors.
+     * <p>
+     * Each {@code change} event carries a {@link CatalogueChangeDTO}, its id is the event id. A {@code reset} event is
+     * sent when the changes since the {@code Last-Event-ID} are no longer available, the client must then reload the
+     * lists it shows.
+     *
+     * @param lastEventId the id of the last event received, when the client reconnects.
+     * @return the {@link SseEmitter} streaming the changes.
+     */
+    @GetMapping(value = "/changes", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamChanges(@RequestHeader(name = "Last-Event-ID", required = false) Long lastEventId) {
+        LOG.debug("REST request to stream the changes of books and authors after : {}", lastEventId);
+        SseEmitter emitter = new SseEmitter(TIMEOUT);
+        ChangeSubscriber subscriber = new ChangeSubscriber(emitter);
+        emitter.onCompletion(subscriber::close);
+        emitter.onTimeout(subscriber::close);
+        emitter.onError(error -> subscriber.close());
+        subscribers.add(subscriber);
+
+        subscriber.offer(SseEmitter.event().reconnectTime(RECONNECT_TIME).comment("connected"));
+        if (!catalogueChangeService.subscribe(lastEventId, subscriber.listener)) {
+            subscriber.offer(SseEmitter.event().name("reset").data(""));
+        }
+        return emitter;
+    }
+
+    /**
+     * Send a comment to every subscriber, so that proxies keep idle streams open and closed streams are detected.
+     */
+    @Scheduled(fixedRate = 15000)
+    public void sendHeartbeats() {
+        subscribers.forEach(subscriber -> subscriber.offer(SseEmitter.event().comment("heartbeat")));
+    }
+
+    @Override
+    public void close() {
+        senderExecutor.shutdownNow();
+    }
+
+    private final class ChangeSubscriber {
+
+        private final SseEmitter emitter;
+
+        // The changes, plus the connected comment and a heartbeat
+        private final BlockingQueue<SseEventBuilder> pending = new LinkedBlockingQueue<>(CatalogueChangeService.BUFFER_SIZE + 2);
+
+        private final AtomicBoolean sending = new AtomicBoolean();
+
+        private final Consumer<CatalogueChangeDTO> listener = this::change;
+
+        private volatile boolean closed;
+
+        private ChangeSubscriber(SseEmitter emitter) {
+            this.emitter = emitter;
+        }
+
+        private void change(CatalogueChangeDTO change) {
+            offer(SseEmitter.event().id(Long.toString(change.getId())).name("change").data(change, MediaType.APPLICATION_JSON));
+        }
+
+        private void offer(SseEventBuilder event) {
+            if (closed) {
+                return;
+            }
+            if (!pending.offer(event)) {
+                LOG.debug("Disconnecting a subscriber too slow to receive the changes of books and authors");
+                disconnect();
+                return;
+            }
+            scheduleSend();
+        }
+
+        private void scheduleSend() {
+            if (sending.compareAndSet(false, true)) {
+                try {
+                    senderExecutor.execute(this::send);
+                } catch (RejectedExecutionException e) {
+                    sending.set(false);
+                    disconnect();
+                }
+            }
+        }
+
+        private void send() {
+            try {
+                SseEventBuilder event;
+                while (!closed && (event = pending.poll()) != null) {
+                    emitter.send(event);
+                }
+            } catch (IOException | IllegalStateException e) {
+                LOG.debug("Could not send the changes of books and authors to a subscriber: {}", e.getMessage());
+                close();
+            } finally {
+                sending.set(false);
+            }
+            if (!closed && !pending.isEmpty()) {
+                scheduleSend();
+            }
+        }
+
+        private void disconnect() {
+            close();
+            emitter.complete();
+        }
+
+        private void close() {
+            closed = true;
+            pending.clear();
+            subscribers.remove(this);
+            catalogueChangeService.unsubscribe(listener);
+        }
+    }
+}
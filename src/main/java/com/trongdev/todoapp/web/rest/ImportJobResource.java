@@ -0,0 +1,131 @@
+package com.trongdev.todoapp.web.rest;
+
+import com.trongdev.todoapp.domain.ImportJob;
+import com.trongdev.todoapp.domain.enumeration.ImportType;
+import com.trongdev.todoapp.repository.ImportJobRepository;
+import com.trongdev.todoapp.service.ImportJobService;
+import com.trongdev.todoapp.service.InvalidImportFileException;
+import com.trongdev.todoapp.web.rest.errors.BadRequestAlertException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+import tech.jhipster.web.util.HeaderUtil;
+import tech.jhipster.web.util.PaginationUtil;
+import tech.jhipster.web.util.ResponseUtil;
+
+/**
+ * REST controller for bulk CSV imports of books and authors, see {@link ImportJobService}.
+ */
+@RestController
+@RequestMapping("/api/imports")
+public class ImportJobResource {
+
+    private static final Logger LOG = LoggerFactory.getLogger(ImportJobResource.class);
+
+    private static final String ENTITY_NAME = "importJob";
+
+    @Value("${jhipster.clientApp.name}")
+    private String applicationName;
+
+    private final ImportJobService importJobService;
+
+    private final ImportJobRepository importJobRepository;
+
+    public ImportJobResource(ImportJobService importJobService, ImportJobRepository importJobRepository) {
+        this.importJobService = importJobService;
+        this.importJobRepository = importJobRepository;
+    }
+
+    /**
+     * {@code POST  /imports?type=:type} : Upload a CSV file and start importing it.
+     *
+     * @param type the kind of rows of the file: {@code book} or {@code author}.
+     * @param file the CSV file.
+     * @return the {@link ResponseEntity} with status {@code 201 (Created)} and with body the new import job,
+     * or with status {@code 400 (Bad Request)} if the type or the file is not valid.
+     * @throws URISyntaxException if the Location URI syntax is incorrect.
+     * @throws IOException if the file couldn't be stored.
+     */
+    @PostMapping(value = "", consumes = "multipart/form-data")
+    public ResponseEntity<ImportJob> createImportJob(@RequestParam("type") String type, @RequestParam("file") MultipartFile file)
+        throws URISyntaxException, IOException {
+        LOG.debug("REST request to import {} from {}", type, file.getOriginalFilename());
+        ImportType importType;
+        try {
+            importType = ImportType.valueOf(type.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestAlertException("Unsupported import type", ENTITY_NAME, "typeinvalid");
+        }
+        ImportJob importJob;
+        try (InputStream content = file.getInputStream()) {
+            importJob = importJobService.createJob(importType, file.getOriginalFilename(), content);
+        } catch (InvalidImportFileException e) {
+            throw new BadRequestAlertException(e.getMessage(), ENTITY_NAME, "fileinvalid");
+        }
+        importJobService.startJob(importJob.getId());
+        return ResponseEntity.created(new URI("/api/imports/" + importJob.getId()))
+            .headers(HeaderUtil.createEntityCreationAlert(applicationName, true, ENTITY_NAME, importJob.getId().toString()))
+            .body(importJobRepository.findById(importJob.getId()).orElse(importJob));
+    }
+
+    /**
+     * {@code POST  /imports/:id/restart} : Restart a failed import after its last committed chunk.
+     *
+     * @param id the id of the import job to restart.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the import job,
+     * or with status {@code 400 (Bad Request)} if the import job has not failed,
+     * or with status {@code 404 (Not Found)}.
+     */
+    @PostMapping("/{id}/restart")
+    public ResponseEntity<ImportJob> restartImportJob(@PathVariable("id") Long id) {
+        LOG.debug("REST request to restart ImportJob : {}", id);
+        if (!importJobRepository.existsById(id)) {
+            return ResponseEntity.notFound().build();
+        }
+        if (!importJobService.restartJob(id)) {
+            throw new BadRequestAlertException("Only a failed import can be restarted", ENTITY_NAME, "statusinvalid");
+        }
+        return ResponseUtil.wrapOrNotFound(importJobRepository.findById(id));
+    }
+
+    /**
+     * {@code GET  /imports} : get all the import jobs.
+     *
+     * @param pageable the pagination information.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the list of import jobs in body.
+     */
+    @GetMapping("")
+    public ResponseEntity<List<ImportJob>> getAllImportJobs(@org.springdoc.core.annotations.ParameterObject Pageable pageable) {
+        LOG.debug("REST request to get a page of ImportJobs");
+        Page<ImportJob> page = importJobRepository.findAll(pageable);
+        HttpHeaders headers = PaginationUtil.generatePaginationHttpHeaders(ServletUriComponentsBuilder.fromCurrentRequest(), page);
+        return ResponseEntity.ok().headers(headers).body(page.getContent());
+    }
+
+    /**
+     * {@code GET  /imports/:id} : get the status and progress of an import job.
+     *
+     * @param id the id of the import job to retrieve.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the import job, or with status {@code 404 (Not Found)}.
+     */
+    @GetMapping("/{id}")
+    public ResponseEntity<ImportJob> getImportJob(@PathVariable("id") Long id) {
+        LOG.debug("REST request to get ImportJob : {}", id);
+        Optional<ImportJob> importJob = importJobRepository.findById(id);
+        return ResponseUtil.wrapOrNotFound(importJob);
+    }
+}
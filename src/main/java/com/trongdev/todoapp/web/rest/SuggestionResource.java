@@ -0,0 +1,66 @@
+package com.trongdev.todoapp.web.rest;
+
+import com.trongdev.todoapp.service.SuggestionService;
+import com.trongdev.todoapp.service.dto.SuggestionDTO;
+import java.util.List;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * REST controller for the typeahead suggestions of {@link com.trongdev.todoapp.domain.Author} names and
+ * {@link com.trongdev.todoapp.domain.Book} titles.
+ * <p>
+ * Suggestions are answered from memory by the {@link SuggestionService}, so unlike the entity resources these
+ * requests run no transaction.
+ */
+@RestController
+@RequestMapping("/api")
+public class SuggestionResource {
+
+    private static final Logger LOG = LoggerFactory.getLogger(SuggestionResource.class);
+
+    private static final String DEFAULT_SIZE = "10";
+
+    private final SuggestionService suggestionService;
+
+    public SuggestionResource(SuggestionService suggestionService) {
+        this.suggestionService = suggestionService;
+    }
+
+    /**
+     * {@code GET  /authors/_suggest?prefix=:prefix} : suggest the authors with a word of their name starting with a prefix.
+     *
+     * @param prefix the prefix, as typed.
+     * @param size the maximum number of suggestions, at most {@link SuggestionService#MAX_SUGGESTIONS}.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the list of suggested authors in body.
+     */
+    @GetMapping("/authors/_suggest")
+    public ResponseEntity<List<SuggestionDTO>> suggestAuthors(
+        @RequestParam("prefix") String prefix,
+        @RequestParam(name = "size", defaultValue = DEFAULT_SIZE) int size
+    ) {
+        LOG.debug("REST request to suggest Authors for prefix {}", prefix);
+        return ResponseEntity.ok(suggestionService.suggestAuthors(prefix, size));
+    }
+
+    /**
+     * {@code GET  /books/_suggest?prefix=:prefix} : suggest the books with a word of their title starting with a prefix.
+     *
+     * @param prefix the prefix, as typed.
+     * @param size the maximum number of suggestions, at most {@link SuggestionService#MAX_SUGGESTIONS}.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the list of suggested books in body.
+     */
+    @GetMapping("/books/_suggest")
+    public ResponseEntity<List<SuggestionDTO>> suggestBooks(
+        @RequestParam("prefix") String prefix,
+        @RequestParam(name = "size", defaultValue = DEFAULT_SIZE) int size
+    ) {
+        LOG.debug("REST request to suggest Books for prefix {}", prefix);
+        return ResponseEntity.ok(suggestionService.suggestBooks(prefix, size));
+    }
+}
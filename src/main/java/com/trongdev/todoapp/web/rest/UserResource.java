@@ -5,11 +5,13 @@ import com.trongdev.todoapp.domain.User;
 import com.trongdev.todoapp.repository.UserRepository;
 import com.trongdev.todoapp.security.AuthoritiesConstants;
 import com.trongdev.todoapp.service.MailService;
+import com.trongdev.todoapp.service.TokenRevocationService;
 import com.trongdev.todoapp.service.UserService;
 import com.trongdev.todoapp.service.dto.AdminUserDTO;
 import com.trongdev.todoapp.web.rest.errors.BadRequestAlertException;
 import com.trongdev.todoapp.web.rest.errors.EmailAlreadyUsedException;
 import com.trongdev.todoapp.web.rest.errors.LoginAlreadyUsedException;
+import com.trongdev.todoapp.web.rest.util.SlicePaginationUtil;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.Pattern;
 import java.net.URI;
@@ -21,6 +23,7 @@ import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
@@ -87,10 +90,18 @@ public class UserResource {
 
     private final MailService mailService;
 
-    public UserResource(UserService userService, UserRepository userRepository, MailService mailService) {
+    private final TokenRevocationService tokenRevocationService;
+
+    public UserResource(
+        UserService userService,
+        UserRepository userRepository,
+        MailService mailService,
+        TokenRevocationService tokenRevocationService
+    ) {
         this.userService = userService;
         this.userRepository = userRepository;
         this.mailService = mailService;
+        this.tokenRevocationService = tokenRevocationService;
     }
 
     /**
@@ -161,15 +172,24 @@ public class UserResource {
      * {@code GET /admin/users} : get all users with all the details - calling this are only allowed for the administrators.
      *
      * @param pageable the pagination information.
+     * @param slice flag to skip counting the users: only whether there is a next page is returned, in the {@code X-Has-Next} header.
      * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body all users.
      */
     @GetMapping("/users")
     @PreAuthorize("hasAuthority(\"" + AuthoritiesConstants.ADMIN + "\")")
-    public ResponseEntity<List<AdminUserDTO>> getAllUsers(@org.springdoc.core.annotations.ParameterObject Pageable pageable) {
+    public ResponseEntity<List<AdminUserDTO>> getAllUsers(
+        @org.springdoc.core.annotations.ParameterObject Pageable pageable,
+        @RequestParam(name = "slice", required = false, defaultValue = "false") boolean slice
+    ) {
         LOG.debug("REST request to get all User for an admin");
         if (!onlyContainsAllowedProperties(pageable)) {
             return ResponseEntity.badRequest().build();
         }
+        if (slice) {
+            final Slice<AdminUserDTO> page = userService.getAllManagedUsersSlice(pageable);
+            HttpHeaders headers = SlicePaginationUtil.generateSliceHttpHeaders(ServletUriComponentsBuilder.fromCurrentRequest(), page);
+            return new ResponseEntity<>(page.getContent(), headers, HttpStatus.OK);
+        }
 
         final Page<AdminUserDTO> page = userService.getAllManagedUsers(pageable);
         HttpHeaders headers = PaginationUtil.generatePaginationHttpHeaders(ServletUriComponentsBuilder.fromCurrentRequest(), page);
@@ -206,4 +226,21 @@ public class UserResource {
         userService.deleteUser(login);
         return ResponseEntity.noContent().headers(HeaderUtil.createAlert(applicationName, "userManagement.deleted", login)).build();
     }
+
+    /**
+     * {@code POST /admin/users/:login/revoke-tokens} : revoke all the tokens of the "login" User, ending all their sessions.
+     *
+     * @param login the login of the user whose tokens to revoke.
+     * @return the {@link ResponseEntity} with status {@code 204 (NO_CONTENT)}, or with status {@code 404 (Not Found)}.
+     */
+    @PostMapping("/users/{login}/revoke-tokens")
+    @PreAuthorize("hasAuthority(\"" + AuthoritiesConstants.ADMIN + "\")")
+    public ResponseEntity<Void> revokeTokens(@PathVariable("login") @Pattern(regexp = Constants.LOGIN_REGEX) String login) {
+        LOG.debug("REST request to revoke the tokens of User: {}", login);
+        if (userRepository.findOneByLogin(login).isEmpty()) {
+            return ResponseEntity.notFound().build();
+        }
+        tokenRevocationService.revokeAllForUser(login);
+        return ResponseEntity.noContent().build();
+    }
 }
@@ -2,6 +2,7 @@ package com.trongdev.todoapp.web.rest.errors;
 
 import static org.springframework.core.annotation.AnnotatedElementUtils.findMergedAnnotation;
 
+import com.trongdev.todoapp.security.TooManyRequestsException;
 import jakarta.servlet.http.HttpServletRequest;
 import java.net.URI;
 import java.util.Arrays;
@@ -213,6 +214,7 @@ public class ExceptionTranslator extends ResponseEntityExceptionHandler {
         if (err instanceof AccessDeniedException) return HttpStatus.FORBIDDEN;
         if (err instanceof ConcurrencyFailureException) return HttpStatus.CONFLICT;
         if (err instanceof BadCredentialsException) return HttpStatus.UNAUTHORIZED;
+        if (err instanceof TooManyRequestsException) return HttpStatus.TOO_MANY_REQUESTS;
         return null;
     }
 
@@ -222,6 +224,14 @@ public class ExceptionTranslator extends ResponseEntityExceptionHandler {
     }
 
     private HttpHeaders buildHeaders(Throwable err) {
+        if (err instanceof TooManyRequestsException tooManyRequestsException) {
+            HttpHeaders headers = new HttpHeaders();
+            headers.set(
+                HttpHeaders.RETRY_AFTER,
+                String.valueOf(Math.max(1, (tooManyRequestsException.getRetryAfter().toMillis() + 999) / 1000))
+            );
+            return headers;
+        }
         return err instanceof BadRequestAlertException badRequestAlertException
             ? HeaderUtil.createFailureAlert(
                 applicationName,
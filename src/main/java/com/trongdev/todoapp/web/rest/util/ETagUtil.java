@@ -0,0 +1,65 @@
+package com.trongdev.todoapp.web.rest.util;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.function.Function;
+import org.springframework.data.domain.Slice;
+import org.springframework.util.DigestUtils;
+
+/**
+ * Utility class for computing the {@code ETag} of entities and of list pages.
+ * <p>
+ * A response carrying an {@code ETag} is answered with {@code 304 (Not Modified)} and no body when the request
+ * {@code If-None-Match} header holds the same tag, either by Spring MVC for a {@code ResponseEntity} or by
+ * {@link org.springframework.web.context.request.WebRequest#checkNotModified(String)} before the response is built.
+ */
+public final class ETagUtil {
+
+    private ETagUtil() {}
+
+    /**
+     * Strong entity tag of an entity, from its id and version.
+     *
+     * @param id the id of the entity.
+     * @param version the version of the entity.
+     * @return the quoted entity tag.
+     */
+    public static String entityETag(Object id, long version) {
+        return "\"" + id + "-" + version + "\"";
+    }
+
+    /**
+     * Strong entity tag of some fields of an entity, from its id, version and the fields.
+     *
+     * @param id the id of the entity.
+     * @param version the version of the entity.
+     * @param fields the fields sent.
+     * @return the quoted entity tag.
+     */
+    public static String entityETag(Object id, long version, List<String> fields) {
+        return "\"" + id + "-" + version + "-" + String.join(",", fields) + "\"";
+    }
+
+    /**
+     * Weak entity tag of a page of a list, from the rows of the page only.
+     * <p>
+     * Only the rows on the page, already read to answer the request, are hashed: no other row is read, so the tag
+     * costs nothing more than the page itself. The total count of a paged list is not part of it.
+     *
+     * @param rows the rows of the page, and whether there is a next page.
+     * @param rowKey the key of a row, which changes whenever the row as sent changes.
+     * @param fields the fields sent, empty for all of them.
+     * @param <T> the type of the rows.
+     * @return the quoted weak entity tag.
+     */
+    public static <T> String listETag(Slice<T> rows, Function<T, ?> rowKey, List<String> fields) {
+        StringBuilder key = new StringBuilder().append(rows.getPageable()).append(':').append(rows.hasNext());
+        if (!fields.isEmpty()) {
+            key.append(':').append(String.join(",", fields));
+        }
+        for (T row : rows) {
+            key.append('|').append(rowKey.apply(row));
+        }
+        return "W/\"" + DigestUtils.md5DigestAsHex(key.toString().getBytes(StandardCharsets.UTF_8)) + "\"";
+    }
+}
@@ -0,0 +1,144 @@
+package com.trongdev.todoapp.web.rest.util;
+
+import com.trongdev.todoapp.repository.KeysetSpecification;
+import com.trongdev.todoapp.web.rest.errors.BadRequestAlertException;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.util.UriComponentsBuilder;
+
+/**
+ * Utility class for handling keyset (seek) pagination.
+ * <p>
+ * The position of a page is carried by an opaque cursor, passed in the {@code after} request parameter, which holds the
+ * sort property, the sort direction and the {@code (sort key, id)} of the last row already returned.
+ * The link to the next page follows the <a href="https://tools.ietf.org/html/rfc5988">Link header</a> convention
+ * used by {@link tech.jhipster.web.util.PaginationUtil}. No total count is computed.
+ */
+public final class KeysetPaginationUtil {
+
+    public static final String AFTER_PARAMETER = "after";
+
+    private static final String SIZE_PARAMETER = "size";
+
+    private static final String SORT_PARAMETER = "sort";
+
+    private static final String PAGE_PARAMETER = "page";
+
+    private static final String HEADER_LINK_FORMAT = "<%s>; rel=\"%s\"";
+
+    private static final char SEPARATOR = ':';
+
+    private static final char VALUE_MARKER = '\'';
+
+    /**
+     * A property an entity may be keyset-paginated on.
+     *
+     * @param getter reads the property value from an entity.
+     * @param parser parses the property value back from its cursor representation.
+     */
+    public record KeysetProperty<T>(Function<T, ?> getter, Function<String, Comparable<?>> parser) {}
+
+    private KeysetPaginationUtil() {}
+
+    /**
+     * Build the keyset specification for a request.
+     *
+     * @param after the cursor of the request, empty for the first page.
+     * @param sort the requested sort, only used for the first page as the following ones take it from the cursor.
+     * @param properties the properties allowed as sort key, by name; must contain {@code id}.
+     * @param entityName the name of the entity, for error reporting.
+     * @return the specification selecting the rows after the cursor.
+     */
+    public static <T> KeysetSpecification<T> fromCursor(
+        String after,
+        Sort sort,
+        Map<String, KeysetProperty<T>> properties,
+        String entityName
+    ) {
+        if (after == null || after.isEmpty()) {
+            List<Sort.Order> orders = sort.stream().filter(o -> !KeysetSpecification.ID_PROPERTY.equals(o.getProperty())).toList();
+            if (orders.size() > 1) {
+                throw new BadRequestAlertException("Keyset pagination supports a single sort property", entityName, "sortinvalid");
+            }
+            Sort.Order order = orders.isEmpty()
+                ? sort.stream().findFirst().orElse(Sort.Order.asc(KeysetSpecification.ID_PROPERTY))
+                : orders.get(0);
+            if (!properties.containsKey(order.getProperty())) {
+                throw new BadRequestAlertException("Keyset pagination is not supported on this property", entityName, "sortinvalid");
+            }
+            return new KeysetSpecification<>(order.getProperty(), order.getDirection(), null, null);
+        }
+
+        try {
+            String cursor = new String(Base64.getUrlDecoder().decode(after), StandardCharsets.UTF_8);
+            int sortEnd = cursor.indexOf(SEPARATOR);
+            int idEnd = cursor.indexOf(SEPARATOR, sortEnd + 1);
+            String[] order = cursor.substring(0, sortEnd).split(",");
+            KeysetProperty<T> property = properties.get(order[0]);
+            if (property == null || idEnd < 0) {
+                throw new IllegalArgumentException("Unknown cursor property " + order[0]);
+            }
+            Long id = Long.valueOf(cursor.substring(sortEnd + 1, idEnd));
+            String value = cursor.substring(idEnd + 1);
+            Comparable<?> lastValue = value.isEmpty() ? null : property.parser().apply(value.substring(1));
+            return new KeysetSpecification<>(order[0], Sort.Direction.fromString(order[1]), lastValue, id);
+        } catch (RuntimeException e) {
+            throw new BadRequestAlertException("Invalid cursor", entityName, "cursorinvalid");
+        }
+    }
+
+    /**
+     * Generate the pagination headers of a keyset page.
+     *
+     * @param uriBuilder the URI builder of the current request.
+     * @param keyset the keyset specification the rows were selected with.
+     * @param rows the selected rows; one more than {@code size} when there is a next page.
+     * @param size the page size.
+     * @param properties the properties allowed as sort key, by name.
+     * @return the {@link HttpHeaders} with a {@code next} link when there is a next page.
+     */
+    public static <T> HttpHeaders generateKeysetPaginationHttpHeaders(
+        UriComponentsBuilder uriBuilder,
+        KeysetSpecification<T> keyset,
+        List<T> rows,
+        int size,
+        Map<String, KeysetProperty<T>> properties
+    ) {
+        HttpHeaders headers = new HttpHeaders();
+        if (rows.size() > size) {
+            T last = rows.get(size - 1);
+            Object value = properties.get(keyset.getProperty()).getter().apply(last);
+            Object id = properties.get(KeysetSpecification.ID_PROPERTY).getter().apply(last);
+            String position = id + String.valueOf(SEPARATOR) + (value == null ? "" : VALUE_MARKER + value.toString());
+            String cursor = keyset.getProperty() + "," + keyset.getDirection().name() + SEPARATOR + position;
+            String link = uriBuilder
+                .replaceQueryParam(AFTER_PARAMETER, encode(cursor))
+                .replaceQueryParam(SIZE_PARAMETER, size)
+                .replaceQueryParam(SORT_PARAMETER)
+                .replaceQueryParam(PAGE_PARAMETER)
+                .toUriString();
+            headers.add(HttpHeaders.LINK, String.format(HEADER_LINK_FORMAT, link, "next"));
+        }
+        return headers;
+    }
+
+    private static String encode(String cursor) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(cursor.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Strip the look-ahead row from a keyset page.
+     *
+     * @param rows the selected rows.
+     * @param size the page size.
+     * @return at most {@code size} rows.
+     */
+    public static <T> List<T> pageContent(List<T> rows, int size) {
+        return rows.size() > size ? rows.subList(0, size) : rows;
+    }
+}
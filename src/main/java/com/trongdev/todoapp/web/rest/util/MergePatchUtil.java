@@ -0,0 +1,60 @@
+package com.trongdev.todoapp.web.rest.util;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.trongdev.todoapp.web.rest.errors.BadRequestAlertException;
+import java.util.Optional;
+
+/**
+ * Utility class for the partial updates of versioned entities, sent as JSON merge patches.
+ * <p>
+ * The version of an entity is a primitive, which reads as {@code 0} when absent from the patch. The patch is therefore
+ * read as a tree first, so that the version is only compared to the current one when the client sent it, like the
+ * other absent fields which are left unchanged.
+ */
+public final class MergePatchUtil {
+
+    private static final String VERSION = "version";
+
+    private MergePatchUtil() {}
+
+    /**
+     * Read the fields of a patch into an entity.
+     *
+     * @param objectMapper the object mapper.
+     * @param patch the patch.
+     * @param entityClass the class of the entity.
+     * @param entityName the name of the entity, for the error message.
+     * @param <T> the type of the entity.
+     * @return the entity, with the fields of the patch.
+     * @throws BadRequestAlertException if the patch doesn't match the entity.
+     */
+    public static <T> T read(ObjectMapper objectMapper, ObjectNode patch, Class<T> entityClass, String entityName) {
+        try {
+            return objectMapper.treeToValue(patch, entityClass);
+        } catch (JsonProcessingException e) {
+            throw new BadRequestAlertException("Invalid patch: " + e.getOriginalMessage(), entityName, "invalidpatch");
+        }
+    }
+
+    /**
+     * Return the version sent in a patch.
+     *
+     * @param patch the patch.
+     * @param entityName the name of the entity, for the error message.
+     * @return the version, or empty if the patch has none.
+     * @throws BadRequestAlertException if the version is not an integer.
+     */
+    public static Optional<Long> version(ObjectNode patch, String entityName) {
+        JsonNode version = patch.get(VERSION);
+        if (version == null || version.isNull()) {
+            return Optional.empty();
+        }
+        if (!version.canConvertToExactIntegral() || !version.canConvertToLong()) {
+            throw new BadRequestAlertException("Invalid version", entityName, "invalidversion");
+        }
+        return Optional.of(version.longValue());
+    }
+}
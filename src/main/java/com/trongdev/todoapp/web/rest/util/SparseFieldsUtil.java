@@ -0,0 +1,65 @@
+package com.trongdev.todoapp.web.rest.util;
+
+import com.trongdev.todoapp.service.SparseFieldset;
+import com.trongdev.todoapp.web.rest.errors.BadRequestAlertException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import org.springframework.http.ResponseEntity;
+
+/**
+ * Utility class for the {@code fields} parameter, which narrows the fields of the entities sent.
+ */
+public final class SparseFieldsUtil {
+
+    public static final String FIELDS_PARAMETER = "fields";
+
+    private static final String VERSION = "version";
+
+    private SparseFieldsUtil() {}
+
+    /**
+     * Parse the {@code fields} parameter.
+     *
+     * @param fieldset the fields of the entity.
+     * @param value the value of the parameter.
+     * @param entityName the name of the entity, for the error message.
+     * @return the requested fields.
+     * @throws BadRequestAlertException if a field is unknown, or if no field is requested.
+     */
+    public static List<String> parseFields(SparseFieldset<?> fieldset, String value, String entityName) {
+        try {
+            return fieldset.parse(value);
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestAlertException(e.getMessage(), entityName, "invalidfields");
+        }
+    }
+
+    /**
+     * Return the fields to select for a single entity: the requested fields, and its version for its {@code ETag}.
+     *
+     * @param fields the requested fields.
+     * @return the fields to select.
+     */
+    public static List<String> withVersion(List<String> fields) {
+        if (fields.contains(VERSION)) {
+            return fields;
+        }
+        List<String> withVersion = new ArrayList<>(fields);
+        withVersion.add(VERSION);
+        return withVersion;
+    }
+
+    /**
+     * Wrap the requested fields of an entity, selected with {@link #withVersion(List)}, into a response with its {@code ETag}.
+     *
+     * @param id the id of the entity.
+     * @param row the selected fields of the entity.
+     * @param fields the requested fields.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the requested fields.
+     */
+    public static ResponseEntity<Map<String, Object>> entityResponse(Long id, Map<String, Object> row, List<String> fields) {
+        long version = (Long) (fields.contains(VERSION) ? row.get(VERSION) : row.remove(VERSION));
+        return ResponseEntity.ok().eTag(ETagUtil.entityETag(id, version, fields)).body(row);
+    }
+}
@@ -0,0 +1,4 @@
+/**
+ * Rest layer utilities.
+ */
+package com.trongdev.todoapp.web.rest.util;
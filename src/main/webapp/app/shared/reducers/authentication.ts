@@ -80,8 +80,13 @@ export const clearAuthToken = () => {
 };
 
 export const logout: () => AppThunk = () => dispatch => {
+  const token = Storage.local.get(AUTH_TOKEN_KEY) || Storage.session.get(AUTH_TOKEN_KEY);
   clearAuthToken();
   dispatch(logoutSession());
+  if (token) {
+    // Revoke the token on the server too, the session is over whatever the outcome
+    axios.post('api/logout', null, { headers: { Authorization: `Bearer ${token}` } }).catch(() => undefined);
+  }
 };
 
 export const clearAuthentication = messageKey => dispatch => {
@@ -0,0 +1,42 @@
+package com.trongdev.todoapp.config;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Hibernate statement inspector of the integration tests: records the SQL statements Hibernate prepares on the
+ * current thread while a capture is running, so that tests can check the statements actually generated.
+ */
+public class CapturingStatementInspector implements StatementInspector {
+
+    private static final long serialVersionUID = 1L;
+
+    private static final ThreadLocal<List<String>> CAPTURED = new ThreadLocal<>();
+
+    /**
+     * Run some work and return the SQL statements Hibernate prepared for it, in order.
+     *
+     * @param work the work to run on the current thread.
+     * @return the SQL statements, with their {@code ?} parameter markers.
+     */
+    public static List<String> capture(Runnable work) {
+        List<String> statements = new ArrayList<>();
+        CAPTURED.set(statements);
+        try {
+            work.run();
+        } finally {
+            CAPTURED.remove();
+        }
+        return statements;
+    }
+
+    @Override
+    public String inspect(String sql) {
+        List<String> statements = CAPTURED.get();
+        if (statements != null) {
+            statements.add(sql);
+        }
+        return sql;
+    }
+}
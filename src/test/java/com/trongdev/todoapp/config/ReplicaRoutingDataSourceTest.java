@@ -0,0 +1,212 @@
+package com.trongdev.todoapp.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import javax.sql.DataSource;
+import org.hibernate.CacheMode;
+import org.hibernate.Session;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DataSourceUtils;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.orm.jpa.EntityManagerHolder;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Unit tests for the {@link ReplicaRoutingDataSource} and {@link ReplicaLagMonitor} classes, with two stand-in
+ * databases.
+ */
+class ReplicaRoutingDataSourceTest {
+
+    private DataSource primaryDataSource;
+
+    private DataSource replicaDataSource;
+
+    private ResultSet lagResultSet;
+
+    private MeterRegistry meterRegistry;
+
+    private ReplicaLagMonitor replicaLagMonitor;
+
+    private DataSource dataSource;
+
+    @BeforeEach
+    public void setup() throws SQLException {
+        primaryDataSource = standInDataSource();
+        replicaDataSource = standInDataSource();
+        lagResultSet = mock(ResultSet.class);
+        Statement lagStatement = replicaDataSource.getConnection().createStatement();
+        when(lagStatement.executeQuery(anyString())).thenReturn(lagResultSet);
+        clearInvocations(replicaDataSource);
+
+        ApplicationProperties.Replica properties = new ApplicationProperties.Replica();
+        properties.setMaxLag(Duration.ofSeconds(5));
+        meterRegistry = new SimpleMeterRegistry();
+        replicaLagMonitor = new ReplicaLagMonitor(replicaDataSource, properties, meterRegistry);
+        dataSource = new LazyConnectionDataSourceProxy(
+            new ReplicaRoutingDataSource(primaryDataSource, replicaDataSource, replicaLagMonitor, meterRegistry)
+        );
+        // The first connection checks the default connection properties on the primary database, as Hibernate does at startup
+        dataSource.getConnection().close();
+        clearInvocations(primaryDataSource);
+    }
+
+    @Test
+    void readWriteTransactionsUsePrimary() throws SQLException {
+        replicaLag(0);
+
+        runStatement(false);
+
+        verify(primaryDataSource).getConnection();
+        verify(replicaDataSource, never()).getConnection();
+        assertThat(routedConnections("replica", true)).isZero();
+    }
+
+    @Test
+    void readOnlyTransactionsUseReplica() throws SQLException {
+        replicaLag(2);
+
+        runStatement(true);
+
+        verify(primaryDataSource, never()).getConnection();
+        assertThat(routedConnections("replica", true)).isEqualTo(1);
+        assertThat(meterRegistry.get(ReplicaLagMonitor.LAG_METER_NAME).gauge().value()).isEqualTo(2);
+    }
+
+    @Test
+    void readOnlyTransactionsFallBackToPrimaryWhenReplicaLags() throws SQLException {
+        replicaLag(30);
+
+        runStatement(true);
+
+        verify(primaryDataSource).getConnection();
+        assertThat(routedConnections("primary", true)).isEqualTo(1);
+    }
+
+    @Test
+    void readOnlyTransactionsFallBackToPrimaryWhenReplicationIsStopped() throws SQLException {
+        when(lagResultSet.next()).thenReturn(true);
+        when(lagResultSet.getObject("Seconds_Behind_Source")).thenReturn(null);
+        replicaLagMonitor.checkLag();
+
+        runStatement(true);
+
+        verify(primaryDataSource).getConnection();
+        assertThat(replicaLagMonitor.getLagSeconds()).isNaN();
+    }
+
+    @Test
+    void readOnlyTransactionsFallBackToPrimaryWhenReplicaIsDown() throws SQLException {
+        replicaLag(0);
+        when(replicaDataSource.getConnection()).thenThrow(new SQLException("Connection refused"));
+        replicaLagMonitor.checkLag();
+
+        runStatement(true);
+
+        verify(primaryDataSource).getConnection();
+        assertThat(replicaLagMonitor.isReplicaUsable()).isFalse();
+    }
+
+    @Test
+    void readOnlyTransactionsUsePrimaryUntilLagIsKnown() throws SQLException {
+        runStatement(true);
+
+        verify(primaryDataSource).getConnection();
+    }
+
+    @Test
+    void readOnlyTransactionsOnReplicaDoNotPutInSecondLevelCache() throws SQLException {
+        replicaLag(0);
+        Session session = mock(Session.class);
+        when(session.getCacheMode()).thenReturn(CacheMode.NORMAL);
+
+        runStatement(true, session);
+
+        verify(session).setCacheMode(CacheMode.GET);
+    }
+
+    @Test
+    void readOnlyTransactionsOnReplicaKeepIgnoringSecondLevelCache() throws SQLException {
+        replicaLag(0);
+        Session session = mock(Session.class);
+        when(session.getCacheMode()).thenReturn(CacheMode.IGNORE);
+
+        runStatement(true, session);
+
+        verify(session, never()).setCacheMode(any());
+    }
+
+    @Test
+    void transactionsOnPrimaryKeepSecondLevelCacheMode() throws SQLException {
+        replicaLag(30);
+        Session session = mock(Session.class);
+        when(session.getCacheMode()).thenReturn(CacheMode.NORMAL);
+
+        runStatement(true, session);
+        runStatement(false, session);
+
+        verify(session, never()).setCacheMode(any());
+    }
+
+    private void replicaLag(long seconds) throws SQLException {
+        when(lagResultSet.next()).thenReturn(true);
+        when(lagResultSet.getObject("Seconds_Behind_Source")).thenReturn(seconds);
+        replicaLagMonitor.checkLag();
+        clearInvocations(replicaDataSource);
+    }
+
+    private void runStatement(boolean readOnly) {
+        runStatement(readOnly, null);
+    }
+
+    private void runStatement(boolean readOnly, Session session) {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        transactionTemplate.setReadOnly(readOnly);
+        transactionTemplate.executeWithoutResult(status -> {
+            EntityManagerFactory entityManagerFactory = mock(EntityManagerFactory.class);
+            if (session != null) {
+                EntityManager entityManager = mock(EntityManager.class);
+                when(entityManager.unwrap(Session.class)).thenReturn(session);
+                TransactionSynchronizationManager.bindResource(entityManagerFactory, new EntityManagerHolder(entityManager));
+            }
+            try {
+                DataSourceUtils.getConnection(dataSource).createStatement();
+            } catch (SQLException e) {
+                throw new IllegalStateException(e);
+            } finally {
+                TransactionSynchronizationManager.unbindResourceIfPossible(entityManagerFactory);
+            }
+        });
+    }
+
+    private double routedConnections(String target, boolean readOnly) {
+        return meterRegistry
+            .get(ReplicaRoutingDataSource.ROUTING_METER_NAME)
+            .tag("target", target)
+            .tag("read-only", Boolean.toString(readOnly))
+            .counter()
+            .count();
+    }
+
+    private static DataSource standInDataSource() throws SQLException {
+        DataSource standIn = mock(DataSource.class);
+        Connection connection = mock(Connection.class);
+        Statement statement = mock(Statement.class);
+        when(standIn.getConnection()).thenReturn(connection);
+        when(connection.createStatement()).thenReturn(statement);
+        return standIn;
+    }
+}
@@ -0,0 +1,123 @@
+package com.trongdev.todoapp.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.function.Function;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Tests the {@link ReplicaRoutingDataSource} against two embedded databases, each holding a row naming it.
+ */
+class ReplicaRoutingEmbeddedDatabasesTest {
+
+    private EmbeddedDatabase primaryDatabase;
+
+    private EmbeddedDatabase replicaDatabase;
+
+    private ReplicaLagMonitor replicaLagMonitor;
+
+    private DataSource dataSource;
+
+    @BeforeEach
+    public void setup() {
+        primaryDatabase = embeddedDatabase("primary");
+        replicaDatabase = embeddedDatabase("replica");
+        new JdbcTemplate(replicaDatabase).execute("CREATE TABLE replica_status (lag_seconds BIGINT)");
+
+        ApplicationProperties.Replica properties = new ApplicationProperties.Replica();
+        properties.setMaxLag(Duration.ofSeconds(5));
+        properties.setLagQuery("SELECT lag_seconds AS Seconds_Behind_Source FROM replica_status");
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        replicaLagMonitor = new ReplicaLagMonitor(replicaDatabase, properties, meterRegistry);
+        dataSource = new LazyConnectionDataSourceProxy(
+            new ReplicaRoutingDataSource(primaryDatabase, replicaDatabase, replicaLagMonitor, meterRegistry)
+        );
+    }
+
+    @AfterEach
+    public void tearDown() {
+        primaryDatabase.shutdown();
+        replicaDatabase.shutdown();
+    }
+
+    @Test
+    void readOnlyTransactionsReadFromReplica() {
+        replicaLag(1);
+
+        assertThat(databaseName(true)).isEqualTo("replica");
+    }
+
+    @Test
+    void readWriteTransactionsReadFromPrimary() {
+        replicaLag(1);
+
+        assertThat(databaseName(false)).isEqualTo("primary");
+    }
+
+    @Test
+    void readWriteTransactionsWriteToPrimary() {
+        replicaLag(1);
+
+        inTransaction(false, jdbcTemplate -> jdbcTemplate.update("INSERT INTO database_name (name) VALUES ('written')"));
+
+        assertThat(rowCount(primaryDatabase)).isEqualTo(2);
+        assertThat(rowCount(replicaDatabase)).isEqualTo(1);
+    }
+
+    @Test
+    void readOnlyTransactionsReadFromPrimaryWhenReplicaLags() {
+        replicaLag(30);
+
+        assertThat(databaseName(true)).isEqualTo("primary");
+    }
+
+    @Test
+    void readOnlyTransactionsReadFromPrimaryWhenReplicaDoesNotReplicate() {
+        replicaLagMonitor.checkLag();
+
+        assertThat(databaseName(true)).isEqualTo("primary");
+    }
+
+    private void replicaLag(long seconds) {
+        JdbcTemplate replica = new JdbcTemplate(replicaDatabase);
+        replica.update("DELETE FROM replica_status");
+        replica.update("INSERT INTO replica_status (lag_seconds) VALUES (?)", seconds);
+        replicaLagMonitor.checkLag();
+    }
+
+    private String databaseName(boolean readOnly) {
+        return inTransaction(readOnly, jdbcTemplate ->
+            jdbcTemplate.queryForObject("SELECT MIN(name) FROM database_name", String.class)
+        );
+    }
+
+    private <T> T inTransaction(boolean readOnly, Function<JdbcTemplate, T> work) {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        transactionTemplate.setReadOnly(readOnly);
+        return transactionTemplate.execute(status -> work.apply(new JdbcTemplate(dataSource)));
+    }
+
+    private static int rowCount(DataSource database) {
+        return new JdbcTemplate(database).queryForObject("SELECT COUNT(*) FROM database_name", Integer.class);
+    }
+
+    private static EmbeddedDatabase embeddedDatabase(String name) {
+        EmbeddedDatabase database = new EmbeddedDatabaseBuilder().setType(EmbeddedDatabaseType.H2).generateUniqueName(true).build();
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(database);
+        jdbcTemplate.execute("CREATE TABLE database_name (name VARCHAR(16))");
+        jdbcTemplate.update("INSERT INTO database_name (name) VALUES (?)", name);
+        return database;
+    }
+}
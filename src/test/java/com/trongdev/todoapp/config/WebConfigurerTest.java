@@ -9,12 +9,24 @@ import static org.springframework.test.web.servlet.request.MockMvcRequestBuilder
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
+import com.trongdev.todoapp.web.rest.CatalogueChangeResource;
 import jakarta.servlet.*;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.boot.web.embedded.undertow.UndertowServletWebServerFactory;
+import org.springframework.boot.web.server.WebServer;
 import org.springframework.http.HttpHeaders;
 import org.springframework.mock.env.MockEnvironment;
 import org.springframework.mock.web.MockServletContext;
@@ -36,6 +48,8 @@ class WebConfigurerTest {
 
     private JHipsterProperties props;
 
+    private ApplicationProperties applicationProperties;
+
     @BeforeEach
     public void setup() {
         servletContext = spy(new MockServletContext());
@@ -44,8 +58,9 @@ class WebConfigurerTest {
 
         env = new MockEnvironment();
         props = new JHipsterProperties();
+        applicationProperties = new ApplicationProperties();
 
-        webConfigurer = new WebConfigurer(env, props);
+        webConfigurer = new WebConfigurer(env, props, applicationProperties);
     }
 
     @Test
@@ -61,6 +76,28 @@ class WebConfigurerTest {
         }
     }
 
+    @Test
+    void shouldCloseChangeStreamNotReadByItsClient() throws Exception {
+        applicationProperties.getCatalogueChanges().setWriteTimeout(Duration.ofMillis(500));
+        UndertowServletWebServerFactory container = new UndertowServletWebServerFactory(0);
+        webConfigurer.customize(container);
+        CompletableFuture<IOException> writeFailure = new CompletableFuture<>();
+        WebServer server = container.getWebServer(context ->
+            context.addServlet("changes", new EndlessStreamServlet(writeFailure)).addMapping(CatalogueChangeResource.CHANGES_PATH)
+        );
+        server.start();
+        try (Socket socket = new Socket("localhost", server.getPort())) {
+            String request = "GET " + CatalogueChangeResource.CHANGES_PATH + " HTTP/1.1\r\nHost: localhost\r\n\r\n";
+            socket.getOutputStream().write(request.getBytes(StandardCharsets.US_ASCII));
+            socket.getOutputStream().flush();
+
+            // The response is never read, so the writes block once the socket buffers are full
+            assertThat(writeFailure.get(10, TimeUnit.SECONDS)).isNotNull();
+        } finally {
+            server.stop();
+        }
+    }
+
     @Test
     void shouldCorsFilterOnApiPath() throws Exception {
         props.getCors().setAllowedOrigins(Collections.singletonList("other.domain.com"));
@@ -129,4 +166,27 @@ class WebConfigurerTest {
             .andExpect(status().isOk())
             .andExpect(header().doesNotExist(HttpHeaders.ACCESS_CONTROL_ALLOW_ORIGIN));
     }
+
+    private static class EndlessStreamServlet extends HttpServlet {
+
+        private final CompletableFuture<IOException> writeFailure;
+
+        private EndlessStreamServlet(CompletableFuture<IOException> writeFailure) {
+            this.writeFailure = writeFailure;
+        }
+
+        @Override
+        protected void doGet(HttpServletRequest request, HttpServletResponse response) {
+            byte[] chunk = new byte[8192];
+            try {
+                OutputStream out = response.getOutputStream();
+                while (true) {
+                    out.write(chunk);
+                    out.flush();
+                }
+            } catch (IOException e) {
+                writeFailure.complete(e);
+            }
+        }
+    }
 }
@@ -13,6 +13,8 @@ class SecurityMetersServiceTests {
 
     private static final String INVALID_TOKENS_METER_EXPECTED_NAME = "security.authentication.invalid-tokens";
 
+    private static final String TOKEN_DECODING_METER_EXPECTED_NAME = "security.authentication.token-decoding";
+
     private MeterRegistry meterRegistry;
 
     private SecurityMetersService securityMetersService;
@@ -67,4 +69,15 @@ class SecurityMetersServiceTests {
 
         assertThat(meterRegistry.get(INVALID_TOKENS_METER_EXPECTED_NAME).tag("cause", "malformed").counter().count()).isEqualTo(1);
     }
+
+    @Test
+    void testTokenDecodingTimersByResultAreCreated() {
+        securityMetersService.recordTokenDecoded(1_000);
+        securityMetersService.recordTokenMalformed(2_000);
+
+        assertThat(meterRegistry.get(TOKEN_DECODING_METER_EXPECTED_NAME).tag("result", "success").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get(TOKEN_DECODING_METER_EXPECTED_NAME).tag("result", "malformed").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get(INVALID_TOKENS_METER_EXPECTED_NAME).tag("cause", "malformed").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.find(TOKEN_DECODING_METER_EXPECTED_NAME).timers()).hasSize(6);
+    }
 }
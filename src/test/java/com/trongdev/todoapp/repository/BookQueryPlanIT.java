@@ -0,0 +1,181 @@
+package com.trongdev.todoapp.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.trongdev.todoapp.IntegrationTest;
+import com.trongdev.todoapp.config.CapturingStatementInspector;
+import com.trongdev.todoapp.domain.Author;
+import com.trongdev.todoapp.domain.Book;
+import com.trongdev.todoapp.service.BookDeletionService;
+import com.trongdev.todoapp.service.BookQueryService;
+import com.trongdev.todoapp.service.criteria.BookCriteria;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * Checks on the test database that the book list queries generated by {@link BookQueryService} for the criteria filters
+ * are answered by the indexes of the {@code book} table.
+ * <p>
+ * The SQL Hibernate generates is captured and explained with the same parameters, on a catalogue large enough for the
+ * optimizer to prefer the indexes over a full scan. The catalogue is committed, so that its statistics can be analyzed.
+ */
+@IntegrationTest
+class BookQueryPlanIT {
+
+    private static final int AUTHORS = 100;
+
+    private static final int BOOKS = 2000;
+
+    private static final int PAGE_SIZE = 20;
+
+    private static final LocalDate FIRST_PUBLICATION_DATE = LocalDate.of(2000, 1, 1);
+
+    private static final Pattern BOOK_ALIAS = Pattern.compile("\\bfrom book (\\w+)");
+
+    @Autowired
+    private AuthorRepository authorRepository;
+
+    @Autowired
+    private BookRepository bookRepository;
+
+    @Autowired
+    private BookDeletionService bookDeletionService;
+
+    @Autowired
+    private BookQueryService bookQueryService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final List<Author> authors = new ArrayList<>();
+
+    private final List<Book> books = new ArrayList<>();
+
+    @BeforeEach
+    public void initCatalogue() {
+        for (int i = 0; i < AUTHORS; i++) {
+            authors.add(new Author().name("plan-author-" + i));
+        }
+        authorRepository.saveAll(authors);
+        for (int i = 0; i < BOOKS; i++) {
+            books.add(
+                new Book()
+                    .title((i % 100 == 0 ? "The plan " : "Plan ") + i)
+                    .publicationDate(FIRST_PUBLICATION_DATE.plusDays(i))
+                    .price(BigDecimal.valueOf(i % 1000))
+                    .author(authors.get(i % AUTHORS))
+            );
+        }
+        bookRepository.saveAll(books);
+        jdbcTemplate.execute("analyze table book");
+    }
+
+    @AfterEach
+    public void cleanup() {
+        bookDeletionService.deleteBooks(books.stream().map(Book::getId).toList());
+        authorRepository.deleteAll(authors);
+    }
+
+    @Test
+    void priceRangeIsAnsweredByPriceIndex() {
+        BookCriteria criteria = new BookCriteria();
+        criteria.price().setGreaterThanOrEqual(BigDecimal.valueOf(10));
+        criteria.price().setLessThan(BigDecimal.valueOf(20));
+
+        Map<String, Object> plan = bookPlan(criteria, BigDecimal.valueOf(10), BigDecimal.valueOf(20));
+
+        assertThat(plan).containsEntry("key", "idx_book_price").containsEntry("type", "range");
+    }
+
+    @Test
+    void authorIsAnsweredByAuthorIndex() {
+        Long authorId = authors.get(0).getId();
+        BookCriteria criteria = new BookCriteria();
+        criteria.authorId().setEquals(authorId);
+
+        Map<String, Object> plan = bookPlan(criteria, authorId);
+
+        // the foreign key index on author_id is superseded by the composite index, which starts with it
+        assertThat(plan.get("key")).isIn("idx_book_author_publication_date", "fk_book__author_id");
+        assertThat(plan).containsEntry("type", "ref");
+    }
+
+    @Test
+    void authorAndPublicationDateRangeIsAnsweredByCompositeIndex() {
+        Long authorId = authors.get(0).getId();
+        LocalDate from = FIRST_PUBLICATION_DATE.plusDays(100);
+        LocalDate to = FIRST_PUBLICATION_DATE.plusDays(500);
+        BookCriteria criteria = new BookCriteria();
+        criteria.authorId().setEquals(authorId);
+        criteria.publicationDate().setGreaterThanOrEqual(from);
+        criteria.publicationDate().setLessThan(to);
+
+        // the publication date filter comes before the author filter in the generated SQL
+        Map<String, Object> plan = bookPlan(criteria, from, to, authorId);
+
+        assertThat(plan).containsEntry("key", "idx_book_author_publication_date").containsEntry("type", "range");
+    }
+
+    @Test
+    void titlePrefixIsAnsweredByTitleIndex() {
+        BookCriteria criteria = new BookCriteria();
+        criteria.title().setStartsWith("The plan");
+
+        Map<String, Object> plan = bookPlan(criteria, "The plan%");
+
+        assertThat(plan).containsEntry("key", "idx_book_title").containsEntry("type", "range");
+    }
+
+    @Test
+    void titleContainsIsAFullScan() {
+        // the case insensitive StringFilter.contains is a full scan, hence the startsWith filter
+        BookCriteria criteria = new BookCriteria();
+        criteria.title().setContains("plan");
+
+        Map<String, Object> plan = bookPlan(criteria, "%PLAN%");
+
+        assertThat(plan.get("key")).isNull();
+        assertThat(plan).containsEntry("type", "ALL");
+    }
+
+    /**
+     * Explain the book list query generated for the criteria, with the parameters of its filters in the order of the SQL,
+     * and return the plan of the {@code book} table.
+     */
+    private Map<String, Object> bookPlan(BookCriteria criteria, Object... filterParameters) {
+        List<String> statements = CapturingStatementInspector.capture(() ->
+            bookQueryService.findSummarySliceByCriteria(criteria, PageRequest.of(0, PAGE_SIZE))
+        );
+        assertThat(statements).hasSize(1);
+        String sql = statements.get(0);
+
+        // the parameters after the filters are the ones of the limit clause
+        long parameterCount = sql.chars().filter(c -> c == '?').count();
+        assertThat(parameterCount).isGreaterThan(filterParameters.length);
+        Object[] parameters = Stream.concat(
+            Stream.of(filterParameters),
+            Stream.generate(() -> PAGE_SIZE + 1).limit(parameterCount - filterParameters.length)
+        ).toArray();
+
+        Matcher bookAlias = BOOK_ALIAS.matcher(sql);
+        assertThat(bookAlias.find()).as("book table of %s", sql).isTrue();
+        return jdbcTemplate
+            .queryForList("explain " + sql, parameters)
+            .stream()
+            .filter(row -> bookAlias.group(1).equals(row.get("table")))
+            .findFirst()
+            .orElseThrow();
+    }
+}
@@ -0,0 +1,56 @@
+package com.trongdev.todoapp.security;
+
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.trongdev.todoapp.config.ApplicationProperties;
+import com.trongdev.todoapp.management.SecurityMetersService;
+import com.trongdev.todoapp.security.AuthenticationThrottle.Endpoint;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+class AuthenticationThrottleTest {
+
+    private static final String LOAD_BALANCER = "10.0.0.1";
+
+    private final AuthenticationThrottle throttle = new AuthenticationThrottle(
+        applicationProperties(),
+        new SecurityMetersService(new SimpleMeterRegistry())
+    );
+
+    @Test
+    void throttlesTheClientsBehindTheLoadBalancerApart() {
+        throttle.checkAttempt(Endpoint.AUTHENTICATE, forwardedRequest("198.51.100.1"), null);
+        throttle.checkAttempt(Endpoint.AUTHENTICATE, forwardedRequest("198.51.100.1"), null);
+
+        assertThatThrownBy(() -> throttle.checkAttempt(Endpoint.AUTHENTICATE, forwardedRequest("198.51.100.1"), null)).isInstanceOf(
+            AuthenticationThrottledException.class
+        );
+        // Another client, behind the same load balancer, is not locked out
+        assertThatCode(() -> throttle.checkAttempt(Endpoint.AUTHENTICATE, forwardedRequest("198.51.100.2"), null)).doesNotThrowAnyException();
+    }
+
+    @Test
+    void throttlesTheClientsForgingTheirAddress() {
+        throttle.checkAttempt(Endpoint.AUTHENTICATE, forwardedRequest("192.0.2.1, 198.51.100.1"), null);
+        throttle.checkAttempt(Endpoint.AUTHENTICATE, forwardedRequest("192.0.2.2, 198.51.100.1"), null);
+
+        assertThatThrownBy(() ->
+            throttle.checkAttempt(Endpoint.AUTHENTICATE, forwardedRequest("192.0.2.3, 198.51.100.1"), null)
+        ).isInstanceOf(AuthenticationThrottledException.class);
+    }
+
+    private static MockHttpServletRequest forwardedRequest(String forwardedFor) {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setRemoteAddr(LOAD_BALANCER);
+        request.addHeader("X-Forwarded-For", forwardedFor);
+        return request;
+    }
+
+    private static ApplicationProperties applicationProperties() {
+        ApplicationProperties applicationProperties = new ApplicationProperties();
+        applicationProperties.getAuthenticationThrottling().getPerIp().setCapacity(2);
+        return applicationProperties;
+    }
+}
@@ -0,0 +1,113 @@
+package com.trongdev.todoapp.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.password.NoOpPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+class BoundedPasswordEncoderTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+    private final CountDownLatch started = new CountDownLatch(1);
+
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    private final BoundedPasswordEncoder encoder = new BoundedPasswordEncoder(
+        new BlockingPasswordEncoder(),
+        1,
+        1,
+        Duration.ofSeconds(5),
+        Duration.ofSeconds(3),
+        registry
+    );
+
+    @AfterEach
+    public void close() {
+        release.countDown();
+        encoder.close();
+    }
+
+    @Test
+    void hashesOnThePool() {
+        release.countDown();
+
+        assertThat(encoder.encode("password")).isEqualTo("password");
+        assertThat(encoder.matches("password", "password")).isTrue();
+        assertThat(registry.get("security.password-hashing.duration").timer().count()).isEqualTo(2);
+        assertThat(registry.get("security.password-hashing.wait").timer().count()).isEqualTo(2);
+    }
+
+    @Test
+    void rejectsWhenTheQueueIsFull() throws Exception {
+        CompletableFuture<String> hashing = CompletableFuture.supplyAsync(() -> encoder.encode("first"));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        CompletableFuture<String> queued = CompletableFuture.supplyAsync(() -> encoder.encode("second"));
+        while (registry.get("security.password-hashing.queued").gauge().value() < 1) {
+            Thread.onSpinWait();
+        }
+
+        assertThatThrownBy(() -> encoder.encode("third"))
+            .isInstanceOf(PasswordHashingRejectedException.class)
+            .extracting(e -> ((PasswordHashingRejectedException) e).getRetryAfter())
+            .isEqualTo(Duration.ofSeconds(3));
+        assertThat(registry.get("security.password-hashing.rejected").counter().count()).isEqualTo(1);
+
+        release.countDown();
+        assertThat(hashing.get(5, TimeUnit.SECONDS)).isEqualTo("first");
+        assertThat(queued.get(5, TimeUnit.SECONDS)).isEqualTo("second");
+    }
+
+    @Test
+    void rejectsAfterTheMaxWait() throws Exception {
+        try (
+            BoundedPasswordEncoder impatientEncoder = new BoundedPasswordEncoder(
+                new BlockingPasswordEncoder(),
+                1,
+                1,
+                Duration.ofMillis(50),
+                Duration.ofSeconds(1),
+                registry
+            )
+        ) {
+            assertThatThrownBy(() -> impatientEncoder.encode("password")).isInstanceOf(PasswordHashingRejectedException.class);
+        }
+    }
+
+    /**
+     * Passwords are stored in clear text, once released.
+     */
+    private class BlockingPasswordEncoder implements PasswordEncoder {
+
+        private final PasswordEncoder delegate = NoOpPasswordEncoder.getInstance();
+
+        @Override
+        public String encode(CharSequence rawPassword) {
+            await();
+            return delegate.encode(rawPassword);
+        }
+
+        @Override
+        public boolean matches(CharSequence rawPassword, String encodedPassword) {
+            await();
+            return delegate.matches(rawPassword, encodedPassword);
+        }
+
+        private void await() {
+            started.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package com.trongdev.todoapp.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.oauth2.jwt.BadJwtException;
+import org.springframework.security.oauth2.jwt.Jwt;
+
+class CachingJwtDecoderTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+    private final AtomicInteger decoded = new AtomicInteger();
+
+    private final CachingJwtDecoder decoder = new CachingJwtDecoder(
+        token -> {
+            decoded.incrementAndGet();
+            if (token.startsWith("bad")) {
+                throw new BadJwtException("Invalid signature");
+            }
+            Instant now = Instant.now();
+            Jwt.Builder jwt = Jwt.withTokenValue(token).header("alg", "HS512").subject("user").issuedAt(now.minusSeconds(10));
+            return token.startsWith("expired") ? jwt.expiresAt(now.minusSeconds(1)).build() : jwt.expiresAt(now.plusSeconds(60)).build();
+        },
+        100,
+        registry
+    );
+
+    @Test
+    void decodesEachTokenOnce() {
+        Jwt jwt = decoder.decode("token");
+
+        assertThat(decoder.decode("token")).isSameAs(jwt);
+        assertThat(decoder.decode("other-token")).isNotSameAs(jwt);
+        assertThat(decoded).hasValue(2);
+        assertThat(registry.get("cache.gets").tag("cache", CachingJwtDecoder.CACHE_NAME).tag("result", "hit").functionCounter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void doesNotCacheFailures() {
+        assertThatThrownBy(() -> decoder.decode("bad")).isInstanceOf(BadJwtException.class);
+        assertThatThrownBy(() -> decoder.decode("bad")).isInstanceOf(BadJwtException.class);
+
+        assertThat(decoded).hasValue(2);
+    }
+
+    @Test
+    void doesNotKeepTokensPastTheirExpiry() {
+        decoder.decode("expired");
+        decoder.decode("expired");
+
+        assertThat(decoded).hasValue(2);
+    }
+
+    @Test
+    void invalidateAllForgetsTheTokens() {
+        decoder.decode("token");
+        decoder.invalidateAll();
+        decoder.decode("token");
+
+        assertThat(decoded).hasValue(2);
+    }
+}
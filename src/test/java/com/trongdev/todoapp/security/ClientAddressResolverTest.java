@@ -0,0 +1,47 @@
+package com.trongdev.todoapp.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+class ClientAddressResolverTest {
+
+    private final ClientAddressResolver resolver = new ClientAddressResolver(List.of("10.0.0.0/8", "::1/128"));
+
+    @Test
+    void ignoresTheForwardedAddressesOfUntrustedClients() {
+        assertThat(resolver.resolve(request("203.0.113.7", "198.51.100.1"))).isEqualTo("203.0.113.7");
+    }
+
+    @Test
+    void readsTheClientAddressForwardedByTrustedProxies() {
+        assertThat(resolver.resolve(request("10.0.0.1", "198.51.100.1"))).isEqualTo("198.51.100.1");
+        assertThat(resolver.resolve(request("10.0.0.1", "198.51.100.1, 10.0.0.2"))).isEqualTo("198.51.100.1");
+        assertThat(resolver.resolve(request("::1", "2001:db8::1"))).isEqualTo("2001:db8::1");
+        assertThat(resolver.resolve(request("10.0.0.1"))).isEqualTo("10.0.0.1");
+    }
+
+    @Test
+    void ignoresTheAddressesForgedByTheClient() {
+        // The client wrote the first address, the trusted proxy appended the address it saw
+        assertThat(resolver.resolve(request("10.0.0.1", "192.0.2.99, 198.51.100.1"))).isEqualTo("198.51.100.1");
+        assertThat(resolver.resolve(request("10.0.0.1", "192.0.2.99", "198.51.100.1"))).isEqualTo("198.51.100.1");
+    }
+
+    @Test
+    void stopsAtTheFirstForwardedAddressWhichIsNotAnIpLiteral() {
+        assertThat(resolver.resolve(request("10.0.0.1", "attacker.example.com"))).isEqualTo("10.0.0.1");
+        assertThat(resolver.resolve(request("10.0.0.1", "198.51.100.1, unknown, 10.0.0.2"))).isEqualTo("10.0.0.2");
+    }
+
+    private static MockHttpServletRequest request(String remoteAddress, String... forwardedFor) {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setRemoteAddr(remoteAddress);
+        for (String header : forwardedFor) {
+            request.addHeader(ClientAddressResolver.FORWARDED_FOR_HEADER, header);
+        }
+        return request;
+    }
+}
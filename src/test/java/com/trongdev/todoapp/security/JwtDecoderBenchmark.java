@@ -0,0 +1,89 @@
+package com.trongdev.todoapp.security;
+
+import static com.trongdev.todoapp.security.SecurityUtils.AUTHORITIES_KEY;
+import static com.trongdev.todoapp.security.SecurityUtils.JWT_ALGORITHM;
+
+import com.nimbusds.jose.jwk.source.ImmutableSecret;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.security.SecureRandom;
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+import javax.crypto.SecretKey;
+import javax.crypto.spec.SecretKeySpec;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.security.oauth2.jwt.JwsHeader;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtClaimsSet;
+import org.springframework.security.oauth2.jwt.JwtEncoderParameters;
+import org.springframework.security.oauth2.jwt.NimbusJwtDecoder;
+import org.springframework.security.oauth2.jwt.NimbusJwtEncoder;
+
+/**
+ * JMH benchmark of the cost to decode the bearer token of a request with the {@link CachingJwtDecoder}: with a cold
+ * cache, each token is verified, parsed and validated before being cached, and with a warm cache it is only hashed
+ * and looked up.
+ * <p>
+ * It is not run by the test phases; run its {@link #main(String[])} method with the test classpath, after
+ * {@code ./mvnw test-compile}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtDecoderBenchmark {
+
+    private CachingJwtDecoder decoder;
+
+    private String token;
+
+    @Setup
+    public void setup() {
+        byte[] keyBytes = new byte[64];
+        new SecureRandom().nextBytes(keyBytes);
+        SecretKey key = new SecretKeySpec(keyBytes, JWT_ALGORITHM.getName());
+        Instant now = Instant.now();
+        JwtClaimsSet claims = JwtClaimsSet.builder()
+            .issuedAt(now)
+            .expiresAt(now.plusSeconds(3600))
+            .subject("user")
+            .claim(AUTHORITIES_KEY, "ROLE_USER")
+            .build();
+        token = new NimbusJwtEncoder(new ImmutableSecret<>(key))
+            .encode(JwtEncoderParameters.from(JwsHeader.with(JWT_ALGORITHM).build(), claims))
+            .getTokenValue();
+        decoder = new CachingJwtDecoder(
+            NimbusJwtDecoder.withSecretKey(key).macAlgorithm(JWT_ALGORITHM).build(),
+            10_000,
+            new SimpleMeterRegistry()
+        );
+    }
+
+    @Benchmark
+    public Jwt coldCache() {
+        decoder.invalidateAll();
+        return decoder.decode(token);
+    }
+
+    @Benchmark
+    public Jwt warmCache() {
+        return decoder.decode(token);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(JwtDecoderBenchmark.class.getSimpleName()).build()).run();
+    }
+}
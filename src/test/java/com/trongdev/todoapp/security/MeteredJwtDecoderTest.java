@@ -0,0 +1,97 @@
+package com.trongdev.todoapp.security;
+
+import static com.trongdev.todoapp.security.SecurityUtils.JWT_ALGORITHM;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.nimbusds.jose.jwk.source.ImmutableSecret;
+import com.trongdev.todoapp.management.SecurityMetersService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Base64;
+import javax.crypto.SecretKey;
+import javax.crypto.spec.SecretKeySpec;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.oauth2.jose.jws.MacAlgorithm;
+import org.springframework.security.oauth2.jwt.JwsHeader;
+import org.springframework.security.oauth2.jwt.JwtClaimsSet;
+import org.springframework.security.oauth2.jwt.JwtEncoderParameters;
+import org.springframework.security.oauth2.jwt.JwtException;
+import org.springframework.security.oauth2.jwt.JwtTimestampValidator;
+import org.springframework.security.oauth2.jwt.NimbusJwtDecoder;
+import org.springframework.security.oauth2.jwt.NimbusJwtEncoder;
+
+class MeteredJwtDecoderTest {
+
+    private static final String TOKEN_DECODING_METER_EXPECTED_NAME = "security.authentication.token-decoding";
+
+    private static final String INVALID_TOKENS_METER_EXPECTED_NAME = "security.authentication.invalid-tokens";
+
+    private final SecretKey key = key((byte) 0, JWT_ALGORITHM);
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private final MeteredJwtDecoder decoder;
+
+    MeteredJwtDecoderTest() {
+        NimbusJwtDecoder jwtDecoder = NimbusJwtDecoder.withSecretKey(key).macAlgorithm(JWT_ALGORITHM).build();
+        jwtDecoder.setJwtValidator(new JwtTimestampValidator());
+        decoder = new MeteredJwtDecoder(jwtDecoder, new SecurityMetersService(meterRegistry));
+    }
+
+    @Test
+    void timesTheDecodedTokens() {
+        decoder.decode(token(key, JWT_ALGORITHM, Instant.now().plusSeconds(60)));
+
+        assertThat(meterRegistry.get(TOKEN_DECODING_METER_EXPECTED_NAME).tag("result", "success").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.find(INVALID_TOKENS_METER_EXPECTED_NAME).counters()).allMatch(counter -> counter.count() == 0);
+    }
+
+    @Test
+    void classifiesExpiredTokens() {
+        assertRejected(token(key, JWT_ALGORITHM, Instant.now().minusSeconds(600)), "expired");
+    }
+
+    @Test
+    void classifiesInvalidSignatures() {
+        assertRejected(token(key((byte) 1, JWT_ALGORITHM), JWT_ALGORITHM, Instant.now().plusSeconds(60)), "invalid-signature");
+    }
+
+    @Test
+    void classifiesMalformedTokens() {
+        assertRejected("foo", "malformed");
+        assertRejected(token(key, JWT_ALGORITHM, Instant.now().plusSeconds(60)).substring(1), "malformed");
+    }
+
+    @Test
+    void classifiesUnsupportedTokens() {
+        String unsecured =
+            "eyJhbGciOiJub25lIn0." + Base64.getUrlEncoder().withoutPadding().encodeToString("{\"sub\":\"x\"}".getBytes(StandardCharsets.UTF_8)) + ".";
+        assertRejected(unsecured, "unsupported");
+        assertRejected(token(key((byte) 0, MacAlgorithm.HS256), MacAlgorithm.HS256, Instant.now().plusSeconds(60)), "unsupported");
+    }
+
+    private void assertRejected(String token, String cause) {
+        double count = meterRegistry.get(INVALID_TOKENS_METER_EXPECTED_NAME).tag("cause", cause).counter().count();
+        long timed = meterRegistry.get(TOKEN_DECODING_METER_EXPECTED_NAME).tag("result", cause).timer().count();
+
+        assertThatThrownBy(() -> decoder.decode(token)).isInstanceOf(JwtException.class);
+
+        assertThat(meterRegistry.get(INVALID_TOKENS_METER_EXPECTED_NAME).tag("cause", cause).counter().count()).isEqualTo(count + 1);
+        assertThat(meterRegistry.get(TOKEN_DECODING_METER_EXPECTED_NAME).tag("result", cause).timer().count()).isEqualTo(timed + 1);
+    }
+
+    private static SecretKey key(byte seed, MacAlgorithm algorithm) {
+        byte[] keyBytes = new byte[64];
+        keyBytes[0] = seed;
+        return new SecretKeySpec(keyBytes, algorithm.getName());
+    }
+
+    private static String token(SecretKey key, MacAlgorithm algorithm, Instant expiresAt) {
+        JwtClaimsSet claims = JwtClaimsSet.builder().issuedAt(expiresAt.minusSeconds(60)).expiresAt(expiresAt).subject("user").build();
+        return new NimbusJwtEncoder(new ImmutableSecret<>(key))
+            .encode(JwtEncoderParameters.from(JwsHeader.with(algorithm).build(), claims))
+            .getTokenValue();
+    }
+}
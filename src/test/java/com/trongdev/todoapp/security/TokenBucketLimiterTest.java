@@ -0,0 +1,101 @@
+package com.trongdev.todoapp.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+
+class TokenBucketLimiterTest {
+
+    private final AtomicLong now = new AtomicLong();
+
+    private final TokenBucketLimiter limiter = new TokenBucketLimiter(
+        5,
+        Duration.ofSeconds(10),
+        Duration.ofSeconds(15),
+        Duration.ofSeconds(40),
+        TokenBucketLimiter.STRIPES * 2,
+        now::get
+    );
+
+    @Test
+    void allowsTheCapacityThenLocksOut() {
+        acquire("key", 5);
+        assertThat(limiter.tryAcquire("key")).contains(Duration.ofSeconds(15));
+        assertThat(limiter.tryAcquire("other")).isEmpty();
+
+        advance(Duration.ofSeconds(10));
+        assertThat(limiter.tryAcquire("key")).contains(Duration.ofSeconds(5));
+    }
+
+    @Test
+    void doublesTheConsecutiveLockoutsUpToTheMax() {
+        acquire("key", 5);
+        assertThat(limiter.tryAcquire("key")).contains(Duration.ofSeconds(15));
+
+        advance(Duration.ofSeconds(15));
+        acquire("key", 1);
+        assertThat(limiter.tryAcquire("key")).contains(Duration.ofSeconds(30));
+
+        advance(Duration.ofSeconds(30));
+        acquire("key", 3);
+        assertThat(limiter.tryAcquire("key")).contains(Duration.ofSeconds(40));
+    }
+
+    @Test
+    void waitsForTheNextTokenWhenLongerThanTheLockout() {
+        TokenBucketLimiter slowLimiter = new TokenBucketLimiter(
+            1,
+            Duration.ofMinutes(1),
+            Duration.ofSeconds(15),
+            Duration.ofSeconds(40),
+            TokenBucketLimiter.STRIPES,
+            now::get
+        );
+        acquire(slowLimiter, "key", 1);
+
+        assertThat(slowLimiter.tryAcquire("key")).contains(Duration.ofMinutes(1));
+    }
+
+    @Test
+    void forgivesTheLockoutsOnceTheBucketIsFull() {
+        acquire("key", 5);
+        assertThat(limiter.tryAcquire("key")).isPresent();
+
+        advance(Duration.ofSeconds(60));
+        acquire("key", 5);
+        assertThat(limiter.tryAcquire("key")).contains(Duration.ofSeconds(15));
+    }
+
+    @Test
+    void resetForgetsTheKey() {
+        acquire("key", 5);
+        limiter.reset("key");
+
+        assertThat(limiter.tryAcquire("key")).isEmpty();
+    }
+
+    @Test
+    void boundsTheNumberOfKeys() {
+        for (int i = 0; i < 10_000; i++) {
+            limiter.tryAcquire("key" + i);
+        }
+
+        assertThat(limiter.size()).isLessThanOrEqualTo(TokenBucketLimiter.STRIPES * 2);
+    }
+
+    private void acquire(String key, int attempts) {
+        acquire(limiter, key, attempts);
+    }
+
+    private static void acquire(TokenBucketLimiter limiter, String key, int attempts) {
+        for (int i = 0; i < attempts; i++) {
+            assertThat(limiter.tryAcquire(key)).isEmpty();
+        }
+    }
+
+    private void advance(Duration duration) {
+        now.addAndGet(duration.toNanos());
+    }
+}
@@ -0,0 +1,115 @@
+package com.trongdev.todoapp.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.oauth2.jwt.Jwt;
+
+class TokenRevocationListTest {
+
+    private final TokenRevocationList revocationList = new TokenRevocationList();
+
+    private final Instant now = Instant.now().truncatedTo(ChronoUnit.SECONDS);
+
+    @Test
+    void revokesTokensById() {
+        revocationList.revoke("revoked", now.plusSeconds(60));
+
+        assertThat(revocationList.isRevoked(jwt("revoked", "user", now))).isTrue();
+        assertThat(revocationList.isRevoked(jwt("other", "user", now))).isFalse();
+        assertThat(revocationList.isRevoked(jwt(null, "user", now))).isFalse();
+    }
+
+    @Test
+    void revokesTheTokensOfAUserIssuedUpToAnInstant() {
+        revocationList.revokeIssuedBefore("user", now, now.plusSeconds(60));
+
+        assertThat(revocationList.isRevoked(jwt("before", "user", now.minusSeconds(10)))).isTrue();
+        assertThat(revocationList.isRevoked(jwt("same-instant", "user", now))).isTrue();
+        assertThat(revocationList.isRevoked(jwt("after", "user", now.plusMillis(1)))).isFalse();
+        assertThat(revocationList.isRevoked(jwt("other-user", "other", now.minusSeconds(10)))).isFalse();
+
+        // An older revocation doesn't move the instant back
+        revocationList.revokeIssuedBefore("user", now.minusSeconds(30), now.plusSeconds(30));
+        assertThat(revocationList.isRevoked(jwt("before", "user", now.minusSeconds(10)))).isTrue();
+    }
+
+    @Test
+    void revokesTheTokensWithoutMillisecondsIssuedInTheSecondOfTheRevocation() {
+        Instant revokedBefore = now.plusMillis(500);
+        revocationList.revokeIssuedBefore("user", revokedBefore, revokedBefore.plusSeconds(60));
+
+        assertThat(revocationList.isRevoked(jwt("before", "user", now.plusMillis(200)))).isTrue();
+        assertThat(revocationList.isRevoked(jwt("after", "user", now.plusMillis(800)))).isFalse();
+        assertThat(revocationList.isRevoked(secondsOnlyJwt("same-second", "user", now))).isTrue();
+        assertThat(revocationList.isRevoked(secondsOnlyJwt("next-second", "user", now.plusSeconds(1)))).isFalse();
+    }
+
+    @Test
+    void purgesTheExpiredRevocations() {
+        revocationList.revoke("expired", now.minusSeconds(1));
+        revocationList.revoke("revoked", now.plusSeconds(60));
+        revocationList.revokeIssuedBefore("expired-user", now.minusSeconds(60), now.minusSeconds(1));
+        revocationList.revokeIssuedBefore("user", now, now.plusSeconds(60));
+
+        revocationList.purgeExpired(now);
+
+        assertThat(revocationList.revokedIdCount()).isEqualTo(1);
+        assertThat(revocationList.revokedUserCount()).isEqualTo(1);
+        assertThat(revocationList.isRevoked(jwt("expired", "other", now))).isFalse();
+        assertThat(revocationList.isRevoked(jwt("revoked", "other", now))).isTrue();
+        assertThat(revocationList.isRevoked(jwt(null, "expired-user", now.minusSeconds(120)))).isFalse();
+        assertThat(revocationList.isRevoked(jwt(null, "user", now))).isTrue();
+    }
+
+    @Test
+    void growsTheFilterWithoutLosingRevocations() {
+        for (int i = 0; i < 20_000; i++) {
+            revocationList.revoke("revoked-" + i, now.plusSeconds(60));
+        }
+
+        for (int i = 0; i < 20_000; i++) {
+            assertThat(revocationList.isRevoked(jwt("revoked-" + i, "user", now))).isTrue();
+        }
+        for (int i = 0; i < 20_000; i++) {
+            assertThat(revocationList.isRevoked(jwt("valid-" + i, "user", now))).isFalse();
+        }
+    }
+
+    @Test
+    void keepsTheFalsePositiveRateOfTheFilterAroundOnePercent() {
+        // the most ids the smallest filter holds before it is rebuilt
+        int revoked = TokenRevocationList.MIN_BITS / TokenRevocationList.MIN_BITS_PER_ID;
+        for (int i = 0; i < revoked; i++) {
+            revocationList.revoke("revoked-" + i, now.plusSeconds(60));
+        }
+
+        int probes = 100_000;
+        int falsePositives = 0;
+        for (int i = 0; i < probes; i++) {
+            if (revocationList.mightBeRevoked("valid-" + i)) {
+                falsePositives++;
+            }
+        }
+        assertThat((double) falsePositives / probes).isLessThan(0.015);
+    }
+
+    private Jwt jwt(String id, String subject, Instant issuedAt) {
+        return jwtBuilder(id, subject, issuedAt).claim(SecurityUtils.ISSUED_AT_MILLIS_KEY, issuedAt.toEpochMilli()).build();
+    }
+
+    private Jwt secondsOnlyJwt(String id, String subject, Instant issuedAt) {
+        return jwtBuilder(id, subject, issuedAt.truncatedTo(ChronoUnit.SECONDS)).build();
+    }
+
+    private Jwt.Builder jwtBuilder(String id, String subject, Instant issuedAt) {
+        Jwt.Builder jwt = Jwt.withTokenValue("token")
+            .header("alg", "HS512")
+            .subject(subject)
+            .issuedAt(issuedAt)
+            .expiresAt(issuedAt.plusSeconds(60));
+        return id == null ? jwt : jwt.jti(id);
+    }
+}
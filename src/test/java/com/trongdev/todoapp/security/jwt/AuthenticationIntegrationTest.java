@@ -1,9 +1,11 @@
 package com.trongdev.todoapp.security.jwt;
 
+import com.trongdev.todoapp.config.ApplicationProperties;
 import com.trongdev.todoapp.config.SecurityConfiguration;
 import com.trongdev.todoapp.config.SecurityJwtConfiguration;
 import com.trongdev.todoapp.config.WebConfigurer;
 import com.trongdev.todoapp.management.SecurityMetersService;
+import com.trongdev.todoapp.security.AuthenticationThrottle;
 import com.trongdev.todoapp.web.rest.AuthenticateController;
 import java.lang.annotation.ElementType;
 import java.lang.annotation.Retention;
@@ -21,11 +23,13 @@ import tech.jhipster.config.JHipsterProperties;
     },
     classes = {
         JHipsterProperties.class,
+        ApplicationProperties.class,
         WebConfigurer.class,
         SecurityConfiguration.class,
         SecurityJwtConfiguration.class,
         SecurityMetersService.class,
         AuthenticateController.class,
+        AuthenticationThrottle.class,
         JwtAuthenticationTestUtils.class,
     }
 )
@@ -0,0 +1,114 @@
+package com.trongdev.todoapp.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.trongdev.todoapp.domain.Book;
+import com.trongdev.todoapp.repository.BookRepository;
+import jakarta.persistence.EntityManager;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.stream.LongStream;
+import org.hibernate.CacheMode;
+import org.hibernate.Session;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+class BookExportServiceTest {
+
+    private static final int BOOK_COUNT = 100_000;
+
+    // the books fitting in the few 8K buffers between the export and its output stream
+    private static final int BUFFERED_BOOKS = 512;
+
+    private BookRepository bookRepository;
+
+    private EntityManager entityManager;
+
+    private Session session;
+
+    private BookExportService bookExportService;
+
+    @BeforeEach
+    void setUp() {
+        bookRepository = mock(BookRepository.class);
+        entityManager = mock(EntityManager.class);
+        session = mock(Session.class);
+        when(entityManager.unwrap(Session.class)).thenReturn(session);
+        when(session.getCacheMode()).thenReturn(CacheMode.NORMAL);
+        bookExportService = new BookExportService(bookRepository, entityManager, new ObjectMapper().registerModule(new JavaTimeModule()));
+    }
+
+    @ParameterizedTest
+    @EnumSource(BookExportService.Format.class)
+    void exportStreamsTheBooksInBoundedMemory(BookExportService.Format format) throws IOException {
+        CountingOutputStream out = new CountingOutputStream();
+        when(bookRepository.streamAll()).thenAnswer(invocation ->
+            LongStream.rangeClosed(1, BOOK_COUNT).mapToObj(id -> {
+                // the books already read must have been written, not kept in memory
+                if (id % BookExportService.CLEAR_INTERVAL == 0) {
+                    assertThat(out.lines).isGreaterThanOrEqualTo(id - 1 - BUFFERED_BOOKS);
+                }
+                return book(id);
+            })
+        );
+
+        long count = bookExportService.exportBooks(format, out);
+
+        assertThat(count).isEqualTo(BOOK_COUNT);
+        assertThat(out.lines).isEqualTo(format == BookExportService.Format.CSV ? BOOK_COUNT + 1 : BOOK_COUNT);
+        verify(entityManager, times(BOOK_COUNT / BookExportService.CLEAR_INTERVAL)).clear();
+        verify(session).setCacheMode(CacheMode.IGNORE);
+        verify(session).setCacheMode(CacheMode.NORMAL);
+    }
+
+    @Test
+    void exportWritesOneJsonObjectPerLine() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        when(bookRepository.streamAll()).thenAnswer(invocation -> LongStream.rangeClosed(1, 3).mapToObj(BookExportServiceTest::book));
+
+        bookExportService.exportBooks(BookExportService.Format.NDJSON, out);
+
+        String export = out.toString(StandardCharsets.UTF_8);
+        assertThat(export).endsWith("}\n");
+        assertThat(export.split("\n")).hasSize(3).allSatisfy(line -> assertThat(line).startsWith("{\"id\":").endsWith("}"));
+    }
+
+    private static Book book(long id) {
+        return new Book()
+            .id(id)
+            .title("Book " + id)
+            .description("Description of book " + id)
+            .publicationDate(LocalDate.ofEpochDay(id % 20_000))
+            .price(BigDecimal.valueOf(id % 10_000, 2));
+    }
+
+    private static class CountingOutputStream extends OutputStream {
+
+        private long lines;
+
+        @Override
+        public void write(int b) {
+            if (b == '\n') {
+                lines++;
+            }
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            for (int i = off; i < off + len; i++) {
+                if (b[i] == '\n') {
+                    lines++;
+                }
+            }
+        }
+    }
+}
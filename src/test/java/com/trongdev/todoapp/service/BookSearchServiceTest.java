@@ -0,0 +1,92 @@
+package com.trongdev.todoapp.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyIterable;
+import static org.mockito.Mockito.*;
+
+import com.trongdev.todoapp.domain.Book;
+import com.trongdev.todoapp.repository.BookRepository;
+import jakarta.persistence.EntityManager;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.StreamSupport;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.task.SyncTaskExecutor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.PlatformTransactionManager;
+
+class BookSearchServiceTest {
+
+    private final List<Book> books = new ArrayList<>();
+
+    private BookSearchService bookSearchService;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        BookRepository bookRepository = mock(BookRepository.class);
+        when(bookRepository.findAllById(anyIterable())).thenAnswer(invocation -> {
+            Map<Long, Book> byId = books.stream().collect(Collectors.toMap(Book::getId, Function.identity()));
+            return StreamSupport.stream(((Iterable<Long>) invocation.getArgument(0)).spliterator(), false).map(byId::get).toList();
+        });
+        bookSearchService = new BookSearchService(
+            bookRepository,
+            mock(EntityManager.class),
+            mock(PlatformTransactionManager.class),
+            new SyncTaskExecutor()
+        );
+    }
+
+    @Test
+    void tokenizeIgnoresCaseDiacriticsAndPunctuation() {
+        assertThat(BookSearchService.tokenize("L'Étranger, Camus (1942)")).containsExactly("l", "etranger", "camus", "1942");
+        assertThat(BookSearchService.tokenize(null)).isEmpty();
+    }
+
+    @Test
+    void searchRanksTitleMatchesFirst() {
+        index(1L, "A history of Rome", "ancient history");
+        index(2L, "Cooking", "recipes from rome");
+        index(3L, "Cooking at home", null);
+
+        Page<Book> page = bookSearchService.search("rome cooking", PageRequest.of(0, 10));
+
+        assertThat(page.getTotalElements()).isEqualTo(3);
+        assertThat(page.getContent()).extracting(Book::getId).containsExactly(2L, 1L, 3L);
+    }
+
+    @Test
+    void searchIsPaginated() {
+        for (long id = 1; id <= 5; id++) {
+            index(id, "Book " + id, null);
+        }
+
+        Page<Book> page = bookSearchService.search("book", PageRequest.of(1, 2));
+
+        assertThat(page.getTotalElements()).isEqualTo(5);
+        assertThat(page.getContent()).extracting(Book::getId).containsExactly(3L, 4L);
+    }
+
+    @Test
+    void indexReplacesAndRemovesBooks() {
+        index(1L, "Old title", null);
+        index(1L, "New title", null);
+        index(2L, "Other title", null);
+        bookSearchService.remove(2L);
+
+        assertThat(bookSearchService.search("old", PageRequest.of(0, 10)).getContent()).isEmpty();
+        assertThat(bookSearchService.search("title", PageRequest.of(0, 10)).getContent()).extracting(Book::getId).containsExactly(1L);
+    }
+
+    private void index(Long id, String title, String description) {
+        Book book = new Book().id(id).title(title).description(description);
+        books.removeIf(b -> b.getId().equals(id));
+        books.add(book);
+        bookSearchService.index(book);
+    }
+}
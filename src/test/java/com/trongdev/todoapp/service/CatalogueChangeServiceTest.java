@@ -0,0 +1,68 @@
+package com.trongdev.todoapp.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.trongdev.todoapp.service.dto.CatalogueChangeDTO;
+import com.trongdev.todoapp.service.dto.CatalogueChangeDTO.ChangeType;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import org.junit.jupiter.api.Test;
+
+class CatalogueChangeServiceTest {
+
+    private final CatalogueChangeService catalogueChangeService = new CatalogueChangeService();
+
+    @Test
+    void publishesChangesToSubscribers() {
+        List<CatalogueChangeDTO> received = new ArrayList<>();
+        assertThat(catalogueChangeService.subscribe(null, received::add)).isTrue();
+
+        catalogueChangeService.publish("book", 10L, ChangeType.CREATED, 0L);
+        catalogueChangeService.publish("author", 20L, ChangeType.DELETED, null);
+
+        assertThat(received).extracting(CatalogueChangeDTO::getId).containsExactly(1L, 2L);
+        assertThat(received.get(1).getEntity()).isEqualTo("author");
+        assertThat(received.get(1).getType()).isEqualTo(ChangeType.DELETED);
+    }
+
+    @Test
+    void resumesAfterTheLastEventId() {
+        for (long id = 1; id <= 5; id++) {
+            catalogueChangeService.publish("book", id, ChangeType.UPDATED, 1L);
+        }
+        List<CatalogueChangeDTO> received = new ArrayList<>();
+
+        assertThat(catalogueChangeService.subscribe(3L, received::add)).isTrue();
+        catalogueChangeService.publish("book", 6L, ChangeType.UPDATED, 1L);
+
+        assertThat(received).extracting(CatalogueChangeDTO::getId).containsExactly(4L, 5L, 6L);
+    }
+
+    @Test
+    void cannotResumeOnceTheMissedChangesAreOverwritten() {
+        for (long id = 1; id <= CatalogueChangeService.BUFFER_SIZE + 2; id++) {
+            catalogueChangeService.publish("book", id, ChangeType.UPDATED, 1L);
+        }
+        List<CatalogueChangeDTO> received = new ArrayList<>();
+
+        assertThat(catalogueChangeService.subscribe(2L, received::add)).isTrue();
+        assertThat(received).hasSize(CatalogueChangeService.BUFFER_SIZE);
+        assertThat(received.get(0).getId()).isEqualTo(3L);
+
+        assertThat(catalogueChangeService.subscribe(1L, change -> {})).isFalse();
+        assertThat(catalogueChangeService.subscribe(CatalogueChangeService.BUFFER_SIZE + 3L, change -> {})).isFalse();
+    }
+
+    @Test
+    void unsubscribedSubscribersReceiveNothing() {
+        List<CatalogueChangeDTO> received = new ArrayList<>();
+        Consumer<CatalogueChangeDTO> subscriber = received::add;
+        catalogueChangeService.subscribe(null, subscriber);
+
+        catalogueChangeService.unsubscribe(subscriber);
+        catalogueChangeService.publish("book", 1L, ChangeType.CREATED, 0L);
+
+        assertThat(received).isEmpty();
+    }
+}
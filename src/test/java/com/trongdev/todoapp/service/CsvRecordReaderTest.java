@@ -0,0 +1,49 @@
+package com.trongdev.todoapp.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class CsvRecordReaderTest {
+
+    @Test
+    void readsPlainRecords() throws IOException {
+        CsvRecordReader csv = new CsvRecordReader(new StringReader("id;title\n1;first\r\n2;\n"), ';');
+
+        assertThat(csv.readRecord()).containsExactly("id", "title");
+        assertThat(csv.readRecord()).containsExactly("1", "first");
+        assertThat(csv.readRecord()).containsExactly("2", "");
+        assertThat(csv.getRecordLine()).isEqualTo(3);
+        assertThat(csv.readRecord()).isNull();
+    }
+
+    @Test
+    void readsQuotedFieldsAsWrittenByTheExport() throws IOException {
+        String line = String.join(";", List.of("1", BookExportService.escapeCsv("a;\"quoted\"\ntitle"), "last"));
+        CsvRecordReader csv = new CsvRecordReader(new StringReader(line + "\n2;x;y"), ';');
+
+        assertThat(csv.readRecord()).containsExactly("1", "a;\"quoted\"\ntitle", "last");
+        assertThat(csv.readRecord()).containsExactly("2", "x", "y");
+        assertThat(csv.getRecordLine()).isEqualTo(3);
+    }
+
+    @Test
+    void skipsBlankLines() throws IOException {
+        CsvRecordReader csv = new CsvRecordReader(new StringReader("\n\na;b\n\n"), ';');
+
+        assertThat(csv.readRecord()).containsExactly("a", "b");
+        assertThat(csv.getRecordLine()).isEqualTo(3);
+        assertThat(csv.readRecord()).isNull();
+    }
+
+    @Test
+    void rejectsUnterminatedQuotedField() throws IOException {
+        CsvRecordReader csv = new CsvRecordReader(new StringReader("a;\"b\nc"), ';');
+
+        assertThatThrownBy(csv::readRecord).isInstanceOf(IOException.class);
+    }
+}
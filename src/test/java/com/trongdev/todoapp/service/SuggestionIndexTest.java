@@ -0,0 +1,90 @@
+package com.trongdev.todoapp.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+class SuggestionIndexTest {
+
+    private final SuggestionIndex index = new SuggestionIndex();
+
+    @Test
+    void suggestsNamesFromAnyWordIgnoringCaseAndDiacritics() {
+        index.put(1L, "J. R. R. Tolkien");
+        index.put(2L, "Émile Zola");
+        index.put(3L, "Christopher Tolkien");
+
+        assertThat(index.suggest("tol", 10)).containsExactly(entry(1L, "J. R. R. Tolkien"), entry(3L, "Christopher Tolkien"));
+        assertThat(index.suggest("emi", 10)).containsOnlyKeys(2L);
+        assertThat(index.suggest("Christopher TOL", 10)).containsOnlyKeys(3L);
+        assertThat(index.suggest("  ", 10)).isEmpty();
+    }
+
+    @Test
+    void suggestsEachNameOnceUpToTheLimit() {
+        index.put(1L, "Alan Alda");
+        index.put(2L, "Alice Alcott");
+        index.put(3L, "Albert");
+
+        assertThat(index.suggest("al", 10)).containsOnlyKeys(1L, 2L, 3L);
+        assertThat(index.suggest("al", 2)).hasSize(2);
+    }
+
+    @Test
+    void replacesAndRemovesNames() {
+        index.put(1L, "Tolkien");
+        index.put(1L, "Pratchett");
+        index.put(2L, "Tolstoy");
+        index.remove(2L);
+
+        assertThat(index.suggest("tol", 10)).isEmpty();
+        assertThat(index.suggest("pra", 10)).containsExactly(entry(1L, "Pratchett"));
+        assertThat(index.size()).isEqualTo(1);
+    }
+
+    @Test
+    void mergesChangesIntoThePackedArrays() {
+        for (long id = 0; id < 10_000; id++) {
+            index.put(id, "Author " + id);
+        }
+        for (long id = 0; id < 10_000; id += 2) {
+            index.remove(id);
+        }
+        index.put(1L, "Renamed");
+
+        assertThat(index.size()).isEqualTo(5_000);
+        assertThat(index.suggest("author 999", 10)).containsOnlyKeys(999L, 9991L, 9993L, 9995L, 9997L, 9999L);
+        assertThat(index.suggest("author 1", 1)).containsOnlyKeys(1001L);
+        assertThat(index.suggest("ren", 10)).containsExactly(entry(1L, "Renamed"));
+    }
+
+    @Test
+    void loadKeepsTheNamesChangedSinceItStarted() {
+        index.startLoad();
+        index.put(1L, "Updated");
+        index.remove(2L);
+        index.load(1L, "Stale");
+        index.load(2L, "Deleted");
+        index.load(3L, "Loaded");
+        index.endLoad();
+
+        assertThat(index.suggest("upd", 10)).containsOnlyKeys(1L);
+        assertThat(index.suggest("sta", 10)).isEmpty();
+        assertThat(index.suggest("del", 10)).isEmpty();
+        assertThat(index.suggest("loa", 10)).containsOnlyKeys(3L);
+    }
+
+    @Test
+    void truncatesLongKeysAndPrefixes() {
+        String title = "a".repeat(100) + " b";
+        index.put(1L, title);
+
+        assertThat(index.suggest("a".repeat(80), 10)).containsExactly(entry(1L, title));
+        assertThat(index.suggest("b", 10)).containsOnlyKeys(1L);
+    }
+
+    private static Map.Entry<Long, String> entry(Long id, String name) {
+        return Map.entry(id, name);
+    }
+}
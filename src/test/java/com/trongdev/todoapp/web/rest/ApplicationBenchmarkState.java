@@ -0,0 +1,71 @@
+package com.trongdev.todoapp.web.rest;
+
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.security.test.web.servlet.setup.SecurityMockMvcConfigurers.springSecurity;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+
+import com.trongdev.todoapp.TodoApp;
+import com.trongdev.todoapp.config.AsyncSyncConfiguration;
+import com.trongdev.todoapp.config.JacksonConfiguration;
+import com.trongdev.todoapp.config.MysqlTestContainer;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+import org.testcontainers.containers.JdbcDatabaseContainer;
+
+/**
+ * JMH state running the application as the integration tests do, on the MySQL test container, for the benchmarks of
+ * the REST API. Requests are sent through a {@link MockMvc} authenticated as a user.
+ */
+@State(Scope.Benchmark)
+public class ApplicationBenchmarkState {
+
+    private MysqlTestContainer database;
+
+    private ConfigurableApplicationContext context;
+
+    private MockMvc mockMvc;
+
+    @Setup(Level.Trial)
+    public void start() {
+        database = new MysqlTestContainer();
+        database.afterPropertiesSet();
+        JdbcDatabaseContainer<?> container = database.getTestContainer();
+        context = new SpringApplicationBuilder(TodoApp.class, JacksonConfiguration.class, AsyncSyncConfiguration.class)
+            .profiles("testdev")
+            .properties(
+                "server.port=0",
+                "spring.datasource.url=" +
+                container.getJdbcUrl() +
+                "?useUnicode=true&characterEncoding=utf8&useSSL=false&useLegacyDatetimeCode=false&createDatabaseIfNotExist=true&rewriteBatchedStatements=true",
+                "spring.datasource.username=" + container.getUsername(),
+                "spring.datasource.password=" + container.getPassword()
+            )
+            .run();
+        mockMvc = MockMvcBuilders.webAppContextSetup((WebApplicationContext) context)
+            .apply(springSecurity())
+            .defaultRequest(get("/").with(user("benchmark")))
+            .build();
+    }
+
+    @TearDown(Level.Trial)
+    public void stop() {
+        context.close();
+        database.destroy();
+    }
+
+    public <T> T getBean(Class<T> type) {
+        return context.getBean(type);
+    }
+
+    public MockMvc getMockMvc() {
+        return mockMvc;
+    }
+}
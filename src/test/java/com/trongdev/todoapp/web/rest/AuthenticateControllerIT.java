@@ -11,12 +11,14 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.trongdev.todoapp.IntegrationTest;
+import com.trongdev.todoapp.config.ApplicationProperties;
 import com.trongdev.todoapp.domain.User;
 import com.trongdev.todoapp.repository.UserRepository;
 import com.trongdev.todoapp.web.rest.vm.LoginVM;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.test.web.servlet.MockMvc;
@@ -41,6 +43,9 @@ class AuthenticateControllerIT {
     @Autowired
     private MockMvc mockMvc;
 
+    @Autowired
+    private ApplicationProperties applicationProperties;
+
     @Test
     @Transactional
     void testAuthorize() throws Exception {
@@ -99,4 +104,25 @@ class AuthenticateControllerIT {
             .andExpect(jsonPath("$.id_token").doesNotExist())
             .andExpect(header().doesNotExist("Authorization"));
     }
+
+    @Test
+    void testAuthorizeIsThrottledByLogin() throws Exception {
+        LoginVM login = new LoginVM();
+        login.setUsername("throttled-user");
+        login.setPassword("wrong password");
+        int capacity = applicationProperties.getAuthenticationThrottling().getPerLogin().getCapacity();
+        for (int i = 0; i < capacity; i++) {
+            mockMvc
+                .perform(post("/api/authenticate").contentType(MediaType.APPLICATION_JSON).content(om.writeValueAsBytes(login)))
+                .andExpect(status().isUnauthorized());
+        }
+
+        // The login is normalised, so another case doesn't get a new bucket
+        login.setUsername(" Throttled-User");
+        mockMvc
+            .perform(post("/api/authenticate").contentType(MediaType.APPLICATION_JSON).content(om.writeValueAsBytes(login)))
+            .andExpect(status().isTooManyRequests())
+            .andExpect(header().exists(HttpHeaders.RETRY_AFTER))
+            .andExpect(jsonPath("$.id_token").doesNotExist());
+    }
 }
@@ -2,25 +2,35 @@ package com.trongdev.todoapp.web.rest;
 
 import static com.trongdev.todoapp.domain.AuthorAsserts.*;
 import static com.trongdev.todoapp.web.rest.TestUtil.createUpdateProxyForBean;
+import static com.trongdev.todoapp.web.rest.TestUtil.linkOf;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.everyItem;
 import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.Matchers.hasSize;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.trongdev.todoapp.IntegrationTest;
 import com.trongdev.todoapp.domain.Author;
+import com.trongdev.todoapp.domain.Book;
 import com.trongdev.todoapp.repository.AuthorRepository;
 import jakarta.persistence.EntityManager;
 import java.time.LocalDate;
 import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Random;
 import java.util.concurrent.atomic.AtomicLong;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.web.servlet.MockMvc;
@@ -62,6 +72,8 @@ class AuthorResourceIT {
 
     private Author insertedAuthor;
 
+    private boolean statisticsEnabled;
+
     /**
      * Create an entity for this test.
      *
@@ -85,6 +97,7 @@ class AuthorResourceIT {
     @BeforeEach
     public void initTest() {
         author = createEntity();
+        statisticsEnabled = TestUtil.statistics(em).isStatisticsEnabled();
     }
 
     @AfterEach
@@ -93,6 +106,7 @@ class AuthorResourceIT {
             authorRepository.delete(insertedAuthor);
             insertedAuthor = null;
         }
+        TestUtil.statistics(em).setStatisticsEnabled(statisticsEnabled);
     }
 
     @Test
@@ -150,6 +164,37 @@ class AuthorResourceIT {
             .andExpect(jsonPath("$.[*].birthDate").value(hasItem(DEFAULT_BIRTH_DATE.toString())));
     }
 
+    @Test
+    @Transactional
+    void getAllAuthorsWithKeysetPagination() throws Exception {
+        // Initialize the database
+        List<Author> authors = authorRepository.saveAllAndFlush(List.of(createEntity(), createEntity(), createEntity()));
+
+        // Get the first keyset page, newest authors first
+        String next = linkOf(
+            restAuthorMockMvc
+                .perform(get(ENTITY_API_URL + "?after=&size=2&sort=id,desc"))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist("X-Total-Count"))
+                .andExpect(jsonPath("$", hasSize(2)))
+                .andExpect(jsonPath("$.[0].id").value(authors.get(2).getId().intValue()))
+                .andReturn()
+                .getResponse()
+                .getHeader(HttpHeaders.LINK),
+            "next"
+        );
+        assertThat(next).isNotNull();
+
+        // Follow the next link
+        restAuthorMockMvc
+            .perform(get(next))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.[0].id").value(authors.get(0).getId().intValue()));
+
+        // Sparse fieldsets are not served with a cursor
+        restAuthorMockMvc.perform(get(ENTITY_API_URL + "?after=&fields=id,name")).andExpect(status().isBadRequest());
+    }
+
     @Test
     @Transactional
     void getAuthor() throws Exception {
@@ -166,6 +211,162 @@ class AuthorResourceIT {
             .andExpect(jsonPath("$.birthDate").value(DEFAULT_BIRTH_DATE.toString()));
     }
 
+    @Test
+    @Transactional
+    void getAllAuthorsWithBooks() throws Exception {
+        // Initialize the database, with a page of authors large enough to tell a batched load from an N+1 one
+        List<Author> authors = new ArrayList<>();
+        for (int i = 0; i < 30; i++) {
+            authors.add(createEntity());
+        }
+        authorRepository.saveAll(authors);
+        List<Book> books = new ArrayList<>();
+        for (Author bookAuthor : authors) {
+            for (int i = 0; i < 3; i++) {
+                Book book = BookResourceIT.createEntity().author(bookAuthor);
+                em.persist(book);
+                books.add(book);
+            }
+        }
+        em.flush();
+        em.clear();
+
+        // Get the authors and their books: one select of the ids, one select of the authors joined with their books,
+        // where loading the books of each author would take 31 statements
+        Statistics statistics = TestUtil.resetStatistics(em);
+        restAuthorMockMvc
+            .perform(get(ENTITY_API_URL + "?include=books&slice=true&size=30&sort=id,desc"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$", hasSize(30)))
+            .andExpect(jsonPath("$.[0].id").value(authors.get(29).getId().intValue()))
+            .andExpect(jsonPath("$.[*].books", everyItem(hasSize(3))))
+            .andExpect(
+                jsonPath("$.[?(@.id == " + authors.get(0).getId() + ")].books[*].id").value(
+                    containsInAnyOrder(books.subList(0, 3).stream().map(book -> book.getId().intValue()).toArray())
+                )
+            );
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+
+        // A cursor selects the keyset page, without the books
+        restAuthorMockMvc
+            .perform(get(ENTITY_API_URL + "?include=books&after=&size=1&sort=id,desc"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$", hasSize(1)))
+            .andExpect(jsonPath("$.[0].id").value(authors.get(29).getId().intValue()));
+    }
+
+    @Test
+    @Transactional
+    void getAllAuthorsWithFields() throws Exception {
+        // Initialize the database
+        insertedAuthor = authorRepository.saveAndFlush(author);
+
+        restAuthorMockMvc
+            .perform(get(ENTITY_API_URL + "?sort=id,desc&fields=name,id"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.[*].id").value(hasItem(author.getId().intValue())))
+            .andExpect(jsonPath("$.[*].name").value(hasItem(DEFAULT_NAME)))
+            .andExpect(jsonPath("$.[0].birthDate").doesNotExist());
+
+        restAuthorMockMvc
+            .perform(get(ENTITY_API_URL_ID + "?fields=birthDate", author.getId()))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.birthDate").value(DEFAULT_BIRTH_DATE.toString()))
+            .andExpect(jsonPath("$.name").doesNotExist());
+
+        restAuthorMockMvc.perform(get(ENTITY_API_URL + "?fields=books")).andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @Transactional
+    void getAuthorBooks() throws Exception {
+        // Initialize the database
+        insertedAuthor = authorRepository.saveAndFlush(author);
+        Book book = BookResourceIT.createEntity().author(author);
+        em.persist(book);
+        em.persist(BookResourceIT.createEntity());
+        em.flush();
+
+        restAuthorMockMvc
+            .perform(get(ENTITY_API_URL_ID + "/books", author.getId()))
+            .andExpect(status().isOk())
+            .andExpect(header().string("X-Total-Count", "1"))
+            .andExpect(jsonPath("$.[*].id").value(contains(book.getId().intValue())))
+            .andExpect(jsonPath("$.[0].author.name").value(DEFAULT_NAME));
+
+        restAuthorMockMvc.perform(get(ENTITY_API_URL_ID + "/books", Long.MAX_VALUE)).andExpect(status().isNotFound());
+    }
+
+    @Test
+    @Transactional
+    void updateAuthorWithStaleVersion() throws Exception {
+        // Initialize the database, then update the author once
+        insertedAuthor = authorRepository.saveAndFlush(author);
+        Author staleAuthor = new Author().id(author.getId()).name(UPDATED_NAME).version(author.getVersion());
+        authorRepository.saveAndFlush(author.birthDate(UPDATED_BIRTH_DATE));
+
+        // Updates based on the first version are lost updates
+        restAuthorMockMvc
+            .perform(
+                put(ENTITY_API_URL_ID, author.getId()).contentType(MediaType.APPLICATION_JSON).content(om.writeValueAsBytes(staleAuthor))
+            )
+            .andExpect(status().isConflict());
+        restAuthorMockMvc
+            .perform(
+                patch(ENTITY_API_URL_ID, author.getId())
+                    .contentType("application/merge-patch+json")
+                    .content(om.writeValueAsBytes(staleAuthor))
+            )
+            .andExpect(status().isConflict());
+    }
+
+    @Test
+    @Transactional
+    void partialUpdateAuthorWithoutVersion() throws Exception {
+        // Initialize the database, then update the author once
+        insertedAuthor = authorRepository.saveAndFlush(author);
+        authorRepository.saveAndFlush(author.birthDate(UPDATED_BIRTH_DATE));
+
+        // Absent from the patch, the version is left unchecked like the other absent fields
+        restAuthorMockMvc
+            .perform(
+                patch(ENTITY_API_URL_ID, author.getId())
+                    .contentType("application/merge-patch+json")
+                    .content("{\"id\":" + author.getId() + ",\"name\":\"" + UPDATED_NAME + "\"}")
+            )
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.name").value(UPDATED_NAME))
+            .andExpect(jsonPath("$.birthDate").value(UPDATED_BIRTH_DATE.toString()));
+    }
+
+    @Test
+    @Transactional
+    void getAuthorWithETag() throws Exception {
+        // Initialize the database
+        insertedAuthor = authorRepository.saveAndFlush(author);
+        String eTag = restAuthorMockMvc
+            .perform(get(ENTITY_API_URL_ID, author.getId()))
+            .andExpect(status().isOk())
+            .andExpect(header().string(HttpHeaders.ETAG, "\"" + author.getId() + "-0\""))
+            .andReturn()
+            .getResponse()
+            .getHeader(HttpHeaders.ETAG);
+
+        // Unchanged: no body
+        restAuthorMockMvc
+            .perform(get(ENTITY_API_URL_ID, author.getId()).header(HttpHeaders.IF_NONE_MATCH, eTag))
+            .andExpect(status().isNotModified())
+            .andExpect(content().string(""));
+
+        // Updated: a new version, so a new ETag
+        authorRepository.saveAndFlush(author.name(UPDATED_NAME));
+        restAuthorMockMvc
+            .perform(get(ENTITY_API_URL_ID, author.getId()).header(HttpHeaders.IF_NONE_MATCH, eTag))
+            .andExpect(status().isOk())
+            .andExpect(header().string(HttpHeaders.ETAG, "\"" + author.getId() + "-1\""))
+            .andExpect(jsonPath("$.name").value(UPDATED_NAME));
+    }
+
     @Test
     @Transactional
     void getNonExistingAuthor() throws Exception {
@@ -373,6 +574,40 @@ class AuthorResourceIT {
         assertDecrementedRepositoryCount(databaseSizeBeforeDelete);
     }
 
+    @Test
+    @Transactional
+    void deleteAuthorWithBooks() throws Exception {
+        // Initialize the database
+        insertedAuthor = authorRepository.saveAndFlush(author);
+        Book book = BookResourceIT.createEntity().author(author);
+        Book otherBook = BookResourceIT.createEntity().author(author);
+        Book unrelatedBook = BookResourceIT.createEntity();
+        em.persist(book);
+        em.persist(otherBook);
+        em.persist(unrelatedBook);
+        em.flush();
+        em.clear();
+
+        long databaseSizeBeforeDelete = getRepositoryCount();
+
+        restAuthorMockMvc
+            .perform(delete(ENTITY_API_URL_ID, author.getId()).param("cascade", "books").accept(MediaType.APPLICATION_JSON))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$['" + book.getId() + "']").value("DELETED"))
+            .andExpect(jsonPath("$['" + otherBook.getId() + "']").value("DELETED"))
+            .andExpect(jsonPath("$['" + unrelatedBook.getId() + "']").doesNotExist());
+        insertedAuthor = null;
+
+        assertDecrementedRepositoryCount(databaseSizeBeforeDelete);
+        assertThat(em.find(Book.class, book.getId())).isNull();
+        assertThat(em.find(Book.class, otherBook.getId())).isNull();
+        assertThat(em.find(Book.class, unrelatedBook.getId())).isNotNull();
+
+        restAuthorMockMvc
+            .perform(delete(ENTITY_API_URL_ID, author.getId()).param("cascade", "books").accept(MediaType.APPLICATION_JSON))
+            .andExpect(status().isNotFound());
+    }
+
     protected long getRepositoryCount() {
         return authorRepository.count();
     }
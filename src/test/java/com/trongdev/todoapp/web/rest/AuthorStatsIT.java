@@ -0,0 +1,256 @@
+package com.trongdev.todoapp.web.rest;
+
+import static com.trongdev.todoapp.web.rest.TestUtil.sameNumber;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import com.jayway.jsonpath.JsonPath;
+import com.trongdev.todoapp.IntegrationTest;
+import com.trongdev.todoapp.config.CapturingStatementInspector;
+import com.trongdev.todoapp.domain.Author;
+import com.trongdev.todoapp.domain.Book;
+import com.trongdev.todoapp.repository.AuthorRepository;
+import com.trongdev.todoapp.repository.AuthorStatsRepository;
+import com.trongdev.todoapp.repository.BookRepository;
+import com.trongdev.todoapp.service.AuthorStatsService;
+import com.trongdev.todoapp.service.BookDeletionService;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+
+/**
+ * Integration tests for the {@link com.trongdev.todoapp.domain.AuthorStats} endpoints of the {@link AuthorResource} REST
+ * controller.
+ * <p>
+ * The authors are marked for a refresh, and their empty statistics inserted, when a transaction commits, so these tests
+ * are not transactional.
+ */
+@IntegrationTest
+@AutoConfigureMockMvc
+@WithMockUser
+class AuthorStatsIT {
+
+    private static final Pattern STATS_ALIAS = Pattern.compile("\\bfrom author_stats (\\w+)");
+
+    @Autowired
+    private AuthorRepository authorRepository;
+
+    @Autowired
+    private AuthorStatsRepository authorStatsRepository;
+
+    @Autowired
+    private BookRepository bookRepository;
+
+    @Autowired
+    private BookDeletionService bookDeletionService;
+
+    @Autowired
+    private AuthorStatsService authorStatsService;
+
+    @Autowired
+    private MockMvc restAuthorMockMvc;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final List<Book> insertedBooks = new ArrayList<>();
+
+    private final List<Author> insertedAuthors = new ArrayList<>();
+
+    @AfterEach
+    public void cleanup() {
+        bookDeletionService.deleteBooks(insertedBooks.stream().map(Book::getId).toList());
+        insertedBooks.clear();
+        authorRepository.deleteAll(insertedAuthors);
+        insertedAuthors.clear();
+    }
+
+    @Test
+    void refreshesTheStatsOfTheAuthorsOfTheChangedBooks() throws Exception {
+        Author author = insertAuthor();
+        Author other = insertAuthor();
+        authorStatsService.refreshDirtyAuthors();
+
+        restAuthorMockMvc
+            .perform(get("/api/authors/{id}/stats", author.getId()))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.authorId").value(author.getId().intValue()))
+            .andExpect(jsonPath("$.author.name").value(author.getName()))
+            .andExpect(jsonPath("$.bookCount").value(0))
+            .andExpect(jsonPath("$.averagePrice").isEmpty());
+
+        insertBook(author, "10.00", LocalDate.of(2001, 1, 1));
+        Book moved = insertBook(author, "20.00", LocalDate.of(2003, 1, 1));
+        authorStatsService.refreshDirtyAuthors();
+
+        restAuthorMockMvc
+            .perform(get("/api/authors/{id}/stats", author.getId()))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.bookCount").value(2))
+            .andExpect(jsonPath("$.averagePrice").value(sameNumber(new BigDecimal("15.00"))))
+            .andExpect(jsonPath("$.latestPublicationDate").value("2003-01-01"));
+
+        // Moving a book refreshes both its previous and its new author
+        bookRepository.saveAndFlush(moved.author(other));
+        authorStatsService.refreshDirtyAuthors();
+
+        restAuthorMockMvc
+            .perform(get("/api/authors/{id}/stats", author.getId()))
+            .andExpect(jsonPath("$.bookCount").value(1))
+            .andExpect(jsonPath("$.latestPublicationDate").value("2001-01-01"));
+        restAuthorMockMvc.perform(get("/api/authors/{id}/stats", other.getId())).andExpect(jsonPath("$.bookCount").value(1));
+
+        // Bulk deletions bypass the listener
+        bookDeletionService.deleteBooks(List.of(moved.getId()));
+        authorStatsService.refreshDirtyAuthors();
+
+        restAuthorMockMvc.perform(get("/api/authors/{id}/stats", other.getId())).andExpect(jsonPath("$.bookCount").value(0));
+    }
+
+    @Test
+    void reconcileRecomputesTheStatsOfAllTheAuthors() throws Exception {
+        Author author = insertAuthor();
+        insertBook(author, "3.00", LocalDate.of(2010, 5, 1));
+        authorStatsService.reconcile();
+
+        restAuthorMockMvc.perform(get("/api/authors/{id}/stats", author.getId())).andExpect(jsonPath("$.bookCount").value(1));
+    }
+
+    @Test
+    void getAllAuthorStatsSortedByBookCount() throws Exception {
+        Author author = insertAuthor();
+        insertBook(author, "1.00", LocalDate.of(2020, 1, 1));
+        insertBook(author, "2.00", LocalDate.of(2021, 1, 1));
+        authorStatsService.refreshDirtyAuthors();
+
+        restAuthorMockMvc
+            .perform(get("/api/authors/stats?sort=bookCount,desc&size=1"))
+            .andExpect(status().isOk())
+            .andExpect(header().exists("X-Total-Count"))
+            .andExpect(jsonPath("$.[0].bookCount").value(greaterThanOrEqualTo(2)))
+            .andExpect(jsonPath("$.[0].author.name").isNotEmpty());
+    }
+
+    @Test
+    void getAllAuthorsSortedByStats() throws Exception {
+        Author author = insertAuthor();
+        insertBook(author, "1.00", LocalDate.of(2020, 1, 1));
+        insertBook(author, "2.00", LocalDate.of(2021, 1, 1));
+        Author other = insertAuthor();
+        insertBook(other, "3.00", LocalDate.of(2022, 1, 1));
+        authorStatsService.refreshDirtyAuthors();
+
+        List<Integer> byBookCount = getAllAuthorIds("sort=bookCount,desc");
+        assertThat(byBookCount).contains(author.getId().intValue(), other.getId().intValue());
+        assertThat(byBookCount.indexOf(author.getId().intValue())).isLessThan(byBookCount.indexOf(other.getId().intValue()));
+        List<Integer> byAveragePrice = getAllAuthorIds("sort=averagePrice,desc");
+        assertThat(byAveragePrice.indexOf(other.getId().intValue())).isLessThan(byAveragePrice.indexOf(author.getId().intValue()));
+    }
+
+    @Test
+    void getAllAuthorsWithBooksSortedByStats() throws Exception {
+        Author author = insertAuthor();
+        insertBook(author, "1.00", LocalDate.of(2020, 1, 1));
+        insertBook(author, "2.00", LocalDate.of(2021, 1, 1));
+        Author other = insertAuthor();
+        insertBook(other, "3.00", LocalDate.of(2022, 1, 1));
+        authorStatsService.refreshDirtyAuthors();
+
+        String content = restAuthorMockMvc
+            .perform(get("/api/authors?include=books&size=1000&sort=bookCount,desc"))
+            .andExpect(status().isOk())
+            .andReturn()
+            .getResponse()
+            .getContentAsString();
+        List<Integer> ids = JsonPath.read(content, "$[*].id");
+        assertThat(ids.indexOf(author.getId().intValue())).isLessThan(ids.indexOf(other.getId().intValue()));
+    }
+
+    @Test
+    void getAllAuthorFieldsSortedByStatsIsRejected() throws Exception {
+        restAuthorMockMvc.perform(get("/api/authors?fields=id,name&sort=bookCount,desc")).andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void authorsSortedByBookCountAreReadFromTheBookCountIndex() {
+        // Enough authors for the optimizer to prefer the index over sorting the table
+        List<Author> authors = Stream.generate(AuthorResourceIT::createEntity).limit(200).toList();
+        insertedAuthors.addAll(authorRepository.saveAll(authors));
+        jdbcTemplate.execute("analyze table author_stats");
+
+        List<String> statements = CapturingStatementInspector.capture(() ->
+            authorRepository.findSliceWithStatsBy(PageRequest.of(0, 20, Sort.by(Sort.Order.desc("bookCount"))))
+        );
+        assertThat(statements).hasSize(1);
+        String sql = statements.get(0);
+        Object[] limitParameters = Stream.generate(() -> 21).limit(sql.chars().filter(c -> c == '?').count()).toArray();
+
+        Matcher statsAlias = STATS_ALIAS.matcher(sql);
+        assertThat(statsAlias.find()).as("author_stats table of %s", sql).isTrue();
+        Map<String, Object> plan = jdbcTemplate
+            .queryForList("explain " + sql, limitParameters)
+            .stream()
+            .filter(row -> statsAlias.group(1).equals(row.get("table")))
+            .findFirst()
+            .orElseThrow();
+        assertThat(plan).containsEntry("key", "idx_author_stats_book_count").containsEntry("type", "index");
+    }
+
+    @Test
+    void getAuthorStatsOfANewAuthor() throws Exception {
+        Author author = insertAuthor();
+
+        // The empty statistics are inserted with the author
+        assertThat(authorStatsRepository.findById(author.getId())).isPresent();
+        restAuthorMockMvc
+            .perform(get("/api/authors/{id}/stats", author.getId()))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.authorId").value(author.getId().intValue()))
+            .andExpect(jsonPath("$.bookCount").value(0));
+    }
+
+    @Test
+    void getNonExistingAuthorStats() throws Exception {
+        restAuthorMockMvc.perform(get("/api/authors/{id}/stats", Long.MAX_VALUE)).andExpect(status().isNotFound());
+    }
+
+    private List<Integer> getAllAuthorIds(String sort) throws Exception {
+        String content = restAuthorMockMvc
+            .perform(get("/api/authors?size=1000&" + sort))
+            .andExpect(status().isOk())
+            .andReturn()
+            .getResponse()
+            .getContentAsString();
+        return JsonPath.read(content, "$[*].id");
+    }
+
+    private Author insertAuthor() {
+        Author author = authorRepository.saveAndFlush(AuthorResourceIT.createEntity());
+        insertedAuthors.add(author);
+        return author;
+    }
+
+    private Book insertBook(Author author, String price, LocalDate publicationDate) {
+        Book book = bookRepository.saveAndFlush(
+            BookResourceIT.createEntity().author(author).price(new BigDecimal(price)).publicationDate(publicationDate)
+        );
+        insertedBooks.add(book);
+        return book;
+    }
+}
@@ -17,6 +17,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.web.servlet.MockMvc;
@@ -148,7 +149,14 @@ class AuthorityResourceIT {
             .perform(get(ENTITY_API_URL_ID, authority.getName()))
             .andExpect(status().isOk())
             .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
-            .andExpect(jsonPath("$.name").value(authority.getName()));
+            .andExpect(jsonPath("$.name").value(authority.getName()))
+            .andExpect(header().string(HttpHeaders.ETAG, "\"" + authority.getName() + "-0\""));
+
+        // Get it again, with its ETag
+        restAuthorityMockMvc
+            .perform(get(ENTITY_API_URL_ID, authority.getName()).header(HttpHeaders.IF_NONE_MATCH, "\"" + authority.getName() + "-0\""))
+            .andExpect(status().isNotModified())
+            .andExpect(content().string(""));
     }
 
     @Test
@@ -0,0 +1,108 @@
+package com.trongdev.todoapp.web.rest;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.trongdev.todoapp.domain.Book;
+import com.trongdev.todoapp.repository.BookRepository;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+/**
+ * JMH benchmark of the cost to insert a book with one {@code POST /api/books} per row, and with
+ * {@code POST /api/books/batch}.
+ * <p>
+ * It is not run by the test phases; run its {@link #main(String[])} method with the test classpath, after
+ * {@code ./mvnw test-compile}, with Docker available for the MySQL test container.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BookBatchInsertBenchmark {
+
+    private static final int ROWS = 100;
+
+    private ObjectMapper om;
+
+    private BookRepository bookRepository;
+
+    private MockMvc mockMvc;
+
+    private final List<byte[]> books = new ArrayList<>();
+
+    private byte[] batchOfBooks;
+
+    private final List<Long> insertedIds = new ArrayList<>();
+
+    @Setup
+    public void setup(ApplicationBenchmarkState application) throws Exception {
+        om = application.getBean(ObjectMapper.class);
+        bookRepository = application.getBean(BookRepository.class);
+        mockMvc = application.getMockMvc();
+        List<Book> batchBooks = new ArrayList<>();
+        for (int i = 0; i < ROWS; i++) {
+            Book book = BookResourceIT.createEntity().title("benchmark-" + i);
+            books.add(om.writeValueAsBytes(book));
+            batchBooks.add(book);
+        }
+        batchOfBooks = om.writeValueAsBytes(batchBooks);
+    }
+
+    @TearDown(Level.Iteration)
+    public void cleanup() {
+        bookRepository.deleteAllById(insertedIds);
+        insertedIds.clear();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public void oneRequestPerRow() throws Exception {
+        for (byte[] book : books) {
+            insertedIds.add(om.readValue(create(book, "/api/books"), Book.class).getId());
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public void batch() throws Exception {
+        for (Book book : om.readValue(create(batchOfBooks, "/api/books/batch"), Book[].class)) {
+            insertedIds.add(book.getId());
+        }
+    }
+
+    private byte[] create(byte[] content, String url) throws Exception {
+        return mockMvc
+            .perform(post(url).contentType(MediaType.APPLICATION_JSON).content(content))
+            .andExpect(status().isCreated())
+            .andReturn()
+            .getResponse()
+            .getContentAsByteArray();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(BookBatchInsertBenchmark.class.getSimpleName()).build()).run();
+    }
+}
@@ -0,0 +1,117 @@
+package com.trongdev.todoapp.web.rest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.trongdev.todoapp.domain.Author;
+import com.trongdev.todoapp.domain.Book;
+import com.trongdev.todoapp.repository.AuthorRepository;
+import com.trongdev.todoapp.repository.BookRepository;
+import com.trongdev.todoapp.service.BookQueryService;
+import com.trongdev.todoapp.service.criteria.BookCriteria;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * JMH benchmark of the memory allocated to list a page of books as entities, as {@code GET /api/books} used to, and
+ * as the {@link com.trongdev.todoapp.service.dto.BookSummaryDTO} projection it now serves.
+ * <p>
+ * It is not run by the test phases; run its {@link #main(String[])} method with the test classpath, after
+ * {@code ./mvnw test-compile}, with Docker available for the MySQL test container. The bytes allocated per request
+ * are reported as the {@code gc.alloc.rate.norm} of the GC profiler.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BookListAllocationBenchmark {
+
+    private static final int ROWS = 200;
+
+    private static final Pageable PAGE = PageRequest.of(0, ROWS, Sort.by("id"));
+
+    private ObjectMapper om;
+
+    private BookRepository bookRepository;
+
+    private AuthorRepository authorRepository;
+
+    private BookQueryService bookQueryService;
+
+    private TransactionTemplate transactionTemplate;
+
+    private Author author;
+
+    private BookCriteria criteria;
+
+    private final List<Book> insertedBooks = new ArrayList<>();
+
+    @Setup
+    public void setup(ApplicationBenchmarkState application) {
+        om = application.getBean(ObjectMapper.class);
+        bookRepository = application.getBean(BookRepository.class);
+        authorRepository = application.getBean(AuthorRepository.class);
+        bookQueryService = application.getBean(BookQueryService.class);
+        transactionTemplate = new TransactionTemplate(application.getBean(PlatformTransactionManager.class));
+        transactionTemplate.setReadOnly(true);
+
+        author = authorRepository.saveAndFlush(AuthorResourceIT.createEntity());
+        for (int i = 0; i < ROWS; i++) {
+            insertedBooks.add(BookResourceIT.createEntity().title("allocation-" + i).author(author));
+        }
+        bookRepository.saveAllAndFlush(insertedBooks);
+        criteria = new BookCriteria();
+        criteria.authorId().setEquals(author.getId());
+    }
+
+    @TearDown
+    public void cleanup() {
+        bookRepository.deleteAll(insertedBooks);
+        authorRepository.delete(author);
+    }
+
+    @Benchmark
+    public byte[] entities() {
+        return transactionTemplate.execute(status -> serialize(bookQueryService.findByCriteria(criteria, PAGE).getContent()));
+    }
+
+    @Benchmark
+    public byte[] projections() {
+        return transactionTemplate.execute(status -> serialize(bookQueryService.findSummariesByCriteria(criteria, PAGE).getContent()));
+    }
+
+    private byte[] serialize(Object value) {
+        try {
+            return om.writeValueAsBytes(value);
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(
+            new OptionsBuilder().include(BookListAllocationBenchmark.class.getSimpleName()).addProfiler(GCProfiler.class).build()
+        ).run();
+    }
+}
@@ -2,28 +2,46 @@ package com.trongdev.todoapp.web.rest;
 
 import static com.trongdev.todoapp.domain.BookAsserts.*;
 import static com.trongdev.todoapp.web.rest.TestUtil.createUpdateProxyForBean;
+import static com.trongdev.todoapp.web.rest.TestUtil.linkOf;
 import static com.trongdev.todoapp.web.rest.TestUtil.sameNumber;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.nullValue;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.trongdev.todoapp.IntegrationTest;
+import com.trongdev.todoapp.domain.Author;
 import com.trongdev.todoapp.domain.Book;
 import com.trongdev.todoapp.repository.BookRepository;
+import com.trongdev.todoapp.service.dto.BookSummaryDTO;
 import jakarta.persistence.EntityManager;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.mock.web.MockHttpServletResponse;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.transaction.annotation.Transactional;
@@ -51,6 +69,8 @@ class BookResourceIT {
     private static final String ENTITY_API_URL = "/api/books";
     private static final String ENTITY_API_URL_ID = ENTITY_API_URL + "/{id}";
 
+    private static final MediaType SMILE = new MediaType("application", "x-jackson-smile");
+
     private static Random random = new Random();
     private static AtomicLong longCount = new AtomicLong(random.nextInt() + (2 * Integer.MAX_VALUE));
 
@@ -70,6 +90,8 @@ class BookResourceIT {
 
     private Book insertedBook;
 
+    private boolean statisticsEnabled;
+
     /**
      * Create an entity for this test.
      *
@@ -101,6 +123,7 @@ class BookResourceIT {
     @BeforeEach
     public void initTest() {
         book = createEntity();
+        statisticsEnabled = TestUtil.statistics(em).isStatisticsEnabled();
     }
 
     @AfterEach
@@ -109,6 +132,7 @@ class BookResourceIT {
             bookRepository.delete(insertedBook);
             insertedBook = null;
         }
+        TestUtil.statistics(em).setStatisticsEnabled(statisticsEnabled);
     }
 
     @Test
@@ -150,6 +174,64 @@ class BookResourceIT {
         assertSameRepositoryCount(databaseSizeBeforeCreate);
     }
 
+    @Test
+    @Transactional
+    void createBooksInBatch() throws Exception {
+        long databaseSizeBeforeCreate = getRepositoryCount();
+        List<Book> books = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            books.add(createEntity());
+        }
+
+        // Create the books: with pooled ids, the inserts go out as JDBC batches instead of one statement per row
+        Statistics statistics = TestUtil.resetStatistics(em);
+        restBookMockMvc
+            .perform(post(ENTITY_API_URL + "/batch").contentType(MediaType.APPLICATION_JSON).content(om.writeValueAsBytes(books)))
+            .andExpect(status().isCreated())
+            .andExpect(jsonPath("$", hasSize(100)))
+            .andExpect(jsonPath("$.[0].id").isNumber());
+        em.flush();
+
+        // Validate the Books in the database
+        assertThat(getRepositoryCount()).isEqualTo(databaseSizeBeforeCreate + 100);
+        assertThat(statistics.getPrepareStatementCount()).isLessThan(20);
+    }
+
+    @Test
+    @Transactional
+    void createBooksInBatchWithExistingId() throws Exception {
+        long databaseSizeBeforeCreate = getRepositoryCount();
+        book.setId(1L);
+
+        // A batch with an entity having an existing ID cannot be created, so this API call must fail
+        restBookMockMvc
+            .perform(
+                post(ENTITY_API_URL + "/batch").contentType(MediaType.APPLICATION_JSON).content(om.writeValueAsBytes(List.of(createEntity(), book)))
+            )
+            .andExpect(status().isBadRequest());
+
+        // Validate the Book in the database
+        assertSameRepositoryCount(databaseSizeBeforeCreate);
+    }
+
+    @Test
+    @Transactional
+    void createBooksInBatchAboveMaxSize() throws Exception {
+        long databaseSizeBeforeCreate = getRepositoryCount();
+        List<Book> books = new ArrayList<>();
+        for (int i = 0; i <= BookResource.MAX_BATCH_SIZE; i++) {
+            books.add(createEntity());
+        }
+
+        // A batch above the maximum size is rejected before anything is inserted
+        restBookMockMvc
+            .perform(post(ENTITY_API_URL + "/batch").contentType(MediaType.APPLICATION_JSON).content(om.writeValueAsBytes(books)))
+            .andExpect(status().isBadRequest());
+
+        // Validate the Book in the database
+        assertSameRepositoryCount(databaseSizeBeforeCreate);
+    }
+
     @Test
     @Transactional
     void getAllBooks() throws Exception {
@@ -168,6 +250,496 @@ class BookResourceIT {
             .andExpect(jsonPath("$.[*].price").value(hasItem(sameNumber(DEFAULT_PRICE))));
     }
 
+    @Test
+    @Transactional
+    void getAllBooksAsCbor() throws Exception {
+        // Initialize the database
+        insertedBook = bookRepository.saveAndFlush(book);
+
+        // Get all the bookList in the CBOR binary format
+        byte[] content = restBookMockMvc
+            .perform(get(ENTITY_API_URL + "?sort=id,desc").accept(MediaType.APPLICATION_CBOR))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_CBOR))
+            .andReturn()
+            .getResponse()
+            .getContentAsByteArray();
+
+        ObjectMapper cborMapper = Jackson2ObjectMapperBuilder.cbor().build();
+        List<BookSummaryDTO> books = cborMapper.readValue(
+            content,
+            cborMapper.getTypeFactory().constructCollectionType(List.class, BookSummaryDTO.class)
+        );
+        BookSummaryDTO bookSummary = books.stream().filter(summary -> summary.getId().equals(book.getId())).findFirst().orElseThrow();
+        assertThat(bookSummary.getTitle()).isEqualTo(DEFAULT_TITLE);
+        assertThat(bookSummary.getPublicationDate()).isEqualTo(DEFAULT_PUBLICATION_DATE);
+        assertThat(bookSummary.getPrice()).isEqualByComparingTo(DEFAULT_PRICE);
+
+        // The binary formats are smaller than JSON
+        assertThat(content.length).isLessThan(getAllBooksContent(MediaType.APPLICATION_JSON).length);
+        assertThat(getAllBooksContent(SMILE).length).isLessThan(getAllBooksContent(MediaType.APPLICATION_JSON).length);
+    }
+
+    private byte[] getAllBooksContent(MediaType mediaType) throws Exception {
+        return restBookMockMvc
+            .perform(get(ENTITY_API_URL + "?sort=id,desc").accept(mediaType))
+            .andExpect(status().isOk())
+            .andReturn()
+            .getResponse()
+            .getContentAsByteArray();
+    }
+
+    @Test
+    @Transactional
+    void getBookAsSmile() throws Exception {
+        // Initialize the database
+        insertedBook = bookRepository.saveAndFlush(book);
+
+        // Get the book in the Smile binary format
+        byte[] content = restBookMockMvc
+            .perform(get(ENTITY_API_URL_ID, book.getId()).accept(SMILE))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(SMILE))
+            .andReturn()
+            .getResponse()
+            .getContentAsByteArray();
+
+        Book smileBook = Jackson2ObjectMapperBuilder.smile().build().readValue(content, Book.class);
+        assertBookAllPropertiesEquals(book, smileBook);
+    }
+
+    @Test
+    @Transactional
+    void getAllBooksWithAuthorSummary() throws Exception {
+        // Initialize the database
+        Author author = AuthorResourceIT.createEntity();
+        em.persist(author);
+        insertedBook = bookRepository.saveAndFlush(book.author(author));
+        em.clear();
+
+        // Get the books and the name of their author in one select, without loading any entity
+        Statistics statistics = TestUtil.resetStatistics(em);
+        restBookMockMvc
+            .perform(get(ENTITY_API_URL + "?id.equals=" + book.getId()))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.[0].title").value(DEFAULT_TITLE))
+            .andExpect(jsonPath("$.[0].author.id").value(author.getId().intValue()))
+            .andExpect(jsonPath("$.[0].author.name").value(author.getName()));
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+    }
+
+    @Test
+    @Transactional
+    void getAllBooksWithFields() throws Exception {
+        // Initialize the database
+        Author author = AuthorResourceIT.createEntity();
+        em.persist(author);
+        insertedBook = bookRepository.saveAndFlush(book.author(author));
+        em.clear();
+
+        // Only the requested columns are selected, and only the requested fields are sent
+        Statistics statistics = TestUtil.resetStatistics(em);
+        restBookMockMvc
+            .perform(get(ENTITY_API_URL + "?fields=id,title,price,author&id.equals=" + book.getId()))
+            .andExpect(status().isOk())
+            .andExpect(header().string("X-Total-Count", "1"))
+            .andExpect(jsonPath("$.[0].id").value(book.getId().intValue()))
+            .andExpect(jsonPath("$.[0].title").value(DEFAULT_TITLE))
+            .andExpect(jsonPath("$.[0].price").value(sameNumber(DEFAULT_PRICE)))
+            .andExpect(jsonPath("$.[0].author.name").value(author.getName()))
+            .andExpect(jsonPath("$.[0].description").doesNotExist())
+            .andExpect(jsonPath("$.[0].publicationDate").doesNotExist())
+            .andExpect(jsonPath("$.[0].version").doesNotExist());
+        assertThat(statistics.getEntityLoadCount()).isZero();
+
+        // The sparse page is smaller than the full one
+        String url = ENTITY_API_URL + "?id.equals=" + book.getId();
+        int sparseLength = restBookMockMvc
+            .perform(get(url + "&fields=id,title,price"))
+            .andReturn()
+            .getResponse()
+            .getContentAsByteArray().length;
+        int fullLength = restBookMockMvc.perform(get(url)).andReturn().getResponse().getContentAsByteArray().length;
+        assertThat(sparseLength).isLessThan(fullLength);
+
+        restBookMockMvc.perform(get(ENTITY_API_URL + "?fields=id,isbn")).andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @Transactional
+    void getBookWithFields() throws Exception {
+        // Initialize the database
+        insertedBook = bookRepository.saveAndFlush(book);
+
+        String eTag = restBookMockMvc
+            .perform(get(ENTITY_API_URL_ID + "?fields=title,author", book.getId()))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.title").value(DEFAULT_TITLE))
+            .andExpect(jsonPath("$.author").value(nullValue()))
+            .andExpect(jsonPath("$.id").doesNotExist())
+            .andExpect(jsonPath("$.version").doesNotExist())
+            .andExpect(header().string(HttpHeaders.ETAG, "\"" + book.getId() + "-0-title,author\""))
+            .andReturn()
+            .getResponse()
+            .getHeader(HttpHeaders.ETAG);
+
+        restBookMockMvc
+            .perform(get(ENTITY_API_URL_ID + "?fields=title,author", book.getId()).header(HttpHeaders.IF_NONE_MATCH, eTag))
+            .andExpect(status().isNotModified());
+        restBookMockMvc.perform(get(ENTITY_API_URL_ID + "?fields=title", Long.MAX_VALUE)).andExpect(status().isNotFound());
+    }
+
+    @Test
+    @Transactional
+    void getAllBooksAsSlice() throws Exception {
+        // Initialize the database
+        insertedBook = bookRepository.saveAndFlush(book);
+        bookRepository.saveAndFlush(createEntity());
+
+        // Get the first slice of the books: one count-free select of size + 1 rows
+        Statistics statistics = TestUtil.resetStatistics(em);
+        restBookMockMvc
+            .perform(get(ENTITY_API_URL + "?sort=id,asc&size=1&slice=true"))
+            .andExpect(status().isOk())
+            .andExpect(header().doesNotExist("X-Total-Count"))
+            .andExpect(header().string("X-Has-Next", "true"))
+            .andExpect(header().string(HttpHeaders.LINK, containsString("rel=\"next\"")))
+            .andExpect(jsonPath("$", hasSize(1)));
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    @Transactional
+    void getAllBooksWithKeysetPagination() throws Exception {
+        // Initialize the database
+        List<Book> books = bookRepository.saveAllAndFlush(List.of(createEntity(), createEntity(), createEntity()));
+
+        // Get the first keyset page, newest books first
+        String next = linkOf(
+            restBookMockMvc
+                .perform(get(ENTITY_API_URL + "?after=&size=2&sort=id,desc"))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist("X-Total-Count"))
+                .andExpect(jsonPath("$", hasSize(2)))
+                .andExpect(jsonPath("$.[0].id").value(books.get(2).getId().intValue()))
+                .andExpect(jsonPath("$.[1].id").value(books.get(1).getId().intValue()))
+                .andReturn()
+                .getResponse()
+                .getHeader(HttpHeaders.LINK),
+            "next"
+        );
+        assertThat(next).isNotNull();
+
+        // Follow the next link
+        restBookMockMvc
+            .perform(get(next))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.[0].id").value(books.get(0).getId().intValue()));
+    }
+
+    @Test
+    @Transactional
+    void getAllBooksWithKeysetPaginationOnNullableSortKey() throws Exception {
+        // Initialize the database
+        List<Book> books = bookRepository.saveAllAndFlush(List.of(createEntity().title(null), createEntity().title(null), createEntity()));
+
+        // Walk the books sorted by title: the books without title come first, in id order
+        List<Long> ids = new ArrayList<>();
+        String next = ENTITY_API_URL + "?after=&size=1&sort=title,asc";
+        while (next != null) {
+            MockHttpServletResponse response = restBookMockMvc.perform(get(next)).andExpect(status().isOk()).andReturn().getResponse();
+            om.readTree(response.getContentAsString()).forEach(node -> ids.add(node.get("id").asLong()));
+            next = linkOf(response.getHeader(HttpHeaders.LINK), "next");
+        }
+        assertThat(ids).doesNotHaveDuplicates().containsSubsequence(books.get(0).getId(), books.get(1).getId(), books.get(2).getId());
+    }
+
+    @Test
+    @Transactional
+    void getAllBooksWithKeysetPaginationAndCriteria() throws Exception {
+        // Initialize the database
+        List<Book> books = bookRepository.saveAllAndFlush(
+            List.of(createEntity().title("keyset-match"), createEntity().title("keyset-other"), createEntity().title("keyset-match"))
+        );
+
+        // Walk the pages: the filter applies to every page, the next links included
+        List<Long> ids = new ArrayList<>();
+        String next = ENTITY_API_URL + "?after=&size=1&sort=id,asc&title.equals=keyset-match";
+        while (next != null) {
+            MockHttpServletResponse response = restBookMockMvc.perform(get(next)).andExpect(status().isOk()).andReturn().getResponse();
+            om.readTree(response.getContentAsString()).forEach(node -> ids.add(node.get("id").asLong()));
+            next = linkOf(response.getHeader(HttpHeaders.LINK), "next");
+        }
+        assertThat(ids).containsExactly(books.get(0).getId(), books.get(2).getId());
+    }
+
+    @Test
+    @Transactional
+    void getAllBooksWithKeysetPaginationAndFields() throws Exception {
+        restBookMockMvc.perform(get(ENTITY_API_URL + "?after=&fields=id,title")).andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @Transactional
+    void getAllBooksWithInvalidKeysetCursor() throws Exception {
+        restBookMockMvc.perform(get(ENTITY_API_URL + "?after=not-a-cursor")).andExpect(status().isBadRequest());
+        restBookMockMvc.perform(get(ENTITY_API_URL + "?after=&sort=description,asc")).andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @Transactional
+    void keysetPageCostDoesNotDependOnDepth() throws Exception {
+        // Initialize the database
+        List<Book> books = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            books.add(createEntity());
+        }
+        bookRepository.saveAllAndFlush(books);
+        em.clear();
+
+        // Walk 100 pages: each one, the first as the deepest, is a single statement with no count query
+        Statistics statistics = TestUtil.resetStatistics(em);
+        String next = ENTITY_API_URL + "?after=&size=10&sort=id,desc";
+        for (int page = 0; page < 100; page++) {
+            statistics.clear();
+            next = linkOf(
+                restBookMockMvc
+                    .perform(get(next))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$", hasSize(10)))
+                    .andReturn()
+                    .getResponse()
+                    .getHeader(HttpHeaders.LINK),
+                "next"
+            );
+            assertThat(statistics.getPrepareStatementCount()).as("statements for page %d", page).isEqualTo(1);
+        }
+    }
+
+    @Test
+    @Transactional
+    void exportBooksAsNdjson() throws Exception {
+        // Initialize the database
+        insertedBook = bookRepository.saveAndFlush(book);
+
+        // Export all the books, one JSON document per line
+        String export = restBookMockMvc
+            .perform(get(ENTITY_API_URL + "/export"))
+            .andExpect(status().isOk())
+            .andExpect(content().contentTypeCompatibleWith("application/x-ndjson"))
+            .andReturn()
+            .getResponse()
+            .getContentAsString();
+        List<Book> exported = new ArrayList<>();
+        for (String line : export.split("\n")) {
+            assertThat(line).startsWith("{").endsWith("}");
+            exported.add(om.readValue(line, Book.class));
+        }
+        assertThat(exported).hasSize((int) getRepositoryCount());
+        assertBookAllPropertiesEquals(book, exported.stream().filter(b -> b.getId().equals(book.getId())).findFirst().orElseThrow());
+    }
+
+    @Test
+    @Transactional
+    void exportBooksAsCsv() throws Exception {
+        // Initialize the database
+        insertedBook = bookRepository.saveAndFlush(book.title("semi;colon").description("with \"quotes\""));
+
+        // Export all the books, with a header line
+        String export = restBookMockMvc
+            .perform(get(ENTITY_API_URL + "/export?format=csv"))
+            .andExpect(status().isOk())
+            .andExpect(content().contentTypeCompatibleWith("text/csv"))
+            .andReturn()
+            .getResponse()
+            .getContentAsString();
+        assertThat(export.split("\n"))
+            .hasSize((int) getRepositoryCount() + 1)
+            .startsWith("id;title;description;publication_date;price;author_id")
+            .anyMatch(line -> line.startsWith(book.getId() + ";\"semi;colon\";\"with \"\"quotes\"\"\";" + DEFAULT_PUBLICATION_DATE + ";"));
+    }
+
+    @Test
+    @Transactional
+    void exportBooksWithUnsupportedFormat() throws Exception {
+        restBookMockMvc.perform(get(ENTITY_API_URL + "/export?format=xml")).andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void searchBooksRankedByRelevance() throws Exception {
+        // Not transactional: the search index is only updated once the changes are committed
+        Book inTitle = bookRepository.saveAndFlush(createEntity().title("Quixotic voyages").description("a travel book"));
+        insertedBook = bookRepository.saveAndFlush(createEntity().title("Travels").description("quixotic, and long"));
+        try {
+            restBookMockMvc
+                .perform(get(ENTITY_API_URL + "/_search?q=QUIXÓTIC&sort=id,desc"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("X-Total-Count", "2"))
+                .andExpect(jsonPath("$.[*].id").value(contains(inTitle.getId().intValue(), insertedBook.getId().intValue())));
+
+            restBookMockMvc
+                .perform(get(ENTITY_API_URL + "/_search?q=quixotic&page=1&size=1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.[*].id").value(contains(insertedBook.getId().intValue())));
+        } finally {
+            bookRepository.delete(inTitle);
+        }
+    }
+
+    @Test
+    void searchIndexFollowsUpdatesAndDeletes() throws Exception {
+        Book removed = bookRepository.saveAndFlush(createEntity().title("Unrepeatable saga"));
+        insertedBook = bookRepository.saveAndFlush(createEntity().title("Unrepeatable tales"));
+
+        insertedBook = bookRepository.saveAndFlush(insertedBook.title("Ordinary tales"));
+        bookRepository.delete(removed);
+
+        restBookMockMvc
+            .perform(get(ENTITY_API_URL + "/_search?q=unrepeatable"))
+            .andExpect(status().isOk())
+            .andExpect(header().string("X-Total-Count", "0"));
+        restBookMockMvc
+            .perform(get(ENTITY_API_URL + "/_search?q=ordinary"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.[*].id").value(contains(insertedBook.getId().intValue())));
+    }
+
+    @Test
+    @Transactional
+    void getBooksByIdFiltering() throws Exception {
+        // Initialize the database
+        insertedBook = bookRepository.saveAndFlush(book);
+
+        Long id = book.getId();
+
+        defaultBookFiltering("id.equals=" + id, "id.notEquals=" + id);
+
+        defaultBookFiltering("id.greaterThanOrEqual=" + id, "id.greaterThan=" + id);
+
+        defaultBookFiltering("id.lessThanOrEqual=" + id, "id.lessThan=" + id);
+    }
+
+    @Test
+    @Transactional
+    void getAllBooksByTitleStartsWith() throws Exception {
+        // Initialize the database
+        insertedBook = bookRepository.saveAndFlush(book);
+
+        // Get all the bookList where title starts with a prefix of DEFAULT_TITLE, and not with UPDATED_TITLE
+        defaultBookFiltering("title.startsWith=" + DEFAULT_TITLE.substring(0, 5), "title.startsWith=" + UPDATED_TITLE);
+
+        // LIKE wildcards in the prefix are matched literally
+        defaultBookShouldNotBeFound("title.startsWith=" + DEFAULT_TITLE.substring(0, 1) + "%25");
+    }
+
+    @Test
+    @Transactional
+    void getAllBooksByTitleIsEqualToSomething() throws Exception {
+        // Initialize the database
+        insertedBook = bookRepository.saveAndFlush(book);
+
+        // Get all the bookList where title equals to
+        defaultBookFiltering("title.equals=" + DEFAULT_TITLE, "title.equals=" + UPDATED_TITLE);
+    }
+
+    @Test
+    @Transactional
+    void getAllBooksByPublicationDateIsInRange() throws Exception {
+        // Initialize the database
+        insertedBook = bookRepository.saveAndFlush(book);
+
+        // Get all the bookList where publicationDate is between DEFAULT_PUBLICATION_DATE and a later date
+        defaultBookFiltering(
+            "publicationDate.greaterThanOrEqual=" + DEFAULT_PUBLICATION_DATE + "&publicationDate.lessThan=" + UPDATED_PUBLICATION_DATE,
+            "publicationDate.greaterThan=" + DEFAULT_PUBLICATION_DATE + "&publicationDate.lessThan=" + UPDATED_PUBLICATION_DATE
+        );
+    }
+
+    @Test
+    @Transactional
+    void getAllBooksByPriceIsInRange() throws Exception {
+        // Initialize the database
+        insertedBook = bookRepository.saveAndFlush(book);
+
+        // Get all the bookList where price is between DEFAULT_PRICE and UPDATED_PRICE
+        defaultBookFiltering(
+            "price.greaterThanOrEqual=" + DEFAULT_PRICE + "&price.lessThan=" + UPDATED_PRICE,
+            "price.greaterThan=" + DEFAULT_PRICE + "&price.lessThanOrEqual=" + UPDATED_PRICE
+        );
+    }
+
+    @Test
+    @Transactional
+    void getAllBooksByAuthorIsEqualToSomething() throws Exception {
+        Author author = AuthorResourceIT.createEntity();
+        em.persist(author);
+        em.flush();
+        book.setAuthor(author);
+        // Initialize the database
+        insertedBook = bookRepository.saveAndFlush(book);
+        Long authorId = author.getId();
+
+        // Get all the bookList where author equals to authorId
+        defaultBookShouldBeFound("authorId.equals=" + authorId);
+
+        // Get all the bookList where author equals to (authorId + 1)
+        defaultBookShouldNotBeFound("authorId.equals=" + (authorId + 1));
+
+        // Filters combine with the count-free slice mode
+        restBookMockMvc
+            .perform(get(ENTITY_API_URL + "?slice=true&authorId.equals=" + authorId))
+            .andExpect(status().isOk())
+            .andExpect(header().string("X-Has-Next", "false"))
+            .andExpect(jsonPath("$.[*].id").value(contains(book.getId().intValue())));
+    }
+
+    private void defaultBookFiltering(String shouldBeFound, String shouldNotBeFound) throws Exception {
+        defaultBookShouldBeFound(shouldBeFound);
+        defaultBookShouldNotBeFound(shouldNotBeFound);
+    }
+
+    /**
+     * Executes the search, and checks that the default entity is returned.
+     */
+    private void defaultBookShouldBeFound(String filter) throws Exception {
+        restBookMockMvc
+            .perform(get(ENTITY_API_URL + "?sort=id,desc&" + filter))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
+            .andExpect(jsonPath("$.[*].id").value(hasItem(book.getId().intValue())))
+            .andExpect(jsonPath("$.[*].title").value(hasItem(DEFAULT_TITLE)))
+            .andExpect(jsonPath("$.[*].description").value(hasItem(DEFAULT_DESCRIPTION)))
+            .andExpect(jsonPath("$.[*].publicationDate").value(hasItem(DEFAULT_PUBLICATION_DATE.toString())))
+            .andExpect(jsonPath("$.[*].price").value(hasItem(sameNumber(DEFAULT_PRICE))));
+
+        // Check, that the count call also returns 1
+        restBookMockMvc
+            .perform(get(ENTITY_API_URL + "/count?sort=id,desc&" + filter))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
+            .andExpect(content().string("1"));
+    }
+
+    /**
+     * Executes the search, and checks that the default entity is not returned.
+     */
+    private void defaultBookShouldNotBeFound(String filter) throws Exception {
+        restBookMockMvc
+            .perform(get(ENTITY_API_URL + "?sort=id,desc&" + filter))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
+            .andExpect(jsonPath("$").isArray())
+            .andExpect(jsonPath("$").isEmpty());
+
+        // Check, that the count call also returns 0
+        restBookMockMvc
+            .perform(get(ENTITY_API_URL + "/count?sort=id,desc&" + filter))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
+            .andExpect(content().string("0"));
+    }
+
     @Test
     @Transactional
     void getBook() throws Exception {
@@ -186,6 +758,82 @@ class BookResourceIT {
             .andExpect(jsonPath("$.price").value(sameNumber(DEFAULT_PRICE)));
     }
 
+    @Test
+    @Transactional
+    void getBookWithETag() throws Exception {
+        // Initialize the database
+        insertedBook = bookRepository.saveAndFlush(book);
+        String eTag = restBookMockMvc
+            .perform(get(ENTITY_API_URL_ID, book.getId()))
+            .andExpect(status().isOk())
+            .andExpect(header().string(HttpHeaders.ETAG, "\"" + book.getId() + "-0\""))
+            .andReturn()
+            .getResponse()
+            .getHeader(HttpHeaders.ETAG);
+
+        // Unchanged: no body
+        restBookMockMvc
+            .perform(get(ENTITY_API_URL_ID, book.getId()).header(HttpHeaders.IF_NONE_MATCH, eTag))
+            .andExpect(status().isNotModified())
+            .andExpect(content().string(""));
+
+        // Updated: a new version, so a new ETag
+        bookRepository.saveAndFlush(book.title(UPDATED_TITLE));
+        restBookMockMvc
+            .perform(get(ENTITY_API_URL_ID, book.getId()).header(HttpHeaders.IF_NONE_MATCH, eTag))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.title").value(UPDATED_TITLE));
+    }
+
+    @Test
+    @Transactional
+    void getAllBooksWithETag() throws Exception {
+        // Initialize the database
+        Author author = AuthorResourceIT.createEntity();
+        em.persist(author);
+        insertedBook = bookRepository.saveAndFlush(book.author(author));
+        String url = ENTITY_API_URL + "?authorId.equals=" + author.getId();
+        String eTag = restBookMockMvc
+            .perform(get(url))
+            .andExpect(status().isOk())
+            .andExpect(header().exists(HttpHeaders.ETAG))
+            .andReturn()
+            .getResponse()
+            .getHeader(HttpHeaders.ETAG);
+
+        // Unchanged: only the page is selected, without counting the books
+        Statistics statistics = TestUtil.resetStatistics(em);
+        restBookMockMvc
+            .perform(get(url).header(HttpHeaders.IF_NONE_MATCH, eTag))
+            .andExpect(status().isNotModified())
+            .andExpect(content().string(""));
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+
+        // The lists show the names of the authors, so renaming the author changes them too
+        author.setName(UPDATED_TITLE);
+        em.flush();
+        restBookMockMvc
+            .perform(get(url).header(HttpHeaders.IF_NONE_MATCH, eTag))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.[0].author.name").value(UPDATED_TITLE));
+    }
+
+    @Test
+    void getBookFromSecondLevelCache() throws Exception {
+        // Not transactional: the second-level cache is only filled once the changes are committed
+        insertedBook = bookRepository.saveAndFlush(book);
+        restBookMockMvc.perform(get(ENTITY_API_URL_ID, book.getId())).andExpect(status().isOk());
+
+        Statistics statistics = TestUtil.resetStatistics(em);
+        restBookMockMvc
+            .perform(get(ENTITY_API_URL_ID, book.getId()))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.title").value(DEFAULT_TITLE));
+        assertThat(statistics.getSecondLevelCacheHitCount()).isPositive();
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+    }
+
     @Test
     @Transactional
     void getNonExistingBook() throws Exception {
@@ -269,6 +917,103 @@ class BookResourceIT {
         assertSameRepositoryCount(databaseSizeBeforeUpdate);
     }
 
+    @Test
+    @Transactional
+    void updateBookWithStaleVersion() throws Exception {
+        // Initialize the database, then update the book once
+        insertedBook = bookRepository.saveAndFlush(book);
+        Book staleBook = new Book().id(book.getId()).title(UPDATED_TITLE).version(book.getVersion());
+        bookRepository.saveAndFlush(book.price(UPDATED_PRICE));
+        assertThat(book.getVersion()).isEqualTo(staleBook.getVersion() + 1);
+
+        // Updates based on the first version are lost updates
+        restBookMockMvc
+            .perform(put(ENTITY_API_URL_ID, book.getId()).contentType(MediaType.APPLICATION_JSON).content(om.writeValueAsBytes(staleBook)))
+            .andExpect(status().isConflict());
+        restBookMockMvc
+            .perform(
+                patch(ENTITY_API_URL_ID, book.getId()).contentType("application/merge-patch+json").content(om.writeValueAsBytes(staleBook))
+            )
+            .andExpect(status().isConflict());
+    }
+
+    @Test
+    @Transactional
+    void partialUpdateBookWithoutVersion() throws Exception {
+        // Initialize the database, then update the book once
+        insertedBook = bookRepository.saveAndFlush(book);
+        bookRepository.saveAndFlush(book.price(UPDATED_PRICE));
+        assertThat(book.getVersion()).isPositive();
+
+        // Absent from the patch, the version is left unchecked like the other absent fields
+        restBookMockMvc
+            .perform(
+                patch(ENTITY_API_URL_ID, book.getId())
+                    .contentType("application/merge-patch+json")
+                    .content("{\"id\":" + book.getId() + ",\"title\":\"" + UPDATED_TITLE + "\"}")
+            )
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.title").value(UPDATED_TITLE))
+            .andExpect(jsonPath("$.price").value(sameNumber(UPDATED_PRICE)));
+    }
+
+    @Test
+    void updateBookConcurrentlyWithoutLostUpdates() throws Exception {
+        // Not transactional: every request commits its own update
+        insertedBook = bookRepository.saveAndFlush(book.price(BigDecimal.ZERO));
+        int threads = 8;
+        int updatesPerThread = 10;
+        AtomicInteger updated = new AtomicInteger();
+        AtomicInteger conflicts = new AtomicInteger();
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                futures.add(
+                    executor.submit(() -> {
+                        for (int j = 0; j < updatesPerThread; j++) {
+                            // Read, increment the price and write back: a lost update would lose an increment
+                            Book current = om.readValue(
+                                restBookMockMvc
+                                    .perform(get(ENTITY_API_URL_ID, book.getId()).with(user("user")))
+                                    .andReturn()
+                                    .getResponse()
+                                    .getContentAsString(),
+                                Book.class
+                            );
+                            current.setPrice(current.getPrice().add(BigDecimal.ONE));
+                            int status = restBookMockMvc
+                                .perform(
+                                    put(ENTITY_API_URL_ID, book.getId())
+                                        .with(user("user"))
+                                        .contentType(MediaType.APPLICATION_JSON)
+                                        .content(om.writeValueAsBytes(current))
+                                )
+                                .andReturn()
+                                .getResponse()
+                                .getStatus();
+                            assertThat(status).isIn(200, 409);
+                            (status == 200 ? updated : conflicts).incrementAndGet();
+                        }
+                        return null;
+                    })
+                );
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        Book result = bookRepository.findById(book.getId()).orElseThrow();
+        insertedBook = result;
+        assertThat(updated.get() + conflicts.get()).isEqualTo(threads * updatesPerThread);
+        assertThat(result.getVersion()).isEqualTo(updated.get());
+        assertThat(result.getPrice()).isEqualByComparingTo(BigDecimal.valueOf(updated.get()));
+    }
+
     @Test
     @Transactional
     void partialUpdateBookWithPatch() throws Exception {
@@ -395,6 +1140,41 @@ class BookResourceIT {
         assertDecrementedRepositoryCount(databaseSizeBeforeDelete);
     }
 
+    @Test
+    void deleteBooksInBulk() throws Exception {
+        // Not transactional: the search index and the second-level cache are only updated once the deletion is committed
+        Book otherBook = bookRepository.saveAndFlush(createEntity().title("Disposable"));
+        insertedBook = bookRepository.saveAndFlush(book.title("Disposable"));
+        long missingId = longCount.incrementAndGet();
+        restBookMockMvc.perform(get(ENTITY_API_URL_ID, book.getId())).andExpect(status().isOk());
+
+        long databaseSizeBeforeDelete = getRepositoryCount();
+
+        Statistics statistics = TestUtil.resetStatistics(em);
+        restBookMockMvc
+            .perform(
+                delete(ENTITY_API_URL)
+                    .param("ids", book.getId() + "," + otherBook.getId() + "," + missingId)
+                    .accept(MediaType.APPLICATION_JSON)
+            )
+            .andExpect(status().isOk())
+            .andExpect(header().string("X-todoApp-alert", "todoApp.book.batchDeleted"))
+            .andExpect(header().string("X-todoApp-params", "2"))
+            .andExpect(jsonPath("$['" + book.getId() + "']").value("DELETED"))
+            .andExpect(jsonPath("$['" + otherBook.getId() + "']").value("DELETED"))
+            .andExpect(jsonPath("$['" + missingId + "']").value("NOT_FOUND"));
+        insertedBook = null;
+        // One statement to find the existing books, one to delete them
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+
+        assertThat(getRepositoryCount()).isEqualTo(databaseSizeBeforeDelete - 2);
+        restBookMockMvc.perform(get(ENTITY_API_URL_ID, book.getId())).andExpect(status().isNotFound());
+        restBookMockMvc
+            .perform(get(ENTITY_API_URL + "/_search?q=disposable"))
+            .andExpect(status().isOk())
+            .andExpect(header().string("X-Total-Count", "0"));
+    }
+
     protected long getRepositoryCount() {
         return bookRepository.count();
     }
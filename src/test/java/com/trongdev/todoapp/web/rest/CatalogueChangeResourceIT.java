@@ -0,0 +1,165 @@
+package com.trongdev.todoapp.web.rest;
+
+import static com.trongdev.todoapp.security.jwt.JwtAuthenticationTestUtils.BEARER;
+import static com.trongdev.todoapp.security.jwt.JwtAuthenticationTestUtils.createValidToken;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.trongdev.todoapp.TodoApp;
+import com.trongdev.todoapp.config.AsyncSyncConfiguration;
+import com.trongdev.todoapp.config.EmbeddedSQL;
+import com.trongdev.todoapp.config.JacksonConfiguration;
+import com.trongdev.todoapp.domain.Book;
+import com.trongdev.todoapp.repository.BookRepository;
+import com.trongdev.todoapp.service.BookDeletionService;
+import com.trongdev.todoapp.service.CatalogueChangeService;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+
+/**
+ * Integration tests for the {@link CatalogueChangeResource} REST controller, on a running Undertow server.
+ */
+@SpringBootTest(
+    classes = { TodoApp.class, JacksonConfiguration.class, AsyncSyncConfiguration.class },
+    webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+    properties = "application.catalogue-changes.write-timeout=PT1S"
+)
+@EmbeddedSQL
+class CatalogueChangeResourceIT {
+
+    private static final Logger LOG = LoggerFactory.getLogger(CatalogueChangeResourceIT.class);
+
+    private static final int SUBSCRIBERS = 2000;
+
+    private static final int NOT_READING_SUBSCRIBERS = 8;
+
+    @LocalServerPort
+    private int port;
+
+    @Value("${jhipster.security.authentication.jwt.base64-secret}")
+    private String jwtKey;
+
+    @Autowired
+    private BookRepository bookRepository;
+
+    @Autowired
+    private BookDeletionService bookDeletionService;
+
+    private final List<Stream<String>> streams = new ArrayList<>();
+
+    private final List<Socket> sockets = new ArrayList<>();
+
+    private Book insertedBook;
+
+    private final List<Book> insertedBooks = new ArrayList<>();
+
+    @AfterEach
+    public void cleanup() throws IOException {
+        streams.forEach(Stream::close);
+        streams.clear();
+        for (Socket socket : sockets) {
+            socket.close();
+        }
+        sockets.clear();
+        if (insertedBook != null) {
+            bookRepository.delete(insertedBook);
+            insertedBook = null;
+        }
+        if (!insertedBooks.isEmpty()) {
+            bookDeletionService.deleteBooks(insertedBooks.stream().map(Book::getId).toList());
+            insertedBooks.clear();
+        }
+    }
+
+    @Test
+    void idleSubscribersDoNotHoldAThreadEach() throws Exception {
+        HttpClient client = HttpClient.newHttpClient();
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/books/changes"))
+            .header(HttpHeaders.AUTHORIZATION, BEARER + createValidToken(jwtKey))
+            .header(HttpHeaders.ACCEPT, MediaType.TEXT_EVENT_STREAM_VALUE)
+            .build();
+        int threadsBefore = ManagementFactory.getThreadMXBean().getThreadCount();
+
+        List<CompletableFuture<HttpResponse<Stream<String>>>> responses = new ArrayList<>();
+        for (int i = 0; i < SUBSCRIBERS; i++) {
+            responses.add(client.sendAsync(request, HttpResponse.BodyHandlers.ofLines()));
+        }
+        for (CompletableFuture<HttpResponse<Stream<String>>> response : responses) {
+            assertThat(response.get().statusCode()).isEqualTo(200);
+            streams.add(response.get().body());
+        }
+
+        int threadsAfter = ManagementFactory.getThreadMXBean().getThreadCount();
+        LOG.info("{} idle subscribers: {} threads before, {} after", SUBSCRIBERS, threadsBefore, threadsAfter);
+        assertThat(threadsAfter - threadsBefore).isLessThan(SUBSCRIBERS / 10);
+
+        insertedBook = bookRepository.saveAndFlush(BookResourceIT.createEntity());
+        for (Stream<String> stream : streams) {
+            assertThat(nextData(stream.iterator())).contains("\"entityId\":" + insertedBook.getId()).contains("\"type\":\"CREATED\"");
+        }
+    }
+
+    @Test
+    void subscribersNotReadingTheirStreamDoNotStallTheOthers() throws Exception {
+        // More subscribers not reading their stream than sender threads, with receive buffers that fill up at once
+        String token = createValidToken(jwtKey);
+        for (int i = 0; i < NOT_READING_SUBSCRIBERS; i++) {
+            Socket socket = new Socket();
+            socket.setReceiveBufferSize(1024);
+            socket.connect(new InetSocketAddress("localhost", port));
+            sockets.add(socket);
+            String request = "GET /api/books/changes HTTP/1.1\r\nHost: localhost\r\nAuthorization: " + BEARER + token + "\r\n\r\n";
+            socket.getOutputStream().write(request.getBytes(StandardCharsets.US_ASCII));
+        }
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/books/changes"))
+            .header(HttpHeaders.AUTHORIZATION, BEARER + token)
+            .header(HttpHeaders.ACCEPT, MediaType.TEXT_EVENT_STREAM_VALUE)
+            .build();
+        HttpResponse<Stream<String>> response = HttpClient.newHttpClient().send(request, HttpResponse.BodyHandlers.ofLines());
+        assertThat(response.statusCode()).isEqualTo(200);
+        streams.add(response.body());
+
+        // As many changes as a subscriber may have pending, so that the one reading its stream is not disconnected
+        List<Book> books = Stream.generate(BookResourceIT::createEntity).limit(CatalogueChangeService.BUFFER_SIZE).toList();
+        insertedBooks.addAll(bookRepository.saveAll(books));
+
+        String lastChange = "\"entityId\":" + insertedBooks.get(insertedBooks.size() - 1).getId() + ",";
+        Iterator<String> lines = response.body().iterator();
+        String data;
+        do {
+            data = nextData(lines);
+        } while (data != null && !data.contains(lastChange));
+        assertThat(data).as("last change received by the subscriber reading its stream").isNotNull();
+    }
+
+    private static String nextData(Iterator<String> lines) {
+        while (lines.hasNext()) {
+            String line = lines.next();
+            if (line.startsWith("data:")) {
+                return line;
+            }
+        }
+        return null;
+    }
+}
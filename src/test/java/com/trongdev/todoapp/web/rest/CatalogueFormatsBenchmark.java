@@ -0,0 +1,111 @@
+package com.trongdev.todoapp.web.rest;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.trongdev.todoapp.service.dto.BookSummaryDTO;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+/**
+ * JMH benchmark of the cost to encode and decode a page of books in each format served by {@code GET /api/books}:
+ * {@code application/json}, {@code application/cbor} and {@code application/x-jackson-smile}.
+ * <p>
+ * It is not run by the test phases; run its {@link #main(String[])} method with the test classpath, after
+ * {@code ./mvnw test-compile}. The payload sizes are compared by {@code BookResourceIT}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CatalogueFormatsBenchmark {
+
+    @Param({ "json", "cbor", "smile" })
+    private String format;
+
+    @Param({ "20", "200" })
+    private int rows;
+
+    private ObjectMapper mapper;
+
+    private JavaType pageType;
+
+    private List<BookSummaryDTO> page;
+
+    private byte[] encodedPage;
+
+    @Setup
+    public void setup() throws IOException {
+        mapper = objectMapper(format);
+        pageType = mapper.getTypeFactory().constructCollectionType(List.class, BookSummaryDTO.class);
+        page = books(rows);
+        encodedPage = mapper.writeValueAsBytes(page);
+    }
+
+    @Benchmark
+    public byte[] encode() throws IOException {
+        return mapper.writeValueAsBytes(page);
+    }
+
+    @Benchmark
+    public List<BookSummaryDTO> decode() throws IOException {
+        return mapper.readValue(encodedPage, pageType);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(CatalogueFormatsBenchmark.class.getSimpleName()).build()).run();
+    }
+
+    /**
+     * Builds an object mapper configured as the Spring Boot ones of the message converters.
+     */
+    private static ObjectMapper objectMapper(String format) {
+        Jackson2ObjectMapperBuilder builder =
+            switch (format) {
+                case "json" -> Jackson2ObjectMapperBuilder.json();
+                case "cbor" -> Jackson2ObjectMapperBuilder.cbor();
+                case "smile" -> Jackson2ObjectMapperBuilder.smile();
+                default -> throw new IllegalArgumentException("Unknown format: " + format);
+            };
+        return builder.featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS).build();
+    }
+
+    private static List<BookSummaryDTO> books(int rows) {
+        List<BookSummaryDTO> books = new ArrayList<>(rows);
+        for (int i = 0; i < rows; i++) {
+            books.add(
+                new BookSummaryDTO(
+                    (long) i,
+                    "Book title " + i,
+                    "A description of the book number " + i + ", as long as the ones of the catalogue",
+                    LocalDate.of(2000, 1, 1).plusDays(i),
+                    new BigDecimal("19.99").add(BigDecimal.valueOf(i)),
+                    (long) (i % 10),
+                    "Author " + (i % 10)
+                )
+            );
+        }
+        return books;
+    }
+}
@@ -0,0 +1,190 @@
+package com.trongdev.todoapp.web.rest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.trongdev.todoapp.IntegrationTest;
+import com.trongdev.todoapp.domain.Author;
+import com.trongdev.todoapp.domain.Book;
+import com.trongdev.todoapp.domain.ImportJob;
+import com.trongdev.todoapp.domain.enumeration.ImportStatus;
+import com.trongdev.todoapp.domain.enumeration.ImportType;
+import com.trongdev.todoapp.repository.AuthorRepository;
+import com.trongdev.todoapp.repository.BookRepository;
+import com.trongdev.todoapp.repository.ImportJobRepository;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+
+/**
+ * Integration tests for the {@link ImportJobResource} REST controller.
+ * <p>
+ * Not transactional: each chunk of an import is committed in its own transaction, and the test
+ * {@code taskExecutor} runs the imports synchronously, with a chunk size of 2.
+ */
+@IntegrationTest
+@AutoConfigureMockMvc
+@WithMockUser
+class ImportJobResourceIT {
+
+    private static final String ENTITY_API_URL = "/api/imports";
+
+    private static final String TITLE_PREFIX = "import-it-";
+
+    private static final String BOOK_HEADER = "id;title;description;publication_date;price;author\n";
+
+    @Autowired
+    private ObjectMapper om;
+
+    @Autowired
+    private ImportJobRepository importJobRepository;
+
+    @Autowired
+    private BookRepository bookRepository;
+
+    @Autowired
+    private AuthorRepository authorRepository;
+
+    @Autowired
+    private MockMvc restImportJobMockMvc;
+
+    @AfterEach
+    public void cleanup() {
+        bookRepository.deleteAll(importedBooks());
+        authorRepository.deleteAll(
+            authorRepository
+                .findAll()
+                .stream()
+                .filter(author -> author.getName() != null && author.getName().startsWith(TITLE_PREFIX))
+                .toList()
+        );
+        importJobRepository.deleteAll();
+    }
+
+    @Test
+    void importBooksInChunks() throws Exception {
+        authorRepository.saveAndFlush(new Author().name(TITLE_PREFIX + "author"));
+        String csv =
+            BOOK_HEADER +
+            "1;import-it-1;first;2024-11-03;10.50;import-it-author\n" +
+            "2;import-it-2;;2024-11-03;;\n" +
+            "3;import-it-3;third;not-a-date;1.00;\n" +
+            "4;import-it-4;fourth;2024-11-03;2.00;nobody\n" +
+            "5;import-it-5;\"fifth; quoted\";;3.00;IMPORT-IT-AUTHOR\n";
+
+        ImportJob created = om.readValue(
+            restImportJobMockMvc
+                .perform(multipart(ENTITY_API_URL).file(csvFile(csv)).param("type", "book"))
+                .andExpect(status().isCreated())
+                .andReturn()
+                .getResponse()
+                .getContentAsString(),
+            ImportJob.class
+        );
+
+        ImportJob job = importJobRepository.findById(created.getId()).orElseThrow();
+        assertThat(job.getStatus()).isEqualTo(ImportStatus.COMPLETED);
+        assertThat(job.getTotalRows()).isEqualTo(5L);
+        assertThat(job.getProcessedRows()).isEqualTo(5L);
+        assertThat(job.getImportedRows()).isEqualTo(3L);
+        assertThat(job.getRejectedRows()).isEqualTo(2L);
+        assertThat(job.getErrorReport()).contains("line 4: invalid publication_date", "line 5: unknown author nobody");
+        assertThat(Files.exists(Path.of(job.getStoredFile()))).isFalse();
+
+        List<Book> books = importedBooks();
+        assertThat(books).extracting(Book::getTitle).containsExactlyInAnyOrder("import-it-1", "import-it-2", "import-it-5");
+        assertThat(books).filteredOn(book -> book.getAuthor() != null).hasSize(2);
+        assertThat(books).extracting(Book::getDescription).contains("fifth; quoted");
+
+        restImportJobMockMvc
+            .perform(get(ENTITY_API_URL + "/{id}", job.getId()))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.status").value("COMPLETED"))
+            .andExpect(jsonPath("$.processedRows").value(5))
+            .andExpect(jsonPath("$.storedFile").doesNotExist());
+    }
+
+    @Test
+    void importAuthors() throws Exception {
+        String csv = "id;name;birth_date\n1;import-it-one;1970-01-01\n2;import-it-two;\n";
+
+        restImportJobMockMvc
+            .perform(multipart(ENTITY_API_URL).file(csvFile(csv)).param("type", "author"))
+            .andExpect(status().isCreated())
+            .andExpect(jsonPath("$.status").value("COMPLETED"))
+            .andExpect(jsonPath("$.importedRows").value(2));
+    }
+
+    @Test
+    void restartFailedJobAfterLastCommittedChunk() throws Exception {
+        Path file = Files.createTempFile("import", ".csv");
+        Files.writeString(
+            file,
+            BOOK_HEADER + "1;import-it-1;;;;\n2;import-it-2;;;;\n3;import-it-3;;;;\n4;import-it-4;;;;\n",
+            StandardCharsets.UTF_8
+        );
+        ImportJob job = importJobRepository.saveAndFlush(
+            new ImportJob()
+                .type(ImportType.BOOK)
+                .status(ImportStatus.FAILED)
+                .storedFile(file.toString())
+                .totalRows(4L)
+                .processedRows(2)
+                .importedRows(2)
+        );
+
+        restImportJobMockMvc.perform(post(ENTITY_API_URL + "/{id}/restart", job.getId())).andExpect(status().isOk());
+
+        job = importJobRepository.findById(job.getId()).orElseThrow();
+        assertThat(job.getStatus()).isEqualTo(ImportStatus.COMPLETED);
+        assertThat(job.getProcessedRows()).isEqualTo(4L);
+        assertThat(job.getImportedRows()).isEqualTo(4L);
+        assertThat(importedBooks()).extracting(Book::getTitle).containsExactlyInAnyOrder("import-it-3", "import-it-4");
+    }
+
+    @Test
+    void restartJobThatHasNotFailed() throws Exception {
+        ImportJob job = importJobRepository.saveAndFlush(new ImportJob().type(ImportType.BOOK).status(ImportStatus.COMPLETED));
+
+        restImportJobMockMvc.perform(post(ENTITY_API_URL + "/{id}/restart", job.getId())).andExpect(status().isBadRequest());
+        restImportJobMockMvc.perform(post(ENTITY_API_URL + "/{id}/restart", Long.MAX_VALUE)).andExpect(status().isNotFound());
+    }
+
+    @Test
+    void importFileWithMissingColumn() throws Exception {
+        restImportJobMockMvc
+            .perform(multipart(ENTITY_API_URL).file(csvFile("id;birth_date\n1;1970-01-01\n")).param("type", "author"))
+            .andExpect(status().isBadRequest());
+
+        assertThat(importJobRepository.count()).isZero();
+    }
+
+    @Test
+    void importUnsupportedType() throws Exception {
+        restImportJobMockMvc
+            .perform(multipart(ENTITY_API_URL).file(csvFile(BOOK_HEADER)).param("type", "user"))
+            .andExpect(status().isBadRequest());
+    }
+
+    private static MockMultipartFile csvFile(String content) {
+        return new MockMultipartFile("file", "catalogue.csv", "text/csv", content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private List<Book> importedBooks() {
+        return bookRepository
+            .findAll()
+            .stream()
+            .filter(book -> book.getTitle() != null && book.getTitle().startsWith(TITLE_PREFIX))
+            .toList();
+    }
+}
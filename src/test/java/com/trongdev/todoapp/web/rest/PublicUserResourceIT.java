@@ -75,6 +75,21 @@ class PublicUserResourceIT {
             .andExpect(jsonPath("$.[*].langKey").doesNotHaveJsonPath());
     }
 
+    @Test
+    @Transactional
+    void getAllPublicUsersAsSlice() throws Exception {
+        // Initialize the database
+        userRepository.saveAndFlush(user);
+
+        // Get the first slice of the users, without counting them
+        restUserMockMvc
+            .perform(get("/api/users?sort=id,desc&size=1&slice=true").accept(MediaType.APPLICATION_JSON))
+            .andExpect(status().isOk())
+            .andExpect(header().doesNotExist("X-Total-Count"))
+            .andExpect(header().exists("X-Has-Next"))
+            .andExpect(jsonPath("$.[0].login").value(user.getLogin()));
+    }
+
     @Test
     @Transactional
     void getAllUsersSortedByParameters() throws Exception {
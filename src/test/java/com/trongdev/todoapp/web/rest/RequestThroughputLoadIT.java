@@ -0,0 +1,110 @@
+package com.trongdev.todoapp.web.rest;
+
+import static com.trongdev.todoapp.security.jwt.JwtAuthenticationTestUtils.BEARER;
+import static com.trongdev.todoapp.security.jwt.JwtAuthenticationTestUtils.createValidToken;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.trongdev.todoapp.TodoApp;
+import com.trongdev.todoapp.config.AsyncSyncConfiguration;
+import com.trongdev.todoapp.config.EmbeddedSQL;
+import com.trongdev.todoapp.config.JacksonConfiguration;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.HttpHeaders;
+
+/**
+ * Load test of {@code GET /api/books} with {@link #CONNECTIONS} concurrent connections on a running Undertow server,
+ * comparing the throughput of requests handled on Undertow worker threads and on virtual threads.
+ */
+class RequestThroughputLoadIT {
+
+    private static final Logger LOG = LoggerFactory.getLogger(RequestThroughputLoadIT.class);
+
+    private static final int CONNECTIONS = 5000;
+
+    private static final Map<String, Double> THROUGHPUTS = new ConcurrentHashMap<>();
+
+    @AfterAll
+    static void logThroughputs() {
+        LOG.info("{} concurrent connections: {} requests per second", CONNECTIONS, THROUGHPUTS);
+    }
+
+    @Nested
+    @SpringBootTest(
+        classes = { TodoApp.class, JacksonConfiguration.class, AsyncSyncConfiguration.class },
+        webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT
+    )
+    @EmbeddedSQL
+    class PlatformThreads {
+
+        @LocalServerPort
+        private int port;
+
+        @Value("${jhipster.security.authentication.jwt.base64-secret}")
+        private String jwtKey;
+
+        @Test
+        void handlesConcurrentConnections() throws Exception {
+            THROUGHPUTS.put("platform threads", requestsPerSecond(port, jwtKey));
+        }
+    }
+
+    @Nested
+    @SpringBootTest(
+        classes = { TodoApp.class, JacksonConfiguration.class, AsyncSyncConfiguration.class },
+        webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = "spring.threads.virtual.enabled=true"
+    )
+    @EmbeddedSQL
+    class VirtualThreads {
+
+        @LocalServerPort
+        private int port;
+
+        @Value("${jhipster.security.authentication.jwt.base64-secret}")
+        private String jwtKey;
+
+        @Test
+        void handlesConcurrentConnections() throws Exception {
+            THROUGHPUTS.put("virtual threads", requestsPerSecond(port, jwtKey));
+        }
+    }
+
+    private static double requestsPerSecond(int port, String jwtKey) throws Exception {
+        // HTTP/1.1, so that each concurrent request is sent on its own connection
+        HttpClient client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).connectTimeout(Duration.ofMinutes(1)).build();
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/books?size=20"))
+            .header(HttpHeaders.AUTHORIZATION, BEARER + createValidToken(jwtKey))
+            .build();
+        // Warm up the server, so that the first requests don't measure the class loading and the JIT compilation
+        for (int i = 0; i < 100; i++) {
+            client.send(request, HttpResponse.BodyHandlers.discarding());
+        }
+
+        long start = System.nanoTime();
+        List<CompletableFuture<HttpResponse<Void>>> responses = new ArrayList<>(CONNECTIONS);
+        for (int i = 0; i < CONNECTIONS; i++) {
+            responses.add(client.sendAsync(request, HttpResponse.BodyHandlers.discarding()));
+        }
+        for (CompletableFuture<HttpResponse<Void>> response : responses) {
+            assertThat(response.get().statusCode()).isEqualTo(200);
+        }
+        return CONNECTIONS / ((System.nanoTime() - start) / 1e9);
+    }
+}
@@ -0,0 +1,96 @@
+package com.trongdev.todoapp.web.rest;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.trongdev.todoapp.domain.Author;
+import com.trongdev.todoapp.domain.Book;
+import com.trongdev.todoapp.repository.AuthorRepository;
+import com.trongdev.todoapp.repository.BookRepository;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.test.web.servlet.MockMvc;
+
+/**
+ * JMH benchmark of the latency of a 1,000-row page of {@code GET /api/books}, with all the fields and with only
+ * {@code fields=id,title,price}.
+ * <p>
+ * It is not run by the test phases; run its {@link #main(String[])} method with the test classpath, after
+ * {@code ./mvnw test-compile}, with Docker available for the MySQL test container.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SparseFieldsBenchmark {
+
+    private static final int ROWS = 1000;
+
+    private BookRepository bookRepository;
+
+    private AuthorRepository authorRepository;
+
+    private MockMvc mockMvc;
+
+    private Author author;
+
+    private String url;
+
+    private final List<Book> insertedBooks = new ArrayList<>();
+
+    @Setup
+    public void setup(ApplicationBenchmarkState application) {
+        bookRepository = application.getBean(BookRepository.class);
+        authorRepository = application.getBean(AuthorRepository.class);
+        mockMvc = application.getMockMvc();
+
+        author = authorRepository.saveAndFlush(AuthorResourceIT.createEntity());
+        String description = "A description as long as the ones of the catalogue, ".repeat(4);
+        for (int i = 0; i < ROWS; i++) {
+            insertedBooks.add(BookResourceIT.createEntity().title("sparse-" + i).description(description).author(author));
+        }
+        bookRepository.saveAllAndFlush(insertedBooks);
+        url = "/api/books?size=" + ROWS + "&sort=id&authorId.equals=" + author.getId();
+    }
+
+    @TearDown
+    public void cleanup() {
+        bookRepository.deleteAll(insertedBooks);
+        authorRepository.delete(author);
+    }
+
+    @Benchmark
+    public byte[] allFields() throws Exception {
+        return request(url);
+    }
+
+    @Benchmark
+    public byte[] sparseFields() throws Exception {
+        return request(url + "&fields=id,title,price");
+    }
+
+    private byte[] request(String url) throws Exception {
+        return mockMvc.perform(get(url)).andExpect(status().isOk()).andReturn().getResponse().getContentAsByteArray();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(SparseFieldsBenchmark.class.getSimpleName()).build()).run();
+    }
+}
@@ -0,0 +1,105 @@
+package com.trongdev.todoapp.web.rest;
+
+import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.not;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import com.trongdev.todoapp.IntegrationTest;
+import com.trongdev.todoapp.domain.Author;
+import com.trongdev.todoapp.domain.Book;
+import com.trongdev.todoapp.repository.AuthorRepository;
+import com.trongdev.todoapp.repository.BookRepository;
+import java.util.UUID;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+
+/**
+ * Integration tests for the {@link SuggestionResource} REST controller.
+ * <p>
+ * The suggestion indexes are only updated once a transaction is committed, so these tests are not transactional.
+ */
+@IntegrationTest
+@AutoConfigureMockMvc
+@WithMockUser
+class SuggestionResourceIT {
+
+    @Autowired
+    private AuthorRepository authorRepository;
+
+    @Autowired
+    private BookRepository bookRepository;
+
+    @Autowired
+    private MockMvc restSuggestionMockMvc;
+
+    private Author insertedAuthor;
+
+    private Book insertedBook;
+
+    @AfterEach
+    public void cleanup() {
+        if (insertedBook != null) {
+            bookRepository.delete(insertedBook);
+            insertedBook = null;
+        }
+        if (insertedAuthor != null) {
+            authorRepository.delete(insertedAuthor);
+            insertedAuthor = null;
+        }
+    }
+
+    @Test
+    void suggestAuthors() throws Exception {
+        String surname = uniqueWord();
+        insertedAuthor = authorRepository.saveAndFlush(AuthorResourceIT.createEntity().name("Ursula " + surname));
+
+        restSuggestionMockMvc
+            .perform(get("/api/authors/_suggest?prefix=" + surname.substring(0, 6)))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$", hasSize(1)))
+            .andExpect(jsonPath("$.[0].id").value(insertedAuthor.getId().intValue()))
+            .andExpect(jsonPath("$.[0].name").value("Ursula " + surname));
+
+        // The index follows the renamed author
+        insertedAuthor = authorRepository.saveAndFlush(insertedAuthor.name("Renamed " + uniqueWord()));
+
+        restSuggestionMockMvc
+            .perform(get("/api/authors/_suggest?prefix=" + surname.substring(0, 6)))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$", hasSize(0)));
+    }
+
+    @Test
+    void suggestBooks() throws Exception {
+        String word = uniqueWord();
+        insertedBook = bookRepository.saveAndFlush(BookResourceIT.createEntity().title("The " + word + " of the Rings"));
+
+        restSuggestionMockMvc
+            .perform(get("/api/books/_suggest?prefix=" + word + " of"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.[*].id").value(hasItem(insertedBook.getId().intValue())));
+
+        bookRepository.delete(insertedBook);
+
+        restSuggestionMockMvc
+            .perform(get("/api/books/_suggest?prefix=" + word))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.[*].id").value(not(hasItem(insertedBook.getId().intValue()))));
+        insertedBook = null;
+    }
+
+    @Test
+    void suggestWithBlankPrefix() throws Exception {
+        restSuggestionMockMvc.perform(get("/api/authors/_suggest?prefix= ")).andExpect(status().isOk()).andExpect(jsonPath("$", hasSize(0)));
+    }
+
+    private static String uniqueWord() {
+        return "w" + UUID.randomUUID().toString().replace("-", "");
+    }
+}
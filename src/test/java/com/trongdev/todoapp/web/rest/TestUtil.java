@@ -15,6 +15,8 @@ import java.util.List;
 import org.hamcrest.Description;
 import org.hamcrest.TypeSafeDiagnosingMatcher;
 import org.hamcrest.TypeSafeMatcher;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.springframework.cglib.proxy.Enhancer;
 import org.springframework.cglib.proxy.MethodInterceptor;
 import org.springframework.cglib.proxy.MethodProxy;
@@ -180,6 +182,47 @@ public final class TestUtil {
         return allQuery.getResultList();
     }
 
+    /**
+     * Returns the Hibernate statistics of the session factory.
+     * @param em The instance of the EntityManager
+     * @return The statistics of the session factory
+     */
+    public static Statistics statistics(EntityManager em) {
+        return em.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+    }
+
+    /**
+     * Enables and clears the Hibernate statistics, to count the statements issued by the code under test.
+     * The statistics are global to the session factory: tests enabling them must restore their previous
+     * {@link Statistics#isStatisticsEnabled()} once done.
+     * @param em The instance of the EntityManager
+     * @return The statistics of the session factory
+     */
+    public static Statistics resetStatistics(EntityManager em) {
+        Statistics statistics = statistics(em);
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+        return statistics;
+    }
+
+    /**
+     * Extracts the URL of a relation from a {@code Link} header.
+     * @param linkHeader The value of the {@code Link} header
+     * @param rel The relation
+     * @return The URL of the relation, or null if the header has no such relation
+     */
+    public static String linkOf(String linkHeader, String rel) {
+        if (linkHeader == null) {
+            return null;
+        }
+        for (String link : linkHeader.split(",")) {
+            if (link.endsWith("rel=\"" + rel + "\"")) {
+                return link.substring(link.indexOf('<') + 1, link.indexOf('>'));
+            }
+        }
+        return null;
+    }
+
     @SuppressWarnings("unchecked")
     public static <T> T createUpdateProxyForBean(T update, T original) {
         Enhancer e = new Enhancer();
@@ -0,0 +1,115 @@
+package com.trongdev.todoapp.web.rest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.trongdev.todoapp.IntegrationTest;
+import com.trongdev.todoapp.domain.User;
+import com.trongdev.todoapp.domain.UserTokenRevocation;
+import com.trongdev.todoapp.repository.UserRepository;
+import com.trongdev.todoapp.repository.UserTokenRevocationRepository;
+import com.trongdev.todoapp.security.AuthoritiesConstants;
+import com.trongdev.todoapp.service.TokenRevocationService;
+import java.time.Instant;
+import org.apache.commons.lang3.RandomStringUtils;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Integration tests for the revocation of the JWTs, by {@link AccountResource#logout} and
+ * {@link UserResource#revokeTokens}, and for their reload from the revocations of the other instances.
+ */
+@AutoConfigureMockMvc
+@IntegrationTest
+class TokenRevocationIT {
+
+    @Autowired
+    private AuthenticateController authenticateController;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private UserTokenRevocationRepository userTokenRevocationRepository;
+
+    @Autowired
+    private TokenRevocationService tokenRevocationService;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    @Transactional
+    void logoutRevokesTheToken() throws Exception {
+        String login = "logout-" + RandomStringUtils.randomAlphanumeric(8).toLowerCase();
+        String token = createToken(login);
+        String otherToken = createToken(login);
+
+        mockMvc.perform(get("/api/authenticate").header(HttpHeaders.AUTHORIZATION, "Bearer " + token)).andExpect(content().string(login));
+
+        mockMvc.perform(post("/api/logout").header(HttpHeaders.AUTHORIZATION, "Bearer " + token)).andExpect(status().isNoContent());
+
+        mockMvc.perform(get("/api/authenticate").header(HttpHeaders.AUTHORIZATION, "Bearer " + token)).andExpect(status().isUnauthorized());
+        // The other sessions of the user are kept
+        mockMvc
+            .perform(get("/api/authenticate").header(HttpHeaders.AUTHORIZATION, "Bearer " + otherToken))
+            .andExpect(content().string(login));
+    }
+
+    @Test
+    @Transactional
+    @WithMockUser(authorities = AuthoritiesConstants.ADMIN)
+    void revokeTokensRevokesAllTheTokensOfTheUser() throws Exception {
+        User user = UserResourceIT.initTestUser();
+        user.setLogin("revoked-" + RandomStringUtils.randomAlphanumeric(8).toLowerCase());
+        user.setEmail(user.getLogin() + "@localhost");
+        userRepository.saveAndFlush(user);
+        String token = createToken(user.getLogin());
+
+        mockMvc.perform(post("/api/admin/users/{login}/revoke-tokens", user.getLogin())).andExpect(status().isNoContent());
+
+        mockMvc.perform(get("/api/authenticate").header(HttpHeaders.AUTHORIZATION, "Bearer " + token)).andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    @Transactional
+    void revocationOfAnotherInstanceIsReloaded() throws Exception {
+        String login = "reloaded-" + RandomStringUtils.randomAlphanumeric(8).toLowerCase();
+        String token = createToken(login);
+        mockMvc.perform(get("/api/authenticate").header(HttpHeaders.AUTHORIZATION, "Bearer " + token)).andExpect(content().string(login));
+
+        // Persisted as by another instance, without adding it to the revocation list of this one
+        Instant now = Instant.now();
+        userTokenRevocationRepository.saveAndFlush(
+            new UserTokenRevocation().login(login).revokedBefore(now).expiresAt(now.plusSeconds(60))
+        );
+        tokenRevocationService.reloadRevocations();
+
+        assertThat(tokenRevocationService.isUpToDate()).isTrue();
+        mockMvc.perform(get("/api/authenticate").header(HttpHeaders.AUTHORIZATION, "Bearer " + token)).andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    @Transactional
+    @WithMockUser(authorities = AuthoritiesConstants.ADMIN)
+    void revokeTokensOfUnknownUser() throws Exception {
+        mockMvc.perform(post("/api/admin/users/{login}/revoke-tokens", "unknown-user")).andExpect(status().isNotFound());
+    }
+
+    private String createToken(String login) {
+        return authenticateController.createToken(
+            new UsernamePasswordAuthenticationToken(login, null, AuthorityUtils.createAuthorityList(AuthoritiesConstants.USER)),
+            false
+        );
+    }
+}
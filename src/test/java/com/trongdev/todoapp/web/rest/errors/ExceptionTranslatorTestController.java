@@ -1,7 +1,9 @@
 package com.trongdev.todoapp.web.rest.errors;
 
+import com.trongdev.todoapp.security.PasswordHashingRejectedException;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotNull;
+import java.time.Duration;
 import org.springframework.dao.ConcurrencyFailureException;
 import org.springframework.http.HttpStatus;
 import org.springframework.security.access.AccessDeniedException;
@@ -42,6 +44,11 @@ public class ExceptionTranslatorTestController {
         throw new BadCredentialsException("test authentication failed!");
     }
 
+    @GetMapping("/too-many-requests")
+    public void tooManyRequests() {
+        throw new PasswordHashingRejectedException("test password hashing rejected", Duration.ofMillis(1500));
+    }
+
     @GetMapping("/response-status")
     public void exceptionWithResponseStatus() {
         throw new TestResponseStatusException();